@@ -0,0 +1,112 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties.Quantization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average top-10 query latency per in-memory storage mode over 20 000 clustered 768-dimension vectors, the setup
+ * behind the table in {@code docs/features/ai-configuration-properties.md}. {@code contiguous} is the exact float
+ * baseline; the quantized modes are named {@code storage/full-precision}. Recall and bytes per vector are checked
+ * by {@code QuantizedVectorStorageTest}.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantizedVectorSearchBenchmark {
+
+    private static final int DIMENSIONS = 768;
+    private static final int VECTORS = 20_000;
+    private static final int QUERIES = 200;
+
+    @Param({"contiguous", "int8/memory", "int8/disk", "int8/none", "binary/memory", "binary/disk", "binary/none"})
+    private String mode;
+
+    private Path directory;
+    private InMemoryVectorIndex index;
+    private int nextQuery;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("quantized-vector-benchmark");
+        String[] parts = mode.split("/");
+        InMemoryVectorStorageProperties properties = parts.length == 1
+            ? new InMemoryVectorStorageProperties(parts[0])
+            : new InMemoryVectorStorageProperties(parts[0], new Quantization(null, parts[1], directory));
+        index = new InMemoryVectorIndex(clusteredEmbeddings(), properties);
+        for (int i = 0; i < VECTORS; i++) {
+            index.upsert("vector:" + i, "vector:" + i, Map.of());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public List<VectorSearchMatch> search() {
+        nextQuery = nextQuery == QUERIES - 1 ? 0 : nextQuery + 1;
+        return index.similaritySearch("vector:" + (VECTORS + nextQuery), 10, -1.0d);
+    }
+
+    /**
+     * Dense vectors grouped around a few centers, closer to real embeddings than sparse hashed text.
+     */
+    private static TextEmbeddingService clusteredEmbeddings() {
+        Random random = new Random(7);
+        float[][] centers = new float[32][DIMENSIONS];
+        for (float[] center : centers) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+        Map<String, float[]> vectors = new HashMap<>();
+        for (int i = 0; i < VECTORS + QUERIES; i++) {
+            float[] center = centers[random.nextInt(centers.length)];
+            float[] vector = new float[DIMENSIONS];
+            for (int j = 0; j < DIMENSIONS; j++) {
+                vector[j] = center[j] + (float) (random.nextGaussian() * 1.2d);
+            }
+            vectors.put("vector:" + i, vector);
+        }
+        EmbeddingModelDescriptor descriptor = new EmbeddingModelDescriptor("clustered", DIMENSIONS);
+        return new TextEmbeddingService() {
+            @Override
+            public float[] embed(String text) {
+                return vectors.get(text);
+            }
+
+            @Override
+            public EmbeddingModelDescriptor descriptor() {
+                return descriptor;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.prospectos.infrastructure.mcp.config.McpDistributedRateLimitProperties;
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency that distributed limiting adds to each MCP request, against a PostgreSQL container started by
+ * Testcontainers. {@code leaseSize=0} is the local limiter as the baseline; {@code 1} pays a database round trip on
+ * every request; larger leases amortize that round trip over the lease, so the mean should approach
+ * {@code baseline + round trip / leaseSize}.
+ * <p>
+ * Run with {@code ./gradlew jmh} (needs Docker).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class McpDistributedRateLimiterBenchmark {
+
+    private static final int CLIENT_IDS = 1_000;
+
+    @Param({"0", "1", "5", "20"})
+    private int leaseSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private McpRateLimiter limiter;
+    private McpSecurityProperties.RateLimit rateLimit;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        rateLimit = new McpSecurityProperties.RateLimit(60_000_000, 1_000_000, Duration.ofMinutes(1), Duration.ZERO, 100_000);
+        ids = new String[CLIENT_IDS];
+        for (int i = 0; i < CLIENT_IDS; i++) {
+            ids[i] = "ip:10.0." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+        if (leaseSize == 0) {
+            limiter = new McpRateLimiter();
+            return;
+        }
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(8);
+        var properties = new McpDistributedRateLimitProperties(true, leaseSize, Duration.ofSeconds(2), null);
+        var buckets = new PostgresRateLimitBuckets(JdbcClient.create(dataSource), null, properties);
+        buckets.createTable();
+        limiter = new McpRateLimiter(System::nanoTime, Clock.systemUTC(), new McpTokenLeases(buckets, properties));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public boolean check(ClientCursor cursor) {
+        return limiter.check(ids[cursor.next(ids.length)], rateLimit).allowed();
+    }
+
+    @State(Scope.Thread)
+    public static class ClientCursor {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+}
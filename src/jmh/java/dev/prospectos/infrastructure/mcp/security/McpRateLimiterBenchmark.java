@@ -0,0 +1,68 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link McpRateLimiter#check} from 8 threads. {@code clientIds=1} puts every thread on the same
+ * bucket (worst-case CAS contention); 10 000 spreads load over a table that fits; 500 000 exceeds
+ * {@code maxClients} so the run also exercises idle sweeps and the shared overflow bucket.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class McpRateLimiterBenchmark {
+
+    @Param({"1", "10000", "500000"})
+    private int clientIds;
+
+    private McpRateLimiter limiter;
+    private McpSecurityProperties.RateLimit rateLimit;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        limiter = new McpRateLimiter();
+        rateLimit = new McpSecurityProperties.RateLimit(600_000, 1_000, Duration.ofMinutes(1), Duration.ZERO, 100_000);
+        ids = new String[clientIds];
+        for (int i = 0; i < clientIds; i++) {
+            ids[i] = "ip:10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public boolean check(ClientCursor cursor) {
+        return limiter.check(ids[cursor.next(ids.length)], rateLimit).allowed();
+    }
+
+    @State(Scope.Thread)
+    public static class ClientCursor {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return bound == 1 ? 0 : random.nextInt(bound);
+        }
+    }
+}
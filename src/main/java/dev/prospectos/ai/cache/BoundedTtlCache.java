@@ -0,0 +1,89 @@
+package dev.prospectos.ai.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * In-process LRU cache bounded by entry count and a fixed time-to-live, with hit/miss/eviction counters.
+ * Concurrent misses for the same key are coalesced so the loader runs once; null loader results are
+ * returned to every waiting caller but not cached.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final LruEntries<K, V> entries;
+    private final SingleFlight<K, V> singleFlight = new SingleFlight<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    public BoundedTtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public BoundedTtlCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0 || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache max size and TTL must be positive");
+        }
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LruEntries<>(maxSize, clock);
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        V value = entries.get(key);
+        (value == null ? misses : hits).increment();
+        return Optional.ofNullable(value);
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return singleFlight.run(key, () -> {
+            V raced = entries.get(key);
+            if (raced != null) {
+                return raced;
+            }
+            V loaded = loader.apply(key);
+            if (loaded != null) {
+                put(key, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    public void put(K key, V value) {
+        put(key, new CacheEntry<>(value, clock.instant().plus(ttl).toEpochMilli()));
+    }
+
+    /**
+     * Inserts an entry with an explicit expiry, e.g. one restored from disk; already expired entries are ignored.
+     */
+    public void put(K key, CacheEntry<V> entry) {
+        if (entries.put(key, entry)) {
+            puts.increment();
+        }
+    }
+
+    public List<Map.Entry<K, CacheEntry<V>>> liveEntries() {
+        return entries.live();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), puts.sum(), entries.evictions(), entries.size());
+    }
+}
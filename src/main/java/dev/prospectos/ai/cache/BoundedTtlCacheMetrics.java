@@ -0,0 +1,56 @@
+package dev.prospectos.ai.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes a {@link BoundedTtlCache} under Micrometer's standard cache meters
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}) plus a
+ * {@code cache.hit.ratio} gauge, all tagged with the cache name.
+ */
+public final class BoundedTtlCacheMetrics extends CacheMeterBinder<BoundedTtlCache<?, ?>> {
+
+    public BoundedTtlCacheMetrics(BoundedTtlCache<?, ?> cache, String cacheName) {
+        super(cache, cacheName, Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        BoundedTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.stats().size();
+    }
+
+    @Override
+    protected long hitCount() {
+        BoundedTtlCache<?, ?> cache = getCache();
+        return cache == null ? 0L : cache.stats().hits();
+    }
+
+    @Override
+    protected Long missCount() {
+        BoundedTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.stats().misses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        BoundedTtlCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.stats().evictions();
+    }
+
+    @Override
+    protected long putCount() {
+        BoundedTtlCache<?, ?> cache = getCache();
+        return cache == null ? 0L : cache.stats().puts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.hit.ratio", getCache(), cache -> cache.stats().hitRate())
+            .tags(getTagsWithCacheName())
+            .description("Fraction of lookups served from the cache since startup")
+            .register(registry);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.prospectos.ai.cache;
+
+/**
+ * A cached value together with its wall-clock expiry, so entries can be persisted and restored.
+ */
+public record CacheEntry<V>(V value, long expiresAtEpochMillis) {
+
+    boolean isExpired(long nowEpochMillis) {
+        return nowEpochMillis >= expiresAtEpochMillis;
+    }
+}
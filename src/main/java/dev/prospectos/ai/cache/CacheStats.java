@@ -0,0 +1,12 @@
+package dev.prospectos.ai.cache;
+
+/**
+ * Point-in-time counters of a {@link BoundedTtlCache}; evictions include both size and TTL evictions.
+ */
+public record CacheStats(long hits, long misses, long puts, long evictions, long size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,95 @@
+package dev.prospectos.ai.cache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock-protected access-ordered map: expired entries are dropped on read, the least recently used
+ * entry is dropped once the size bound is exceeded. Both count as evictions.
+ */
+final class LruEntries<K, V> {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder evictions = new LongAdder();
+
+    LruEntries(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    V get(K key) {
+        long now = clock.millis();
+        return locked(() -> {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null || !entry.isExpired(now)) {
+                return entry == null ? null : entry.value();
+            }
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        });
+    }
+
+    boolean put(K key, CacheEntry<V> entry) {
+        if (entry.isExpired(clock.millis())) {
+            return false;
+        }
+        return locked(() -> {
+            entries.put(key, entry);
+            Iterator<K> eldest = entries.keySet().iterator();
+            while (entries.size() > maxSize) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+            return true;
+        });
+    }
+
+    List<Map.Entry<K, CacheEntry<V>>> live() {
+        long now = clock.millis();
+        return locked(() -> {
+            List<Map.Entry<K, CacheEntry<V>>> live = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> {
+                if (!entry.isExpired(now)) {
+                    live.add(Map.entry(key, entry));
+                }
+            });
+            return live;
+        });
+    }
+
+    void clear() {
+        locked(() -> {
+            entries.clear();
+            return null;
+        });
+    }
+
+    long size() {
+        return locked(entries::size);
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private <T> T locked(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dev.prospectos.ai.client;
+
+/**
+ * Raised when an AI web search exhausts its retries, so the failure reaches every caller waiting on the
+ * same cached lookup without itself being cached.
+ */
+final class AIWebSearchFailure extends RuntimeException {
+
+    AIWebSearchFailure(String message) {
+        super(message);
+    }
+
+    static AIWebSearchFailure after(String summary, Exception lastFailure) {
+        return new AIWebSearchFailure(summary + ": " + (lastFailure != null ? lastFailure.getMessage() : "Unknown error"));
+    }
+}
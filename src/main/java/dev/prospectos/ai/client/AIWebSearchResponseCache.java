@@ -0,0 +1,54 @@
+package dev.prospectos.ai.client;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import dev.prospectos.ai.cache.BoundedTtlCache;
+import dev.prospectos.ai.cache.BoundedTtlCacheMetrics;
+import dev.prospectos.ai.config.ScraperProperties;
+import dev.prospectos.ai.config.UrlNormalizationService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Size- and TTL-bounded caches for AI web search results ({@code scraper.ai.cache-timeout},
+ * {@code scraper.ai.cache-max-size}). Websites are keyed by normalized domain and search depth, news by
+ * company name and look-back window. Concurrent identical lookups share one LLM call; failures are not cached.
+ */
+final class AIWebSearchResponseCache {
+
+    private final UrlNormalizationService urlNormalizationService;
+    private final BoundedTtlCache<String, ScrapingResponse> websites;
+    private final BoundedTtlCache<String, NewsResponse> news;
+
+    AIWebSearchResponseCache(
+        ScraperProperties.Ai properties,
+        UrlNormalizationService urlNormalizationService,
+        MeterRegistry meterRegistry
+    ) {
+        this.urlNormalizationService = urlNormalizationService;
+        boolean enabled = properties.cacheTimeout() != null && properties.cacheTimeout().isPositive();
+        this.websites = enabled ? new BoundedTtlCache<>(properties.cacheMaxSize(), properties.cacheTimeout()) : null;
+        this.news = enabled ? new BoundedTtlCache<>(properties.cacheMaxSize(), properties.cacheTimeout()) : null;
+        if (enabled && meterRegistry != null) {
+            new BoundedTtlCacheMetrics(websites, "scraper.website").bindTo(meterRegistry);
+            new BoundedTtlCacheMetrics(news, "scraper.news").bindTo(meterRegistry);
+        }
+    }
+
+    ScrapingResponse website(String website, boolean deep, Supplier<ScrapingResponse> search) {
+        if (websites == null) {
+            return search.get();
+        }
+        String key = urlNormalizationService.normalizeDomain(website) + "|deep=" + deep;
+        return websites.get(key, ignored -> search.get());
+    }
+
+    NewsResponse news(String companyName, int daysBack, Supplier<NewsResponse> search) {
+        if (news == null) {
+            return search.get();
+        }
+        String key = Objects.toString(companyName, "").trim().toLowerCase(Locale.ROOT) + "|days=" + daysBack;
+        return news.get(key, ignored -> search.get());
+    }
+}
@@ -6,11 +6,16 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import dev.prospectos.ai.config.ScraperProperties;
+import dev.prospectos.ai.config.UrlNormalizationService;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -23,60 +28,71 @@ public class AIWebSearchScraperClient implements ScraperClientInterface {
     private final ScraperProperties scraperProperties;
     private final LlmScrapingResponseConverter responseConverter;
     private final ExecutorService executorService;
+    private final AIWebSearchResponseCache responseCache;
+    private final TokenUsageMonitor usageMonitor;
 
-    public AIWebSearchScraperClient(
-        ChatClient chatClient,
-        ScraperProperties scraperProperties,
-        LlmScrapingResponseConverter responseConverter
-    ) {
+    public AIWebSearchScraperClient(ChatClient chatClient, ScraperProperties scraperProperties,
+                                    LlmScrapingResponseConverter responseConverter) {
+        this(chatClient, scraperProperties, responseConverter, new UrlNormalizationService(), null, new TokenUsageMonitor());
+    }
+
+    @Autowired
+    public AIWebSearchScraperClient(ChatClient chatClient, ScraperProperties scraperProperties,
+                                    LlmScrapingResponseConverter responseConverter,
+                                    UrlNormalizationService urlNormalizationService, @Nullable MeterRegistry meterRegistry,
+                                    TokenUsageMonitor usageMonitor) {
         this.chatClient = chatClient;
         this.scraperProperties = scraperProperties;
         this.responseConverter = responseConverter;
         this.executorService = Executors.newCachedThreadPool();
+        this.responseCache = new AIWebSearchResponseCache(scraperProperties.ai(), urlNormalizationService, meterRegistry);
+        this.usageMonitor = usageMonitor;
     }
 
     @Override
     public ScrapingResponse scrapeWebsiteSync(String website, boolean deep) {
+        boolean useDeepSearch = deep || scraperProperties.ai().deepSearchEnabled();
+        try {
+            return responseCache.website(website, useDeepSearch, () -> searchWebsite(website, useDeepSearch));
+        } catch (AIWebSearchFailure failure) {
+            return new ScrapingResponse(false, null, failure.getMessage());
+        }
+    }
+
+    @Override
+    public NewsResponse searchNews(String companyName, int daysBack) {
+        try {
+            return responseCache.news(companyName, daysBack, () -> searchNewsUncached(companyName, daysBack));
+        } catch (AIWebSearchFailure failure) {
+            return new NewsResponse(List.of(failure.getMessage()));
+        }
+    }
+
+    private ScrapingResponse searchWebsite(String website, boolean useDeepSearch) {
         int maxRetries = scraperProperties.ai().maxRetries();
         return AIWebSearchRetryExecutor.runWithRetries(log, "web search", website, maxRetries, () -> {
-            boolean useDeepSearch = deep || scraperProperties.ai().deepSearchEnabled();
-            String prompt = AIWebSearchPromptBuilder.scrapePrompt(website, useDeepSearch);
-            String response = AIWebSearchTimeoutExecutor.execute(
-                () -> chatClient.prompt(prompt).call().content(),
-                scraperProperties.ai().timeout(),
-                executorService,
-                log
-            );
+            String response = call("web-search", AIWebSearchPromptBuilder.scrapePrompt(website, useDeepSearch));
             Map<String, Object> extractedData = responseConverter.convert(response);
             log.debug("AI extracted data for {}: {}", website, extractedData.keySet());
             return new ScrapingResponse(true, extractedData, null);
-        }, e -> new ScrapingResponse(
-            false,
-            null,
-            "AI web search failed after " + (maxRetries + 1) + " attempts: " + messageOrUnknown(e)
-        ));
+        }, e -> {
+            throw AIWebSearchFailure.after("AI web search failed after " + (maxRetries + 1) + " attempts", e);
+        });
     }
 
-    @Override
-    public NewsResponse searchNews(String companyName, int daysBack) {
+    private NewsResponse searchNewsUncached(String companyName, int daysBack) {
         int maxRetries = scraperProperties.ai().maxRetries();
         return AIWebSearchRetryExecutor.runWithRetries(log, "news search", companyName, maxRetries, () -> {
-            String prompt = AIWebSearchPromptBuilder.newsPrompt(companyName, daysBack);
-            String response = AIWebSearchTimeoutExecutor.execute(
-                () -> chatClient.prompt(prompt).call().content(),
-                scraperProperties.ai().timeout(),
-                executorService,
-                log
-            );
-            List<String> newsItems = AIWebSearchNewsParser.parse(response);
+            List<String> newsItems = AIWebSearchNewsParser.parse(call("news-search", AIWebSearchPromptBuilder.newsPrompt(companyName, daysBack)));
             log.debug("AI found {} news items for {}", newsItems.size(), companyName);
             return new NewsResponse(newsItems);
-        }, e -> new NewsResponse(List.of(
-            "Error searching news after " + (maxRetries + 1) + " attempts: " + messageOrUnknown(e)
-        )));
+        }, e -> {
+            throw AIWebSearchFailure.after("Error searching news after " + (maxRetries + 1) + " attempts", e);
+        });
     }
 
-    private String messageOrUnknown(Exception exception) {
-        return exception != null ? exception.getMessage() : "Unknown error";
+    private String call(String operation, String prompt) throws Exception {
+        return usageMonitor.record(null, operation, AIWebSearchTimeoutExecutor.execute(
+            () -> chatClient.prompt(prompt).call().chatResponse(), scraperProperties.ai().timeout(), executorService, log));
     }
 }
@@ -0,0 +1,62 @@
+package dev.prospectos.ai.client.impl;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.ai.chat.client.ResponseEntity;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import dev.prospectos.ai.client.LLMProvider;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+
+/**
+ * Wraps one provider call in a {@code prospectos.llm.request} observation tagged with provider, operation and
+ * outcome; exported as a span when tracing is on and as a timer of the same name. Completed responses are handed to
+ * the {@link TokenUsageMonitor} so reported token usage is metered.
+ */
+final class LlmRequestObservation {
+
+    static final String NAME = "prospectos.llm.request";
+
+    private final ObservationRegistry registry;
+    private final TokenUsageMonitor usageMonitor;
+    private final String provider;
+
+    LlmRequestObservation(ObservationRegistry registry, TokenUsageMonitor usageMonitor, LLMProvider provider) {
+        this.registry = registry;
+        this.usageMonitor = usageMonitor;
+        this.provider = provider.name().toLowerCase(Locale.ROOT);
+    }
+
+    String text(String operation, Supplier<ChatResponse> call) {
+        return observe(operation, () -> usageMonitor.record(provider, operation, call.get()));
+    }
+
+    <T> T entity(String operation, Supplier<ResponseEntity<ChatResponse, T>> call) {
+        return observe(operation, () -> {
+            ResponseEntity<ChatResponse, T> response = call.get();
+            usageMonitor.record(provider, operation, response.response());
+            return response.entity();
+        });
+    }
+
+    private <T> T observe(String operation, Supplier<T> call) {
+        Observation observation = Observation.createNotStarted(NAME, registry)
+            .lowCardinalityKeyValue("provider", provider)
+            .lowCardinalityKeyValue("operation", operation)
+            .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            T result = call.get();
+            observation.lowCardinalityKeyValue("outcome", "success");
+            return result;
+        } catch (RuntimeException exception) {
+            observation.lowCardinalityKeyValue("outcome", "error");
+            observation.error(exception);
+            throw exception;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -6,6 +6,8 @@ import dev.prospectos.ai.client.LlmScoringResponseConverter;
 import dev.prospectos.ai.client.LlmStructuredResponseSanitizer;
 import dev.prospectos.ai.client.mock.MockResponseFactory;
 import dev.prospectos.ai.dto.ScoringResult;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 
@@ -16,17 +18,26 @@ public class SpringAILLMClient implements LLMClient {
     private final LLMProvider provider;
     private final boolean available;
     private final LlmScoringResponseConverter scoringResponseConverter;
+    private final LlmRequestObservation observation;
 
     public SpringAILLMClient(ChatClient chatClient, LLMProvider provider, boolean available) {
-        this(chatClient, provider, available, new LlmScoringResponseConverter(new LlmStructuredResponseSanitizer()));
+        this(chatClient, provider, available, ObservationRegistry.NOOP, new TokenUsageMonitor());
     }
 
     public SpringAILLMClient(ChatClient chatClient, LLMProvider provider, boolean available,
-                             LlmScoringResponseConverter scoringResponseConverter) {
+                             ObservationRegistry observationRegistry, TokenUsageMonitor usageMonitor) {
+        this(chatClient, provider, available, new LlmScoringResponseConverter(new LlmStructuredResponseSanitizer()),
+            observationRegistry, usageMonitor);
+    }
+
+    public SpringAILLMClient(ChatClient chatClient, LLMProvider provider, boolean available,
+                             LlmScoringResponseConverter scoringResponseConverter, ObservationRegistry observationRegistry,
+                             TokenUsageMonitor usageMonitor) {
         this.chatClient = chatClient;
         this.provider = provider;
         this.available = available;
         this.scoringResponseConverter = scoringResponseConverter;
+        this.observation = new LlmRequestObservation(observationRegistry, usageMonitor, provider);
     }
 
     @Override
@@ -36,7 +47,7 @@ public class SpringAILLMClient implements LLMClient {
         }
         try {
             log.debug("Executing query on {}: {}", provider.getDisplayName(), prompt.substring(0, Math.min(100, prompt.length())) + "...");
-            return chatClient.prompt().user(prompt).call().content();
+            return observation.text("query", () -> chatClient.prompt().user(prompt).call().chatResponse());
         } catch (Exception e) {
             log.error("LLM query error: {}", e.getMessage());
             return "Error: " + e.getMessage();
@@ -50,7 +61,7 @@ public class SpringAILLMClient implements LLMClient {
         }
         try {
             log.debug("Executing query with functions on {}: {}", provider.getDisplayName(), String.join(", ", functions));
-            return chatClient.prompt().user(prompt).tools((Object[]) functions).call().content();
+            return observation.text("functions", () -> chatClient.prompt().user(prompt).tools((Object[]) functions).call().chatResponse());
         } catch (Exception e) {
             log.error("LLM query with functions error: {}", e.getMessage());
             return "Error: " + e.getMessage();
@@ -65,10 +76,10 @@ public class SpringAILLMClient implements LLMClient {
         try {
             log.debug("Executing structured query on {}: {}", provider.getDisplayName(), responseClass.getSimpleName());
             if (ScoringResult.class.equals(responseClass)) {
-                String content = chatClient.prompt().user(prompt).call().content();
+                String content = observation.text("structured", () -> chatClient.prompt().user(prompt).call().chatResponse());
                 return responseClass.cast(scoringResponseConverter.convert(content));
             }
-            return chatClient.prompt().user(prompt).call().entity(responseClass);
+            return observation.entity("structured", () -> chatClient.prompt().user(prompt).call().responseEntity(responseClass));
         } catch (Exception e) {
             log.error("Structured LLM query error: {}", e.getMessage());
             throw new RuntimeException("Structured query error", e);
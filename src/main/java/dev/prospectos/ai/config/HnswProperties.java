@@ -0,0 +1,33 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the HNSW approximate nearest-neighbour vector backend.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.hnsw")
+public record HnswProperties(
+    Integer m,
+    Integer efConstruction,
+    Integer efSearch
+) {
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 200;
+    private static final int DEFAULT_EF_SEARCH = 64;
+
+    public HnswProperties {
+        m = m == null ? DEFAULT_M : m;
+        efConstruction = efConstruction == null ? DEFAULT_EF_CONSTRUCTION : efConstruction;
+        efSearch = efSearch == null ? DEFAULT_EF_SEARCH : efSearch;
+
+        if (m < 2) {
+            throw new IllegalArgumentException("prospectos.vectorization.hnsw.m must be >= 2");
+        }
+        if (efConstruction < m) {
+            throw new IllegalArgumentException("prospectos.vectorization.hnsw.ef-construction must be >= m");
+        }
+        if (efSearch <= 0) {
+            throw new IllegalArgumentException("prospectos.vectorization.hnsw.ef-search must be > 0");
+        }
+    }
+}
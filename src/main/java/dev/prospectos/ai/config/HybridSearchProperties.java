@@ -0,0 +1,47 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hybrid company retrieval: BM25 keyword ranking fused with vector similarity by weighted reciprocal rank fusion.
+ * Off by default because it replaces cosine similarity with the fused score. The fusion defaults favour the keyword
+ * ranking so an exact name hit still wins when the candidate pools are deeper than {@code top-k}.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.hybrid")
+public record HybridSearchProperties(
+    Boolean enabled,
+    Double lexicalWeight,
+    Double vectorWeight,
+    Integer rankConstant,
+    Integer candidateMultiplier
+) {
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final double DEFAULT_LEXICAL_WEIGHT = 2.0d;
+    private static final double DEFAULT_VECTOR_WEIGHT = 1.0d;
+    private static final int DEFAULT_RANK_CONSTANT = 5;
+    private static final int DEFAULT_CANDIDATE_MULTIPLIER = 3;
+
+    public HybridSearchProperties {
+        enabled = enabled == null ? DEFAULT_ENABLED : enabled;
+        lexicalWeight = lexicalWeight == null ? DEFAULT_LEXICAL_WEIGHT : lexicalWeight;
+        vectorWeight = vectorWeight == null ? DEFAULT_VECTOR_WEIGHT : vectorWeight;
+        rankConstant = rankConstant == null ? DEFAULT_RANK_CONSTANT : rankConstant;
+        candidateMultiplier = candidateMultiplier == null ? DEFAULT_CANDIDATE_MULTIPLIER : candidateMultiplier;
+
+        if (lexicalWeight < 0.0d || vectorWeight < 0.0d || lexicalWeight + vectorWeight == 0.0d) {
+            throw new IllegalArgumentException(
+                "prospectos.vectorization.hybrid.lexical-weight and vector-weight must be >= 0 and not both 0"
+            );
+        }
+        if (rankConstant < 0) {
+            throw new IllegalArgumentException("prospectos.vectorization.hybrid.rank-constant must be >= 0");
+        }
+        if (candidateMultiplier < 1) {
+            throw new IllegalArgumentException("prospectos.vectorization.hybrid.candidate-multiplier must be >= 1");
+        }
+    }
+
+    public static HybridSearchProperties disabled() {
+        return new HybridSearchProperties(false, null, null, null, null);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * On-disk snapshot and write-ahead log for the in-memory vector backend, so restarts skip re-embedding.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.in-memory.snapshot")
+public record InMemoryVectorSnapshotProperties(
+    boolean enabled,
+    Path directory,
+    Duration compactionInterval,
+    Integer compactionThreshold
+) {
+    private static final Path DEFAULT_DIRECTORY = Path.of("data", "vector-index");
+    private static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+    public InMemoryVectorSnapshotProperties {
+        directory = directory == null ? DEFAULT_DIRECTORY : directory;
+        compactionInterval = compactionInterval == null ? DEFAULT_COMPACTION_INTERVAL : compactionInterval;
+        compactionThreshold = compactionThreshold == null ? DEFAULT_COMPACTION_THRESHOLD : compactionThreshold;
+
+        if (compactionInterval.isNegative() || compactionInterval.isZero()) {
+            throw new IllegalArgumentException(
+                "prospectos.vectorization.in-memory.snapshot.compaction-interval must be > 0"
+            );
+        }
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException(
+                "prospectos.vectorization.in-memory.snapshot.compaction-threshold must be > 0"
+            );
+        }
+    }
+
+    public static InMemoryVectorSnapshotProperties disabled() {
+        return new InMemoryVectorSnapshotProperties(false, null, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.nio.file.Path;
+
+/**
+ * Storage layout used by the in-memory vector backend.
+ * {@code entries} keeps one object per vector; {@code contiguous} packs all vectors into one slot-indexed array;
+ * {@code int8} and {@code binary} scan quantized codes and rescore the best candidates at full precision.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.in-memory")
+public record InMemoryVectorStorageProperties(
+    String storage,
+    Quantization quantization
+) {
+    public static final String ENTRIES = "entries";
+    public static final String CONTIGUOUS = "contiguous";
+    public static final String INT8 = "int8";
+    public static final String BINARY = "binary";
+
+    private static final int DEFAULT_INT8_RESCORE_MULTIPLIER = 4;
+    private static final int DEFAULT_BINARY_RESCORE_MULTIPLIER = 40;
+
+    @ConstructorBinding
+    public InMemoryVectorStorageProperties {
+        storage = storage == null || storage.isBlank() ? ENTRIES : storage.trim().toLowerCase();
+        quantization = quantization == null ? new Quantization(null, null, null) : quantization;
+
+        if (!ENTRIES.equals(storage) && !CONTIGUOUS.equals(storage) && !INT8.equals(storage) && !BINARY.equals(storage)) {
+            throw new IllegalArgumentException(
+                "prospectos.vectorization.in-memory.storage must be one of: entries, contiguous, int8, binary"
+            );
+        }
+    }
+
+    public InMemoryVectorStorageProperties(String storage) {
+        this(storage, null);
+    }
+
+    /**
+     * Candidates kept per requested result before rescoring; binary codes are coarser and default to a deeper pool.
+     */
+    public int rescoreMultiplier() {
+        if (quantization.rescoreMultiplier() != null) {
+            return quantization.rescoreMultiplier();
+        }
+        return BINARY.equals(storage) ? DEFAULT_BINARY_RESCORE_MULTIPLIER : DEFAULT_INT8_RESCORE_MULTIPLIER;
+    }
+
+    /**
+     * Quantized storage keeps {@code top-k * rescore-multiplier} candidates from the code scan and rescores them
+     * against full-precision vectors held in {@code memory}, in a file under {@code directory} ({@code disk}),
+     * or not at all ({@code none}, similarities are then estimates). An unset multiplier uses the per-mode default.
+     */
+    public record Quantization(Integer rescoreMultiplier, String fullPrecision, Path directory) {
+        public static final String MEMORY = "memory";
+        public static final String DISK = "disk";
+        public static final String NONE = "none";
+
+        private static final Path DEFAULT_DIRECTORY = Path.of("data", "vector-full-precision");
+
+        public Quantization {
+            fullPrecision = fullPrecision == null || fullPrecision.isBlank() ? MEMORY : fullPrecision.trim().toLowerCase();
+            directory = directory == null ? DEFAULT_DIRECTORY : directory;
+
+            if (rescoreMultiplier != null && rescoreMultiplier < 1) {
+                throw new IllegalArgumentException(
+                    "prospectos.vectorization.in-memory.quantization.rescore-multiplier must be >= 1"
+                );
+            }
+            if (!MEMORY.equals(fullPrecision) && !DISK.equals(fullPrecision) && !NONE.equals(fullPrecision)) {
+                throw new IllegalArgumentException(
+                    "prospectos.vectorization.in-memory.quantization.full-precision must be one of: memory, disk, none"
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * USD list prices per million prompt and completion tokens, keyed by model id. Configured {@code models} entries are
+ * merged over the built-in table; a response model matches the longest key it starts with, so dated snapshots such
+ * as {@code gpt-4o-mini-2024-07-18} price as {@code gpt-4o-mini}. Models without an entry cost zero.
+ */
+@ConfigurationProperties(prefix = "prospectos.ai.pricing")
+public record LlmPricingProperties(Map<String, ModelPrice> models) {
+
+    private static final BigDecimal ONE_MILLION = BigDecimal.valueOf(1_000_000);
+    private static final Map<String, ModelPrice> BUILT_IN = Map.of(
+        "gpt-4-turbo", new ModelPrice("openai", new BigDecimal("10.00"), new BigDecimal("30.00")),
+        "gpt-4o", new ModelPrice("openai", new BigDecimal("2.50"), new BigDecimal("10.00")),
+        "gpt-4o-mini", new ModelPrice("openai", new BigDecimal("0.15"), new BigDecimal("0.60")),
+        "claude-3-5-sonnet", new ModelPrice("anthropic", new BigDecimal("3.00"), new BigDecimal("15.00")),
+        "claude-3-5-haiku", new ModelPrice("anthropic", new BigDecimal("0.80"), new BigDecimal("4.00")),
+        "llama3-8b-8192", new ModelPrice("groq", new BigDecimal("0.05"), new BigDecimal("0.08")),
+        "llama-3.1-8b-instant", new ModelPrice("groq", new BigDecimal("0.05"), new BigDecimal("0.08")),
+        "llama-3.3-70b-versatile", new ModelPrice("groq", new BigDecimal("0.59"), new BigDecimal("0.79"))
+    );
+
+    public LlmPricingProperties {
+        Map<String, ModelPrice> merged = new HashMap<>(BUILT_IN);
+        if (models != null) {
+            models.forEach((model, price) -> merged.put(model, validate(model, price)));
+        }
+        models = Map.copyOf(merged);
+    }
+
+    public static LlmPricingProperties defaults() {
+        return new LlmPricingProperties(null);
+    }
+
+    public Optional<ModelPrice> priceOf(String model) {
+        if (model == null) {
+            return Optional.empty();
+        }
+        return models.entrySet().stream()
+            .filter(entry -> model.startsWith(entry.getKey()))
+            .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+            .map(Map.Entry::getValue);
+    }
+
+    public BigDecimal cost(String model, long promptTokens, long completionTokens) {
+        return priceOf(model).map(price -> price.cost(promptTokens, completionTokens)).orElse(BigDecimal.ZERO);
+    }
+
+    private static ModelPrice validate(String model, ModelPrice price) {
+        String key = "prospectos.ai.pricing.models[" + model + "]";
+        if (price == null || price.inputPerMillion() == null || price.inputPerMillion().signum() < 0) {
+            throw new IllegalArgumentException(key + ".input-per-million must be >= 0");
+        }
+        if (price.outputPerMillion() == null || price.outputPerMillion().signum() < 0) {
+            throw new IllegalArgumentException(key + ".output-per-million must be >= 0");
+        }
+        return price;
+    }
+
+    /**
+     * @param provider provider label used to tag usage when the caller does not know which provider served the call
+     */
+    public record ModelPrice(String provider, BigDecimal inputPerMillion, BigDecimal outputPerMillion) {
+
+        public BigDecimal cost(long promptTokens, long completionTokens) {
+            return inputPerMillion.multiply(BigDecimal.valueOf(promptTokens))
+                .add(outputPerMillion.multiply(BigDecimal.valueOf(completionTokens)))
+                .divide(ONE_MILLION, 8, RoundingMode.HALF_UP);
+        }
+    }
+}
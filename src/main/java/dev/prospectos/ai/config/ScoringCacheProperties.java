@@ -0,0 +1,37 @@
+package dev.prospectos.ai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Content-addressed cache of LLM scoring results; {@code persistence-file} keeps entries across restarts.
+ */
+@ConfigurationProperties(prefix = "prospectos.scoring.cache")
+public record ScoringCacheProperties(
+    Boolean enabled,
+    Integer maxSize,
+    Duration ttl,
+    Path persistenceFile
+) {
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    public ScoringCacheProperties {
+        enabled = enabled == null || enabled;
+        maxSize = maxSize == null ? DEFAULT_MAX_SIZE : maxSize;
+        ttl = ttl == null ? DEFAULT_TTL : ttl;
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("prospectos.scoring.cache.max-size must be > 0");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("prospectos.scoring.cache.ttl must be > 0");
+        }
+    }
+
+    public static ScoringCacheProperties disabled() {
+        return new ScoringCacheProperties(false, null, null, null);
+    }
+}
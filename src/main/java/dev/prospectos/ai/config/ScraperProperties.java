@@ -57,10 +57,16 @@ public record ScraperProperties(
         boolean deepSearchEnabled,
 
         /**
-         * Cache duration for AI search results to avoid redundant searches.
+         * Cache duration for AI search results to avoid redundant searches; zero disables the cache.
          */
         @DefaultValue("1h")
-        Duration cacheTimeout
+        Duration cacheTimeout,
+
+        /**
+         * Maximum number of cached website and news results (each); least recently used entries are evicted.
+         */
+        @DefaultValue("1000")
+        int cacheMaxSize
 
     ) {}
 
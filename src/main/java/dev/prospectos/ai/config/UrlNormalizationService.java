@@ -1,8 +1,11 @@
 package dev.prospectos.ai.config;
 
+import dev.prospectos.core.domain.Website;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 import static dev.prospectos.ai.config.AIConfigurationProperties.DEFAULT_GROQ_BASE_URL;
 
 /**
@@ -67,4 +70,20 @@ public class UrlNormalizationService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reduces a website URL to its lower-case host without {@code www.}, so equivalent URLs share cache keys.
+     *
+     * @param website the website URL or bare domain
+     * @return normalized domain, or the trimmed lower-case input when it cannot be parsed
+     */
+    public String normalizeDomain(String website) {
+        String trimmed = website == null ? "" : website.trim().toLowerCase(Locale.ROOT);
+        try {
+            return Website.of(trimmed).getDomain();
+        } catch (IllegalArgumentException e) {
+            log.debug("Using raw website as domain key: {}", trimmed);
+            return trimmed;
+        }
+    }
+}
@@ -41,8 +41,8 @@ public record VectorizationProperties(
         if (minSimilarity < 0.0d || minSimilarity > 1.0d) {
             throw new IllegalArgumentException("prospectos.vectorization.min-similarity must be between 0 and 1");
         }
-        if (!"in-memory".equals(backend) && !"pgvector".equals(backend)) {
-            throw new IllegalArgumentException("prospectos.vectorization.backend must be one of: in-memory, pgvector");
+        if (!"in-memory".equals(backend) && !"pgvector".equals(backend) && !"hnsw".equals(backend)) {
+            throw new IllegalArgumentException("prospectos.vectorization.backend must be one of: in-memory, pgvector, hnsw");
         }
     }
 
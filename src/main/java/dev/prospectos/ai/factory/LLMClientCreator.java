@@ -4,6 +4,8 @@ import dev.prospectos.ai.client.LLMClient;
 import dev.prospectos.ai.client.LLMProvider;
 import dev.prospectos.ai.client.impl.MockLLMClient;
 import dev.prospectos.ai.client.impl.SpringAILLMClient;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.ObjectProvider;
 
@@ -14,19 +16,25 @@ final class LLMClientCreator {
     private final ObjectProvider<ChatClient> groqChatClient;
     private final ObjectProvider<ChatClient> groqScoringChatClient;
     private final LLMProviderAvailabilityChecker availabilityChecker;
+    private final ObservationRegistry observationRegistry;
+    private final TokenUsageMonitor usageMonitor;
 
     LLMClientCreator(
         ObjectProvider<ChatClient> chatClient,
         ObjectProvider<ChatClient> scoringChatClient,
         ObjectProvider<ChatClient> groqChatClient,
         ObjectProvider<ChatClient> groqScoringChatClient,
-        LLMProviderAvailabilityChecker availabilityChecker
+        LLMProviderAvailabilityChecker availabilityChecker,
+        ObservationRegistry observationRegistry,
+        TokenUsageMonitor usageMonitor
     ) {
         this.chatClient = chatClient;
         this.scoringChatClient = scoringChatClient;
         this.groqChatClient = groqChatClient;
         this.groqScoringChatClient = groqScoringChatClient;
         this.availabilityChecker = availabilityChecker;
+        this.observationRegistry = observationRegistry;
+        this.usageMonitor = usageMonitor;
     }
 
     LLMClient createProviderClient(LLMProvider provider, boolean scoring) {
@@ -39,7 +47,7 @@ final class LLMClientCreator {
         }
         boolean available = availabilityChecker.isProviderAvailable(provider);
         ChatClient client = providerClient.getIfAvailable();
-        return new SpringAILLMClient(client, provider, client != null && available);
+        return new SpringAILLMClient(client, provider, client != null && available, observationRegistry, usageMonitor);
     }
 
     LLMClient createMockClient() {
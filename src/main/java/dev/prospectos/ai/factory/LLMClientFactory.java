@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import dev.prospectos.ai.client.LLMClient;
 import dev.prospectos.ai.client.LLMProvider;
 import dev.prospectos.ai.config.AIProviderActivationProperties;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -32,18 +34,21 @@ public class LLMClientFactory {
         @Qualifier("groqChatClient") ObjectProvider<ChatClient> groqChatClient,
         @Qualifier("groqScoringChatClient") ObjectProvider<ChatClient> groqScoringChatClient,
         Environment environment,
-        AIProviderActivationProperties activationProperties
+        AIProviderActivationProperties activationProperties,
+        ObservationRegistry observationRegistry,
+        TokenUsageMonitor usageMonitor
     ) {
         this.environment = environment;
         this.activationProperties = activationProperties;
-        this.availabilityChecker =
-            new LLMProviderAvailabilityChecker(() -> openaiKey, () -> anthropicKey, () -> groqKey);
+        this.availabilityChecker = new LLMProviderAvailabilityChecker(() -> openaiKey, () -> anthropicKey, () -> groqKey);
         this.clientCreator = new LLMClientCreator(
             chatClient,
             scoringChatClient,
             groqChatClient,
             groqScoringChatClient,
-            availabilityChecker
+            availabilityChecker,
+            observationRegistry,
+            usageMonitor
         );
     }
 
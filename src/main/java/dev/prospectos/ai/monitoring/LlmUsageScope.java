@@ -0,0 +1,34 @@
+package dev.prospectos.ai.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Business operation and ICP that LLM calls on the current thread are billed to. Clients only know which method
+ * was called ({@code query}, {@code structured}); callers that know why they are asking wrap the call so token and
+ * cost meters can be split by pipeline step and ICP. Scopes do not cross threads.
+ */
+public record LlmUsageScope(String operation, String icp) {
+
+    public static final String NO_ICP = "none";
+
+    private static final ThreadLocal<LlmUsageScope> CURRENT = new ThreadLocal<>();
+
+    public static <T> T call(String operation, Object icp, Supplier<T> call) {
+        LlmUsageScope previous = CURRENT.get();
+        CURRENT.set(new LlmUsageScope(operation, icp == null ? NO_ICP : icp.toString()));
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    static LlmUsageScope current(String fallbackOperation) {
+        LlmUsageScope scope = CURRENT.get();
+        return scope != null ? scope : new LlmUsageScope(fallbackOperation, NO_ICP);
+    }
+}
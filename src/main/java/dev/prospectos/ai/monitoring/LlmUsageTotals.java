@@ -0,0 +1,42 @@
+package dev.prospectos.ai.monitoring;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running request, token and cost totals; cost is kept in micro-dollars so it can be summed without locking.
+ */
+final class LlmUsageTotals {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder costMicros = new LongAdder();
+
+    void add(long tokenCount, long micros) {
+        requests.increment();
+        tokens.add(tokenCount);
+        costMicros.add(micros);
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long tokens() {
+        return tokens.sum();
+    }
+
+    long costMicros() {
+        return costMicros.sum();
+    }
+
+    Optional<BigDecimal> averageCost() {
+        long count = requests.sum();
+        if (count == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(BigDecimal.valueOf(costMicros.sum(), 6).divide(BigDecimal.valueOf(count), 6, RoundingMode.HALF_UP));
+    }
+}
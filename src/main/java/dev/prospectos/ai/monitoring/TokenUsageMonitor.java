@@ -1,45 +1,100 @@
 package dev.prospectos.ai.monitoring;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.prospectos.ai.config.LlmPricingProperties;
+import dev.prospectos.ai.config.LlmPricingProperties.ModelPrice;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.atomic.AtomicLong;
-
 /**
- * Simple token usage monitoring for development
+ * Meters every chat call from the token usage the provider reports in {@link ChatResponse} metadata. Tokens and USD
+ * cost go to {@code prospectos.llm.tokens} and {@code prospectos.llm.cost} tagged by provider, model, operation and
+ * ICP; per-operation totals back the average cost used by query metrics.
  */
 @Slf4j
 @Component
 public class TokenUsageMonitor {
-    
-    private final AtomicLong totalRequests = new AtomicLong(0);
-    private final AtomicLong estimatedTokens = new AtomicLong(0);
-    
-    public void logRequest(String prompt, String response) {
-        long requests = totalRequests.incrementAndGet();
-        long tokens = estimatedTokens.addAndGet(estimateTokens(prompt, response));
-        
-        log.info("AI request #{} | Estimated tokens: ~{} | Total: ~{}",
-                requests, estimateTokens(prompt, response), tokens);
-    }
-    
-    public void printUsageSummary() {
-        double estimatedCost = estimatedTokens.get() * 0.00002;
-        log.info("Token usage summary | Total requests: {} | Estimated tokens: ~{} | Estimated cost: ${}",
-            totalRequests.get(),
-            estimatedTokens.get(),
-            String.format("%.4f", estimatedCost));
+
+    public static final String TOKENS = "prospectos.llm.tokens";
+    public static final String COST = "prospectos.llm.cost";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final LlmPricingProperties pricing;
+    private final Map<String, LlmUsageTotals> operations = new ConcurrentHashMap<>();
+    private final LlmUsageTotals totals = new LlmUsageTotals();
+
+    public TokenUsageMonitor() {
+        this(new SimpleMeterRegistry(), LlmPricingProperties.defaults());
+    }
+
+    @Autowired
+    public TokenUsageMonitor(MeterRegistry meterRegistry, LlmPricingProperties pricing) {
+        this.meterRegistry = meterRegistry;
+        this.pricing = pricing;
+    }
+
+    /**
+     * Records one call and returns its generated text. {@code provider} may be null when the caller holds a shared
+     * client; the provider is then taken from the price table entry of the reported model.
+     */
+    public String record(String provider, String operation, ChatResponse response) {
+        if (response == null) {
+            return null;
+        }
+        ChatResponseMetadata metadata = response.getMetadata();
+        Usage usage = metadata.getUsage();
+        long promptTokens = usage == null ? 0 : count(usage.getPromptTokens());
+        long completionTokens = usage == null ? 0 : count(usage.getCompletionTokens());
+        String model = metadata.getModel() == null || metadata.getModel().isBlank() ? UNKNOWN : metadata.getModel();
+        BigDecimal cost = pricing.cost(model, promptTokens, completionTokens);
+        LlmUsageScope scope = LlmUsageScope.current(operation);
+        String providerTag = provider != null ? provider : pricing.priceOf(model).map(ModelPrice::provider).orElse(UNKNOWN);
+        Tags tags = Tags.of("provider", providerTag, "model", model, "operation", scope.operation(), "icp", scope.icp());
+        meterRegistry.counter(TOKENS, tags.and("type", "prompt")).increment(promptTokens);
+        meterRegistry.counter(TOKENS, tags.and("type", "completion")).increment(completionTokens);
+        meterRegistry.counter(COST, tags).increment(cost.doubleValue());
+        long micros = cost.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValue();
+        operations.computeIfAbsent(scope.operation(), ignored -> new LlmUsageTotals()).add(promptTokens + completionTokens, micros);
+        totals.add(promptTokens + completionTokens, micros);
+        log.debug("LLM {} on {}: {} prompt + {} completion tokens, ${}", scope.operation(), model, promptTokens, completionTokens, cost);
+        return response.getResult() == null ? null : response.getResult().getOutput().getText();
+    }
+
+    /**
+     * Mean USD cost of one call for {@code operation}, or empty until a call has been recorded.
+     */
+    public Optional<BigDecimal> averageCost(String operation) {
+        LlmUsageTotals operationTotals = operations.get(operation);
+        return operationTotals == null ? Optional.empty() : operationTotals.averageCost();
     }
-    
-    private long estimateTokens(String prompt, String response) {
-        return (prompt.length() + response.length()) / 4;
+
+    public void printUsageSummary() {
+        log.info("Token usage summary | Total requests: {} | Tokens: {} | Cost: ${}",
+            getTotalRequests(), getTotalTokens(), BigDecimal.valueOf(totals.costMicros(), 6).setScale(4, RoundingMode.HALF_UP));
     }
-    
+
     public long getTotalTokens() {
-        return estimatedTokens.get();
+        return totals.tokens();
     }
-    
+
     public long getTotalRequests() {
-        return totalRequests.get();
+        return totals.requests();
+    }
+
+    private static long count(Integer tokens) {
+        return tokens == null ? 0 : Math.max(tokens, 0);
     }
 }
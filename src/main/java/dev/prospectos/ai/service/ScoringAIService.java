@@ -2,9 +2,11 @@ package dev.prospectos.ai.service;
 
 import dev.prospectos.ai.client.AIProvider;
 import dev.prospectos.ai.dto.ScoringResult;
+import dev.prospectos.ai.monitoring.LlmUsageScope;
 import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.ICP;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 
@@ -28,58 +30,30 @@ import static dev.prospectos.ai.config.AIConfigurationProperties.*;
 public class ScoringAIService implements ScoringService {
 
     private final AIProvider aiProvider;
+    private final ScoringResultCache resultCache;
 
     public ScoringAIService(AIProvider aiProvider) {
+        this(aiProvider, ScoringResultCache.disabled());
+    }
+
+    @Autowired
+    public ScoringAIService(AIProvider aiProvider, ScoringResultCache resultCache) {
         this.aiProvider = aiProvider;
+        this.resultCache = resultCache;
     }
 
     /**
      * Calculates a company score (0-100) using AI.
-     * Returns a structured object parsed automatically.
+     * Returns a structured object parsed automatically; identical prompts on the same model are served from cache.
      */
     public ScoringResult scoreCompany(Company company, ICP icp) {
         log.info("AI calculating score: {}", company.getName());
 
-        String prompt = String.format("""
-                COMPANY:
-                Name: %s
-                Industry: %s
-                Location: %s
-                AI Analysis: %s
-                Active Signals: %s
-
-                TARGET ICP:
-                Industries: %s
-                Regions: %s
-                Theme: %s
-
-                TASK:
-                Calculate the score (0-100) for this company based on the criteria:
-                1. ICP fit (30 points)
-                2. Interest signals (25 points)
-                3. Company size and maturity (20 points)
-                4. Timing and urgency (15 points)
-                5. Contact accessibility (10 points)
-
-                Output requirements:
-                - Return only valid JSON
-                - No markdown code fences
-                - No comments or citations
-                - Keep all strings in a single line
-                - Use priority as one of: HOT, WARM, COLD, IGNORE
-                - Use breakdown keys exactly: icpFit, signals, companySize, timing, accessibility
-                """,
-                company.getName(),
-                company.getIndustry(),
-                company.getLocation(),
-                company.getAiAnalysis() != null ? company.getAiAnalysis() : "N/A",
-                company.hasActiveSignals(),
-                String.join(", ", icp.getIndustries()),
-                String.join(", ", icp.getRegions()),
-                icp.getInterestTheme());
+        String prompt = ScoringPrompt.render(company, icp);
 
-        // AI parses into ScoringResult automatically.
-        ScoringResult result = aiProvider.calculateScore(prompt, ScoringResult.class);
+        // AI parses into ScoringResult automatically; tokens are billed to the ICP being scored against.
+        ScoringResult result = resultCache.get(aiProvider, prompt, () -> LlmUsageScope.call("scoring", icp.getExternalId(),
+            () -> aiProvider.calculateScore(prompt, ScoringResult.class)));
 
         log.info("   Score calculated: {} ({}) - {}",
             result.score(),
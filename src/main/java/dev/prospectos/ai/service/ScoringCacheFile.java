@@ -0,0 +1,68 @@
+package dev.prospectos.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.prospectos.ai.cache.CacheEntry;
+import dev.prospectos.ai.dto.ScoringResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * JSON-lines persistence for the scoring cache: one {@code key, expiresAt, result} record per line,
+ * replaced atomically on save. Unreadable lines are skipped so a damaged file only loses those entries.
+ */
+@Slf4j
+final class ScoringCacheFile {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    ScoringCacheFile(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    void load(BiConsumer<String, CacheEntry<ScoringResult>> sink) {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                try {
+                    PersistedScore score = objectMapper.readValue(line, PersistedScore.class);
+                    sink.accept(score.key(), new CacheEntry<>(score.result(), score.expiresAtEpochMillis()));
+                } catch (IOException malformed) {
+                    log.warn("Skipping unreadable scoring cache entry in {}: {}", path, malformed.getMessage());
+                }
+            });
+        } catch (IOException | RuntimeException failure) {
+            log.warn("Could not load scoring cache from {}: {}", path, failure.getMessage());
+        }
+    }
+
+    void save(List<Map.Entry<String, CacheEntry<ScoringResult>>> entries) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, CacheEntry<ScoringResult>> entry : entries) {
+                CacheEntry<ScoringResult> cached = entry.getValue();
+                writer.write(objectMapper.writeValueAsString(
+                    new PersistedScore(entry.getKey(), cached.expiresAtEpochMillis(), cached.value())));
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    record PersistedScore(String key, long expiresAtEpochMillis, ScoringResult result) {
+    }
+}
@@ -0,0 +1,28 @@
+package dev.prospectos.ai.service;
+
+import dev.prospectos.ai.client.LLMProvider;
+import org.springframework.core.env.Environment;
+
+import static dev.prospectos.ai.config.AIConfigurationProperties.*;
+
+/**
+ * Resolves "provider:model" for the active chat model, so cached scores never cross model upgrades.
+ */
+final class ScoringModelIds {
+
+    private static final String OLLAMA_MODEL = "spring.ai.ollama.chat.options.model";
+
+    private ScoringModelIds() {
+    }
+
+    static String resolve(LLMProvider provider, Environment environment) {
+        String model = switch (provider) {
+            case OPENAI -> environment.getProperty(OPENAI_MODEL, DEFAULT_OPENAI_MODEL);
+            case ANTHROPIC -> environment.getProperty(ANTHROPIC_MODEL, DEFAULT_ANTHROPIC_MODEL);
+            case GROQ -> environment.getProperty(GROQ_MODEL, DEFAULT_GROQ_MODEL);
+            case OLLAMA -> environment.getProperty(OLLAMA_MODEL, "default");
+            case MOCK -> "mock";
+        };
+        return provider.name().toLowerCase() + ":" + model;
+    }
+}
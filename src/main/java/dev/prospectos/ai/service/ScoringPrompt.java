@@ -0,0 +1,53 @@
+package dev.prospectos.ai.service;
+
+import dev.prospectos.core.domain.Company;
+import dev.prospectos.core.domain.ICP;
+
+/**
+ * Renders the scoring prompt; the rendered text is also the content address of {@link ScoringResultCache}.
+ */
+final class ScoringPrompt {
+
+    private ScoringPrompt() {
+    }
+
+    static String render(Company company, ICP icp) {
+        return String.format("""
+                COMPANY:
+                Name: %s
+                Industry: %s
+                Location: %s
+                AI Analysis: %s
+                Active Signals: %s
+
+                TARGET ICP:
+                Industries: %s
+                Regions: %s
+                Theme: %s
+
+                TASK:
+                Calculate the score (0-100) for this company based on the criteria:
+                1. ICP fit (30 points)
+                2. Interest signals (25 points)
+                3. Company size and maturity (20 points)
+                4. Timing and urgency (15 points)
+                5. Contact accessibility (10 points)
+
+                Output requirements:
+                - Return only valid JSON
+                - No markdown code fences
+                - No comments or citations
+                - Keep all strings in a single line
+                - Use priority as one of: HOT, WARM, COLD, IGNORE
+                - Use breakdown keys exactly: icpFit, signals, companySize, timing, accessibility
+                """,
+                company.getName(),
+                company.getIndustry(),
+                company.getLocation(),
+                company.getAiAnalysis() != null ? company.getAiAnalysis() : "N/A",
+                company.hasActiveSignals(),
+                String.join(", ", icp.getIndustries()),
+                String.join(", ", icp.getRegions()),
+                icp.getInterestTheme());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.prospectos.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.prospectos.ai.cache.BoundedTtlCache;
+import dev.prospectos.ai.cache.BoundedTtlCacheMetrics;
+import dev.prospectos.ai.cache.CacheStats;
+import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.config.ScoringCacheProperties;
+import dev.prospectos.ai.dto.ScoringResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of scoring results. The key is a SHA-256 of the model id and the exact
+ * rendered prompt, so any change to the company, the ICP, the prompt template or the model misses.
+ */
+@Slf4j
+@Component
+public class ScoringResultCache implements AutoCloseable {
+
+    static final String CACHE_NAME = "scoring";
+
+    private final BoundedTtlCache<String, ScoringResult> cache;
+    private final ScoringCacheFile file;
+    private final Environment environment;
+
+    @Autowired
+    public ScoringResultCache(ScoringCacheProperties properties, Environment environment, ObjectMapper objectMapper,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, environment, objectMapper, meterRegistry.getIfAvailable());
+    }
+
+    ScoringResultCache(ScoringCacheProperties properties, Environment environment, ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.cache = properties.enabled() ? new BoundedTtlCache<>(properties.maxSize(), properties.ttl()) : null;
+        this.file = cache != null && properties.persistenceFile() != null
+            ? new ScoringCacheFile(properties.persistenceFile(), objectMapper) : null;
+        if (file != null) {
+            file.load(cache::put);
+        }
+        if (cache != null && meterRegistry != null) {
+            new BoundedTtlCacheMetrics(cache, CACHE_NAME).bindTo(meterRegistry);
+        }
+    }
+
+    static ScoringResultCache disabled() {
+        return new ScoringResultCache(ScoringCacheProperties.disabled(), null, null, (MeterRegistry) null);
+    }
+
+    /**
+     * Returns the cached result for this prompt on the provider's current model, or runs {@code scorer} once.
+     */
+    public ScoringResult get(AIProvider aiProvider, String prompt, Supplier<ScoringResult> scorer) {
+        if (cache == null) {
+            return scorer.get();
+        }
+        String modelId = ScoringModelIds.resolve(aiProvider.getClient().getProvider(), environment);
+        return cache.get(key(modelId, prompt), ignored -> scorer.get());
+    }
+
+    public CacheStats stats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0) : cache.stats();
+    }
+
+    @Override
+    public void close() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.save(cache.liveEntries());
+        } catch (IOException failure) {
+            log.warn("Could not persist scoring cache: {}", failure.getMessage());
+        }
+    }
+
+    static String key(String modelId, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException impossible) {
+            throw new IllegalStateException("SHA-256 unavailable", impossible);
+        }
+    }
+}
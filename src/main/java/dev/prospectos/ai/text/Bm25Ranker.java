@@ -0,0 +1,81 @@
+package dev.prospectos.ai.text;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * Okapi BM25 scoring over {@link TextIndexState}.
+ * Each query token matches its exact term at full weight and up to {@link #MAX_EXPANSIONS} longer terms
+ * sharing it as prefix at half weight; a document keeps its best match per token and sums across tokens.
+ */
+final class Bm25Ranker {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_EXPANSIONS = 50;
+    private static final Comparator<TextSearchMatch> WORST_FIRST = Comparator
+        .comparingDouble(TextSearchMatch::score)
+        .thenComparing(TextSearchMatch::id, Comparator.reverseOrder());
+
+    private Bm25Ranker() {
+    }
+
+    static List<TextSearchMatch> rank(TextIndexState state, List<String> queryTokens, int limit, LongPredicate accept) {
+        TextDocumentTable documents = state.documents();
+        if (documents.size() == 0) {
+            return List.of();
+        }
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String token : new LinkedHashSet<>(queryTokens)) {
+            Map<Integer, Double> tokenScores = new HashMap<>();
+            int expansions = 0;
+            for (Map.Entry<String, PostingList> entry : state.withPrefix(token).entrySet()) {
+                boolean exact = entry.getKey().equals(token);
+                if (!exact && (token.length() < MIN_PREFIX_LENGTH || expansions++ >= MAX_EXPANSIONS)) {
+                    break;
+                }
+                accumulate(documents, entry.getValue(), exact ? 1.0 : PREFIX_WEIGHT, tokenScores);
+            }
+            tokenScores.forEach((ordinal, score) -> scores.merge(ordinal, score, Double::sum));
+        }
+        return topK(documents, scores, limit, accept);
+    }
+
+    private static void accumulate(TextDocumentTable documents, PostingList postings, double weight, Map<Integer, Double> tokenScores) {
+        int documentCount = documents.size();
+        double averageLength = Math.max(documents.averageLength(), 1.0);
+        double idf = Math.log(1.0 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+        for (int i = 0; i < postings.size(); i++) {
+            int ordinal = postings.doc(i);
+            double freq = postings.freq(i);
+            double norm = K1 * (1.0 - B + B * documents.length(ordinal) / averageLength);
+            double score = weight * idf * freq * (K1 + 1.0) / (freq + norm);
+            tokenScores.merge(ordinal, score, Math::max);
+        }
+    }
+
+    private static List<TextSearchMatch> topK(TextDocumentTable documents, Map<Integer, Double> scores, int limit, LongPredicate accept) {
+        PriorityQueue<TextSearchMatch> heap = new PriorityQueue<>(WORST_FIRST);
+        scores.forEach((ordinal, score) -> {
+            long id = documents.id(ordinal);
+            if (!accept.test(id)) {
+                return;
+            }
+            heap.offer(new TextSearchMatch(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<TextSearchMatch> ranked = new ArrayList<>(heap);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked;
+    }
+}
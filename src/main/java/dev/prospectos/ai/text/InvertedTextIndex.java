@@ -0,0 +1,80 @@
+package dev.prospectos.ai.text;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory inverted index with accent-folded tokens, prefix matching and BM25 ranking.
+ * Documents are updated one at a time; searches run concurrently under a read lock and only touch
+ * the posting lists of the query terms, so cost grows with matches rather than with indexed documents.
+ */
+public final class InvertedTextIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TextIndexState state = new TextIndexState();
+
+    public void upsert(long id, String text) {
+        List<String> tokens = TextTokenizer.tokens(text);
+        lock.writeLock().lock();
+        try {
+            if (tokens.isEmpty()) {
+                state.delete(id);
+            } else {
+                state.upsert(id, tokens);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(long id) {
+        lock.writeLock().lock();
+        try {
+            state.delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            state.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.documents().size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} documents matching any query token, best BM25 score first (ties by id).
+     */
+    public List<TextSearchMatch> search(String query, int limit) {
+        return search(query, limit, id -> true);
+    }
+
+    /**
+     * Same as {@link #search(String, int)}, but only documents whose id passes {@code accept} compete for the top slots.
+     */
+    public List<TextSearchMatch> search(String query, int limit, LongPredicate accept) {
+        List<String> tokens = TextTokenizer.tokens(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return Bm25Ranker.rank(state, tokens, limit, accept);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.prospectos.ai.text;
+
+import java.util.Arrays;
+
+/**
+ * Document ordinals and term frequencies for one term, kept sorted by ordinal in parallel int arrays.
+ */
+final class PostingList {
+
+    private int[] docs = new int[4];
+    private int[] freqs = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int freq(int index) {
+        return freqs[index];
+    }
+
+    void put(int doc, int freq) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index >= 0) {
+            freqs[index] = freq;
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        freqs[insertAt] = freq;
+        size++;
+    }
+
+    void remove(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+        System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+        size--;
+    }
+}
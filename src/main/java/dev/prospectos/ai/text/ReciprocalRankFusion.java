@@ -0,0 +1,46 @@
+package dev.prospectos.ai.text;
+
+import dev.prospectos.ai.config.HybridSearchProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted reciprocal rank fusion of a lexical and a vector ranking.
+ * A document scores {@code sum(weight / (rankConstant + rank))} over the rankings it appears in (rank starts at 1);
+ * the result is divided by the best achievable score, so first place in both rankings scores 1.0.
+ * Only ranks are used, so BM25 and cosine scores never need to share a scale.
+ */
+public final class ReciprocalRankFusion {
+
+    private ReciprocalRankFusion() {
+    }
+
+    public static List<TextSearchMatch> fuse(
+        List<TextSearchMatch> lexical,
+        List<TextSearchMatch> vector,
+        HybridSearchProperties properties,
+        int limit
+    ) {
+        Map<Long, Double> fused = new HashMap<>();
+        accumulate(fused, lexical, properties.lexicalWeight(), properties.rankConstant());
+        accumulate(fused, vector, properties.vectorWeight(), properties.rankConstant());
+        double best = (properties.lexicalWeight() + properties.vectorWeight()) / (properties.rankConstant() + 1.0d);
+        List<TextSearchMatch> ranked = new ArrayList<>(fused.size());
+        fused.forEach((id, score) -> ranked.add(new TextSearchMatch(id, score / best)));
+        ranked.sort(Comparator.comparingDouble(TextSearchMatch::score).reversed().thenComparingLong(TextSearchMatch::id));
+        return ranked.size() > limit ? List.copyOf(ranked.subList(0, limit)) : ranked;
+    }
+
+    private static void accumulate(Map<Long, Double> fused, List<TextSearchMatch> ranking, double weight, int rankConstant) {
+        if (weight == 0.0d) {
+            return;
+        }
+        for (int rank = 0; rank < ranking.size(); rank++) {
+            fused.merge(ranking.get(rank).id(), weight / (rankConstant + rank + 1.0d), Double::sum);
+        }
+    }
+}
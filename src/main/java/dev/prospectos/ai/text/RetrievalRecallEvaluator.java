@@ -0,0 +1,47 @@
+package dev.prospectos.ai.text;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Offline comparison of vector-only and hybrid retrieval.
+ * Each query is labelled with the one document id it must find; recall@k is the share of queries whose
+ * labelled id appears in the top k.
+ */
+public final class RetrievalRecallEvaluator {
+
+    private RetrievalRecallEvaluator() {
+    }
+
+    public static RetrievalRecallReport compare(
+        Map<String, Long> labelledQueries,
+        int topK,
+        BiFunction<String, Integer, List<Long>> vectorRetrieval,
+        BiFunction<String, Integer, List<Long>> hybridRetrieval
+    ) {
+        long vectorNanos = 0L;
+        long hybridNanos = 0L;
+        int vectorHits = 0;
+        int hybridHits = 0;
+        for (Map.Entry<String, Long> query : labelledQueries.entrySet()) {
+            long startedAt = System.nanoTime();
+            List<Long> vector = vectorRetrieval.apply(query.getKey(), topK);
+            long vectorDoneAt = System.nanoTime();
+            List<Long> hybrid = hybridRetrieval.apply(query.getKey(), topK);
+            hybridNanos += System.nanoTime() - vectorDoneAt;
+            vectorNanos += vectorDoneAt - startedAt;
+            vectorHits += vector.contains(query.getValue()) ? 1 : 0;
+            hybridHits += hybrid.contains(query.getValue()) ? 1 : 0;
+        }
+        int queryCount = Math.max(labelledQueries.size(), 1);
+        return new RetrievalRecallReport(
+            labelledQueries.size(),
+            topK,
+            (double) vectorHits / queryCount,
+            (double) hybridHits / queryCount,
+            vectorNanos / 1_000.0d / queryCount,
+            hybridNanos / 1_000.0d / queryCount
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package dev.prospectos.ai.text;
+
+/**
+ * Recall@k and average query latency of vector-only and hybrid retrieval over the same labelled queries.
+ */
+public record RetrievalRecallReport(
+    int queries,
+    int topK,
+    double vectorRecallAtK,
+    double hybridRecallAtK,
+    double vectorAvgMicros,
+    double hybridAvgMicros
+) {
+    public String summary() {
+        return String.format(
+            "recall@%d vector=%.3f hybrid=%.3f over %d queries, vector=%.1fus, hybrid=%.1fus",
+            topK,
+            vectorRecallAtK,
+            hybridRecallAtK,
+            queries,
+            vectorAvgMicros,
+            hybridAvgMicros
+        );
+    }
+}
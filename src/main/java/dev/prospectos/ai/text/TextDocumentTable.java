@@ -0,0 +1,81 @@
+package dev.prospectos.ai.text;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps external document ids to dense int ordinals and keeps per-document length and distinct terms.
+ * Ordinals of deleted documents are reused so posting arrays stay compact.
+ */
+final class TextDocumentTable {
+
+    private static final String[] NO_TERMS = new String[0];
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+    private long[] ids = new long[16];
+    private int[] lengths = new int[16];
+    private String[][] terms = new String[16][];
+    private int nextOrdinal;
+    private long totalLength;
+
+    Integer ordinal(long id) {
+        return ordinals.get(id);
+    }
+
+    int allocate(long id) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, ordinal * 2);
+            lengths = Arrays.copyOf(lengths, ordinal * 2);
+            terms = Arrays.copyOf(terms, ordinal * 2);
+        }
+        ids[ordinal] = id;
+        terms[ordinal] = NO_TERMS;
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    void release(long id, int ordinal) {
+        ordinals.remove(id);
+        setContent(ordinal, NO_TERMS, 0);
+        freeOrdinals.push(ordinal);
+    }
+
+    void setContent(int ordinal, String[] distinctTerms, int length) {
+        totalLength += length - lengths[ordinal];
+        terms[ordinal] = distinctTerms;
+        lengths[ordinal] = length;
+    }
+
+    void clear() {
+        ordinals.clear();
+        freeOrdinals.clear();
+        Arrays.fill(terms, null);
+        Arrays.fill(lengths, 0);
+        nextOrdinal = 0;
+        totalLength = 0;
+    }
+
+    String[] terms(int ordinal) {
+        return terms[ordinal];
+    }
+
+    long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    int length(int ordinal) {
+        return lengths[ordinal];
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    double averageLength() {
+        return ordinals.isEmpty() ? 0.0 : (double) totalLength / ordinals.size();
+    }
+}
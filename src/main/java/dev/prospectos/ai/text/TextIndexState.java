@@ -0,0 +1,60 @@
+package dev.prospectos.ai.text;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted term dictionary plus document table behind {@link InvertedTextIndex}; not thread-safe.
+ */
+final class TextIndexState {
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final TextDocumentTable documents = new TextDocumentTable();
+
+    void upsert(long id, List<String> tokens) {
+        Integer existing = documents.ordinal(id);
+        int ordinal = existing != null ? existing : documents.allocate(id);
+        unlink(ordinal);
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        frequencies.forEach((term, freq) -> postings.computeIfAbsent(term, ignored -> new PostingList()).put(ordinal, freq));
+        documents.setContent(ordinal, frequencies.keySet().toArray(String[]::new), tokens.size());
+    }
+
+    void delete(long id) {
+        Integer ordinal = documents.ordinal(id);
+        if (ordinal != null) {
+            unlink(ordinal);
+            documents.release(id, ordinal);
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    TextDocumentTable documents() {
+        return documents;
+    }
+
+    /**
+     * Terms starting with {@code prefix}, in lexical order (the exact term, when present, comes first).
+     */
+    NavigableMap<String, PostingList> withPrefix(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void unlink(int ordinal) {
+        for (String term : documents.terms(ordinal)) {
+            PostingList list = postings.get(term);
+            list.remove(ordinal);
+            if (list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package dev.prospectos.ai.text;
+
+/**
+ * Single ranked document id, from the inverted text index or from rank fusion.
+ */
+public record TextSearchMatch(long id, double score) {
+}
@@ -0,0 +1,91 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Arrays;
+
+/**
+ * One sign bit per dimension. The Hamming distance between query and stored bits estimates the angle between
+ * them, so similarity is {@code cos(pi * distance / dimensions)}, looked up from a precomputed table.
+ */
+final class BinaryVectorCodes implements VectorCodes {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int dimensions;
+    private final int words;
+    private final float[] similarityByDistance;
+    private long[] bits;
+    private float[] magnitudes;
+
+    BinaryVectorCodes(int dimensions) {
+        this.dimensions = dimensions;
+        this.words = (dimensions + Long.SIZE - 1) / Long.SIZE;
+        this.similarityByDistance = new float[dimensions + 1];
+        for (int distance = 0; distance <= dimensions; distance++) {
+            similarityByDistance[distance] = (float) Math.cos(Math.PI * distance / dimensions);
+        }
+        this.bits = new long[INITIAL_CAPACITY * words];
+        this.magnitudes = new float[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void write(int slot, float[] vector) {
+        VectorMath.requireDimensions(vector, dimensions);
+        ensureCapacity(slot + 1);
+        encode(vector, bits, slot * words);
+        float sum = 0.0f;
+        for (float value : vector) {
+            sum += Math.abs(value);
+        }
+        magnitudes[slot] = sum / dimensions;
+    }
+
+    /**
+     * Every component becomes plus or minus the vector's mean absolute value.
+     */
+    @Override
+    public float[] decode(int slot) {
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            boolean positive = (bits[slot * words + i / Long.SIZE] & (1L << (i % Long.SIZE))) != 0;
+            vector[i] = positive ? magnitudes[slot] : -magnitudes[slot];
+        }
+        return vector;
+    }
+
+    @Override
+    public Scorer scorer(float[] query, float queryNorm) {
+        long[] queryBits = new long[words];
+        encode(query, queryBits, 0);
+        return slot -> {
+            int offset = slot * words;
+            int distance = 0;
+            for (int word = 0; word < words; word++) {
+                distance += Long.bitCount(bits[offset + word] ^ queryBits[word]);
+            }
+            return similarityByDistance[distance];
+        };
+    }
+
+    @Override
+    public long bytesPerVector() {
+        return (long) words * Long.BYTES + Float.BYTES;
+    }
+
+    private static void encode(float[] vector, long[] target, int offset) {
+        Arrays.fill(target, offset, offset + (vector.length + Long.SIZE - 1) / Long.SIZE, 0L);
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] > 0.0f) {
+                target[offset + i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= magnitudes.length) {
+            return;
+        }
+        int grown = Math.max(slots, magnitudes.length * 2);
+        bits = Arrays.copyOf(bits, grown * words);
+        magnitudes = Arrays.copyOf(magnitudes, grown);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.prospectos.ai.vector;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static dev.prospectos.ai.vector.VectorLocks.locked;
+
+/**
+ * Slot-addressed storage over float or quantized {@link VectorSlots}; top-K is kept in a bounded min-heap
+ * instead of a full sort. Filters are resolved to a slot bitset by {@link VectorAttributeBitsets} before scoring.
+ */
+final class ContiguousVectorStorage implements InMemoryVectorStorage {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final VectorSlots slab;
+    private final Map<String, Integer> slotById = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final List<SlotPayload> payloads = new ArrayList<>();
+    private final VectorAttributeBitsets attributes = new VectorAttributeBitsets();
+
+    ContiguousVectorStorage(VectorSlots slab) {
+        this.slab = slab;
+    }
+
+    @Override
+    public void clear() {
+        locked(lock.writeLock(), () -> {
+            slotById.clear();
+            occupied.clear();
+            payloads.clear();
+            attributes.clear();
+        });
+    }
+
+    @Override
+    public void put(String id, float[] vector, Map<String, Object> metadata) {
+        locked(lock.writeLock(), () -> {
+            int slot = slotById.getOrDefault(id, occupied.nextClearBit(0));
+            slab.write(slot, vector);
+            while (payloads.size() <= slot) {
+                payloads.add(null);
+            }
+            payloads.set(slot, new SlotPayload(id, metadata));
+            attributes.set(slot, metadata);
+            occupied.set(slot);
+            slotById.put(id, slot);
+        });
+    }
+
+    @Override
+    public void remove(String id) {
+        locked(lock.writeLock(), () -> {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                occupied.clear(slot);
+                payloads.set(slot, null);
+                attributes.clear(slot);
+            }
+        });
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return locked(lock.readLock(), slotById::isEmpty);
+    }
+
+    @Override
+    public List<StoredVector> entries() {
+        return locked(lock.readLock(), () -> slotById.values().stream()
+            .map(slot -> new StoredVector(payloads.get(slot).id(), slab.read(slot), payloads.get(slot).metadata()))
+            .toList());
+    }
+
+    @Override
+    public List<VectorSearchMatch> search(float[] query, int topK, double minSimilarity, VectorSearchFilter filter) {
+        float queryNorm = VectorMath.norm(query);
+        return locked(lock.readLock(), () -> {
+            BitSet candidates = filter.isEmpty() ? occupied : attributes.matching(filter, occupied);
+            VectorTopK heap = slab.topK(candidates, query, queryNorm, minSimilarity, Math.min(topK, slotById.size()));
+            List<VectorSearchMatch> matches = new ArrayList<>(heap.size());
+            for (int slot : heap.drainDescending()) {
+                SlotPayload payload = payloads.get(slot);
+                matches.add(new VectorSearchMatch(payload.id(), slab.cosine(slot, query, queryNorm), payload.metadata()));
+            }
+            return matches;
+        });
+    }
+
+    @Override
+    public void close() {
+        locked(lock.writeLock(), slab::close);
+    }
+
+    private record SlotPayload(String id, Map<String, Object> metadata) {
+    }
+}
@@ -0,0 +1,97 @@
+package dev.prospectos.ai.vector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Full-precision rows in a slot-addressed scratch file; only the norms stay in memory.
+ * Quantized storage reads rows back just for the candidates it rescores, so the OS page cache keeps the hot ones.
+ * Each slab gets its own {@code vectors-*.f32} file, deleted on close, so storages sharing a directory never
+ * overwrite each other's rows; the index is rebuilt, or restored from its snapshot, at startup anyway.
+ */
+final class DiskVectorSlab implements VectorSlots {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final FileChannel channel;
+    private final int dimensions;
+    private final int rowBytes;
+    private float[] norms = new float[INITIAL_CAPACITY];
+
+    DiskVectorSlab(Path directory, int dimensions) {
+        this.dimensions = dimensions;
+        this.rowBytes = dimensions * Float.BYTES;
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(Files.createTempFile(directory, "vectors-", ".f32"), READ, WRITE, DELETE_ON_CLOSE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot open full-precision vector file in " + directory, exception);
+        }
+    }
+
+    @Override
+    public void write(int slot, float[] vector) {
+        VectorMath.requireDimensions(vector, dimensions);
+        norms = slot < norms.length ? norms : Arrays.copyOf(norms, Math.max(slot + 1, norms.length * 2));
+        ByteBuffer row = ByteBuffer.allocate(rowBytes).order(ByteOrder.nativeOrder());
+        row.asFloatBuffer().put(vector);
+        transfer(row, slot, true);
+        norms[slot] = VectorMath.norm(vector);
+    }
+
+    @Override
+    public float[] read(int slot) {
+        ByteBuffer row = ByteBuffer.allocate(rowBytes).order(ByteOrder.nativeOrder());
+        transfer(row, slot, false);
+        float[] vector = new float[dimensions];
+        row.flip().asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    @Override
+    public float cosine(int slot, float[] query, float queryNorm) {
+        float norm = norms[slot];
+        if (norm == 0.0f || queryNorm == 0.0f) {
+            return 0.0f;
+        }
+        return VectorMath.dot(read(slot), query) / (norm * queryNorm);
+    }
+
+    @Override
+    public long bytesPerVector() {
+        return Float.BYTES;
+    }
+
+    private void transfer(ByteBuffer row, int slot, boolean write) {
+        long offset = (long) slot * rowBytes;
+        try {
+            while (row.hasRemaining()) {
+                int count = write ? channel.write(row, offset + row.position()) : channel.read(row, offset + row.position());
+                if (count < 0) {
+                    throw new IllegalStateException("Full-precision vector file ends before slot " + slot);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Full-precision vector file I/O failed", exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot close full-precision vector file", exception);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One map entry per vector; every query computes both norms and sorts all matches.
+ * Filters are checked against each entry's metadata before it is scored.
+ */
+final class EntryVectorStorage implements InMemoryVectorStorage {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void put(String id, float[] vector, Map<String, Object> metadata) {
+        entries.put(id, new Entry(vector.clone(), metadata));
+    }
+
+    @Override
+    public void remove(String id) {
+        entries.remove(id);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public List<StoredVector> entries() {
+        return entries.entrySet().stream()
+            .map(entry -> new StoredVector(entry.getKey(), entry.getValue().vector(), entry.getValue().metadata()))
+            .toList();
+    }
+
+    @Override
+    public List<VectorSearchMatch> search(float[] query, int topK, double minSimilarity, VectorSearchFilter filter) {
+        return entries.entrySet().stream()
+            .filter(entry -> filter.isEmpty() || filter.matches(entry.getValue().metadata()))
+            .map(entry -> new VectorSearchMatch(
+                entry.getKey(),
+                cosineSimilarity(query, entry.getValue().vector()),
+                entry.getValue().metadata()
+            ))
+            .filter(match -> match.similarity() >= minSimilarity)
+            .sorted(Comparator.comparingDouble(VectorSearchMatch::similarity).reversed())
+            .limit(topK)
+            .toList();
+    }
+
+    private double cosineSimilarity(float[] left, float[] right) {
+        double dot = 0.0d;
+        double leftNorm = 0.0d;
+        double rightNorm = 0.0d;
+
+        for (int i = 0; i < left.length; i++) {
+            dot += left[i] * right[i];
+            leftNorm += left[i] * left[i];
+            rightNorm += right[i] * right[i];
+        }
+
+        if (leftNorm == 0.0d || rightNorm == 0.0d) {
+            return 0.0d;
+        }
+        return dot / (Math.sqrt(leftNorm) * Math.sqrt(rightNorm));
+    }
+
+    private record Entry(float[] vector, Map<String, Object> metadata) {
+    }
+}
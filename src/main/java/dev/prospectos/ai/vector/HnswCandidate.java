@@ -0,0 +1,12 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Comparator;
+
+/**
+ * Graph node paired with its distance ({@code 1 - cosine}) to the current query.
+ */
+record HnswCandidate(int node, float distance) {
+
+    static final Comparator<HnswCandidate> CLOSEST_FIRST = Comparator.comparingDouble(HnswCandidate::distance);
+    static final Comparator<HnswCandidate> FURTHEST_FIRST = CLOSEST_FIRST.reversed();
+}
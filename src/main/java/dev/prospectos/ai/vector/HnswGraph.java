@@ -0,0 +1,100 @@
+package dev.prospectos.ai.vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Hierarchical navigable small world graph over L2-normalized vectors.
+ * Deletes are tombstones: deleted nodes still route searches but are never returned.
+ * Not thread-safe; {@link HnswVectorIndex} guards every call.
+ */
+final class HnswGraph {
+
+    private final int m;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final List<HnswNode> nodes = new ArrayList<>();
+    private int entryPoint = -1;
+    private int topLevel = -1;
+    private int deletedCount;
+
+    HnswGraph(int m, int efConstruction, long seed) {
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0d / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    int insert(String id, float[] normalizedVector, Map<String, Object> metadata) {
+        int level = (int) Math.floor(-Math.log(1.0d - random.nextDouble()) * levelMultiplier);
+        int nodeIndex = nodes.size();
+        HnswNode node = new HnswNode(id, normalizedVector, metadata, level);
+        nodes.add(node);
+        if (entryPoint < 0) {
+            entryPoint = nodeIndex;
+            topLevel = level;
+            return nodeIndex;
+        }
+
+        HnswCandidate current = start(normalizedVector);
+        for (int layer = topLevel; layer > level; layer--) {
+            current = HnswLayerSearch.greedyClosest(nodes, normalizedVector, current, layer);
+        }
+        List<HnswCandidate> entryPoints = List.of(current);
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            List<HnswCandidate> found = HnswLayerSearch.search(nodes, normalizedVector, entryPoints, efConstruction, layer);
+            int[] selected = found.stream().limit(m).mapToInt(HnswCandidate::node).toArray();
+            node.setNeighbors(layer, selected);
+            for (int neighbor : selected) {
+                link(neighbor, nodeIndex, layer);
+            }
+            entryPoints = found;
+        }
+        entryPoint = level > topLevel ? nodeIndex : entryPoint;
+        topLevel = Math.max(level, topLevel);
+        return nodeIndex;
+    }
+
+    List<HnswCandidate> search(float[] normalizedQuery, int ef) {
+        if (entryPoint < 0) {
+            return List.of();
+        }
+        HnswCandidate current = start(normalizedQuery);
+        for (int layer = topLevel; layer > 0; layer--) {
+            current = HnswLayerSearch.greedyClosest(nodes, normalizedQuery, current, layer);
+        }
+        return HnswLayerSearch.search(nodes, normalizedQuery, List.of(current), ef, 0);
+    }
+
+    HnswNode node(int nodeIndex) {
+        return nodes.get(nodeIndex);
+    }
+
+    void markDeleted(int nodeIndex) {
+        if (!nodes.get(nodeIndex).deleted()) {
+            nodes.get(nodeIndex).markDeleted();
+            deletedCount++;
+        }
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    int deletedCount() {
+        return deletedCount;
+    }
+
+    private void link(int from, int to, int layer) {
+        HnswNode node = nodes.get(from);
+        int maxNeighbors = layer == 0 ? 2 * m : m;
+        node.addNeighbor(layer, to, maxNeighbors, neighbor -> HnswLayerSearch.distance(node.vector(), nodes.get(neighbor)));
+    }
+
+    private HnswCandidate start(float[] query) {
+        return new HnswCandidate(entryPoint, HnswLayerSearch.distance(query, nodes.get(entryPoint)));
+    }
+}
@@ -0,0 +1,84 @@
+package dev.prospectos.ai.vector;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Id-to-node bookkeeping around an {@link HnswGraph}; rebuilds the graph once tombstones outnumber live nodes. An
+ * upsert tombstones the node it replaces, so re-indexing checks that ratio just like a delete.
+ * Not thread-safe; {@link HnswVectorIndex} guards every call.
+ */
+final class HnswIndexState {
+
+    private static final long LEVEL_SEED = 42L;
+
+    private final int m;
+    private final int efConstruction;
+    private final Map<String, Integer> nodeById = new HashMap<>();
+    private HnswGraph graph;
+
+    HnswIndexState(int m, int efConstruction) {
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.graph = newGraph();
+    }
+
+    void clear() {
+        nodeById.clear();
+        graph = newGraph();
+    }
+
+    void upsert(String id, float[] normalizedVector, Map<String, Object> metadata) {
+        markDeleted(id);
+        nodeById.put(id, graph.insert(id, normalizedVector, metadata));
+        rebuildIfMostlyTombstones();
+    }
+
+    void delete(String id) {
+        markDeleted(id);
+        rebuildIfMostlyTombstones();
+    }
+
+    int graphSize() {
+        return graph.size();
+    }
+
+    List<VectorSearchMatch> search(float[] normalizedQuery, int ef, int topK, double minSimilarity) {
+        return graph.search(normalizedQuery, ef).stream()
+            .map(candidate -> graph.node(candidate.node()))
+            .filter(node -> !node.deleted())
+            .map(node -> new VectorSearchMatch(node.id(), VectorMath.dot(normalizedQuery, node.vector()), node.metadata()))
+            .filter(match -> match.similarity() >= minSimilarity)
+            .limit(topK)
+            .toList();
+    }
+
+    private void markDeleted(String id) {
+        Integer previous = nodeById.remove(id);
+        if (previous != null) {
+            graph.markDeleted(previous);
+        }
+    }
+
+    private void rebuildIfMostlyTombstones() {
+        if (graph.deletedCount() > nodeById.size()) {
+            rebuildWithoutTombstones();
+        }
+    }
+
+    private void rebuildWithoutTombstones() {
+        HnswGraph previous = graph;
+        graph = newGraph();
+        for (int nodeIndex = 0; nodeIndex < previous.size(); nodeIndex++) {
+            HnswNode node = previous.node(nodeIndex);
+            if (!node.deleted()) {
+                nodeById.put(node.id(), graph.insert(node.id(), node.vector(), node.metadata()));
+            }
+        }
+    }
+
+    private HnswGraph newGraph() {
+        return new HnswGraph(m, efConstruction, LEVEL_SEED);
+    }
+}
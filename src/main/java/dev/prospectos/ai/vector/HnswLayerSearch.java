@@ -0,0 +1,73 @@
+package dev.prospectos.ai.vector;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Best-first beam search over a single HNSW layer (Malkov &amp; Yashunin, algorithm 2).
+ */
+final class HnswLayerSearch {
+
+    private HnswLayerSearch() {
+    }
+
+    /**
+     * Returns up to {@code ef} nodes closest to {@code query}, ordered closest first.
+     */
+    static List<HnswCandidate> search(
+        List<HnswNode> nodes,
+        float[] query,
+        List<HnswCandidate> entryPoints,
+        int ef,
+        int layer
+    ) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<HnswCandidate> candidates = new PriorityQueue<>(HnswCandidate.CLOSEST_FIRST);
+        PriorityQueue<HnswCandidate> results = new PriorityQueue<>(HnswCandidate.FURTHEST_FIRST);
+        for (HnswCandidate entryPoint : entryPoints) {
+            visited.set(entryPoint.node());
+            candidates.add(entryPoint);
+            offer(results, entryPoint, ef);
+        }
+
+        while (!candidates.isEmpty()) {
+            HnswCandidate closest = candidates.poll();
+            if (results.size() >= ef && closest.distance() > results.peek().distance()) {
+                break;
+            }
+            for (int neighbor : nodes.get(closest.node()).neighbors(layer)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float distance = distance(query, nodes.get(neighbor));
+                if (results.size() < ef || distance < results.peek().distance()) {
+                    HnswCandidate candidate = new HnswCandidate(neighbor, distance);
+                    candidates.add(candidate);
+                    offer(results, candidate, ef);
+                }
+            }
+        }
+
+        List<HnswCandidate> ordered = new ArrayList<>(results);
+        ordered.sort(HnswCandidate.CLOSEST_FIRST);
+        return ordered;
+    }
+
+    static HnswCandidate greedyClosest(List<HnswNode> nodes, float[] query, HnswCandidate entryPoint, int layer) {
+        return search(nodes, query, List.of(entryPoint), 1, layer).getFirst();
+    }
+
+    static float distance(float[] query, HnswNode node) {
+        return 1.0f - VectorMath.dot(query, node.vector());
+    }
+
+    private static void offer(PriorityQueue<HnswCandidate> results, HnswCandidate candidate, int ef) {
+        results.add(candidate);
+        if (results.size() > ef) {
+            results.poll();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * HNSW graph node: normalized vector, payload and one neighbour list per layer.
+ */
+final class HnswNode {
+
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private final String id;
+    private final float[] vector;
+    private final Map<String, Object> metadata;
+    private final int[][] neighbors;
+    private boolean deleted;
+
+    HnswNode(String id, float[] vector, Map<String, Object> metadata, int level) {
+        this.id = id;
+        this.vector = vector;
+        this.metadata = metadata;
+        this.neighbors = new int[level + 1][];
+        Arrays.fill(neighbors, NO_NEIGHBORS);
+    }
+
+    String id() {
+        return id;
+    }
+
+    float[] vector() {
+        return vector;
+    }
+
+    Map<String, Object> metadata() {
+        return metadata;
+    }
+
+    int level() {
+        return neighbors.length - 1;
+    }
+
+    int[] neighbors(int layer) {
+        return neighbors[layer];
+    }
+
+    void setNeighbors(int layer, int[] nodes) {
+        neighbors[layer] = nodes;
+    }
+
+    /**
+     * Links {@code neighbor} on {@code layer}; when the list overflows the furthest link is dropped.
+     */
+    void addNeighbor(int layer, int neighbor, int maxNeighbors, IntToDoubleFunction distanceFromThis) {
+        int[] current = neighbors[layer];
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = neighbor;
+        if (extended.length <= maxNeighbors) {
+            neighbors[layer] = extended;
+            return;
+        }
+        int furthest = 0;
+        double furthestDistance = -1.0d;
+        for (int i = 0; i < extended.length; i++) {
+            double distance = distanceFromThis.applyAsDouble(extended[i]);
+            if (distance > furthestDistance) {
+                furthest = i;
+                furthestDistance = distance;
+            }
+        }
+        extended[furthest] = extended[extended.length - 1];
+        neighbors[layer] = Arrays.copyOf(extended, extended.length - 1);
+    }
+
+    boolean deleted() {
+        return deleted;
+    }
+
+    void markDeleted() {
+        deleted = true;
+    }
+}
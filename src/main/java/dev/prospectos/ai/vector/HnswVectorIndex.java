@@ -0,0 +1,88 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.HnswProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Approximate nearest-neighbour vector index backed by an in-memory HNSW graph.
+ * Searches run concurrently under a read lock; embedding happens outside the lock.
+ */
+@Component
+@ConditionalOnProperty(prefix = "prospectos.vectorization", name = "backend", havingValue = "hnsw")
+public class HnswVectorIndex implements VectorIndex {
+
+    private final TextEmbeddingService embeddingService;
+    private final int efSearch;
+    private final int dimensions;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final HnswIndexState state;
+
+    public HnswVectorIndex(TextEmbeddingService embeddingService, HnswProperties properties) {
+        this.embeddingService = embeddingService;
+        this.efSearch = properties.efSearch();
+        this.dimensions = embeddingService.descriptor().dimensions();
+        this.state = new HnswIndexState(properties.m(), properties.efConstruction());
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            state.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(String id, String content, Map<String, Object> metadata) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Vector id cannot be blank");
+        }
+        float[] vector = VectorMath.normalizedCopy(embeddingService.embed(content));
+        Map<String, Object> safeMetadata = metadata == null ? Map.of() : Map.copyOf(metadata);
+        lock.writeLock().lock();
+        try {
+            state.upsert(id, vector, safeMetadata);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        if (id == null || id.isBlank()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            state.delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity) {
+        if (query == null || query.isBlank() || topK <= 0) {
+            return List.of();
+        }
+        float[] queryVector = VectorMath.normalizedCopy(embeddingService.embed(query));
+        lock.readLock().lock();
+        try {
+            return state.search(queryVector, Math.max(efSearch, topK), topK, minSimilarity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
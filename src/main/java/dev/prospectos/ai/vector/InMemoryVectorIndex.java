@@ -1,15 +1,16 @@
 package dev.prospectos.ai.vector;
 
+import dev.prospectos.ai.config.InMemoryVectorSnapshotProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * In-memory vector index for semantic search.
+ * In-memory vector index for semantic search, optionally persisted to a snapshot plus write-ahead log.
  */
 @Component
 @ConditionalOnProperty(
@@ -18,15 +19,29 @@ import java.util.concurrent.ConcurrentHashMap;
     havingValue = "in-memory",
     matchIfMissing = true
 )
-public class InMemoryVectorIndex implements VectorIndex {
+public class InMemoryVectorIndex implements VectorIndex, AutoCloseable {
 
     private final TextEmbeddingService embeddingService;
     private final int dimensions;
-    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final InMemoryVectorStorage storage;
 
     public InMemoryVectorIndex(TextEmbeddingService embeddingService) {
+        this(embeddingService, new InMemoryVectorStorageProperties(null));
+    }
+
+    public InMemoryVectorIndex(TextEmbeddingService embeddingService, InMemoryVectorStorageProperties storageProperties) {
+        this(embeddingService, storageProperties, InMemoryVectorSnapshotProperties.disabled());
+    }
+
+    @Autowired
+    public InMemoryVectorIndex(
+        TextEmbeddingService embeddingService,
+        InMemoryVectorStorageProperties storageProperties,
+        InMemoryVectorSnapshotProperties snapshotProperties
+    ) {
         this.embeddingService = embeddingService;
         this.dimensions = embeddingService.descriptor().dimensions();
+        this.storage = InMemoryVectorStorage.create(embeddingService.descriptor(), storageProperties, snapshotProperties);
     }
 
     @Override
@@ -36,16 +51,17 @@ public class InMemoryVectorIndex implements VectorIndex {
 
     @Override
     public void clear() {
-        entries.clear();
+        storage.clear();
     }
 
     @Override
     public void upsert(String id, String content, Map<String, Object> metadata) {
-        if (id == null || id.isBlank()) {
-            throw new IllegalArgumentException("Vector id cannot be blank");
-        }
-        float[] vector = embeddingService.embed(content);
-        entries.put(id, new Entry(vector.clone(), metadata == null ? Map.of() : Map.copyOf(metadata)));
+        upsertAll(List.of(new VectorDocument(id, content, metadata)));
+    }
+
+    @Override
+    public void upsertAll(List<VectorDocument> documents) {
+        storage.putAll(documents.stream().map(document -> StoredVector.embed(document, embeddingService)).toList());
     }
 
     @Override
@@ -53,48 +69,32 @@ public class InMemoryVectorIndex implements VectorIndex {
         if (id == null || id.isBlank()) {
             return;
         }
-        entries.remove(id);
+        storage.remove(id);
     }
 
     @Override
     public List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity) {
-        if (query == null || query.isBlank()) {
-            return List.of();
-        }
-        if (topK <= 0 || entries.isEmpty()) {
+        return similaritySearch(query, topK, minSimilarity, VectorSearchFilter.NONE);
+    }
+
+    @Override
+    public List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity, VectorSearchFilter filter) {
+        if (query == null || query.isBlank() || topK <= 0 || storage.isEmpty()) {
             return List.of();
         }
-
         float[] queryVector = embeddingService.embed(query);
-        return entries.entrySet().stream()
-            .map(entry -> new VectorSearchMatch(
-                entry.getKey(),
-                cosineSimilarity(queryVector, entry.getValue().vector()),
-                entry.getValue().metadata()
-            ))
-            .filter(match -> match.similarity() >= minSimilarity)
-            .sorted(Comparator.comparingDouble(VectorSearchMatch::similarity).reversed())
-            .limit(topK)
-            .toList();
+        return storage.search(queryVector, topK, minSimilarity, filter == null ? VectorSearchFilter.NONE : filter);
     }
 
-    private double cosineSimilarity(float[] left, float[] right) {
-        double dot = 0.0d;
-        double leftNorm = 0.0d;
-        double rightNorm = 0.0d;
-
-        for (int i = 0; i < left.length; i++) {
-            dot += left[i] * right[i];
-            leftNorm += left[i] * left[i];
-            rightNorm += right[i] * right[i];
-        }
-
-        if (leftNorm == 0.0d || rightNorm == 0.0d) {
-            return 0.0d;
-        }
-        return dot / (Math.sqrt(leftNorm) * Math.sqrt(rightNorm));
+    /**
+     * Folds the write-ahead log into a fresh snapshot; a no-op when persistence is disabled.
+     */
+    public void compact() {
+        storage.compact();
     }
 
-    private record Entry(float[] vector, Map<String, Object> metadata) {
+    @Override
+    public void close() {
+        storage.close();
     }
 }
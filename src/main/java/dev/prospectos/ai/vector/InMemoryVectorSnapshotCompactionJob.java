@@ -0,0 +1,28 @@
+package dev.prospectos.ai.vector;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically compacts the in-memory vector snapshot so the write-ahead log stays short.
+ */
+@Component
+@ConditionalOnProperty(prefix = "prospectos.vectorization.in-memory.snapshot", name = "enabled", havingValue = "true")
+public class InMemoryVectorSnapshotCompactionJob {
+
+    private final ObjectProvider<InMemoryVectorIndex> index;
+
+    public InMemoryVectorSnapshotCompactionJob(ObjectProvider<InMemoryVectorIndex> index) {
+        this.index = index;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${prospectos.vectorization.in-memory.snapshot.compaction-interval:10m}",
+        initialDelayString = "${prospectos.vectorization.in-memory.snapshot.compaction-interval:10m}"
+    )
+    public void compact() {
+        index.ifAvailable(InMemoryVectorIndex::compact);
+    }
+}
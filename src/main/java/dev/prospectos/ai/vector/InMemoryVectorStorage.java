@@ -0,0 +1,59 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorSnapshotProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread-safe storage and exact cosine search behind {@link InMemoryVectorIndex}.
+ */
+interface InMemoryVectorStorage {
+
+    static InMemoryVectorStorage create(
+        EmbeddingModelDescriptor descriptor,
+        InMemoryVectorStorageProperties storageProperties,
+        InMemoryVectorSnapshotProperties snapshotProperties
+    ) {
+        InMemoryVectorStorage memory = switch (storageProperties.storage()) {
+            case InMemoryVectorStorageProperties.CONTIGUOUS -> new ContiguousVectorStorage(new VectorSlab(descriptor.dimensions()));
+            case InMemoryVectorStorageProperties.INT8, InMemoryVectorStorageProperties.BINARY ->
+                new ContiguousVectorStorage(QuantizedVectorSlab.create(descriptor.dimensions(), storageProperties));
+            default -> new EntryVectorStorage();
+        };
+        if (!snapshotProperties.enabled()) {
+            return memory;
+        }
+        VectorDiskState disk = new VectorDiskState(snapshotProperties.directory(), descriptor);
+        return new PersistentVectorStorage(memory, disk, snapshotProperties.compactionThreshold());
+    }
+
+    void clear();
+
+    void put(String id, float[] vector, Map<String, Object> metadata);
+
+    /**
+     * Stores a batch; persistent storage logs it with a single forced write.
+     */
+    default void putAll(List<StoredVector> vectors) {
+        vectors.forEach(vector -> put(vector.id(), vector.vector(), vector.metadata()));
+    }
+
+    void remove(String id);
+
+    boolean isEmpty();
+
+    /**
+     * Point-in-time copy of every stored vector, used to write snapshots.
+     */
+    List<StoredVector> entries();
+
+    List<VectorSearchMatch> search(float[] query, int topK, double minSimilarity, VectorSearchFilter filter);
+
+    default void compact() {
+    }
+
+    default void close() {
+    }
+}
@@ -0,0 +1,78 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Arrays;
+
+/**
+ * Scalar quantization: each vector is scaled by its largest absolute component into signed bytes.
+ * Queries stay in float, so the estimate only carries the error of the stored side.
+ */
+final class Int8VectorCodes implements VectorCodes {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LEVELS = 127.0f;
+
+    private final int dimensions;
+    private byte[] codes;
+    private float[] scales;
+    private float[] norms;
+
+    Int8VectorCodes(int dimensions) {
+        this.dimensions = dimensions;
+        this.codes = new byte[INITIAL_CAPACITY * dimensions];
+        this.scales = new float[INITIAL_CAPACITY];
+        this.norms = new float[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void write(int slot, float[] vector) {
+        VectorMath.requireDimensions(vector, dimensions);
+        ensureCapacity(slot + 1);
+        float maxAbs = 0.0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs / LEVELS;
+        int offset = slot * dimensions;
+        for (int i = 0; i < dimensions; i++) {
+            codes[offset + i] = scale == 0.0f ? 0 : (byte) Math.round(vector[i] / scale);
+        }
+        scales[slot] = scale;
+        norms[slot] = VectorMath.norm(vector);
+    }
+
+    @Override
+    public float[] decode(int slot) {
+        float[] vector = new float[dimensions];
+        int offset = slot * dimensions;
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = codes[offset + i] * scales[slot];
+        }
+        return vector;
+    }
+
+    @Override
+    public Scorer scorer(float[] query, float queryNorm) {
+        return slot -> {
+            float norm = norms[slot];
+            if (norm == 0.0f || queryNorm == 0.0f) {
+                return 0.0f;
+            }
+            return VectorMath.dot(codes, slot * dimensions, query) * scales[slot] / (norm * queryNorm);
+        };
+    }
+
+    @Override
+    public long bytesPerVector() {
+        return dimensions + 2L * Float.BYTES;
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= norms.length) {
+            return;
+        }
+        int grown = Math.max(slots, norms.length * 2);
+        codes = Arrays.copyOf(codes, grown * dimensions);
+        scales = Arrays.copyOf(scales, grown);
+        norms = Arrays.copyOf(norms, grown);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.prospectos.ai.vector;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes an {@link InMemoryVectorStorage} durable: every change is logged and forced to disk before it is applied,
+ * and compaction folds the log into a fresh snapshot; a batch put shares one forced write (group commit). Opening
+ * restores the snapshot through a memory map and replays the log, so nothing is re-embedded. Replaying a log over a
+ * newer snapshot is idempotent, so a crash between writing the snapshot and truncating the log loses nothing.
+ * Compaction runs in the background and only locks out writers to copy the entries and to drop the covered log prefix.
+ */
+final class PersistentVectorStorage implements InMemoryVectorStorage {
+
+    private final InMemoryVectorStorage delegate;
+    private final VectorDiskState disk;
+    private final VectorCompactionScheduler compactor;
+
+    PersistentVectorStorage(InMemoryVectorStorage delegate, VectorDiskState disk, int compactionThreshold) {
+        this.delegate = delegate;
+        this.disk = disk;
+        this.compactor = new VectorCompactionScheduler(compactionThreshold);
+        disk.restoreInto(delegate);
+    }
+
+    @Override
+    public void clear() {
+        compactor.runAndWait(() -> {
+            synchronized (this) {
+                delegate.clear();
+                compactNow();
+            }
+        });
+    }
+
+    @Override
+    public void put(String id, float[] vector, Map<String, Object> metadata) {
+        putAll(List.of(new StoredVector(id, vector, metadata)));
+    }
+
+    @Override
+    public synchronized void putAll(List<StoredVector> vectors) {
+        if (vectors.isEmpty()) {
+            return;
+        }
+        disk.logUpserts(vectors);
+        delegate.putAll(vectors);
+        compactor.requestAt(disk.checkpoint().operations(), this::compactNow);
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        disk.logDelete(id);
+        delegate.remove(id);
+        compactor.requestAt(disk.checkpoint().operations(), this::compactNow);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public List<StoredVector> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public List<VectorSearchMatch> search(float[] query, int topK, double minSimilarity, VectorSearchFilter filter) {
+        return delegate.search(query, topK, minSimilarity, filter);
+    }
+
+    @Override
+    public void compact() {
+        compactor.runAndWait(this::compactNow);
+    }
+
+    @Override
+    public void close() {
+        compact();
+        compactor.close();
+        synchronized (this) {
+            disk.close();
+            delegate.close();
+        }
+    }
+
+    private void compactNow() {
+        List<StoredVector> vectors;
+        VectorWriteAheadLog.Checkpoint checkpoint;
+        synchronized (this) {
+            vectors = delegate.entries();
+            checkpoint = disk.checkpoint();
+        }
+        disk.writeSnapshot(vectors);
+        synchronized (this) {
+            disk.truncateLog(checkpoint);
+        }
+    }
+}
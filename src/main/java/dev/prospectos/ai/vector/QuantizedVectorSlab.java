@@ -0,0 +1,96 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties.Quantization;
+
+import java.util.BitSet;
+
+/**
+ * Scans quantized codes for {@code k * rescoreMultiplier} candidates, then rescores only those against the
+ * full-precision rows. Without full-precision rows the code estimates are returned as the similarities.
+ */
+final class QuantizedVectorSlab implements VectorSlots {
+
+    private final VectorCodes codes;
+    private final VectorSlots fullPrecision;
+    private final int rescoreMultiplier;
+
+    QuantizedVectorSlab(VectorCodes codes, VectorSlots fullPrecision, int rescoreMultiplier) {
+        this.codes = codes;
+        this.fullPrecision = fullPrecision;
+        this.rescoreMultiplier = rescoreMultiplier;
+    }
+
+    static QuantizedVectorSlab create(int dimensions, InMemoryVectorStorageProperties properties) {
+        VectorCodes codes = InMemoryVectorStorageProperties.INT8.equals(properties.storage())
+            ? new Int8VectorCodes(dimensions)
+            : new BinaryVectorCodes(dimensions);
+        Quantization quantization = properties.quantization();
+        VectorSlots fullPrecision = switch (quantization.fullPrecision()) {
+            case Quantization.MEMORY -> new VectorSlab(dimensions);
+            case Quantization.DISK -> new DiskVectorSlab(quantization.directory(), dimensions);
+            default -> null;
+        };
+        return new QuantizedVectorSlab(codes, fullPrecision, properties.rescoreMultiplier());
+    }
+
+    @Override
+    public void write(int slot, float[] vector) {
+        codes.write(slot, vector);
+        if (fullPrecision != null) {
+            fullPrecision.write(slot, vector);
+        }
+    }
+
+    @Override
+    public float[] read(int slot) {
+        return fullPrecision == null ? codes.decode(slot) : fullPrecision.read(slot);
+    }
+
+    @Override
+    public float cosine(int slot, float[] query, float queryNorm) {
+        return fullPrecision == null
+            ? codes.scorer(query, queryNorm).score(slot)
+            : fullPrecision.cosine(slot, query, queryNorm);
+    }
+
+    @Override
+    public long bytesPerVector() {
+        return codes.bytesPerVector() + (fullPrecision == null ? 0L : fullPrecision.bytesPerVector());
+    }
+
+    @Override
+    public VectorTopK topK(BitSet slots, float[] query, float queryNorm, double minSimilarity, int k) {
+        VectorCodes.Scorer scorer = codes.scorer(query, queryNorm);
+        if (fullPrecision == null) {
+            return scan(slots, scorer, minSimilarity, k);
+        }
+        int candidates = (int) Math.min((long) k * rescoreMultiplier, slots.cardinality());
+        VectorTopK heap = new VectorTopK(k);
+        for (int slot : scan(slots, scorer, Double.NEGATIVE_INFINITY, candidates).drainDescending()) {
+            float similarity = fullPrecision.cosine(slot, query, queryNorm);
+            if (similarity >= minSimilarity) {
+                heap.offer(slot, similarity);
+            }
+        }
+        return heap;
+    }
+
+    @Override
+    public void close() {
+        if (fullPrecision != null) {
+            fullPrecision.close();
+        }
+    }
+
+    private static VectorTopK scan(BitSet slots, VectorCodes.Scorer scorer, double minSimilarity, int k) {
+        VectorTopK heap = new VectorTopK(k);
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            float similarity = scorer.score(slot);
+            if (similarity >= minSimilarity) {
+                heap.offer(slot, similarity);
+            }
+        }
+        return heap;
+    }
+}
@@ -37,14 +37,20 @@ public class SpringAiVectorStoreIndex implements VectorIndex {
 
     @Override
     public void upsert(String id, String content, Map<String, Object> metadata) {
-        if (id == null || id.isBlank()) {
-            throw new IllegalArgumentException("Vector id cannot be blank");
-        }
-        delete(id);
+        upsertAll(List.of(new VectorDocument(id, content, metadata)));
+    }
 
-        Map<String, Object> safeMetadata = metadata == null ? Map.of() : Map.copyOf(metadata);
-        Document document = new Document(id, content == null ? "" : content, safeMetadata);
-        vectorStore.add(List.of(document));
+    /**
+     * One delete and one add for the whole batch; the vector store embeds the added documents in batches.
+     */
+    @Override
+    public void upsertAll(List<VectorDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<Document> batch = documents.stream().map(VectorStoreDocuments::toDocument).toList();
+        vectorStore.delete(batch.stream().map(Document::getId).toList());
+        vectorStore.add(batch);
     }
 
     @Override
@@ -57,17 +63,27 @@ public class SpringAiVectorStoreIndex implements VectorIndex {
 
     @Override
     public List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity) {
+        return similaritySearch(query, topK, minSimilarity, VectorSearchFilter.NONE);
+    }
+
+    /**
+     * Passes the filter to the vector store as a filter expression, so pgvector filters in SQL.
+     */
+    @Override
+    public List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity, VectorSearchFilter filter) {
         if (query == null || query.isBlank() || topK <= 0) {
             return List.of();
         }
 
-        SearchRequest request = SearchRequest.builder()
+        SearchRequest.Builder request = SearchRequest.builder()
             .query(query)
             .topK(topK)
-            .similarityThreshold(minSimilarity)
-            .build();
+            .similarityThreshold(minSimilarity);
+        if (filter != null && !filter.isEmpty()) {
+            request.filterExpression(VectorStoreFilters.toExpression(filter));
+        }
 
-        List<Document> documents = vectorStore.similaritySearch(request);
+        List<Document> documents = vectorStore.similaritySearch(request.build());
         if (documents == null || documents.isEmpty()) {
             return List.of();
         }
@@ -75,20 +91,9 @@ public class SpringAiVectorStoreIndex implements VectorIndex {
         return documents.stream()
             .map(document -> new VectorSearchMatch(
                 document.getId(),
-                extractScore(document),
+                VectorStoreDocuments.score(document),
                 document.getMetadata()
             ))
             .toList();
     }
-
-    private double extractScore(Document document) {
-        if (document == null || document.getMetadata() == null) {
-            return 0.0d;
-        }
-        Object score = document.getMetadata().get("score");
-        if (score instanceof Number number) {
-            return number.doubleValue();
-        }
-        return 0.0d;
-    }
 }
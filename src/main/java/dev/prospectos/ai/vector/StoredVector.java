@@ -0,0 +1,17 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Map;
+
+/**
+ * One persisted vector together with its document id and metadata.
+ */
+record StoredVector(String id, float[] vector, Map<String, Object> metadata) {
+
+    static StoredVector embed(VectorDocument document, TextEmbeddingService embeddingService) {
+        if (document.id() == null || document.id().isBlank()) {
+            throw new IllegalArgumentException("Vector id cannot be blank");
+        }
+        Map<String, Object> metadata = document.metadata() == null ? Map.of() : Map.copyOf(document.metadata());
+        return new StoredVector(document.id(), embeddingService.embed(document.content()), metadata);
+    }
+}
@@ -0,0 +1,93 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-attribute slot bitsets for {@link VectorSearchFilter} fields, so a filter narrows the candidate slots
+ * with a few word-wise ANDs before any vector is scored. Not thread-safe; {@link ContiguousVectorStorage} guards access.
+ */
+final class VectorAttributeBitsets {
+
+    private final Map<String, BitSet> byIndustry = new HashMap<>();
+    private final Map<String, BitSet> byCountry = new HashMap<>();
+    private final BitSet withWebsite = new BitSet();
+    private final BitSet withoutWebsite = new BitSet();
+    private final BitSet scored = new BitSet();
+    private double[] scores = new double[64];
+
+    void set(int slot, Map<String, Object> metadata) {
+        clear(slot);
+        if (metadata.get(VectorSearchFilter.INDUSTRY) instanceof String industry) {
+            byIndustry.computeIfAbsent(industry, ignored -> new BitSet()).set(slot);
+        }
+        if (metadata.get(VectorSearchFilter.COUNTRY) instanceof String country) {
+            byCountry.computeIfAbsent(country, ignored -> new BitSet()).set(slot);
+        }
+        if (metadata.get(VectorSearchFilter.HAS_WEBSITE) instanceof Boolean hasWebsite) {
+            (hasWebsite ? withWebsite : withoutWebsite).set(slot);
+        }
+        if (metadata.get(VectorSearchFilter.SCORE) instanceof Number score) {
+            if (slot >= scores.length) {
+                scores = Arrays.copyOf(scores, Math.max(slot + 1, scores.length * 2));
+            }
+            scores[slot] = score.doubleValue();
+            scored.set(slot);
+        }
+    }
+
+    void clear(int slot) {
+        byIndustry.values().forEach(bits -> bits.clear(slot));
+        byCountry.values().forEach(bits -> bits.clear(slot));
+        withWebsite.clear(slot);
+        withoutWebsite.clear(slot);
+        scored.clear(slot);
+    }
+
+    void clear() {
+        byIndustry.clear();
+        byCountry.clear();
+        withWebsite.clear();
+        withoutWebsite.clear();
+        scored.clear();
+    }
+
+    /**
+     * Occupied slots whose attributes satisfy the filter.
+     */
+    BitSet matching(VectorSearchFilter filter, BitSet occupied) {
+        BitSet result = (BitSet) occupied.clone();
+        if (!filter.industries().isEmpty()) {
+            result.and(union(byIndustry, filter.industries()));
+        }
+        if (!filter.countries().isEmpty()) {
+            result.and(union(byCountry, filter.countries()));
+        }
+        if (filter.hasWebsite() != null) {
+            result.and(filter.hasWebsite() ? withWebsite : withoutWebsite);
+        }
+        if (filter.hasScoreRange()) {
+            result.and(scored);
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                if (!filter.inScoreRange(scores[slot])) {
+                    result.clear(slot);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BitSet union(Map<String, BitSet> index, Set<String> values) {
+        BitSet union = new BitSet();
+        values.forEach(value -> {
+            BitSet bits = index.get(value);
+            if (bits != null) {
+                union.or(bits);
+            }
+        });
+        return union;
+    }
+}
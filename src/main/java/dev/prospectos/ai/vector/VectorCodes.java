@@ -0,0 +1,27 @@
+package dev.prospectos.ai.vector;
+
+/**
+ * Compact lossy encoding of slot-addressed vectors, scanned cheaply before full-precision rescoring.
+ * Not thread-safe; {@link ContiguousVectorStorage} guards access.
+ */
+interface VectorCodes {
+
+    void write(int slot, float[] vector);
+
+    /**
+     * Approximate reconstruction, used only when no full-precision copy is kept.
+     */
+    float[] decode(int slot);
+
+    /**
+     * Prepares the query once and returns estimated cosine similarities per slot.
+     */
+    Scorer scorer(float[] query, float queryNorm);
+
+    long bytesPerVector();
+
+    @FunctionalInterface
+    interface Scorer {
+        float score(int slot);
+    }
+}
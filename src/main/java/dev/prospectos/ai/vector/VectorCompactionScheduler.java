@@ -0,0 +1,55 @@
+package dev.prospectos.ai.vector;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs compactions for one {@link PersistentVectorStorage} on a dedicated thread, so snapshots are written off the
+ * write path. Compactions are serialized, and at most one requested compaction is queued at a time.
+ */
+final class VectorCompactionScheduler implements AutoCloseable {
+
+    private final ExecutorService executor =
+        Executors.newSingleThreadExecutor(Thread.ofPlatform().name("vector-compactor").daemon().factory());
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final int threshold;
+
+    VectorCompactionScheduler(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Queues {@code compaction} once the log holds at least the threshold number of {@code pendingOperations}.
+     */
+    void requestAt(int pendingOperations, Runnable compaction) {
+        if (pendingOperations >= threshold && queued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                queued.set(false);
+                compaction.run();
+            });
+        }
+    }
+
+    void runAndWait(Runnable task) {
+        Future<?> result = executor.submit(task);
+        try {
+            result.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while compacting the vector snapshot", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Vector snapshot compaction failed", exception.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+package dev.prospectos.ai.vector;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot plus write-ahead log inside one directory. Files written for another embedding model, or unreadable
+ * ones, are discarded on restore so the index starts empty instead of serving stale vectors.
+ */
+@Slf4j
+final class VectorDiskState implements AutoCloseable {
+
+    private final Path logPath;
+    private final EmbeddingModelDescriptor descriptor;
+    private final VectorSnapshotFile snapshot;
+    private VectorWriteAheadLog writeAheadLog;
+
+    VectorDiskState(Path directory, EmbeddingModelDescriptor descriptor) {
+        this.logPath = directory.resolve("vectors.wal");
+        this.descriptor = descriptor;
+        this.snapshot = new VectorSnapshotFile(directory.resolve("vectors.snapshot"), descriptor);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot create vector snapshot directory " + directory, exception);
+        }
+    }
+
+    void restoreInto(InMemoryVectorStorage storage) {
+        try {
+            Consumer<StoredVector> upsert = vector -> storage.put(vector.id(), vector.vector(), vector.metadata());
+            int restored = snapshot.load(upsert);
+            writeAheadLog = new VectorWriteAheadLog(logPath, descriptor);
+            int replayed = writeAheadLog.replay(upsert, storage::remove);
+            log.info("Restored {} vectors from snapshot and replayed {} logged changes", restored, replayed);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Discarding vector snapshot in {}: {}", logPath.getParent(), exception.getMessage());
+            storage.clear();
+            discard();
+        }
+    }
+
+    void logUpserts(List<StoredVector> vectors) {
+        run(() -> writeAheadLog.append(vectors.stream().map(VectorLogFrames::upsert).toList()));
+    }
+
+    void logDelete(String id) {
+        run(() -> writeAheadLog.append(List.of(VectorLogFrames.delete(id))));
+    }
+
+    VectorWriteAheadLog.Checkpoint checkpoint() {
+        return writeAheadLog.checkpoint();
+    }
+
+    void writeSnapshot(List<StoredVector> vectors) {
+        run(() -> snapshot.write(vectors));
+    }
+
+    void truncateLog(VectorWriteAheadLog.Checkpoint checkpoint) {
+        run(() -> writeAheadLog.truncateBefore(checkpoint));
+    }
+
+    @Override
+    public void close() {
+        run(writeAheadLog::close);
+    }
+
+    private void discard() {
+        run(() -> {
+            if (writeAheadLog != null) {
+                writeAheadLog.close();
+            }
+            snapshot.delete();
+            Files.deleteIfExists(logPath);
+            writeAheadLog = new VectorWriteAheadLog(logPath, descriptor);
+        });
+    }
+
+    private static void run(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Vector snapshot I/O failed", exception);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
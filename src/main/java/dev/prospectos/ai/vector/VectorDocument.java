@@ -0,0 +1,13 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Map;
+
+/**
+ * One document to embed and store in a {@link VectorIndex}.
+ */
+public record VectorDocument(
+    String id,
+    String content,
+    Map<String, Object> metadata
+) {
+}
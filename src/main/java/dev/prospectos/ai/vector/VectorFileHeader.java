@@ -0,0 +1,39 @@
+package dev.prospectos.ai.vector;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Header binding a snapshot or write-ahead log file to one embedding model id and dimension.
+ * Reading a file written for another model fails, so stale vectors are never mixed with fresh ones.
+ */
+final class VectorFileHeader {
+
+    static final int SNAPSHOT_MAGIC = 0x50564958;
+    static final int LOG_MAGIC = 0x5056574C;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private VectorFileHeader() {
+    }
+
+    static void write(DataOutputStream out, int magic, EmbeddingModelDescriptor descriptor) throws IOException {
+        out.writeInt(magic);
+        out.writeInt(FORMAT_VERSION);
+        VectorRecordCodec.writeString(out, descriptor.modelId());
+        out.writeInt(descriptor.dimensions());
+    }
+
+    static void read(ByteBuffer buffer, int magic, EmbeddingModelDescriptor expected) {
+        if (buffer.remaining() < 8 || buffer.getInt() != magic || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unrecognized vector file format");
+        }
+        String modelId = VectorRecordCodec.readString(buffer);
+        int dimensions = buffer.getInt();
+        if (!expected.modelId().equals(modelId) || expected.dimensions() != dimensions) {
+            throw new IllegalStateException("Vector file was written for model " + modelId + "/" + dimensions
+                + " but the active model is " + expected.modelId() + "/" + expected.dimensions());
+        }
+    }
+}
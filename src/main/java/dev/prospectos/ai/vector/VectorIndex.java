@@ -14,7 +14,29 @@ public interface VectorIndex {
 
     void upsert(String id, String content, Map<String, Object> metadata);
 
+    /**
+     * Stores many documents at once; backends override this to batch embedding and writes.
+     */
+    default void upsertAll(List<VectorDocument> documents) {
+        documents.forEach(document -> upsert(document.id(), document.content(), document.metadata()));
+    }
+
     void delete(String id);
 
     List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity);
+
+    /**
+     * Similarity search restricted to documents whose metadata satisfies {@code filter}.
+     * Backends that cannot filter natively fetch four times {@code topK} and drop non-matching documents,
+     * so they may return fewer than {@code topK} matches for selective filters.
+     */
+    default List<VectorSearchMatch> similaritySearch(String query, int topK, double minSimilarity, VectorSearchFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return similaritySearch(query, topK, minSimilarity);
+        }
+        return similaritySearch(query, topK * 4, minSimilarity).stream()
+            .filter(match -> filter.matches(match.metadata()))
+            .limit(topK)
+            .toList();
+    }
 }
@@ -0,0 +1,31 @@
+package dev.prospectos.ai.vector;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action while holding a lock.
+ */
+final class VectorLocks {
+
+    private VectorLocks() {
+    }
+
+    static <T> T locked(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static void locked(Lock lock, Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
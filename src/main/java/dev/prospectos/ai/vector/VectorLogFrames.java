@@ -0,0 +1,70 @@
+package dev.prospectos.ai.vector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log framing: {@code length, crc32, payload}, where the payload starts with an operation byte.
+ */
+final class VectorLogFrames {
+
+    static final byte UPSERT = 'U';
+    static final byte DELETE = 'D';
+
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private VectorLogFrames() {
+    }
+
+    static ByteBuffer upsert(StoredVector vector) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(UPSERT);
+        VectorRecordCodec.writeVector(out, vector);
+        return frame(payload.toByteArray());
+    }
+
+    static ByteBuffer delete(String id) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(DELETE);
+        VectorRecordCodec.writeString(out, id);
+        return frame(payload.toByteArray());
+    }
+
+    /**
+     * Returns the next intact payload and advances past it, or {@code null} at the end of the log
+     * or at a torn/corrupt frame, leaving the position at the start of that frame.
+     */
+    static ByteBuffer next(ByteBuffer log) {
+        int start = log.position();
+        if (log.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int length = log.getInt(start);
+        if (length <= 0 || length > log.remaining() - FRAME_HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = log.slice(start + FRAME_HEADER_BYTES, length);
+        if (log.getInt(start + Integer.BYTES) != checksum(payload.duplicate())) {
+            return null;
+        }
+        log.position(start + FRAME_HEADER_BYTES + length);
+        return payload;
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt(checksum(ByteBuffer.wrap(payload))).put(payload);
+        return frame.flip();
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
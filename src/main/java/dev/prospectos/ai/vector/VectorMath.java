@@ -0,0 +1,88 @@
+package dev.prospectos.ai.vector;
+
+/**
+ * Primitive float vector helpers shared by the in-process vector indexes.
+ */
+final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    static float dot(float[] left, float[] right) {
+        return dot(left, 0, right);
+    }
+
+    /**
+     * Dot product of {@code query} with the row starting at {@code offset} of a packed slab.
+     * Four independent accumulators break the dependency chain so the JIT can pipeline the loop.
+     */
+    static float dot(float[] slab, int offset, float[] query) {
+        float sum0 = 0.0f;
+        float sum1 = 0.0f;
+        float sum2 = 0.0f;
+        float sum3 = 0.0f;
+        int length = query.length;
+        int unrolled = length & ~3;
+        int i = 0;
+        for (; i < unrolled; i += 4) {
+            sum0 += slab[offset + i] * query[i];
+            sum1 += slab[offset + i + 1] * query[i + 1];
+            sum2 += slab[offset + i + 2] * query[i + 2];
+            sum3 += slab[offset + i + 3] * query[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += slab[offset + i] * query[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Same as {@link #dot(float[], int, float[])} over a row of int8 codes; the caller applies the row scale.
+     */
+    static float dot(byte[] codes, int offset, float[] query) {
+        float sum0 = 0.0f;
+        float sum1 = 0.0f;
+        float sum2 = 0.0f;
+        float sum3 = 0.0f;
+        int length = query.length;
+        int unrolled = length & ~3;
+        int i = 0;
+        for (; i < unrolled; i += 4) {
+            sum0 += codes[offset + i] * query[i];
+            sum1 += codes[offset + i + 1] * query[i + 1];
+            sum2 += codes[offset + i + 2] * query[i + 2];
+            sum3 += codes[offset + i + 3] * query[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += codes[offset + i] * query[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    static void requireDimensions(float[] vector, int dimensions) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException(
+                "Vector dimension mismatch: expected " + dimensions + " but got " + vector.length
+            );
+        }
+    }
+
+    static float norm(float[] vector) {
+        return (float) Math.sqrt(dot(vector, vector));
+    }
+
+    /**
+     * Returns an L2-normalized copy; zero vectors stay zero so their cosine with anything is 0.
+     */
+    static float[] normalizedCopy(float[] vector) {
+        float[] copy = vector.clone();
+        float norm = norm(copy);
+        if (norm == 0.0f) {
+            return copy;
+        }
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = copy[i] / norm;
+        }
+        return copy;
+    }
+}
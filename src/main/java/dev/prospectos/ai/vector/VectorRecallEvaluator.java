@@ -0,0 +1,57 @@
+package dev.prospectos.ai.vector;
+
+import java.util.List;
+
+/**
+ * Compares an approximate {@link VectorIndex} with an exact (brute-force) one over the same corpus.
+ */
+public final class VectorRecallEvaluator {
+
+    private static final double TIE_TOLERANCE = 1e-5d;
+
+    private VectorRecallEvaluator() {
+    }
+
+    public static VectorRecallReport compare(
+        VectorIndex exact,
+        VectorIndex approximate,
+        List<String> queries,
+        int topK,
+        double minSimilarity
+    ) {
+        long exactNanos = 0L;
+        long approximateNanos = 0L;
+        int expected = 0;
+        int hits = 0;
+        for (String query : queries) {
+            long startedAt = System.nanoTime();
+            List<VectorSearchMatch> truth = exact.similaritySearch(query, topK, minSimilarity);
+            long exactDoneAt = System.nanoTime();
+            List<VectorSearchMatch> found = approximate.similaritySearch(query, topK, minSimilarity);
+            approximateNanos += System.nanoTime() - exactDoneAt;
+            exactNanos += exactDoneAt - startedAt;
+            expected += truth.size();
+            hits += hits(truth, found);
+        }
+        int queryCount = Math.max(queries.size(), 1);
+        return new VectorRecallReport(
+            queries.size(),
+            topK,
+            expected == 0 ? 1.0d : (double) hits / expected,
+            exactNanos / 1_000.0d / queryCount,
+            approximateNanos / 1_000.0d / queryCount
+        );
+    }
+
+    /**
+     * Counts approximate matches at least as similar as the k-th exact match, so ties at the cut-off are not misses.
+     */
+    private static int hits(List<VectorSearchMatch> truth, List<VectorSearchMatch> found) {
+        if (truth.isEmpty()) {
+            return 0;
+        }
+        double threshold = truth.getLast().similarity() - TIE_TOLERANCE;
+        long hits = found.stream().filter(match -> match.similarity() >= threshold).count();
+        return (int) Math.min(hits, truth.size());
+    }
+}
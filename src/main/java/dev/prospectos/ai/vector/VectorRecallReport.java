@@ -0,0 +1,23 @@
+package dev.prospectos.ai.vector;
+
+/**
+ * Recall@k and average query latency of an approximate index measured against an exact one.
+ */
+public record VectorRecallReport(
+    int queries,
+    int topK,
+    double recallAtK,
+    double exactAvgMicros,
+    double approximateAvgMicros
+) {
+    public String summary() {
+        return String.format(
+            "recall@%d=%.3f over %d queries, exact=%.1fus, approximate=%.1fus",
+            topK,
+            recallAtK,
+            queries,
+            exactAvgMicros,
+            approximateAvgMicros
+        );
+    }
+}
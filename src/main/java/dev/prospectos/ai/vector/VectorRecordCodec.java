@@ -0,0 +1,90 @@
+package dev.prospectos.ai.vector;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Big-endian binary encoding of one vector record, shared by snapshots and the write-ahead log.
+ */
+final class VectorRecordCodec {
+
+    private VectorRecordCodec() {
+    }
+
+    static void writeVector(DataOutputStream out, StoredVector vector) throws IOException {
+        writeString(out, vector.id());
+        out.writeInt(vector.metadata().size());
+        for (Map.Entry<String, Object> entry : vector.metadata().entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        for (float component : vector.vector()) {
+            out.writeFloat(component);
+        }
+    }
+
+    static StoredVector readVector(ByteBuffer buffer, int dimensions) {
+        String id = readString(buffer);
+        int metadataSize = buffer.getInt();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(readString(buffer), readValue(buffer));
+        }
+        float[] vector = new float[dimensions];
+        buffer.asFloatBuffer().get(vector);
+        buffer.position(buffer.position() + dimensions * Float.BYTES);
+        return new StoredVector(id, vector, Map.copyOf(metadata));
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case Long number -> {
+                out.writeByte('J');
+                out.writeLong(number);
+            }
+            case Integer number -> {
+                out.writeByte('I');
+                out.writeInt(number);
+            }
+            case Double number -> {
+                out.writeByte('D');
+                out.writeDouble(number);
+            }
+            case Boolean flag -> {
+                out.writeByte('Z');
+                out.writeBoolean(flag);
+            }
+            default -> {
+                out.writeByte('S');
+                writeString(out, String.valueOf(value));
+            }
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        return switch (buffer.get()) {
+            case 'J' -> buffer.getLong();
+            case 'I' -> buffer.getInt();
+            case 'D' -> buffer.getDouble();
+            case 'Z' -> buffer.get() != 0;
+            case 'S' -> readString(buffer);
+            default -> throw new IllegalStateException("Unknown vector metadata type tag");
+        };
+    }
+}
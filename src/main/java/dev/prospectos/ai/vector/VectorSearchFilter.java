@@ -0,0 +1,76 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Metadata constraints a vector search applies before ranking: industry and country membership, a score range
+ * and website presence. Empty sets and null bounds match anything. Documents carry the attributes under the
+ * metadata keys below, with text values normalized by {@link #normalize(String)}.
+ */
+public record VectorSearchFilter(
+    Set<String> industries,
+    Set<String> countries,
+    Double minScore,
+    Double maxScore,
+    Boolean hasWebsite
+) {
+    public static final String INDUSTRY = "industry";
+    public static final String COUNTRY = "country";
+    public static final String SCORE = "prospectingScore";
+    public static final String HAS_WEBSITE = "hasWebsite";
+    public static final VectorSearchFilter NONE = new VectorSearchFilter(null, null, null, null, null);
+
+    public VectorSearchFilter {
+        industries = normalizeAll(industries);
+        countries = normalizeAll(countries);
+        if (minScore != null && maxScore != null && minScore > maxScore) {
+            throw new IllegalArgumentException("minScore cannot be greater than maxScore");
+        }
+    }
+
+    public static VectorSearchFilter of(Collection<String> industries, Collection<String> countries) {
+        return new VectorSearchFilter(
+            industries == null ? null : Set.copyOf(industries.stream().filter(Objects::nonNull).toList()),
+            countries == null ? null : Set.copyOf(countries.stream().filter(Objects::nonNull).toList()),
+            null,
+            null,
+            null
+        );
+    }
+
+    public boolean isEmpty() {
+        return industries.isEmpty() && countries.isEmpty() && !hasScoreRange() && hasWebsite == null;
+    }
+
+    public boolean hasScoreRange() {
+        return minScore != null || maxScore != null;
+    }
+
+    public boolean inScoreRange(double score) {
+        return (minScore == null || score >= minScore) && (maxScore == null || score <= maxScore);
+    }
+
+    public boolean matches(Map<String, Object> metadata) {
+        Map<String, Object> safe = metadata == null ? Map.of() : metadata;
+        return (industries.isEmpty() || safe.get(INDUSTRY) instanceof String industry && industries.contains(industry))
+            && (countries.isEmpty() || safe.get(COUNTRY) instanceof String country && countries.contains(country))
+            && (!hasScoreRange() || safe.get(SCORE) instanceof Number score && inScoreRange(score.doubleValue()))
+            && (hasWebsite == null || hasWebsite.equals(safe.get(HAS_WEBSITE)));
+    }
+
+    public static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalizeAll(Set<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream().map(VectorSearchFilter::normalize).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+}
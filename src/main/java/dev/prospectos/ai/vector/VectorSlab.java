@@ -0,0 +1,58 @@
+package dev.prospectos.ai.vector;
+
+import java.util.Arrays;
+
+/**
+ * All vectors packed row-major into a single float array addressed by slot, with precomputed L2 norms.
+ * Not thread-safe; {@link ContiguousVectorStorage} guards access.
+ */
+final class VectorSlab implements VectorSlots {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int dimensions;
+    private float[] data;
+    private float[] norms;
+
+    VectorSlab(int dimensions) {
+        this.dimensions = dimensions;
+        this.data = new float[INITIAL_CAPACITY * dimensions];
+        this.norms = new float[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void write(int slot, float[] vector) {
+        VectorMath.requireDimensions(vector, dimensions);
+        ensureCapacity(slot + 1);
+        System.arraycopy(vector, 0, data, slot * dimensions, dimensions);
+        norms[slot] = VectorMath.norm(vector);
+    }
+
+    @Override
+    public float[] read(int slot) {
+        return Arrays.copyOfRange(data, slot * dimensions, (slot + 1) * dimensions);
+    }
+
+    @Override
+    public float cosine(int slot, float[] query, float queryNorm) {
+        float norm = norms[slot];
+        if (norm == 0.0f || queryNorm == 0.0f) {
+            return 0.0f;
+        }
+        return VectorMath.dot(data, slot * dimensions, query) / (norm * queryNorm);
+    }
+
+    @Override
+    public long bytesPerVector() {
+        return (long) Float.BYTES * (dimensions + 1);
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= norms.length) {
+            return;
+        }
+        int grown = Math.max(slots, norms.length * 2);
+        data = Arrays.copyOf(data, grown * dimensions);
+        norms = Arrays.copyOf(norms, grown);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.prospectos.ai.vector;
+
+import java.util.BitSet;
+
+/**
+ * Slot-addressed vector rows scored by cosine similarity; the layout behind {@link ContiguousVectorStorage}.
+ * Implementations are not thread-safe; the owning storage guards access.
+ */
+interface VectorSlots {
+
+    void write(int slot, float[] vector);
+
+    float[] read(int slot);
+
+    /**
+     * Cosine similarity between the stored vector and a query whose norm the caller already computed.
+     */
+    float cosine(int slot, float[] query, float queryNorm);
+
+    /**
+     * Bytes held in memory per stored vector, excluding ids and metadata.
+     */
+    long bytesPerVector();
+
+    /**
+     * Scores the given slots against the query and keeps the {@code k} most similar at or above {@code minSimilarity}.
+     */
+    default VectorTopK topK(BitSet slots, float[] query, float queryNorm, double minSimilarity, int k) {
+        VectorTopK heap = new VectorTopK(k);
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            float similarity = cosine(slot, query, queryNorm);
+            if (similarity >= minSimilarity) {
+                heap.offer(slot, similarity);
+            }
+        }
+        return heap;
+    }
+
+    default void close() {
+    }
+}
@@ -0,0 +1,63 @@
+package dev.prospectos.ai.vector;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compacted point-in-time image of the in-memory index: header, record count, then one record per vector.
+ * Written to a temporary file and atomically moved into place; read back through a read-only memory map.
+ */
+final class VectorSnapshotFile {
+
+    private final Path path;
+    private final EmbeddingModelDescriptor descriptor;
+
+    VectorSnapshotFile(Path path, EmbeddingModelDescriptor descriptor) {
+        this.path = path;
+        this.descriptor = descriptor;
+    }
+
+    int load(Consumer<StoredVector> consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            VectorFileHeader.read(buffer, VectorFileHeader.SNAPSHOT_MAGIC, descriptor);
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                consumer.accept(VectorRecordCodec.readVector(buffer, descriptor.dimensions()));
+            }
+            return count;
+        }
+    }
+
+    void write(List<StoredVector> vectors) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            VectorFileHeader.write(out, VectorFileHeader.SNAPSHOT_MAGIC, descriptor);
+            out.writeInt(vectors.size());
+            for (StoredVector vector : vectors) {
+                VectorRecordCodec.writeVector(out, vector);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.prospectos.ai.vector;
+
+import org.springframework.ai.document.Document;
+
+import java.util.Map;
+
+/**
+ * Conversions between {@link VectorDocument}/{@link VectorSearchMatch} and Spring AI documents.
+ */
+final class VectorStoreDocuments {
+
+    private VectorStoreDocuments() {
+    }
+
+    static Document toDocument(VectorDocument document) {
+        if (document.id() == null || document.id().isBlank()) {
+            throw new IllegalArgumentException("Vector id cannot be blank");
+        }
+        Map<String, Object> safeMetadata = document.metadata() == null ? Map.of() : Map.copyOf(document.metadata());
+        return new Document(document.id(), document.content() == null ? "" : document.content(), safeMetadata);
+    }
+
+    static double score(Document document) {
+        if (document == null || document.getMetadata() == null) {
+            return 0.0d;
+        }
+        Object score = document.getMetadata().get("score");
+        if (score instanceof Number number) {
+            return number.doubleValue();
+        }
+        return 0.0d;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.prospectos.ai.vector;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates a {@link VectorSearchFilter} into a Spring AI filter expression, which pgvector runs as a
+ * JSONB predicate in the same SQL statement as the similarity ordering.
+ */
+final class VectorStoreFilters {
+
+    private VectorStoreFilters() {
+    }
+
+    static Filter.Expression toExpression(VectorSearchFilter filter) {
+        FilterExpressionBuilder builder = new FilterExpressionBuilder();
+        List<FilterExpressionBuilder.Op> clauses = new ArrayList<>();
+        if (!filter.industries().isEmpty()) {
+            clauses.add(builder.in(VectorSearchFilter.INDUSTRY, filter.industries().stream().sorted().toArray()));
+        }
+        if (!filter.countries().isEmpty()) {
+            clauses.add(builder.in(VectorSearchFilter.COUNTRY, filter.countries().stream().sorted().toArray()));
+        }
+        if (filter.minScore() != null) {
+            clauses.add(builder.gte(VectorSearchFilter.SCORE, filter.minScore()));
+        }
+        if (filter.maxScore() != null) {
+            clauses.add(builder.lte(VectorSearchFilter.SCORE, filter.maxScore()));
+        }
+        if (filter.hasWebsite() != null) {
+            clauses.add(builder.eq(VectorSearchFilter.HAS_WEBSITE, filter.hasWebsite()));
+        }
+        FilterExpressionBuilder.Op combined = clauses.getFirst();
+        for (int i = 1; i < clauses.size(); i++) {
+            combined = builder.and(combined, clauses.get(i));
+        }
+        return combined.build();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.prospectos.ai.vector;
+
+/**
+ * Bounded min-heap of (slot, score) pairs on primitive arrays; keeps the {@code k} highest scores.
+ */
+final class VectorTopK {
+
+    private final int[] slots;
+    private final float[] scores;
+    private int size;
+
+    VectorTopK(int k) {
+        this.slots = new int[k];
+        this.scores = new float[k];
+    }
+
+    void offer(int slot, float score) {
+        if (size < slots.length) {
+            slots[size] = slot;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (slots.length > 0 && score > scores[0]) {
+            slots[0] = slot;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Empties the heap, returning slots ordered by descending score.
+     */
+    int[] drainDescending() {
+        int[] ordered = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ordered[i] = slots[0];
+            swap(0, --size);
+            siftDown(0);
+        }
+        return ordered;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int left, int right) {
+        int slot = slots[left];
+        slots[left] = slots[right];
+        slots[right] = slot;
+        float score = scores[left];
+        scores[left] = scores[right];
+        scores[right] = score;
+    }
+}
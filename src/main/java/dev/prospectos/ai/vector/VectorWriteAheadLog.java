@@ -0,0 +1,100 @@
+package dev.prospectos.ai.vector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of upserts and deletes applied since the last snapshot. Every append is forced to disk before the
+ * change is applied; the frames of one append share a single fsync, so a batch pays for one disk flush. Replay stops
+ * at the first torn or corrupt frame and truncates the log there.
+ */
+final class VectorWriteAheadLog implements AutoCloseable {
+
+    private final Path path;
+    private final EmbeddingModelDescriptor descriptor;
+    private final byte[] header;
+    private FileChannel channel;
+    private long end;
+    private int pendingOperations;
+
+    VectorWriteAheadLog(Path path, EmbeddingModelDescriptor descriptor) throws IOException {
+        this.path = path;
+        this.descriptor = descriptor;
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        VectorFileHeader.write(new DataOutputStream(headerBytes), VectorFileHeader.LOG_MAGIC, descriptor);
+        this.header = headerBytes.toByteArray();
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            channel.write(ByteBuffer.wrap(header));
+        }
+        end = channel.size();
+        channel.position(end);
+    }
+
+    int replay(Consumer<StoredVector> upserts, Consumer<String> deletes) throws IOException {
+        ByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        VectorFileHeader.read(log, VectorFileHeader.LOG_MAGIC, descriptor);
+        int replayed = 0;
+        for (ByteBuffer payload = VectorLogFrames.next(log); payload != null; payload = VectorLogFrames.next(log)) {
+            if (payload.get() == VectorLogFrames.UPSERT) {
+                upserts.accept(VectorRecordCodec.readVector(payload, descriptor.dimensions()));
+            } else {
+                deletes.accept(VectorRecordCodec.readString(payload));
+            }
+            replayed++;
+        }
+        end = log.position();
+        channel.truncate(end);
+        channel.position(end);
+        pendingOperations = replayed;
+        return replayed;
+    }
+
+    void append(List<ByteBuffer> frames) throws IOException {
+        for (ByteBuffer frame : frames) {
+            end += channel.write(frame);
+        }
+        channel.force(false);
+        pendingOperations += frames.size();
+    }
+
+    Checkpoint checkpoint() {
+        return new Checkpoint(end, pendingOperations);
+    }
+
+    /**
+     * Drops the frames before {@code checkpoint}, which a snapshot now covers, by moving the frames appended since
+     * into a fresh log. A crash before the move leaves the full log, which replays idempotently over the snapshot.
+     */
+    void truncateBefore(Checkpoint checkpoint) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel rest = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            rest.write(ByteBuffer.wrap(header));
+            channel.transferTo(checkpoint.position(), end - checkpoint.position(), rest);
+            rest.force(true);
+        }
+        channel.close();
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        end = channel.size();
+        channel.position(end);
+        pendingOperations -= checkpoint.operations();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    record Checkpoint(long position, int operations) {
+    }
+}
@@ -2,12 +2,18 @@ package dev.prospectos.api;
 
 import dev.prospectos.api.dto.CompanyDTO;
 import dev.prospectos.api.dto.CompanyContactDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
 import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.api.dto.request.CompanyUpdateRequest;
 import org.springframework.lang.Nullable;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Public interface for Company data access across modules.
@@ -21,6 +27,37 @@ public interface CompanyDataService {
     CompanyDTO findByWebsite(String website);
 
     List<CompanyDTO> findAllCompanies();
+
+    /**
+     * Filtered, paged listing ordered by id. Database-backed implementations evaluate the filters in SQL;
+     * this default filters {@link #findAllCompanies()} in memory.
+     */
+    default CompanyPage findCompanies(CompanyListQuery query) {
+        List<CompanyDTO> matches = findAllCompanies().stream()
+            .filter(query::matches)
+            .sorted(Comparator.comparing(CompanyDTO::id))
+            .toList();
+        return CompanyPage.slice(matches, query);
+    }
+
+    /**
+     * Bulk lookup in the order of {@code companyIds}; unknown and repeated ids are skipped.
+     * Database-backed implementations load all of them in one query.
+     */
+    default List<CompanyDTO> findCompanies(Collection<Long> companyIds) {
+        return companyIds.stream().distinct().map(this::findCompany).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Keyset page of companies ordered by id, starting after {@code afterCompanyId} (or from the first company).
+     */
+    default List<CompanyDTO> findCompaniesAfter(@Nullable Long afterCompanyId, int limit) {
+        return findAllCompanies().stream()
+            .filter(company -> afterCompanyId == null || company.id() > afterCompanyId)
+            .sorted(Comparator.comparing(CompanyDTO::id))
+            .limit(limit)
+            .toList();
+    }
 
     CompanyDTO createCompany(CompanyCreateRequest request);
 
@@ -31,6 +68,18 @@ public interface CompanyDataService {
 
     void updateCompanyScore(Long companyId, ScoreDTO score);
 
+    /**
+     * Applies many score updates at once; companies that no longer exist are skipped.
+     * Implementations backed by a database write the batch in a single transaction.
+     */
+    default void updateCompanyScores(Map<Long, ScoreDTO> scores) {
+        scores.forEach((companyId, score) -> {
+            if (findCompany(companyId) != null) {
+                updateCompanyScore(companyId, score);
+            }
+        });
+    }
+
     List<CompanyDTO> findCompaniesByICP(Long icpId);
 
     List<CompanyContactDTO> findCompanyContacts(Long companyId);
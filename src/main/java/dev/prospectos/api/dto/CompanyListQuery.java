@@ -0,0 +1,97 @@
+package dev.prospectos.api.dto;
+
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Filter and pagination parameters for listing companies.
+ * Paging is either offset-based ({@code page}/{@code size}) or keyset-based ({@code cursor}/{@code size});
+ * without any of them every matching company is returned.
+ */
+public record CompanyListQuery(
+    @Nullable String query,
+    @Nullable String industry,
+    @Nullable String location,
+    @Nullable Double minScore,
+    @Nullable Double maxScore,
+    @Nullable Boolean hasContact,
+    @Nullable Integer page,
+    @Nullable Integer size,
+    @Nullable Long cursor
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+
+    public CompanyListQuery {
+        if (minScore != null && maxScore != null && minScore > maxScore) {
+            throw new IllegalArgumentException("minScore cannot be greater than maxScore");
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("page must be greater than or equal to 0");
+        }
+        if (page != null && cursor != null) {
+            throw new IllegalArgumentException("page cannot be combined with cursor");
+        }
+        if (size != null && size <= 0) {
+            throw new IllegalArgumentException("size must be greater than 0");
+        }
+    }
+
+    public boolean paged() {
+        return page != null || size != null || cursor != null;
+    }
+
+    public int resolvedPage() {
+        return page == null ? 0 : page;
+    }
+
+    public int resolvedSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    /**
+     * Evaluates the filters against an already materialized company, mirroring the database predicates.
+     */
+    public boolean matches(CompanyDTO company) {
+        return matchesQuery(company)
+            && contains(company.industry(), industry)
+            && contains(company.location(), location)
+            && matchesScore(company.score())
+            && (hasContact == null || hasContact == hasContact(company));
+    }
+
+    private boolean matchesQuery(CompanyDTO company) {
+        return isBlank(query)
+            || contains(company.name(), query)
+            || contains(company.industry(), query)
+            || contains(company.location(), query)
+            || contains(company.website(), query)
+            || contains(company.description(), query);
+    }
+
+    private boolean matchesScore(@Nullable ScoreDTO score) {
+        if (minScore == null && maxScore == null) {
+            return true;
+        }
+        return score != null
+            && (minScore == null || score.value() >= minScore)
+            && (maxScore == null || score.value() <= maxScore);
+    }
+
+    private static boolean hasContact(CompanyDTO company) {
+        return !isBlank(company.primaryContactEmail()) || (company.contactCount() != null && company.contactCount() > 0);
+    }
+
+    private static boolean contains(@Nullable String value, @Nullable String filter) {
+        return isBlank(filter) || (value != null && normalize(value).contains(normalize(filter)));
+    }
+
+    private static boolean isBlank(@Nullable String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT).trim();
+    }
+}
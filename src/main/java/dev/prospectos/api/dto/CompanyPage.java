@@ -0,0 +1,40 @@
+package dev.prospectos.api.dto;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One page of a company listing.
+ * {@code totalCount} is omitted for keyset pages; {@code nextCursor} is set when a full page was returned.
+ */
+public record CompanyPage(List<CompanyDTO> items, @Nullable Long totalCount, @Nullable Long nextCursor) {
+
+    public CompanyPage {
+        items = List.copyOf(items);
+    }
+
+    public static CompanyPage of(List<CompanyDTO> items, @Nullable Long totalCount, CompanyListQuery query) {
+        boolean fullPage = query.paged() && !items.isEmpty() && items.size() == query.resolvedSize();
+        return new CompanyPage(items, totalCount, fullPage ? items.getLast().id() : null);
+    }
+
+    /**
+     * Applies the query window to matches that are already filtered and sorted by id.
+     */
+    public static CompanyPage slice(List<CompanyDTO> sortedMatches, CompanyListQuery query) {
+        if (!query.paged()) {
+            return of(sortedMatches, (long) sortedMatches.size(), query);
+        }
+        if (query.cursor() != null) {
+            List<CompanyDTO> items = sortedMatches.stream()
+                .filter(company -> company.id() > query.cursor())
+                .limit(query.resolvedSize())
+                .toList();
+            return of(items, null, query);
+        }
+        long start = (long) query.resolvedPage() * query.resolvedSize();
+        List<CompanyDTO> items = sortedMatches.stream().skip(start).limit(query.resolvedSize()).toList();
+        return of(items, (long) sortedMatches.size(), query);
+    }
+}
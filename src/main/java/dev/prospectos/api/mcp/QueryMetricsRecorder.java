@@ -10,4 +10,12 @@ public interface QueryMetricsRecorder {
     default void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
         recordExecution(provider, durationMs, success, resultCount);
     }
+
+    /**
+     * A source that missed its deadline. It counts as a failed execution in the aggregates; recorders also report it
+     * as a timeout so it can be told apart from a source that raised an error.
+     */
+    default void recordTimeout(String provider, String operation, long durationMs) {
+        recordExecution(provider, operation, durationMs, false, 0);
+    }
 }
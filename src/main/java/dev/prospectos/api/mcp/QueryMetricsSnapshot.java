@@ -10,6 +10,7 @@ public record QueryMetricsSnapshot(
     BigDecimal avgCostPerQuery,
     double successRate,
     long avgResponseTime,
+    ResponseTimePercentiles responseTimePercentiles,
     Trends trends,
     List<ProviderMetric> providerBreakdown
 ) {
@@ -17,6 +18,7 @@ public record QueryMetricsSnapshot(
     public QueryMetricsSnapshot {
         Objects.requireNonNull(totalCost, "totalCost must not be null");
         Objects.requireNonNull(avgCostPerQuery, "avgCostPerQuery must not be null");
+        Objects.requireNonNull(responseTimePercentiles, "responseTimePercentiles must not be null");
         Objects.requireNonNull(trends, "trends must not be null");
         providerBreakdown = List.copyOf(providerBreakdown);
     }
@@ -24,16 +26,26 @@ public record QueryMetricsSnapshot(
     public record Trends(String costTrend, String qualityTrend, String volumeTrend) {
     }
 
+    /**
+     * Response time percentiles in milliseconds; zero when nothing was observed.
+     */
+    public record ResponseTimePercentiles(long p50, long p95, long p99) {
+
+        public static final ResponseTimePercentiles EMPTY = new ResponseTimePercentiles(0L, 0L, 0L);
+    }
+
     public record ProviderMetric(
         String provider,
         long queries,
         BigDecimal cost,
         double successRate,
-        long avgResponseTime
+        long avgResponseTime,
+        ResponseTimePercentiles responseTimePercentiles
     ) {
         public ProviderMetric {
             Objects.requireNonNull(provider, "provider must not be null");
             Objects.requireNonNull(cost, "cost must not be null");
+            Objects.requireNonNull(responseTimePercentiles, "responseTimePercentiles must not be null");
         }
     }
 }
@@ -6,10 +6,14 @@ import dev.prospectos.core.domain.events.CompanyCreated;
 import dev.prospectos.core.domain.events.CompanyScored;
 import dev.prospectos.core.domain.events.SignalDetected;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "companies")
+@Table(name = "companies", indexes = {
+    @Index(name = "idx_companies_industry", columnList = "industry"),
+    @Index(name = "idx_companies_prospecting_score", columnList = "prospecting_score")
+})
 public class Company extends CompanyCoreState {
 
     protected Company() {
@@ -6,13 +6,19 @@ import java.util.List;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MappedSuperclass;
 
 @MappedSuperclass
 abstract class CompanyRelationshipState extends CompanyProfileState {
 
     @ElementCollection
-    @CollectionTable(name = "company_contacts")
+    @CollectionTable(
+        name = "company_contacts",
+        joinColumns = @JoinColumn(name = "company_id"),
+        indexes = @Index(name = "idx_company_contacts_company", columnList = "company_id")
+    )
     private List<Contact> contacts;
 
     @ElementCollection
@@ -6,6 +6,7 @@ import dev.prospectos.core.domain.ProspectingStatus;
 import dev.prospectos.core.domain.Score;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,10 +18,20 @@ import java.util.UUID;
 public interface CompanyDomainRepository {
     
     Company save(Company company);
+    List<Company> saveAll(List<Company> companies);
     Optional<Company> findById(UUID id);
     Optional<Company> findByExternalId(Long externalId);
+    List<Company> findByExternalIds(Collection<Long> externalIds);
     void delete(Company company);
     List<Company> findAll();
+
+    // Listing read-model queries, one statement each, ordered by external id;
+    // the count is skipped when the page already determines it
+    List<CompanySummary> search(CompanySearchCriteria criteria);
+    CompanySearchPage search(CompanySearchCriteria criteria, int page, int size);
+    List<CompanySummary> searchAfter(CompanySearchCriteria criteria, Long afterExternalId, int limit);
+    List<CompanySummary> findSummariesByIndustries(Collection<String> industries);
+    List<CompanySummary> findSummariesByExternalIds(Collection<Long> externalIds);
     
     // Business-focused queries
     Optional<Company> findByWebsiteUrl(String websiteUrl);
@@ -0,0 +1,21 @@
+package dev.prospectos.core.repository;
+
+/**
+ * Company listing filters; {@code null} or blank values are not applied.
+ * Text filters are case-insensitive substring matches.
+ *
+ * @param text free text matched against name, industry, location, website and description
+ */
+public record CompanySearchCriteria(
+    String text,
+    String industry,
+    String location,
+    Double minScore,
+    Double maxScore,
+    Boolean hasContact
+) {
+
+    public static CompanySearchCriteria unfiltered() {
+        return new CompanySearchCriteria(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.prospectos.core.repository;
+
+import java.util.List;
+
+/**
+ * One offset page of a company search together with the total number of matches.
+ */
+public record CompanySearchPage(List<CompanySummary> companies, long totalCount) {
+}
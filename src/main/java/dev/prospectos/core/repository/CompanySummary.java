@@ -0,0 +1,21 @@
+package dev.prospectos.core.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Read model for company listings: the scalar company columns plus contact aggregates,
+ * loaded without materializing the aggregate or its contact collection.
+ */
+public record CompanySummary(
+    Long externalId,
+    String name,
+    String industry,
+    String websiteUrl,
+    String description,
+    String city,
+    String country,
+    BigDecimal score,
+    String primaryContactEmail,
+    Integer contactCount
+) {
+}
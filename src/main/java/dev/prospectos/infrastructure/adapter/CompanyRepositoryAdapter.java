@@ -4,10 +4,18 @@ import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.CompanySize;
 import dev.prospectos.core.domain.ProspectingStatus;
 import dev.prospectos.core.repository.CompanyDomainRepository;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import dev.prospectos.core.repository.CompanySearchPage;
+import dev.prospectos.core.repository.CompanySummary;
 import dev.prospectos.infrastructure.jpa.CompanyJpaRepository;
+import dev.prospectos.infrastructure.jpa.CompanySpecifications;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,10 +30,25 @@ public class CompanyRepositoryAdapter implements CompanyDomainRepository {
     }
 
     @Override public Company save(Company company) { return jpaRepository.save(company); }
+    @Override public List<Company> saveAll(List<Company> companies) { return jpaRepository.saveAllInOneBatch(companies); }
     @Override public Optional<Company> findById(UUID id) { return jpaRepository.findById(id); }
     @Override public Optional<Company> findByExternalId(Long externalId) { return jpaRepository.findByExternalId(externalId); }
+    @Override public List<Company> findByExternalIds(Collection<Long> externalIds) { return jpaRepository.findByExternalIdIn(externalIds); }
     @Override public void delete(Company company) { jpaRepository.delete(company); }
     @Override public List<Company> findAll() { return jpaRepository.findAll(); }
+    @Override public List<CompanySummary> search(CompanySearchCriteria criteria) { return jpaRepository.findSummaries(CompanySpecifications.matching(criteria), 0, Integer.MAX_VALUE); }
+    @Override public CompanySearchPage search(CompanySearchCriteria criteria, int page, int size) {
+        Specification<Company> specification = CompanySpecifications.matching(criteria);
+        PageRequest pageRequest = PageRequest.of(page, size);
+        List<CompanySummary> content = jpaRepository.findSummaries(specification, Math.toIntExact(pageRequest.getOffset()), size);
+        long total = PageableExecutionUtils.getPage(content, pageRequest, () -> jpaRepository.count(specification)).getTotalElements();
+        return new CompanySearchPage(content, total);
+    }
+    @Override public List<CompanySummary> searchAfter(CompanySearchCriteria criteria, Long afterExternalId, int limit) {
+        return jpaRepository.findSummaries(CompanySpecifications.matching(criteria).and(CompanySpecifications.externalIdAfter(afterExternalId)), 0, limit);
+    }
+    @Override public List<CompanySummary> findSummariesByIndustries(Collection<String> industries) { return jpaRepository.findSummaries(CompanySpecifications.industryIn(industries), 0, Integer.MAX_VALUE); }
+    @Override public List<CompanySummary> findSummariesByExternalIds(Collection<Long> externalIds) { return jpaRepository.findSummaries(CompanySpecifications.externalIdIn(externalIds), 0, Integer.MAX_VALUE); }
     @Override public Optional<Company> findByWebsiteUrl(String websiteUrl) { return jpaRepository.findByWebsiteUrl(websiteUrl); }
     @Override public List<Company> findByIndustry(String industry) { return jpaRepository.findByIndustry(industry); }
     @Override public List<Company> findByStatus(ProspectingStatus status) { return jpaRepository.findByStatus(status); }
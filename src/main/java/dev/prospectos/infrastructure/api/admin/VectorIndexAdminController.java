@@ -0,0 +1,49 @@
+package dev.prospectos.infrastructure.api.admin;
+
+import dev.prospectos.infrastructure.service.discovery.CompanyVectorBulkReindexJob;
+import dev.prospectos.infrastructure.service.discovery.VectorReindexProgress;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin operations for the company vector index. Unguarded, so only registered when
+ * {@code prospectos.vectorization.reindex.admin-endpoint.enabled=true}.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "prospectos.vectorization.reindex.admin-endpoint", name = "enabled", havingValue = "true")
+@RequestMapping("/api/admin/vector-index")
+public class VectorIndexAdminController {
+
+    private final CompanyVectorBulkReindexJob reindexJob;
+
+    public VectorIndexAdminController(CompanyVectorBulkReindexJob reindexJob) {
+        this.reindexJob = reindexJob;
+    }
+
+    /**
+     * POST /api/admin/vector-index/reindex?resume=true
+     *
+     * Starts a bulk reindex in the background, or returns the running one.
+     * With {@code resume=true} the run continues after the last checkpointed company.
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<VectorReindexProgress> reindex(@RequestParam(defaultValue = "false") boolean resume) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reindexJob.start(resume));
+    }
+
+    /**
+     * GET /api/admin/vector-index/reindex
+     *
+     * Progress and throughput of the running or last bulk reindex.
+     */
+    @GetMapping("/reindex")
+    public ResponseEntity<VectorReindexProgress> progress() {
+        return ResponseEntity.ok(reindexJob.progress());
+    }
+}
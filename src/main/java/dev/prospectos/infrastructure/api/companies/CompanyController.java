@@ -3,6 +3,8 @@ package dev.prospectos.infrastructure.api.companies;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.dto.CompanyDTO;
 import dev.prospectos.api.dto.CompanyContactDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
 import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.api.dto.request.CompanyUpdateRequest;
@@ -25,10 +27,8 @@ import java.util.List;
 @RequestMapping("/api/companies")
 public class CompanyController {
     private final CompanyDataService companyDataService;
-    private final CompanyListFilter companyListFilter;
     public CompanyController(CompanyDataService companyDataService) {
         this.companyDataService = companyDataService;
-        this.companyListFilter = new CompanyListFilter();
     }
     @GetMapping
     public ResponseEntity<List<CompanyDTO>> listCompanies(
@@ -39,22 +39,20 @@ public class CompanyController {
         @RequestParam(required = false) Double maxScore,
         @RequestParam(required = false) Boolean hasContact,
         @RequestParam(required = false) Integer page,
-        @RequestParam(required = false) Integer size
+        @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) Long cursor
     ) {
-        CompanyListFilter.Result filteredCompanies = companyListFilter.apply(
-            companyDataService.findAllCompanies(),
-            query,
-            industry,
-            location,
-            minScore,
-            maxScore,
-            hasContact,
-            page,
-            size
+        CompanyPage companies = companyDataService.findCompanies(
+            new CompanyListQuery(query, industry, location, minScore, maxScore, hasContact, page, size, cursor)
         );
-        return ResponseEntity.ok()
-            .header("X-Total-Count", String.valueOf(filteredCompanies.totalItems()))
-            .body(filteredCompanies.items());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (companies.totalCount() != null) {
+            response.header("X-Total-Count", String.valueOf(companies.totalCount()));
+        }
+        if (companies.nextCursor() != null) {
+            response.header("X-Next-Cursor", String.valueOf(companies.nextCursor()));
+        }
+        return response.body(companies.items());
     }
 
     @PostMapping
@@ -0,0 +1,17 @@
+package dev.prospectos.infrastructure.jpa;
+
+import dev.prospectos.core.domain.Company;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment writing many company updates as one JDBC batch.
+ */
+public interface CompanyBatchUpdates {
+
+    /**
+     * Saves {@code companies} and flushes them immediately with a JDBC batch size covering the whole list, so the
+     * updates reach the database in one round trip without raising the batch size for every other session.
+     */
+    List<Company> saveAllInOneBatch(List<Company> companies);
+}
@@ -0,0 +1,33 @@
+package dev.prospectos.infrastructure.jpa;
+
+import dev.prospectos.core.domain.Company;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.List;
+
+class CompanyBatchUpdatesImpl implements CompanyBatchUpdates {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Company> saveAllInOneBatch(List<Company> companies) {
+        if (companies.isEmpty()) {
+            return List.of();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(companies.size());
+        try {
+            List<Company> saved = companies.stream()
+                .map(company -> entityManager.contains(company) ? company : entityManager.merge(company))
+                .toList();
+            session.flush();
+            return saved;
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
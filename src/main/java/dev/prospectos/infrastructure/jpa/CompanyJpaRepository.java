@@ -4,10 +4,12 @@ import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.CompanySize;
 import dev.prospectos.core.domain.ProspectingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,9 +18,13 @@ import java.util.UUID;
  * JPA repository interface for Company aggregate.
  * Contains JPA-specific implementations and queries.
  */
-public interface CompanyJpaRepository extends JpaRepository<Company, UUID> {
+public interface CompanyJpaRepository extends JpaRepository<Company, UUID>, JpaSpecificationExecutor<Company>, CompanySummaryQueries, CompanyBatchUpdates {
 
     Optional<Company> findByExternalId(Long externalId);
+
+    List<Company> findByExternalIdIn(Collection<Long> externalIds);
+
+    List<Company> findByExternalIdGreaterThanOrderByExternalIdAsc(Long externalId, Limit limit);
     
     Optional<Company> findByWebsiteUrl(String websiteUrl);
     
@@ -0,0 +1,100 @@
+package dev.prospectos.infrastructure.jpa;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import dev.prospectos.core.domain.Company;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Translates {@link CompanySearchCriteria} into a single SQL predicate so listing never materializes
+ * non-matching companies. Text filters use {@code lower(column) like %value%} with escaped wildcards.
+ */
+public final class CompanySpecifications {
+
+    public static final Sort BY_EXTERNAL_ID = Sort.by("externalId");
+
+    private static final char ESCAPE = '\\';
+
+    private CompanySpecifications() {
+    }
+
+    public static Specification<Company> matching(CompanySearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (hasText(criteria.text())) {
+                String pattern = likePattern(criteria.text());
+                predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, ESCAPE),
+                    cb.like(cb.lower(root.get("industry")), pattern, ESCAPE),
+                    cb.like(location(root, cb), pattern, ESCAPE),
+                    cb.like(cb.lower(root.get("website").get("url")), pattern, ESCAPE),
+                    cb.like(cb.lower(root.get("description")), pattern, ESCAPE)
+                ));
+            }
+            if (hasText(criteria.industry())) {
+                predicates.add(cb.like(cb.lower(root.get("industry")), likePattern(criteria.industry()), ESCAPE));
+            }
+            if (hasText(criteria.location())) {
+                predicates.add(cb.like(location(root, cb), likePattern(criteria.location()), ESCAPE));
+            }
+            Expression<BigDecimal> score = root.get("prospectingScore").get("value");
+            if (criteria.minScore() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(score, BigDecimal.valueOf(criteria.minScore())));
+            }
+            if (criteria.maxScore() != null) {
+                predicates.add(cb.lessThanOrEqualTo(score, BigDecimal.valueOf(criteria.maxScore())));
+            }
+            if (criteria.hasContact() != null) {
+                Expression<List<Object>> contacts = root.get("contacts");
+                predicates.add(criteria.hasContact() ? cb.isNotEmpty(contacts) : cb.isEmpty(contacts));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Company> externalIdAfter(Long afterExternalId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("externalId"), afterExternalId);
+    }
+
+    public static Specification<Company> externalIdIn(Collection<Long> externalIds) {
+        return (root, query, cb) -> root.get("externalId").in(externalIds);
+    }
+
+    public static Specification<Company> industryIn(Collection<String> industries) {
+        return (root, query, cb) -> root.get("industry").in(industries);
+    }
+
+    /**
+     * Mirrors {@code Company.getLocation()}: "city, country", the country alone, or "Unknown".
+     */
+    private static Expression<String> location(Root<Company> root, CriteriaBuilder cb) {
+        Expression<String> city = root.get("city");
+        Expression<String> country = root.get("country");
+        return cb.lower(cb.<String>selectCase()
+            .when(cb.and(cb.isNotNull(city), cb.isNotNull(country)), cb.concat(cb.concat(city, ", "), country))
+            .when(cb.isNotNull(country), country)
+            .otherwise("Unknown"));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String likePattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
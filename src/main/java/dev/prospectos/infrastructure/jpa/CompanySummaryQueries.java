@@ -0,0 +1,19 @@
+package dev.prospectos.infrastructure.jpa;
+
+import dev.prospectos.core.domain.Company;
+import dev.prospectos.core.repository.CompanySummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment projecting companies straight into {@link CompanySummary} rows.
+ */
+public interface CompanySummaryQueries {
+
+    /**
+     * Single-statement projection ordered by external id; contact count and primary email come from
+     * correlated subqueries instead of initializing the lazy contacts collection per company.
+     */
+    List<CompanySummary> findSummaries(Specification<Company> specification, int offset, int limit);
+}
@@ -0,0 +1,65 @@
+package dev.prospectos.infrastructure.jpa;
+
+import dev.prospectos.core.domain.Company;
+import dev.prospectos.core.repository.CompanySummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+class CompanySummaryQueriesImpl implements CompanySummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CompanySummary> findSummaries(Specification<Company> specification, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CompanySummary> query = cb.createQuery(CompanySummary.class);
+        Root<Company> company = query.from(Company.class);
+        Expression<Collection<Object>> contacts = company.get("contacts");
+        query.select(cb.construct(
+            CompanySummary.class,
+            company.get("externalId"),
+            company.get("name"),
+            company.get("industry"),
+            company.get("website").get("url"),
+            company.get("description"),
+            company.get("city"),
+            company.get("country"),
+            company.get("prospectingScore").get("value"),
+            primaryContactEmail(query, company, cb),
+            cb.size(contacts)
+        ));
+        Predicate predicate = specification.toPredicate(company, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(company.get("externalId")));
+        TypedQuery<CompanySummary> typedQuery = entityManager.createQuery(query).setFirstResult(offset);
+        if (limit < Integer.MAX_VALUE) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Lowest contact email address. Contacts are an element collection without an id or order column, so the
+     * address is the only stable key; {@code CompanyJpaDtoMapper} picks the same contact from loaded entities.
+     */
+    private static Subquery<String> primaryContactEmail(CriteriaQuery<?> query, Root<Company> company, CriteriaBuilder cb) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Path<String> address = subquery.correlate(company).join("contacts").get("email").get("address");
+        return subquery.select(cb.least(address));
+    }
+}
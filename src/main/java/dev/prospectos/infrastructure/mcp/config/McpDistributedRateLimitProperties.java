@@ -0,0 +1,37 @@
+package dev.prospectos.infrastructure.mcp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Cluster-wide MCP rate limiting. Buckets live in PostgreSQL and each replica leases up to {@code lease-size} tokens
+ * per client for at most {@code lease-ttl}, so the database sees one round trip per lease rather than per request.
+ */
+@ConfigurationProperties(prefix = "prospectos.mcp.rate-limit.distributed")
+public record McpDistributedRateLimitProperties(
+    boolean enabled,
+    Integer leaseSize,
+    Duration leaseTtl,
+    Duration purgeInterval
+) {
+    private static final int DEFAULT_LEASE_SIZE = 5;
+    private static final Duration DEFAULT_LEASE_TTL = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    public McpDistributedRateLimitProperties {
+        leaseSize = leaseSize == null ? DEFAULT_LEASE_SIZE : leaseSize;
+        leaseTtl = leaseTtl == null ? DEFAULT_LEASE_TTL : leaseTtl;
+        purgeInterval = purgeInterval == null ? DEFAULT_PURGE_INTERVAL : purgeInterval;
+
+        if (leaseSize <= 0) {
+            throw new IllegalArgumentException("prospectos.mcp.rate-limit.distributed.lease-size must be > 0");
+        }
+        if (leaseTtl.isNegative() || leaseTtl.isZero()) {
+            throw new IllegalArgumentException("prospectos.mcp.rate-limit.distributed.lease-ttl must be > 0");
+        }
+        if (purgeInterval.isNegative() || purgeInterval.isZero()) {
+            throw new IllegalArgumentException("prospectos.mcp.rate-limit.distributed.purge-interval must be > 0");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.prospectos.infrastructure.mcp.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
 import java.time.Duration;
 import java.util.Set;
@@ -27,24 +29,43 @@ public record McpSecurityProperties(
             allowedApiKeys = Set.of();
         }
         if (rateLimit == null) {
-            rateLimit = new RateLimit(100, 20, Duration.ofMinutes(1), Duration.ofHours(1));
+            rateLimit = new RateLimit(100, 20, Duration.ofMinutes(1), Duration.ZERO);
         }
         if (audit == null) {
             audit = new Audit(true, true, false);
         }
     }
 
+    /**
+     * A client that exceeds its burst is rejected for {@code blockDuration}; the default {@code PT0S} disables
+     * blocking. {@code maxClients} bounds the number of clients tracked at once. {@code windowSize} is ignored since
+     * the bucket refills continuously.
+     */
     public record RateLimit(
         int requestsPerMinute,
         int burstCapacity,
-        Duration windowSize,
-        Duration blockDuration
+        @Deprecated(since = "0.0.1", forRemoval = true) Duration windowSize,
+        Duration blockDuration,
+        int maxClients
     ) {
+        @ConstructorBinding
         public RateLimit {
             if (requestsPerMinute <= 0) requestsPerMinute = 100;
             if (burstCapacity <= 0) burstCapacity = 20;
             if (windowSize == null) windowSize = Duration.ofMinutes(1);
-            if (blockDuration == null) blockDuration = Duration.ofHours(1);
+            if (blockDuration == null || blockDuration.isNegative()) blockDuration = Duration.ZERO;
+            if (maxClients <= 0) maxClients = 100_000;
+        }
+
+        public RateLimit(int requestsPerMinute, int burstCapacity, Duration windowSize, Duration blockDuration) {
+            this(requestsPerMinute, burstCapacity, windowSize, blockDuration, 0);
+        }
+
+        @Override
+        @Deprecated(since = "0.0.1", forRemoval = true)
+        @DeprecatedConfigurationProperty(reason = "The rate limit bucket refills continuously, so there is no window")
+        public Duration windowSize() {
+            return windowSize;
         }
     }
 
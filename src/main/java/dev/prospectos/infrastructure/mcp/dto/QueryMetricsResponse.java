@@ -13,6 +13,9 @@ public record QueryMetricsResponse(
     BigDecimal avgCostPerQuery,
     double successRate,
     long avgResponseTime,
+    long p50ResponseTime,
+    long p95ResponseTime,
+    long p99ResponseTime,
     TrendsResponse trends,
     Map<String, ProviderBreakdownResponse> providerBreakdown
 ) {
@@ -25,7 +28,10 @@ public record QueryMetricsResponse(
                     metric.queries(),
                     metric.cost(),
                     metric.successRate(),
-                    metric.avgResponseTime()
+                    metric.avgResponseTime(),
+                    metric.responseTimePercentiles().p50(),
+                    metric.responseTimePercentiles().p95(),
+                    metric.responseTimePercentiles().p99()
                 ),
                 (left, right) -> left,
                 LinkedHashMap::new
@@ -37,6 +43,9 @@ public record QueryMetricsResponse(
             snapshot.avgCostPerQuery(),
             snapshot.successRate(),
             snapshot.avgResponseTime(),
+            snapshot.responseTimePercentiles().p50(),
+            snapshot.responseTimePercentiles().p95(),
+            snapshot.responseTimePercentiles().p99(),
             new TrendsResponse(
                 snapshot.trends().costTrend(),
                 snapshot.trends().qualityTrend(),
@@ -53,7 +62,10 @@ public record QueryMetricsResponse(
         long queries,
         BigDecimal cost,
         double successRate,
-        long avgResponseTime
+        long avgResponseTime,
+        long p50ResponseTime,
+        long p95ResponseTime,
+        long p99ResponseTime
     ) {
     }
 }
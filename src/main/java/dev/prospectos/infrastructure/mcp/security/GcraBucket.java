@@ -0,0 +1,68 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single theoretical arrival time (TAT) in {@link System#nanoTime} units, the generic cell
+ * rate algorithm. A request conforms when {@code TAT - now <= tolerance}; admitting it moves TAT one emission
+ * interval past {@code max(TAT, now)}. Refill is continuous, so there are no bursts at window boundaries, and every
+ * decision is one compare-and-set.
+ * <p>
+ * The first rejection pushes TAT to {@code now + block + tolerance}, so the client stays rejected for the block and
+ * then resumes with an empty bucket. Rejections while blocked do not extend the block, except in its final emission
+ * interval, where the client is indistinguishable from one that is merely out of tokens.
+ */
+final class GcraBucket {
+
+    private final AtomicLong tat;
+
+    GcraBucket(long now) {
+        this.tat = new AtomicLong(now);
+    }
+
+    Decision tryAcquire(long now, Policy policy) {
+        while (true) {
+            long current = tat.get();
+            long ahead = current - now;
+            if (ahead <= policy.tolerance()) {
+                long next = Math.max(ahead, 0L) + policy.interval();
+                if (tat.compareAndSet(current, now + next)) {
+                    return new Decision(true, (int) ((policy.tolerance() + policy.interval() - next) / policy.interval()), next, 0L);
+                }
+                continue;
+            }
+            long blocked = policy.block() + policy.tolerance();
+            if (blocked <= ahead || ahead > policy.tolerance() + policy.interval()) {
+                return new Decision(false, 0, ahead, ahead - policy.tolerance());
+            }
+            if (tat.compareAndSet(current, now + blocked)) {
+                return new Decision(false, 0, blocked, policy.block());
+            }
+        }
+    }
+
+    /**
+     * A bucket whose TAT has passed is full again and indistinguishable from a new one, so dropping it loses nothing.
+     */
+    boolean idle(long now) {
+        return tat.get() - now <= 0;
+    }
+
+    /**
+     * Emission interval, burst tolerance and block length, all in nanoseconds.
+     */
+    record Policy(long interval, long tolerance, long block) {
+
+        static Policy of(int requestsPerMinute, int burstCapacity, long blockNanos) {
+            long interval = 60_000_000_000L / requestsPerMinute;
+            return new Policy(interval, interval * (Math.max(burstCapacity, 1) - 1L), blockNanos);
+        }
+    }
+
+    /**
+     * Outcome of one attempt; {@code resetNanos} is the delay until the bucket is full, {@code retryNanos} the delay
+     * until the next request would be admitted.
+     */
+    record Decision(boolean allowed, int remaining, long resetNanos, long retryNanos) {
+    }
+}
@@ -0,0 +1,46 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client buckets, bounded by {@code maxClients}. When the table is full, idle buckets are swept out at most once
+ * per {@link #SWEEP_INTERVAL_NANOS}; if every tracked client is still active, unknown clients share one overflow
+ * bucket, so a flood of spoofed client ids gets a single client's quota instead of growing the table.
+ */
+final class McpClientBuckets {
+
+    static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final ConcurrentHashMap<String, GcraBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+    private final GcraBucket overflow;
+
+    McpClientBuckets(long now) {
+        this.nextSweep = new AtomicLong(now);
+        this.overflow = new GcraBucket(now);
+    }
+
+    GcraBucket bucket(String clientId, long now, int maxClients) {
+        GcraBucket bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients && !evictIdle(now, maxClients)) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(clientId, ignored -> new GcraBucket(now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private boolean evictIdle(long now, int maxClients) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            buckets.values().removeIf(bucket -> bucket.idle(now));
+        }
+        return buckets.size() < maxClients;
+    }
+}
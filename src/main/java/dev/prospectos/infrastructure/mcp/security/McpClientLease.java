@@ -0,0 +1,95 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Tokens one replica has leased from the shared bucket for one client. Requests decrement the local count without
+ * locking; only the thread that finds the lease empty or expired refills it, while the others wait on the lock and
+ * then reuse the fresh lease. The lock is a {@link ReentrantLock} rather than a monitor, so virtual threads waiting
+ * out the database round trip do not pin their carrier. A refused lease is cached as a denial until the block or
+ * next token is due, so a blocked client does not reach the database either. The next refill hands the previous
+ * lease back, so tokens left when it expired return to the shared bucket instead of starving the client on other
+ * replicas.
+ */
+final class McpClientLease {
+
+    private final AtomicInteger tokens = new AtomicInteger();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile long expiresAt;
+    private volatile long deniedUntil;
+    private volatile double sharedTokens;
+    private int granted;
+
+    McpClientLease(long now) {
+        this.expiresAt = now;
+        this.deniedUntil = now;
+    }
+
+    Outcome take(
+        long now,
+        long ttlNanos,
+        long nanosPerToken,
+        Function<PostgresRateLimitBuckets.Release, PostgresRateLimitBuckets.Lease> refill
+    ) {
+        Outcome cached = fromLease(now);
+        if (cached != null) {
+            return cached;
+        }
+        refillLock.lock();
+        try {
+            cached = fromLease(now);
+            if (cached != null) {
+                return cached;
+            }
+            int unused = Math.max(tokens.getAndSet(0), 0);
+            PostgresRateLimitBuckets.Lease lease = refill.apply(new PostgresRateLimitBuckets.Release(granted, unused));
+            granted = lease.granted();
+            sharedTokens = lease.tokens();
+            if (lease.granted() > 0) {
+                tokens.set(lease.granted() - 1);
+                expiresAt = now + ttlNanos;
+                return new Outcome(true, remaining(lease.granted() - 1), 0L);
+            }
+            long wait = lease.blockedSeconds() > 0
+                ? (long) (lease.blockedSeconds() * 1e9)
+                : (long) (Math.max(1.0 - lease.tokens(), 0.0) * nanosPerToken);
+            deniedUntil = now + Math.max(wait, 1L);
+            return new Outcome(false, 0, deniedUntil - now);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Neither leased tokens nor a cached denial are still live, so dropping this lease loses nothing.
+     */
+    boolean idle(long now) {
+        return now - expiresAt >= 0 && now - deniedUntil >= 0;
+    }
+
+    private Outcome fromLease(long now) {
+        if (now - deniedUntil < 0) {
+            return new Outcome(false, 0, deniedUntil - now);
+        }
+        if (now - expiresAt < 0) {
+            int left = tokens.decrementAndGet();
+            if (left >= 0) {
+                return new Outcome(true, remaining(left), 0L);
+            }
+        }
+        return null;
+    }
+
+    private int remaining(int leased) {
+        return leased + (int) Math.max(sharedTokens, 0.0);
+    }
+
+    /**
+     * {@code remaining} is this replica's leased tokens plus the shared balance at the last lease, an approximation
+     * since other replicas draw from the same balance.
+     */
+    record Outcome(boolean allowed, int remaining, long retryNanos) {
+    }
+}
@@ -0,0 +1,41 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client leases, bounded by {@code maxClients} like {@link McpClientBuckets}. When the table is full of live
+ * leases, a new client gets an uncached lease for its request.
+ */
+final class McpClientLeases {
+
+    private final ConcurrentHashMap<String, McpClientLease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    McpClientLeases(long now) {
+        this.nextSweep = new AtomicLong(now);
+    }
+
+    McpClientLease lease(String clientId, long now, int maxClients) {
+        McpClientLease lease = leases.get(clientId);
+        if (lease != null) {
+            return lease;
+        }
+        if (leases.size() >= maxClients && !evictIdle(now, maxClients)) {
+            return new McpClientLease(now);
+        }
+        return leases.computeIfAbsent(clientId, ignored -> new McpClientLease(now));
+    }
+
+    int size() {
+        return leases.size();
+    }
+
+    private boolean evictIdle(long now, int maxClients) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + McpClientBuckets.SWEEP_INTERVAL_NANOS)) {
+            leases.values().removeIf(lease -> lease.idle(now));
+        }
+        return leases.size() < maxClients;
+    }
+}
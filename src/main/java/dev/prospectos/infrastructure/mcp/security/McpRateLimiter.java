@@ -3,23 +3,67 @@ package dev.prospectos.infrastructure.mcp.security;
 import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
+/**
+ * Per-client GCRA rate limiting on {@link System#nanoTime}; see {@link GcraBucket} for the algorithm and
+ * {@link McpClientBuckets} for how the client table stays bounded. With distributed limiting enabled, the check is
+ * delegated to {@link McpTokenLeases} so every replica draws from the same PostgreSQL bucket, falling back to the
+ * local bucket while the database is unavailable.
+ */
 @Component
 class McpRateLimiter {
 
-    private final ConcurrentHashMap<String, ClientRateLimit> clientLimits = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+    private final Clock clock;
+    private final McpClientBuckets buckets;
+    private final McpTokenLeases distributed;
+
+    McpRateLimiter() {
+        this(System::nanoTime, Clock.systemUTC(), null);
+    }
+
+    @Autowired
+    McpRateLimiter(ObjectProvider<McpTokenLeases> distributed) {
+        this(System::nanoTime, Clock.systemUTC(), distributed.getIfAvailable());
+    }
+
+    McpRateLimiter(LongSupplier nanoTime, Clock clock) {
+        this(nanoTime, clock, null);
+    }
+
+    McpRateLimiter(LongSupplier nanoTime, Clock clock, McpTokenLeases distributed) {
+        this.nanoTime = nanoTime;
+        this.clock = clock;
+        this.buckets = new McpClientBuckets(nanoTime.getAsLong());
+        this.distributed = distributed;
+    }
 
     RateLimitResult check(String clientId, McpSecurityProperties.RateLimit rateLimit) {
-        var now = Instant.now();
-        var clientLimit = clientLimits.computeIfAbsent(clientId, ignored -> new ClientRateLimit(rateLimit.requestsPerMinute(), rateLimit.burstCapacity(), now));
-        return clientLimit.tryConsume(now, rateLimit);
+        if (distributed != null) {
+            var shared = distributed.check(clientId, rateLimit);
+            if (shared.isPresent()) {
+                return shared.get();
+            }
+        }
+        long now = nanoTime.getAsLong();
+        var policy = GcraBucket.Policy.of(rateLimit.requestsPerMinute(), rateLimit.burstCapacity(), rateLimit.blockDuration().toNanos());
+        var decision = buckets.bucket(clientId, now, rateLimit.maxClients()).tryAcquire(now, policy);
+        var resetTime = clock.instant().plusNanos(decision.resetNanos());
+        var retryAfter = (int) Math.min(Integer.MAX_VALUE, (decision.retryNanos() + 999_999_999L) / 1_000_000_000L);
+        return new RateLimitResult(decision.allowed(), decision.remaining(), resetTime, decision.allowed() ? 0 : Math.max(retryAfter, 1));
+    }
+
+    int trackedClients() {
+        return buckets.size();
     }
 
     void applyHeaders(HttpServletResponse response, McpSecurityProperties.RateLimit rateLimit, RateLimitResult result) {
@@ -52,36 +96,4 @@ class McpRateLimiter {
     }
 
     record RateLimitResult(boolean allowed, int remaining, Instant resetTime, int retryAfterSeconds) {}
-
-    private static final class ClientRateLimit {
-        private final int maxTokens;
-        private final int refillRate;
-        private final AtomicInteger tokens;
-        private volatile Instant lastRefill;
-
-        private ClientRateLimit(int maxTokens, int burstCapacity, Instant now) {
-            this.maxTokens = maxTokens;
-            this.refillRate = maxTokens;
-            this.tokens = new AtomicInteger(Math.min(burstCapacity, maxTokens));
-            this.lastRefill = now;
-        }
-
-        private synchronized RateLimitResult tryConsume(Instant now, McpSecurityProperties.RateLimit rateLimit) {
-            refillTokens(now);
-            var resetTime = lastRefill.plus(rateLimit.windowSize());
-            if (tokens.get() > 0) {
-                return new RateLimitResult(true, tokens.decrementAndGet(), resetTime, 0);
-            }
-            var retryAfter = (int) java.time.Duration.between(now, resetTime).getSeconds();
-            return new RateLimitResult(false, 0, resetTime, Math.max(retryAfter, 1));
-        }
-
-        private void refillTokens(Instant now) {
-            var tokensToAdd = (int) (java.time.Duration.between(lastRefill, now).toSeconds() * refillRate / 60.0);
-            if (tokensToAdd > 0) {
-                tokens.set(Math.min(maxTokens, tokens.get() + tokensToAdd));
-                lastRefill = now;
-            }
-        }
-    }
 }
@@ -0,0 +1,81 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import dev.prospectos.infrastructure.mcp.config.ConditionalOnMcpEnabled;
+import dev.prospectos.infrastructure.mcp.config.McpDistributedRateLimitProperties;
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cluster-wide limiting for {@link McpRateLimiter}: each client's requests are served from a {@link McpClientLease}
+ * backed by {@link PostgresRateLimitBuckets} and tracked in a bounded {@link McpClientLeases} table. When PostgreSQL
+ * cannot be reached the check returns empty and the caller limits the request locally.
+ */
+@Slf4j
+@Component
+@ConditionalOnMcpEnabled
+@ConditionalOnProperty(prefix = "prospectos.mcp.rate-limit.distributed", name = "enabled", havingValue = "true")
+class McpTokenLeases {
+
+    private final PostgresRateLimitBuckets buckets;
+    private final McpDistributedRateLimitProperties properties;
+    private final LongSupplier nanoTime;
+    private final Clock clock;
+    private final McpClientLeases leases;
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicBoolean degraded = new AtomicBoolean();
+
+    @Autowired
+    McpTokenLeases(PostgresRateLimitBuckets buckets, McpDistributedRateLimitProperties properties) {
+        this(buckets, properties, System::nanoTime, Clock.systemUTC());
+    }
+
+    McpTokenLeases(PostgresRateLimitBuckets buckets, McpDistributedRateLimitProperties properties, LongSupplier nanoTime, Clock clock) {
+        this.buckets = buckets;
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.clock = clock;
+        this.leases = new McpClientLeases(nanoTime.getAsLong());
+    }
+
+    Optional<McpRateLimiter.RateLimitResult> check(String clientId, McpSecurityProperties.RateLimit rateLimit) {
+        long now = nanoTime.getAsLong();
+        long nanosPerToken = 60_000_000_000L / rateLimit.requestsPerMinute();
+        McpClientLease.Outcome outcome;
+        try {
+            outcome = leases.lease(clientId, now, rateLimit.maxClients()).take(now, properties.leaseTtl().toNanos(), nanosPerToken,
+                release -> buckets.acquire(clientId, release, properties.leaseSize(), rateLimit));
+        } catch (DataAccessException failure) {
+            fallbacks.incrementAndGet();
+            if (degraded.compareAndSet(false, true)) {
+                log.warn("Shared MCP rate limit unavailable, limiting locally until it recovers: {}", failure.getMessage());
+            }
+            return Optional.empty();
+        }
+        if (degraded.compareAndSet(true, false)) {
+            log.info("Shared MCP rate limit recovered; {} requests were limited locally so far", fallbacks.get());
+        }
+        long untilFull = (rateLimit.burstCapacity() - outcome.remaining()) * nanosPerToken;
+        var resetTime = clock.instant().plusNanos(Math.max(untilFull, outcome.retryNanos()));
+        var retryAfter = (int) Math.min(Integer.MAX_VALUE, (outcome.retryNanos() + 999_999_999L) / 1_000_000_000L);
+        return Optional.of(new McpRateLimiter.RateLimitResult(outcome.allowed(), outcome.remaining(), resetTime,
+            outcome.allowed() ? 0 : Math.max(retryAfter, 1)));
+    }
+
+    long fallbacks() {
+        return fallbacks.get();
+    }
+
+    int cachedLeases() {
+        return leases.size();
+    }
+}
@@ -0,0 +1,96 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import dev.prospectos.infrastructure.mcp.config.ConditionalOnMcpEnabled;
+import dev.prospectos.infrastructure.mcp.config.McpDistributedRateLimitProperties;
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide token buckets in an UNLOGGED table: no WAL on the hot path, and a crash only resets clients to a full
+ * burst. A lease is one atomic upsert evaluated on the database clock, so replicas never read-modify-write and their
+ * clock skew does not matter. Exhausting the bucket starts the same block as the local limiter.
+ */
+@Slf4j
+@Component
+@ConditionalOnMcpEnabled
+@ConditionalOnProperty(prefix = "prospectos.mcp.rate-limit.distributed", name = "enabled", havingValue = "true")
+public class PostgresRateLimitBuckets {
+
+    private final JdbcClient jdbcClient;
+    private final McpSecurityProperties securityProperties;
+    private final McpDistributedRateLimitProperties properties;
+
+    PostgresRateLimitBuckets(
+        JdbcClient jdbcClient,
+        McpSecurityProperties securityProperties,
+        McpDistributedRateLimitProperties properties
+    ) {
+        this.jdbcClient = jdbcClient;
+        this.securityProperties = securityProperties;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void createTable() {
+        jdbcClient.sql(PostgresRateLimitSql.CREATE_TABLE).update();
+    }
+
+    /**
+     * Gives up the {@code previous} lease and takes up to {@code leaseSize} tokens for {@code clientId}; zero granted
+     * means the client is out of tokens.
+     */
+    public Lease acquire(String clientId, Release previous, int leaseSize, McpSecurityProperties.RateLimit rateLimit) {
+        return jdbcClient.sql(PostgresRateLimitSql.ACQUIRE)
+            .param("client", clientId)
+            .param("lease", leaseSize)
+            .param("returned", previous.unused())
+            .param("released", Math.max(previous.granted() - 1, 0))
+            .param("ttl", properties.leaseTtl().toMillis() / 1000.0)
+            .param("burst", (double) rateLimit.burstCapacity())
+            .param("rate", ratePerSecond(rateLimit))
+            .param("block", rateLimit.blockDuration().toMillis() / 1000.0)
+            .query((rs, row) -> new Lease(rs.getInt("granted"), rs.getDouble("tokens"), rs.getDouble("blocked_seconds")))
+            .single();
+    }
+
+    /**
+     * Deletes buckets that have refilled to a full burst and are not blocked; like idle local buckets, they are
+     * indistinguishable from a client that was never seen.
+     */
+    @Scheduled(
+        fixedDelayString = "${prospectos.mcp.rate-limit.distributed.purge-interval:5m}",
+        initialDelayString = "${prospectos.mcp.rate-limit.distributed.purge-interval:5m}"
+    )
+    public void purgeIdle() {
+        var rateLimit = securityProperties.rateLimit();
+        int purged = jdbcClient.sql(PostgresRateLimitSql.PURGE_IDLE)
+            .param("burst", (double) rateLimit.burstCapacity())
+            .param("rate", ratePerSecond(rateLimit))
+            .update();
+        log.debug("Purged {} idle MCP rate limit buckets", purged);
+    }
+
+    private static double ratePerSecond(McpSecurityProperties.RateLimit rateLimit) {
+        return rateLimit.requestsPerMinute() / 60.0;
+    }
+
+    /**
+     * @param tokens         tokens left in the shared bucket after this lease
+     * @param blockedSeconds seconds until the client's block ends, or zero when it is not blocked
+     */
+    public record Lease(int granted, double tokens, double blockedSeconds) {
+    }
+
+    /**
+     * A lease a replica gives up: {@code granted} tokens were leased and {@code unused} of them go back to the bucket.
+     */
+    public record Release(int granted, int unused) {
+
+        public static final Release NONE = new Release(0, 0);
+    }
+}
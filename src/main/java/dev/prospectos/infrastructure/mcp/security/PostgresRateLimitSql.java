@@ -0,0 +1,65 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+/**
+ * SQL for {@link PostgresRateLimitBuckets}. {@code available} is the stored balance plus the refill since
+ * {@code refilled_at} and the tokens a replica hands back, capped at the burst; a block moves {@code refilled_at} to
+ * the end of the block, so the client resumes with an empty bucket. {@code leased} counts the tokens other replicas
+ * still hold in live leases beyond the request each lease served. A full lease is only granted while the balance
+ * also covers those tokens, otherwise a single token is, and running out only starts a block when no leased tokens
+ * are outstanding. Every expression in the update reads the row as it was before the statement.
+ */
+final class PostgresRateLimitSql {
+
+    static final String CREATE_TABLE = """
+        CREATE UNLOGGED TABLE IF NOT EXISTS mcp_rate_limit_buckets (
+            client_id     VARCHAR(255)     PRIMARY KEY,
+            tokens        DOUBLE PRECISION NOT NULL,
+            refilled_at   TIMESTAMPTZ      NOT NULL,
+            blocked_until TIMESTAMPTZ,
+            granted       INTEGER          NOT NULL,
+            leased        INTEGER          NOT NULL,
+            leased_until  TIMESTAMPTZ
+        )
+        """;
+
+    static final String ACQUIRE = """
+        INSERT INTO mcp_rate_limit_buckets AS b (client_id, tokens, refilled_at, blocked_until, granted, leased, leased_until)
+        VALUES (:client, :burst - LEAST(:lease, :burst), now(), NULL, LEAST(:lease, :burst), LEAST(:lease, :burst) - 1,
+                now() + :ttl * INTERVAL '1 second')
+        ON CONFLICT (client_id) DO UPDATE SET (tokens, refilled_at, blocked_until, granted, leased, leased_until) = (
+            SELECT
+                CASE WHEN s.blocked THEN b.tokens WHEN s.starts_block THEN 0 ELSE s.available - s.lease_grant END,
+                CASE WHEN s.blocked THEN b.refilled_at
+                     WHEN s.starts_block THEN now() + :block * INTERVAL '1 second' ELSE now() END,
+                CASE WHEN s.blocked THEN b.blocked_until WHEN s.starts_block THEN now() + :block * INTERVAL '1 second' END,
+                s.lease_grant,
+                s.leased + GREATEST(s.lease_grant - 1, 0),
+                CASE WHEN s.lease_grant > 1 THEN now() + :ttl * INTERVAL '1 second' ELSE b.leased_until END
+            FROM (
+                SELECT a.blocked, a.available, a.leased, g.lease_grant,
+                       NOT a.blocked AND g.lease_grant = 0 AND a.leased = 0 AND :block > 0 AS starts_block
+                FROM (
+                    SELECT COALESCE(b.blocked_until > now(), FALSE) AS blocked,
+                           LEAST(:burst, b.tokens + :returned + EXTRACT(EPOCH FROM now() - b.refilled_at) * :rate) AS available,
+                           CASE WHEN b.leased_until > now() THEN GREATEST(b.leased - :released, 0) ELSE 0 END AS leased
+                ) a
+                CROSS JOIN LATERAL (
+                    SELECT CASE WHEN a.blocked THEN 0
+                                WHEN a.available >= LEAST(:lease, :burst) + a.leased THEN LEAST(:lease, :burst)
+                                WHEN a.available >= 1 THEN 1
+                                ELSE 0 END::INTEGER AS lease_grant
+                ) g
+            ) s
+        )
+        RETURNING granted, tokens, GREATEST(COALESCE(EXTRACT(EPOCH FROM blocked_until - now()), 0), 0) AS blocked_seconds
+        """;
+
+    static final String PURGE_IDLE = """
+        DELETE FROM mcp_rate_limit_buckets
+        WHERE (blocked_until IS NULL OR blocked_until <= now())
+          AND tokens + EXTRACT(EPOCH FROM now() - refilled_at) * :rate >= :burst
+        """;
+
+    private PostgresRateLimitSql() {
+    }
+}
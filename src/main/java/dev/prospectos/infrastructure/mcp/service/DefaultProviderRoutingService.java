@@ -2,12 +2,12 @@ package dev.prospectos.infrastructure.mcp.service;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
 import dev.prospectos.api.mcp.ProviderHealth;
 import dev.prospectos.api.mcp.ProviderRoutingService;
+import dev.prospectos.api.mcp.QueryMetricsSnapshot;
 import dev.prospectos.api.mcp.QueryTimeWindow;
 import dev.prospectos.api.mcp.RoutingStrategy;
 import dev.prospectos.api.mcp.RoutingUpdate;
@@ -51,7 +51,7 @@ public class DefaultProviderRoutingService implements ProviderRoutingService {
     @Override
     public List<ProviderHealth> getProviderHealth() {
         var snapshot = queryMetricsService.getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, null);
-        List<String> providers = new ArrayList<>(new LinkedHashSet<>(queryMetricsService.observedProviders(QueryTimeWindow.TWENTY_FOUR_HOURS)));
+        List<String> providers = new ArrayList<>(snapshot.providerBreakdown().stream().map(QueryMetricsSnapshot.ProviderMetric::provider).toList());
         state.providerPriority().stream().filter(provider -> !providers.contains(provider)).forEach(providers::add);
         return providers.stream().map(provider -> evaluator.generate(provider, snapshot)).toList();
     }
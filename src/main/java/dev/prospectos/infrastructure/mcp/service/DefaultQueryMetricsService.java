@@ -30,23 +30,30 @@ public class DefaultQueryMetricsService implements QueryMetricsService {
         };
         var totalCost = BigDecimal.valueOf(totalQueries * (0.003 + (random.nextDouble() * 0.005))).setScale(4, BigDecimal.ROUND_HALF_UP);
         var providers = provider != null ? List.of(provider) : PROVIDERS;
+        var avgResponseTime = 800 + random.nextInt(400);
         return new QueryMetricsSnapshot(
             totalQueries,
             totalCost,
             totalQueries > 0 ? totalCost.divide(BigDecimal.valueOf(totalQueries), 4, BigDecimal.ROUND_HALF_UP) : BigDecimal.ZERO,
             0.85 + (random.nextDouble() * 0.12),
-            800 + random.nextInt(400),
+            avgResponseTime,
+            percentiles(avgResponseTime),
             new QueryMetricsSnapshot.Trends(pickTrend(), pickTrend(), pickTrend()),
             providers.stream().map(currentProvider -> new QueryMetricsSnapshot.ProviderMetric(
                 currentProvider,
                 provider != null ? totalQueries : totalQueries / providers.size() + random.nextInt(50),
                 provider != null ? totalCost : totalCost.divide(BigDecimal.valueOf(providers.size()), 4, BigDecimal.ROUND_HALF_UP),
                 0.80 + (random.nextDouble() * 0.18),
-                600 + random.nextInt(800)
+                600 + random.nextInt(800),
+                percentiles(600 + random.nextInt(800))
             )).toList()
         );
     }
 
+    private QueryMetricsSnapshot.ResponseTimePercentiles percentiles(long avgResponseTime) {
+        return new QueryMetricsSnapshot.ResponseTimePercentiles(avgResponseTime * 4 / 5, avgResponseTime * 2, avgResponseTime * 3);
+    }
+
     private String pickTrend() {
         var trends = List.of("INCREASING", "STABLE", "DECREASING");
         return trends.get(random.nextInt(trends.size()));
@@ -2,82 +2,95 @@ package dev.prospectos.infrastructure.mcp.service;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
 import dev.prospectos.api.mcp.QueryMetricsSnapshot;
 import dev.prospectos.api.mcp.QueryTimeWindow;
 
+/**
+ * Aggregates executions and latency histograms into fixed time buckets per provider; memory does not grow with
+ * traffic. Operations are not part of the key because lead sources pass the raw search text as the operation, so
+ * keying by it would allocate a series per distinct query.
+ */
 @Service
 @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class InMemoryQueryMetricsService implements ObservedQueryMetricsService {
-    private static final int MAX_OBSERVATIONS = 2_000;
-    private final ConcurrentLinkedDeque<QueryMetricsObservation> observations;
+    private final Map<String, QueryMetricsSeries> series = new ConcurrentHashMap<>();
+    private final QueryMetricsRecentObservations recent = new QueryMetricsRecentObservations();
     private final Clock clock;
     private final QueryMetricsCostEstimator costEstimator;
     private final QueryMetricsSnapshotFactory snapshotFactory;
+    private final QueryLatencyMeters latencyMeters;
 
-    public InMemoryQueryMetricsService() {
-        this(new ConcurrentLinkedDeque<>(), Clock.systemUTC(), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+    public InMemoryQueryMetricsService(MeterRegistry meterRegistry, TokenUsageMonitor usageMonitor) {
+        this(List.of(), Clock.systemUTC(), new QueryMetricsCostEstimator(usageMonitor), new QueryMetricsSnapshotFactory(), meterRegistry);
     }
 
-    InMemoryQueryMetricsService(ConcurrentLinkedDeque<QueryMetricsObservation> observations, Clock clock,
-                                QueryMetricsCostEstimator costEstimator, QueryMetricsSnapshotFactory snapshotFactory) {
-        this.observations = observations;
+    InMemoryQueryMetricsService(Collection<QueryMetricsObservation> observations, Clock clock, QueryMetricsCostEstimator costEstimator,
+                                QueryMetricsSnapshotFactory snapshotFactory, MeterRegistry meterRegistry) {
         this.clock = clock;
         this.costEstimator = costEstimator;
         this.snapshotFactory = snapshotFactory;
+        this.latencyMeters = new QueryLatencyMeters(meterRegistry);
+        observations.forEach(this::record);
     }
 
     @Override
-    public void recordExecution(String provider, long durationMs, boolean success, int resultCount) {
-        recordExecution(provider, "lead-search", durationMs, success, resultCount);
+    public void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
+        QueryMetricsObservation observation =
+            QueryMetricsObservation.recorded(provider, operation, clock.instant(), durationMs, success, resultCount, costEstimator);
+        record(observation);
+        latencyMeters.record(observation);
     }
 
     @Override
-    public void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
-        observations.addLast(new QueryMetricsObservation(
-            normalize(provider), normalizeOperation(operation), clock.instant(), Math.max(durationMs, 0L), success,
-            Math.max(resultCount, 0), costEstimator.estimate(normalize(provider), resultCount)
-        ));
-        trimToWindow();
+    public void recordTimeout(String provider, String operation, long durationMs) {
+        recordExecution(provider, operation, durationMs, false, 0);
+        latencyMeters.recordTimeout(QueryMetricsObservation.normalizeProvider(provider));
     }
 
     @Override
     public QueryMetricsSnapshot getMetrics(QueryTimeWindow timeWindow, String provider) {
-        return snapshotFactory.create(observations(timeWindow, provider), timeWindow, clock.instant());
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(timeWindow.duration());
+        String normalizedProvider = provider == null ? null : QueryMetricsObservation.normalizeProvider(provider);
+        Map<String, QueryMetricsTotals> current = new HashMap<>();
+        Map<String, QueryLatencyHistogram> latency = new HashMap<>();
+        QueryMetricsTotals previous = QueryMetricsTotals.EMPTY;
+        for (Map.Entry<String, QueryMetricsSeries> entry : series.entrySet()) {
+            if (normalizedProvider == null || entry.getKey().equals(normalizedProvider)) {
+                current.put(entry.getKey(), entry.getValue().sum(cutoff, now.plusSeconds(60), now));
+                latency.put(entry.getKey(), entry.getValue().latency(cutoff, now.plusSeconds(60)));
+                previous = previous.plus(entry.getValue().sum(cutoff.minus(timeWindow.duration()), cutoff, now));
+            }
+        }
+        return snapshotFactory.create(current, latency, previous);
     }
 
     @Override
     public List<QueryMetricsObservation> observations(QueryTimeWindow timeWindow, String provider) {
         Instant cutoff = clock.instant().minus(timeWindow.duration());
-        String normalizedProvider = provider == null ? null : normalize(provider);
-        return observations.stream()
-            .filter(observation -> !observation.recordedAt().isBefore(cutoff))
-            .filter(observation -> normalizedProvider == null || observation.provider().equals(normalizedProvider))
-            .toList();
+        String normalizedProvider = provider == null ? null : QueryMetricsObservation.normalizeProvider(provider);
+        return recent.matching(observation -> !observation.recordedAt().isBefore(cutoff)
+            && (normalizedProvider == null || observation.provider().equals(normalizedProvider)));
     }
 
     @Override
     public List<String> observedProviders(QueryTimeWindow timeWindow) {
-        return observations(timeWindow, null).stream().map(QueryMetricsObservation::provider).distinct().sorted().toList();
-    }
-
-    private void trimToWindow() {
-        while (observations.size() > MAX_OBSERVATIONS) observations.pollFirst();
-        var cutoff = clock.instant().minus(QueryTimeWindow.THIRTY_DAYS.duration());
-        while (!observations.isEmpty() && observations.peekFirst().recordedAt().isBefore(cutoff)) observations.pollFirst();
-    }
-
-    private String normalize(String provider) {
-        return provider == null ? "unknown" : provider.trim().toLowerCase(Locale.ROOT);
+        return getMetrics(timeWindow, null).providerBreakdown().stream().map(QueryMetricsSnapshot.ProviderMetric::provider).toList();
     }
 
-    private String normalizeOperation(String operation) {
-        return operation == null || operation.isBlank() ? "lead-search" : operation.trim();
+    private void record(QueryMetricsObservation observation) {
+        series.computeIfAbsent(observation.provider(), key -> new QueryMetricsSeries()).add(observation);
+        recent.add(observation);
     }
 }
@@ -3,84 +3,93 @@ package dev.prospectos.infrastructure.mcp.service;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
 import dev.prospectos.api.mcp.QueryMetricsSnapshot;
 import dev.prospectos.api.mcp.QueryTimeWindow;
 import dev.prospectos.infrastructure.mcp.config.ConditionalOnMcpEnabled;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Persists every execution through the write-behind queue and answers snapshots with SQL aggregates over raw rows
+ * and hourly rollups.
+ */
 @Service
 @ConditionalOnMcpEnabled
 public class JpaQueryMetricsService implements ObservedQueryMetricsService {
     private final QueryMetricsObservationRepository repository;
+    private final QueryMetricsAggregates aggregates;
+    private final QueryMetricsWriteBehindQueue writeBehind;
     private final Clock clock;
     private final QueryMetricsCostEstimator costEstimator;
     private final QueryMetricsSnapshotFactory snapshotFactory;
+    private final QueryLatencyMeters latencyMeters;
 
     @Autowired
-    public JpaQueryMetricsService(QueryMetricsObservationRepository repository) {
-        this(repository, Clock.systemUTC(), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+    public JpaQueryMetricsService(QueryMetricsObservationRepository repository, QueryMetricsHourlyRollupRepository rollupRepository,
+                                  QueryMetricsWriteBehindQueue writeBehind, MeterRegistry meterRegistry, TokenUsageMonitor usageMonitor) {
+        this(repository, rollupRepository, writeBehind, Clock.systemUTC(), new QueryMetricsCostEstimator(usageMonitor),
+            new QueryMetricsSnapshotFactory(), meterRegistry);
     }
 
-    JpaQueryMetricsService(QueryMetricsObservationRepository repository, Clock clock,
-                           QueryMetricsCostEstimator costEstimator, QueryMetricsSnapshotFactory snapshotFactory) {
+    JpaQueryMetricsService(QueryMetricsObservationRepository repository, QueryMetricsHourlyRollupRepository rollupRepository,
+                           QueryMetricsWriteBehindQueue writeBehind, Clock clock, QueryMetricsCostEstimator costEstimator,
+                           QueryMetricsSnapshotFactory snapshotFactory, MeterRegistry meterRegistry) {
         this.repository = repository;
+        this.aggregates = new QueryMetricsAggregates(repository, rollupRepository);
+        this.writeBehind = writeBehind;
         this.clock = clock;
         this.costEstimator = costEstimator;
         this.snapshotFactory = snapshotFactory;
+        this.latencyMeters = new QueryLatencyMeters(meterRegistry);
     }
 
     @Override
-    @Transactional
-    public void recordExecution(String provider, long durationMs, boolean success, int resultCount) {
-        recordExecution(provider, "lead-search", durationMs, success, resultCount);
+    public void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
+        QueryMetricsObservation observation =
+            QueryMetricsObservation.recorded(provider, operation, clock.instant(), durationMs, success, resultCount, costEstimator);
+        writeBehind.submit(observation);
+        latencyMeters.record(observation);
     }
 
     @Override
-    @Transactional
-    public void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
-        repository.save(new QueryMetricsObservationEntity(
-            normalize(provider), normalizeOperation(operation), clock.instant(), Math.max(durationMs, 0L), success,
-            Math.max(resultCount, 0), costEstimator.estimate(normalize(provider), resultCount)
-        ));
+    public void recordTimeout(String provider, String operation, long durationMs) {
+        recordExecution(provider, operation, durationMs, false, 0);
+        latencyMeters.recordTimeout(QueryMetricsObservation.normalizeProvider(provider));
     }
 
     @Override
     @Transactional(readOnly = true)
     public QueryMetricsSnapshot getMetrics(QueryTimeWindow timeWindow, String provider) {
-        return snapshotFactory.create(observations(timeWindow, provider), timeWindow, clock.instant());
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(timeWindow.duration());
+        Instant rolledUpTo = aggregates.rolledUpTo();
+        String normalizedProvider = provider == null ? null : QueryMetricsObservation.normalizeProvider(provider);
+        Map<String, QueryMetricsTotals> current = aggregates.byProvider(cutoff, now.plusSeconds(1), normalizedProvider, rolledUpTo);
+        Map<String, QueryLatencyHistogram> latency = aggregates.latencyByProvider(cutoff, now.plusSeconds(1), normalizedProvider, rolledUpTo);
+        QueryMetricsTotals previous = aggregates.byProvider(cutoff.minus(timeWindow.duration()), cutoff, normalizedProvider, rolledUpTo)
+            .values().stream().reduce(QueryMetricsTotals.EMPTY, QueryMetricsTotals::plus);
+        return snapshotFactory.create(current, latency, previous);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<QueryMetricsObservation> observations(QueryTimeWindow timeWindow, String provider) {
         Instant cutoff = clock.instant().minus(timeWindow.duration());
-        return entities(cutoff, provider).stream().map(QueryMetricsObservationEntity::toDomain).toList();
+        String normalizedProvider = provider == null ? null : QueryMetricsObservation.normalizeProvider(provider);
+        List<QueryMetricsObservationEntity> entities = normalizedProvider == null
+            ? repository.findAllByRecordedAtAfterOrderByRecordedAtDesc(cutoff)
+            : repository.findAllByRecordedAtAfterAndProviderOrderByRecordedAtDesc(cutoff, normalizedProvider);
+        return entities.stream().map(QueryMetricsObservationEntity::toDomain).toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<String> observedProviders(QueryTimeWindow timeWindow) {
-        Instant cutoff = clock.instant().minus(timeWindow.duration());
-        return repository.findAllByRecordedAtAfterOrderByRecordedAtDesc(cutoff).stream()
-            .map(QueryMetricsObservationEntity::provider).distinct().sorted().toList();
-    }
-
-    private List<QueryMetricsObservationEntity> entities(Instant cutoff, String provider) {
-        String normalizedProvider = provider == null ? null : normalize(provider);
-        return normalizedProvider == null
-            ? repository.findAllByRecordedAtAfterOrderByRecordedAtDesc(cutoff)
-            : repository.findAllByRecordedAtAfterAndProviderOrderByRecordedAtDesc(cutoff, normalizedProvider);
-    }
-
-    private String normalize(String provider) {
-        return provider == null ? "unknown" : provider.trim().toLowerCase(Locale.ROOT);
-    }
-
-    private String normalizeOperation(String operation) {
-        return operation == null || operation.isBlank() ? "lead-search" : operation.trim();
+        return getMetrics(timeWindow, null).providerBreakdown().stream().map(QueryMetricsSnapshot.ProviderMetric::provider).toList();
     }
 }
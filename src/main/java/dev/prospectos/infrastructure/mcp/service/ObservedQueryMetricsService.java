@@ -8,6 +8,11 @@ import dev.prospectos.api.mcp.QueryTimeWindow;
 
 interface ObservedQueryMetricsService extends QueryMetricsService, QueryMetricsRecorder {
 
+    @Override
+    default void recordExecution(String provider, long durationMs, boolean success, int resultCount) {
+        recordExecution(provider, "lead-search", durationMs, success, resultCount);
+    }
+
     List<QueryMetricsObservation> observations(QueryTimeWindow timeWindow, String provider);
 
     List<String> observedProviders(QueryTimeWindow timeWindow);
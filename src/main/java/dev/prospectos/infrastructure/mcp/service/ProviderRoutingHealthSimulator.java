@@ -14,7 +14,7 @@ final class ProviderRoutingHealthSimulator {
         QueryMetricsSnapshot.ProviderMetric metric = snapshot.providerBreakdown().stream()
             .filter(candidate -> candidate.provider().equals(provider))
             .findFirst()
-            .orElse(new QueryMetricsSnapshot.ProviderMetric(provider, 0, BigDecimal.ZERO, 0.0d, 0L));
+            .orElse(new QueryMetricsSnapshot.ProviderMetric(provider, 0, BigDecimal.ZERO, 0.0d, 0L, QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY));
         String status = status(metric);
         return new ProviderHealth(provider, status, metric.avgResponseTime(), 1.0d - metric.successRate(), lastError(status), recommendations(status, metric));
     }
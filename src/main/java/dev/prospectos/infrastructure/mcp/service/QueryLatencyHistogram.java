@@ -0,0 +1,100 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import dev.prospectos.api.mcp.QueryMetricsSnapshot.ResponseTimePercentiles;
+
+/**
+ * Log-linear latency histogram in the HdrHistogram style: durations below 16ms get one bucket per millisecond, every
+ * power of two above that is split into 8 linear sub-buckets, so a bucket spans at most 12.5% of its values.
+ * Durations beyond 2^20ms (about 17 minutes) count in the top bucket. Histograms merge by adding counts, which lets
+ * in-memory buckets, hourly rollups and raw SQL counts be combined into any window. Percentiles report the largest
+ * duration of the bucket they land in, and the hourly rollup stores the sparse {@code bucket:count} encoding.
+ */
+final class QueryLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKED_MS = (1L << 20) - 1;
+
+    static final int BUCKETS = bucket(MAX_TRACKED_MS) + 1;
+
+    private final long[] counts;
+
+    QueryLatencyHistogram() {
+        this(new long[BUCKETS]);
+    }
+
+    QueryLatencyHistogram(long[] counts) {
+        this.counts = counts;
+    }
+
+    static int bucket(long durationMs) {
+        long value = Math.min(Math.max(durationMs, 0L), MAX_TRACKED_MS);
+        if (value < 2L * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    static QueryLatencyHistogram decode(String encoded) {
+        QueryLatencyHistogram histogram = new QueryLatencyHistogram();
+        if (encoded != null && !encoded.isBlank()) {
+            for (String entry : encoded.split(",")) {
+                int separator = entry.indexOf(':');
+                histogram.counts[Integer.parseInt(entry.substring(0, separator))] += Long.parseLong(entry.substring(separator + 1));
+            }
+        }
+        return histogram;
+    }
+
+    void record(long durationMs, long executions) {
+        counts[bucket(durationMs)] += executions;
+    }
+
+    QueryLatencyHistogram merge(QueryLatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        return this;
+    }
+
+    long count() {
+        return Arrays.stream(counts).sum();
+    }
+
+    long percentile(double quantile) {
+        long rank = Math.max(1L, (long) Math.ceil(quantile * count()));
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return highestValue(bucket);
+            }
+        }
+        return 0L;
+    }
+
+    ResponseTimePercentiles percentiles() {
+        return new ResponseTimePercentiles(percentile(0.50d), percentile(0.95d), percentile(0.99d));
+    }
+
+    String encode() {
+        return IntStream.range(0, BUCKETS).filter(bucket -> counts[bucket] > 0)
+            .mapToObj(bucket -> bucket + ":" + counts[bucket])
+            .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,39 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes every execution to the {@code prospectos.mcp.query.latency} timer, tagged by provider, with client-side
+ * p50/p95/p99 so dashboards get the same percentiles as {@code get_query_metrics}. The operation is not a tag: lead
+ * sources pass the raw search text there, which would make the label unbounded. Sources that missed their deadline
+ * are also counted in {@code prospectos.mcp.query.timeouts}, so they are not lost among ordinary failures.
+ */
+final class QueryLatencyMeters {
+
+    private final MeterRegistry meterRegistry;
+
+    QueryLatencyMeters(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void record(QueryMetricsObservation observation) {
+        Timer.builder("prospectos.mcp.query.latency")
+            .description("Lead source query execution time")
+            .tag("provider", observation.provider())
+            .publishPercentiles(0.5d, 0.95d, 0.99d)
+            .register(meterRegistry)
+            .record(Duration.ofMillis(observation.durationMs()));
+    }
+
+    void recordTimeout(String provider) {
+        Counter.builder("prospectos.mcp.query.timeouts")
+            .description("Lead source queries abandoned at their deadline")
+            .tag("provider", provider)
+            .register(meterRegistry)
+            .increment();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Latency histograms for one provider in minute, hour and day buckets. A window is answered from the finest
+ * ring that covers it, including the partial bucket at its start, so percentiles of a 1h window are minute-accurate,
+ * 24h windows hour-accurate and longer windows day-accurate. Totals stay in {@link QueryMetricsSeries}; these rings
+ * only cover the longest window, not the previous one used for trends.
+ */
+final class QueryLatencySeries {
+
+    private final List<Level> levels = List.of(new Level(60L, 64), new Level(3_600L, 32), new Level(86_400L, 32));
+
+    void record(Instant recordedAt, long durationMs) {
+        int bucket = QueryLatencyHistogram.bucket(durationMs);
+        for (Level level : levels) {
+            level.ring().add(level.epoch(recordedAt), bucket, 1L);
+        }
+    }
+
+    /**
+     * Histogram of executions recorded in {@code [from, to)}, widened to whole buckets of the selected ring.
+     */
+    QueryLatencyHistogram histogram(Instant from, Instant to) {
+        Level level = levels.getLast();
+        for (Level candidate : levels) {
+            if (candidate.span(from, to) <= candidate.ring().slots()) {
+                level = candidate;
+                break;
+            }
+        }
+        return new QueryLatencyHistogram(level.ring().sum(level.epoch(from), level.epoch(to.minusNanos(1)) + 1));
+    }
+
+    private record Level(long secondsPerBucket, QueryMetricsBucketRing ring) {
+
+        private Level(long secondsPerBucket, int slots) {
+            this(secondsPerBucket, new QueryMetricsBucketRing(slots, QueryLatencyHistogram.BUCKETS));
+        }
+
+        long epoch(Instant instant) {
+            return Math.floorDiv(instant.getEpochSecond(), secondsPerBucket);
+        }
+
+        long span(Instant from, Instant to) {
+            return epoch(to.minusNanos(1)) + 1 - epoch(from);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Answers window totals and latency histograms with {@code GROUP BY provider} queries. Whole hours that are already
+ * rolled up are read from the hourly rollup table; only the partial hours at the edges of the window are aggregated
+ * from raw rows.
+ */
+final class QueryMetricsAggregates {
+
+    private final QueryMetricsObservationRepository observations;
+    private final QueryMetricsHourlyRollupRepository rollups;
+
+    QueryMetricsAggregates(QueryMetricsObservationRepository observations, QueryMetricsHourlyRollupRepository rollups) {
+        this.observations = observations;
+        this.rollups = rollups;
+    }
+
+    /**
+     * End of the last rolled-up hour, or the epoch when nothing has been rolled up yet.
+     */
+    Instant rolledUpTo() {
+        Instant latest = rollups.findLatestHourStart();
+        return latest == null ? Instant.EPOCH : latest.plus(1, ChronoUnit.HOURS);
+    }
+
+    Map<String, QueryMetricsTotals> byProvider(Instant from, Instant to, String provider, Instant rolledUpTo) {
+        Map<String, QueryMetricsTotals> totals = new HashMap<>();
+        split(from, to, rolledUpTo,
+            (rawFrom, rawTo) -> observations.aggregateByProvider(rawFrom, rawTo, provider)
+                .forEach(row -> totals.merge(row.provider(), row.totals(), QueryMetricsTotals::plus)),
+            (hoursFrom, hoursTo) -> rollups.aggregateByProvider(hoursFrom, hoursTo, provider)
+                .forEach(row -> totals.merge(row.provider(), row.totals(), QueryMetricsTotals::plus)));
+        return totals;
+    }
+
+    Map<String, QueryLatencyHistogram> latencyByProvider(Instant from, Instant to, String provider, Instant rolledUpTo) {
+        Map<String, QueryLatencyHistogram> latency = new HashMap<>();
+        split(from, to, rolledUpTo,
+            (rawFrom, rawTo) -> observations.countDurationsByProvider(rawFrom, rawTo, provider).forEach(row -> row.addTo(latency)),
+            (hoursFrom, hoursTo) -> rollups.findLatency(hoursFrom, hoursTo, provider).forEach(row -> row.addTo(latency)));
+        return latency;
+    }
+
+    private static void split(Instant from, Instant to, Instant rolledUpTo, BiConsumer<Instant, Instant> raw, BiConsumer<Instant, Instant> rolledUp) {
+        Instant rollupFrom = ceilToHour(from);
+        Instant rollupTo = min(to.truncatedTo(ChronoUnit.HOURS), rolledUpTo);
+        if (!rollupFrom.isBefore(rollupTo)) {
+            raw.accept(from, to);
+            return;
+        }
+        rolledUp.accept(rollupFrom, rollupTo);
+        if (from.isBefore(rollupFrom)) {
+            raw.accept(from, rollupFrom);
+        }
+        if (rollupTo.isBefore(to)) {
+            raw.accept(rollupTo, to);
+        }
+    }
+
+    private static Instant ceilToHour(Instant instant) {
+        Instant hour = instant.truncatedTo(ChronoUnit.HOURS);
+        return hour.equals(instant) ? hour : hour.plus(1, ChronoUnit.HOURS);
+    }
+
+    private static Instant min(Instant left, Instant right) {
+        return left.isBefore(right) ? left : right;
+    }
+}
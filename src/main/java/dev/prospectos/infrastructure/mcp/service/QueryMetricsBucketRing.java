@@ -0,0 +1,72 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed number of time buckets addressed by {@code epoch % slots}, where an epoch is a bucket index since 1970.
+ * Each bucket holds {@code width} counters. A slot is recycled by swapping in a fresh bucket for the newer epoch, so
+ * writers never lock and memory stays bounded by the slot count.
+ */
+final class QueryMetricsBucketRing {
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final int width;
+
+    QueryMetricsBucketRing(int slots, int width) {
+        this.buckets = new AtomicReferenceArray<>(slots);
+        this.width = width;
+    }
+
+    int slots() {
+        return buckets.length();
+    }
+
+    void add(long epoch, int counter, long delta) {
+        AtomicLongArray values = bucket(epoch);
+        if (values != null) {
+            values.addAndGet(counter, delta);
+        }
+    }
+
+    /**
+     * Sums each counter over the buckets with {@code fromEpoch <= epoch < toEpoch}; epochs already recycled count as
+     * empty.
+     */
+    long[] sum(long fromEpoch, long toEpoch) {
+        long[] sums = new long[width];
+        for (long epoch = Math.max(fromEpoch, toEpoch - slots()); epoch < toEpoch; epoch++) {
+            Bucket bucket = buckets.get(slot(epoch));
+            if (bucket != null && bucket.epoch() == epoch) {
+                for (int counter = 0; counter < width; counter++) {
+                    sums[counter] += bucket.values().get(counter);
+                }
+            }
+        }
+        return sums;
+    }
+
+    private AtomicLongArray bucket(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket current = buckets.get(slot);
+            if (current != null && current.epoch() == epoch) {
+                return current.values();
+            }
+            if (current != null && current.epoch() > epoch) {
+                return null;
+            }
+            Bucket fresh = new Bucket(epoch, new AtomicLongArray(width));
+            if (buckets.compareAndSet(slot, current, fresh)) {
+                return fresh.values();
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) slots());
+    }
+
+    private record Bucket(long epoch, AtomicLongArray values) {
+    }
+}
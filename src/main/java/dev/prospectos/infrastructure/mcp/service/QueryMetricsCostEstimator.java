@@ -3,7 +3,15 @@ package dev.prospectos.infrastructure.mcp.service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Map;
+import java.util.Optional;
 
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+
+/**
+ * Prices one execution. LLM-backed providers use the average metered cost of the chat calls they make, so the figure
+ * follows real token usage and the configured model prices; other providers, and LLM providers before their first
+ * metered call, fall back to the static per-result table.
+ */
 final class QueryMetricsCostEstimator {
 
     private static final Map<String, BigDecimal> COST_BY_PROVIDER = Map.of(
@@ -17,7 +25,26 @@ final class QueryMetricsCostEstimator {
         "in-memory", BigDecimal.ZERO
     );
 
+    private static final Map<String, LlmCalls> LLM_CALLS_BY_PROVIDER = Map.of(
+        "llm-discovery", new LlmCalls("lead-discovery", false),
+        "scraper", new LlmCalls("web-search", true)
+    );
+
+    private final TokenUsageMonitor usageMonitor;
+
+    QueryMetricsCostEstimator() {
+        this(null);
+    }
+
+    QueryMetricsCostEstimator(TokenUsageMonitor usageMonitor) {
+        this.usageMonitor = usageMonitor;
+    }
+
     BigDecimal estimate(String provider, int resultCount) {
+        Optional<BigDecimal> metered = metered(provider, resultCount);
+        if (metered.isPresent()) {
+            return metered.get();
+        }
         BigDecimal baseCost = COST_BY_PROVIDER.getOrDefault(provider, BigDecimal.ZERO);
         if (baseCost.signum() == 0) {
             return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
@@ -25,4 +52,21 @@ final class QueryMetricsCostEstimator {
         return baseCost.multiply(BigDecimal.valueOf(Math.max(resultCount, 1)))
             .setScale(2, RoundingMode.HALF_UP);
     }
+
+    private Optional<BigDecimal> metered(String provider, int resultCount) {
+        LlmCalls calls = LLM_CALLS_BY_PROVIDER.get(provider);
+        if (usageMonitor == null || calls == null) {
+            return Optional.empty();
+        }
+        long callCount = calls.perResult() ? Math.max(resultCount, 1) : 1;
+        return usageMonitor.averageCost(calls.operation())
+            .map(cost -> cost.multiply(BigDecimal.valueOf(callCount)).setScale(4, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Metered operation a provider's chat calls are billed to, and whether it makes one call per result or one per
+     * execution.
+     */
+    private record LlmCalls(String operation, boolean perResult) {
+    }
 }
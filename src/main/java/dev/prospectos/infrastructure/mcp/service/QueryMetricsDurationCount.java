@@ -0,0 +1,13 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.Map;
+
+/**
+ * One {@code GROUP BY provider, duration} row of raw observations, folded into per-provider latency histograms.
+ */
+public record QueryMetricsDurationCount(String provider, Long durationMs, Long executions) {
+
+    void addTo(Map<String, QueryLatencyHistogram> latencyByProvider) {
+        latencyByProvider.computeIfAbsent(provider, key -> new QueryLatencyHistogram()).record(durationMs, executions);
+    }
+}
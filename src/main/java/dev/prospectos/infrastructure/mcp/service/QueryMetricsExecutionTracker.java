@@ -30,6 +30,15 @@ public final class QueryMetricsExecutionTracker {
         }
     }
 
+    public static void recordTimeout(
+        QueryMetricsRecorder recorder,
+        String provider,
+        String operationName,
+        long elapsedMs
+    ) {
+        recorder.recordTimeout(provider, operationName, elapsedMs);
+    }
+
     @FunctionalInterface
     public interface QueryOperation<T> {
         List<T> execute();
@@ -0,0 +1,9 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Instant;
+
+/**
+ * One provider's totals and latency histogram for a completed hour, as written to {@code mcp_query_metrics_hourly}.
+ */
+record QueryMetricsHourlyRollup(Instant hourStart, QueryMetricsProviderTotals totals, QueryLatencyHistogram latency) {
+}
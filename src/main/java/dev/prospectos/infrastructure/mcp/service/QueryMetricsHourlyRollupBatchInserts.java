@@ -0,0 +1,15 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Custom repository fragment writing hourly rollups as one JDBC batch. Hours another replica already rolled up are
+ * skipped by the unique key instead of failing the batch.
+ */
+public interface QueryMetricsHourlyRollupBatchInserts {
+
+    @Transactional
+    void insertAllSkippingExisting(List<QueryMetricsHourlyRollup> rollups);
+}
@@ -0,0 +1,46 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+class QueryMetricsHourlyRollupBatchInsertsImpl implements QueryMetricsHourlyRollupBatchInserts {
+
+    private static final String INSERT = """
+        INSERT INTO mcp_query_metrics_hourly
+            (provider, hour_start, queries, successes, duration_ms, cost, latency_histogram)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (hour_start, provider) DO NOTHING
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAllSkippingExisting(List<QueryMetricsHourlyRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                for (QueryMetricsHourlyRollup rollup : rollups) {
+                    QueryMetricsTotals totals = rollup.totals().totals();
+                    statement.setString(1, rollup.totals().provider());
+                    statement.setObject(2, rollup.hourStart().atOffset(ZoneOffset.UTC));
+                    statement.setLong(3, totals.queries());
+                    statement.setLong(4, totals.successes());
+                    statement.setLong(5, totals.durationMs());
+                    statement.setBigDecimal(6, rollup.totals().cost() == null ? BigDecimal.ZERO : rollup.totals().cost());
+                    statement.setString(7, rollup.latency().encode());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Per-provider totals and encoded latency histogram of one completed hour of {@code mcp_query_observations}. Rows are
+ * written by {@link QueryMetricsHourlyRollupBatchInserts}; the entity maps the table for queries and schema validation.
+ */
+@Entity
+@Table(
+    name = "mcp_query_metrics_hourly",
+    uniqueConstraints = @UniqueConstraint(name = "uk_mcp_query_metrics_hourly", columnNames = {"hour_start", "provider"})
+)
+public class QueryMetricsHourlyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String provider;
+
+    @Column(nullable = false)
+    private Instant hourStart;
+
+    @Column(nullable = false)
+    private long queries;
+
+    @Column(nullable = false)
+    private long successes;
+
+    @Column(nullable = false)
+    private long durationMs;
+
+    @Column(nullable = false, precision = 18, scale = 4)
+    private BigDecimal cost;
+
+    @Column(length = 2048)
+    private String latencyHistogram;
+
+    protected QueryMetricsHourlyRollupEntity() {
+    }
+}
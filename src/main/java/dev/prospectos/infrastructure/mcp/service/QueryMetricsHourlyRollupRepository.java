@@ -0,0 +1,36 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface QueryMetricsHourlyRollupRepository
+    extends JpaRepository<QueryMetricsHourlyRollupEntity, Long>, QueryMetricsHourlyRollupBatchInserts {
+
+    @Query("""
+        SELECT new dev.prospectos.infrastructure.mcp.service.QueryMetricsProviderTotals(
+            r.provider, SUM(r.queries), SUM(r.successes), SUM(r.durationMs), SUM(r.cost))
+        FROM QueryMetricsHourlyRollupEntity r
+        WHERE r.hourStart >= :from AND r.hourStart < :to AND (:provider IS NULL OR r.provider = :provider)
+        GROUP BY r.provider
+        """)
+    List<QueryMetricsProviderTotals> aggregateByProvider(@Param("from") Instant from, @Param("to") Instant to, @Param("provider") String provider);
+
+    @Query("""
+        SELECT new dev.prospectos.infrastructure.mcp.service.QueryMetricsLatencyRollup(r.provider, r.latencyHistogram)
+        FROM QueryMetricsHourlyRollupEntity r
+        WHERE r.hourStart >= :from AND r.hourStart < :to AND (:provider IS NULL OR r.provider = :provider)
+        """)
+    List<QueryMetricsLatencyRollup> findLatency(@Param("from") Instant from, @Param("to") Instant to, @Param("provider") String provider);
+
+    @Query("SELECT MAX(r.hourStart) FROM QueryMetricsHourlyRollupEntity r")
+    Instant findLatestHourStart();
+
+    @Modifying
+    @Query("DELETE FROM QueryMetricsHourlyRollupEntity r WHERE r.hourStart < :cutoff")
+    int deleteHoursBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,13 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.Map;
+
+/**
+ * Encoded latency histogram of one provider in one rolled-up hour.
+ */
+public record QueryMetricsLatencyRollup(String provider, String histogram) {
+
+    void addTo(Map<String, QueryLatencyHistogram> latencyByProvider) {
+        latencyByProvider.computeIfAbsent(provider, key -> new QueryLatencyHistogram()).merge(QueryLatencyHistogram.decode(histogram));
+    }
+}
@@ -2,6 +2,7 @@ package dev.prospectos.infrastructure.mcp.service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Objects;
 
 record QueryMetricsObservation(
@@ -20,4 +21,22 @@ record QueryMetricsObservation(
         Objects.requireNonNull(recordedAt, "recordedAt must not be null");
         Objects.requireNonNull(estimatedCost, "estimatedCost must not be null");
     }
+
+    /**
+     * Observation of an execution reported through {@code QueryMetricsRecorder}, with normalized names and counts.
+     */
+    static QueryMetricsObservation recorded(String provider, String operation, Instant recordedAt, long durationMs, boolean success,
+                                            int resultCount, QueryMetricsCostEstimator costEstimator) {
+        String normalizedProvider = normalizeProvider(provider);
+        return new QueryMetricsObservation(normalizedProvider, normalizeOperation(operation), recordedAt, Math.max(durationMs, 0L),
+            success, Math.max(resultCount, 0), costEstimator.estimate(normalizedProvider, resultCount));
+    }
+
+    static String normalizeProvider(String provider) {
+        return provider == null ? "unknown" : provider.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String normalizeOperation(String operation) {
+        return operation == null || operation.isBlank() ? "lead-search" : operation.trim();
+    }
 }
@@ -0,0 +1,15 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Custom repository fragment writing observations as one JDBC batch; identity ids keep Hibernate from batching
+ * entity inserts itself.
+ */
+public interface QueryMetricsObservationBatchInserts {
+
+    @Transactional
+    void insertAll(List<QueryMetricsObservation> observations);
+}
@@ -0,0 +1,43 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.sql.PreparedStatement;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+class QueryMetricsObservationBatchInsertsImpl implements QueryMetricsObservationBatchInserts {
+
+    private static final String INSERT = """
+        INSERT INTO mcp_query_observations
+            (provider, operation, recorded_at, duration_ms, success, result_count, estimated_cost)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<QueryMetricsObservation> observations) {
+        if (observations.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                for (QueryMetricsObservation observation : observations) {
+                    statement.setString(1, observation.provider());
+                    statement.setString(2, observation.operation());
+                    statement.setObject(3, observation.recordedAt().atOffset(ZoneOffset.UTC));
+                    statement.setLong(4, observation.durationMs());
+                    statement.setBoolean(5, observation.success());
+                    statement.setInt(6, observation.resultCount());
+                    statement.setBigDecimal(7, observation.estimatedCost());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
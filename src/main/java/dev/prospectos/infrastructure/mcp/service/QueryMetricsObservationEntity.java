@@ -8,10 +8,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "mcp_query_observations")
+@Table(name = "mcp_query_observations", indexes = @Index(name = "idx_mcp_query_observations_recorded_at", columnList = "recorded_at, provider"))
 public class QueryMetricsObservationEntity {
 
     @Id
@@ -4,10 +4,38 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface QueryMetricsObservationRepository extends JpaRepository<QueryMetricsObservationEntity, Long> {
+public interface QueryMetricsObservationRepository
+    extends JpaRepository<QueryMetricsObservationEntity, Long>, QueryMetricsObservationBatchInserts {
 
     List<QueryMetricsObservationEntity> findAllByRecordedAtAfterOrderByRecordedAtDesc(Instant cutoff);
 
     List<QueryMetricsObservationEntity> findAllByRecordedAtAfterAndProviderOrderByRecordedAtDesc(Instant cutoff, String provider);
+
+    @Query("""
+        SELECT new dev.prospectos.infrastructure.mcp.service.QueryMetricsProviderTotals(
+            o.provider, COUNT(o), SUM(CASE WHEN o.success = true THEN 1L ELSE 0L END), SUM(o.durationMs), SUM(o.estimatedCost))
+        FROM QueryMetricsObservationEntity o
+        WHERE o.recordedAt >= :from AND o.recordedAt < :to AND (:provider IS NULL OR o.provider = :provider)
+        GROUP BY o.provider
+        """)
+    List<QueryMetricsProviderTotals> aggregateByProvider(@Param("from") Instant from, @Param("to") Instant to, @Param("provider") String provider);
+
+    @Query("""
+        SELECT new dev.prospectos.infrastructure.mcp.service.QueryMetricsDurationCount(o.provider, o.durationMs, COUNT(o))
+        FROM QueryMetricsObservationEntity o
+        WHERE o.recordedAt >= :from AND o.recordedAt < :to AND (:provider IS NULL OR o.provider = :provider)
+        GROUP BY o.provider, o.durationMs
+        """)
+    List<QueryMetricsDurationCount> countDurationsByProvider(@Param("from") Instant from, @Param("to") Instant to, @Param("provider") String provider);
+
+    @Query("SELECT MIN(o.recordedAt) FROM QueryMetricsObservationEntity o WHERE o.recordedAt >= :from")
+    Instant findEarliestRecordedAtFrom(@Param("from") Instant from);
+
+    @Modifying
+    @Query("DELETE FROM QueryMetricsObservationEntity o WHERE o.recordedAt < :cutoff")
+    int deleteRecordedBefore(@Param("cutoff") Instant cutoff);
 }
@@ -0,0 +1,19 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+
+/**
+ * One {@code GROUP BY provider} row of raw observations or hourly rollups.
+ */
+public record QueryMetricsProviderTotals(String provider, Long queries, Long successes, Long durationMs, BigDecimal cost) {
+
+    QueryMetricsTotals totals() {
+        return new QueryMetricsTotals(
+            value(queries), value(successes), value(durationMs), cost == null ? 0L : QueryMetricsTotals.costMicros(cost)
+        );
+    }
+
+    private static long value(Long sum) {
+        return sum == null ? 0L : sum;
+    }
+}
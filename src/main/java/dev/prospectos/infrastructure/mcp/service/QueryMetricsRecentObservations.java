@@ -0,0 +1,45 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free ring of the latest raw observations, kept for execution listings; aggregates come from the buckets.
+ */
+final class QueryMetricsRecentObservations {
+
+    static final int DEFAULT_CAPACITY = 2_000;
+
+    private final AtomicReferenceArray<QueryMetricsObservation> ring;
+    private final AtomicLong written = new AtomicLong();
+
+    QueryMetricsRecentObservations() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    QueryMetricsRecentObservations(int capacity) {
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(QueryMetricsObservation observation) {
+        ring.set((int) (written.getAndIncrement() % ring.length()), observation);
+    }
+
+    /**
+     * Matching observations, newest first.
+     */
+    List<QueryMetricsObservation> matching(Predicate<QueryMetricsObservation> filter) {
+        long end = written.get();
+        List<QueryMetricsObservation> matches = new ArrayList<>();
+        for (long index = end - 1; index >= Math.max(0L, end - ring.length()); index--) {
+            QueryMetricsObservation observation = ring.get((int) (index % ring.length()));
+            if (observation != null && filter.test(observation)) {
+                matches.add(observation);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.prospectos.api.mcp.QueryTimeWindow;
+import dev.prospectos.infrastructure.mcp.config.ConditionalOnMcpEnabled;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rolls completed hours of raw query observations up into {@code mcp_query_metrics_hourly} and applies retention:
+ * raw rows are kept for the longest metrics window, rollups for twice that so its previous window stays comparable.
+ * Every replica runs the job; hours are written in one batch that skips rows another replica already inserted, so
+ * concurrent runs converge on the same rollups instead of failing on the unique key.
+ */
+@Slf4j
+@Component
+@ConditionalOnMcpEnabled
+public class QueryMetricsRollupJob {
+
+    static final Duration RAW_RETENTION = QueryTimeWindow.THIRTY_DAYS.duration();
+    static final Duration ROLLUP_RETENTION = RAW_RETENTION.multipliedBy(2);
+
+    private static final Duration LATE_WRITE_GRACE = Duration.ofMinutes(5);
+
+    private final QueryMetricsObservationRepository observations;
+    private final QueryMetricsHourlyRollupRepository rollups;
+    private final Clock clock;
+
+    @Autowired
+    public QueryMetricsRollupJob(QueryMetricsObservationRepository observations, QueryMetricsHourlyRollupRepository rollups) {
+        this(observations, rollups, Clock.systemUTC());
+    }
+
+    QueryMetricsRollupJob(QueryMetricsObservationRepository observations, QueryMetricsHourlyRollupRepository rollups, Clock clock) {
+        this.observations = observations;
+        this.rollups = rollups;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${prospectos.mcp.metrics.rollup-interval:5m}",
+        initialDelayString = "${prospectos.mcp.metrics.rollup-interval:5m}"
+    )
+    @Transactional
+    public void rollUp() {
+        Instant now = clock.instant();
+        Instant end = now.minus(LATE_WRITE_GRACE).truncatedTo(ChronoUnit.HOURS);
+        Instant latest = rollups.findLatestHourStart();
+        Instant from = latest == null ? now.minus(RAW_RETENTION) : latest.plus(1, ChronoUnit.HOURS);
+        Instant first = observations.findEarliestRecordedAtFrom(from);
+        List<QueryMetricsHourlyRollup> rolledUp = new ArrayList<>();
+        for (Instant hour = first == null ? end : first.truncatedTo(ChronoUnit.HOURS); hour.isBefore(end); hour = hour.plus(1, ChronoUnit.HOURS)) {
+            Instant hourStart = hour;
+            Instant hourEnd = hourStart.plus(1, ChronoUnit.HOURS);
+            Map<String, QueryLatencyHistogram> latency = new HashMap<>();
+            observations.countDurationsByProvider(hourStart, hourEnd, null).forEach(row -> row.addTo(latency));
+            observations.aggregateByProvider(hourStart, hourEnd, null).forEach(totals -> rolledUp.add(new QueryMetricsHourlyRollup(
+                hourStart, totals, latency.getOrDefault(totals.provider(), new QueryLatencyHistogram())
+            )));
+        }
+        rollups.insertAllSkippingExisting(rolledUp);
+        int purgedObservations = observations.deleteRecordedBefore(now.minus(RAW_RETENTION));
+        int purgedRollups = rollups.deleteHoursBefore(now.minus(ROLLUP_RETENTION));
+        log.debug("Query metrics rollup: {} provider hours rolled up, {} raw rows and {} rollups purged", rolledUp.size(), purgedObservations, purgedRollups);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Instant;
+
+/**
+ * Minute and hour buckets for one provider. Every execution is added to both rings, which rolls minutes
+ * up into hours as they are written. Ranges are answered from minute buckets back to the start of the hour before
+ * last and from hour buckets beyond that, so a 1h window and its previous hour are minute-exact while longer
+ * windows resolve to whole hours. The hour ring covers twice the longest window for trend comparison. Durations also
+ * go into a {@link QueryLatencySeries} for percentiles.
+ */
+final class QueryMetricsSeries {
+
+    static final int MINUTE_SLOTS = 3 * 60;
+    static final int HOUR_SLOTS = 61 * 24;
+
+    private static final long SECONDS_PER_MINUTE = 60L;
+    private static final long MINUTES_PER_HOUR = 60L;
+    private static final int COUNTERS = 4;
+
+    private final QueryMetricsBucketRing minutes = new QueryMetricsBucketRing(MINUTE_SLOTS, COUNTERS);
+    private final QueryMetricsBucketRing hours = new QueryMetricsBucketRing(HOUR_SLOTS, COUNTERS);
+    private final QueryLatencySeries latency = new QueryLatencySeries();
+
+    void add(QueryMetricsObservation observation) {
+        long minute = minute(observation.recordedAt());
+        QueryMetricsTotals totals = QueryMetricsTotals.of(observation);
+        add(minutes, minute, totals);
+        add(hours, Math.floorDiv(minute, MINUTES_PER_HOUR), totals);
+        latency.record(observation.recordedAt(), observation.durationMs());
+    }
+
+    /**
+     * Sums executions recorded in minutes {@code [from, to)}, truncating both instants to the minute.
+     */
+    QueryMetricsTotals sum(Instant from, Instant to, Instant now) {
+        long fromMinute = minute(from);
+        long toMinute = minute(to);
+        long minuteCoverage = (Math.floorDiv(minute(now), MINUTES_PER_HOUR) - 2) * MINUTES_PER_HOUR;
+        QueryMetricsTotals recent = totals(minutes.sum(Math.max(fromMinute, minuteCoverage), toMinute));
+        if (fromMinute >= minuteCoverage) {
+            return recent;
+        }
+        long fromHour = Math.floorDiv(fromMinute + MINUTES_PER_HOUR - 1, MINUTES_PER_HOUR);
+        long toHour = Math.floorDiv(Math.min(toMinute, minuteCoverage), MINUTES_PER_HOUR);
+        return recent.plus(totals(hours.sum(fromHour, toHour)));
+    }
+
+    QueryLatencyHistogram latency(Instant from, Instant to) {
+        return latency.histogram(from, to);
+    }
+
+    private static void add(QueryMetricsBucketRing ring, long epoch, QueryMetricsTotals totals) {
+        ring.add(epoch, 0, totals.queries());
+        ring.add(epoch, 1, totals.successes());
+        ring.add(epoch, 2, totals.durationMs());
+        ring.add(epoch, 3, totals.costMicros());
+    }
+
+    private static QueryMetricsTotals totals(long[] counters) {
+        return new QueryMetricsTotals(counters[0], counters[1], counters[2], counters[3]);
+    }
+
+    private static long minute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_MINUTE);
+    }
+}
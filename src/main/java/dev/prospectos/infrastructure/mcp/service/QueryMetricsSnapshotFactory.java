@@ -2,89 +2,78 @@ package dev.prospectos.infrastructure.mcp.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 import dev.prospectos.api.mcp.QueryMetricsSnapshot;
-import dev.prospectos.api.mcp.QueryTimeWindow;
 
 final class QueryMetricsSnapshotFactory {
 
     private final QueryMetricsTrendCalculator trendCalculator = new QueryMetricsTrendCalculator();
 
-    QueryMetricsSnapshot create(List<QueryMetricsObservation> observations, QueryTimeWindow timeWindow, Instant now) {
-        Instant cutoff = now.minus(timeWindow.duration());
-        Instant previousCutoff = cutoff.minus(timeWindow.duration());
-        List<QueryMetricsObservation> currentWindow = filterCurrentWindow(observations, cutoff, now);
-        List<QueryMetricsObservation> previousWindow = filterBetween(observations, previousCutoff, cutoff);
+    /**
+     * Builds the snapshot from per-provider totals and latency histograms of the window and the totals of the window
+     * before it.
+     */
+    QueryMetricsSnapshot create(
+        Map<String, QueryMetricsTotals> currentByProvider,
+        Map<String, QueryLatencyHistogram> latencyByProvider,
+        QueryMetricsTotals previous
+    ) {
+        QueryMetricsTotals current = currentByProvider.values().stream().reduce(QueryMetricsTotals.EMPTY, QueryMetricsTotals::plus);
+        QueryLatencyHistogram latency = latencyByProvider.values().stream().reduce(new QueryLatencyHistogram(), QueryLatencyHistogram::merge);
         return new QueryMetricsSnapshot(
-            currentWindow.size(),
-            totalCost(currentWindow),
-            averageCost(currentWindow),
-            successRate(currentWindow),
-            averageDuration(currentWindow),
-            trendCalculator.calculate(currentWindow, previousWindow),
-            breakdown(currentWindow)
+            current.queries(),
+            totalCost(current),
+            averageCost(current),
+            successRate(current),
+            averageDuration(current),
+            latency.percentiles(),
+            trendCalculator.calculate(current, previous),
+            breakdown(currentByProvider, latencyByProvider)
         );
     }
 
-    private List<QueryMetricsObservation> filterCurrentWindow(List<QueryMetricsObservation> observations, Instant from, Instant now) {
-        return observations.stream()
-            .filter(observation -> !observation.recordedAt().isBefore(from))
-            .filter(observation -> !observation.recordedAt().isAfter(now))
-            .toList();
-    }
-
-    private List<QueryMetricsObservation> filterBetween(List<QueryMetricsObservation> observations, Instant from, Instant to) {
-        return observations.stream()
-            .filter(observation -> !observation.recordedAt().isBefore(from))
-            .filter(observation -> observation.recordedAt().isBefore(to))
-            .toList();
-    }
-
-    private List<QueryMetricsSnapshot.ProviderMetric> breakdown(List<QueryMetricsObservation> observations) {
-        Map<String, List<QueryMetricsObservation>> grouped = observations.stream()
-            .collect(Collectors.groupingBy(QueryMetricsObservation::provider));
-        return grouped.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey())
+    private List<QueryMetricsSnapshot.ProviderMetric> breakdown(
+        Map<String, QueryMetricsTotals> currentByProvider,
+        Map<String, QueryLatencyHistogram> latencyByProvider
+    ) {
+        return new TreeMap<>(currentByProvider).entrySet().stream()
+            .filter(entry -> entry.getValue().queries() > 0)
             .map(entry -> new QueryMetricsSnapshot.ProviderMetric(
                 entry.getKey(),
-                entry.getValue().size(),
+                entry.getValue().queries(),
                 totalCost(entry.getValue()),
                 successRate(entry.getValue()),
-                averageDuration(entry.getValue())
+                averageDuration(entry.getValue()),
+                latencyByProvider.getOrDefault(entry.getKey(), new QueryLatencyHistogram()).percentiles()
             ))
             .toList();
     }
 
-    private BigDecimal totalCost(List<QueryMetricsObservation> observations) {
-        return observations.stream()
-            .map(QueryMetricsObservation::estimatedCost)
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .setScale(2, RoundingMode.HALF_UP);
+    private BigDecimal totalCost(QueryMetricsTotals totals) {
+        return totals.cost().setScale(2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal averageCost(List<QueryMetricsObservation> observations) {
-        if (observations.isEmpty()) {
+    private BigDecimal averageCost(QueryMetricsTotals totals) {
+        if (totals.queries() == 0) {
             return BigDecimal.ZERO.setScale(4, RoundingMode.HALF_UP);
         }
-        return totalCost(observations).divide(BigDecimal.valueOf(observations.size()), 4, RoundingMode.HALF_UP);
+        return totalCost(totals).divide(BigDecimal.valueOf(totals.queries()), 4, RoundingMode.HALF_UP);
     }
 
-    private double successRate(List<QueryMetricsObservation> observations) {
-        if (observations.isEmpty()) {
+    private double successRate(QueryMetricsTotals totals) {
+        if (totals.queries() == 0) {
             return 0.0d;
         }
-        long successful = observations.stream().filter(QueryMetricsObservation::success).count();
-        return BigDecimal.valueOf((double) successful / observations.size()).setScale(4, RoundingMode.HALF_UP).doubleValue();
+        return BigDecimal.valueOf((double) totals.successes() / totals.queries()).setScale(4, RoundingMode.HALF_UP).doubleValue();
     }
 
-    private long averageDuration(List<QueryMetricsObservation> observations) {
-        if (observations.isEmpty()) {
+    private long averageDuration(QueryMetricsTotals totals) {
+        if (totals.queries() == 0) {
             return 0L;
         }
-        return Math.round(observations.stream().mapToLong(QueryMetricsObservation::durationMs).average().orElse(0.0d));
+        return Math.round((double) totals.durationMs() / totals.queries());
     }
 }
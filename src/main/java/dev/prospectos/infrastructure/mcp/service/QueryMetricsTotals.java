@@ -0,0 +1,39 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Additive aggregate of query executions; costs are kept in millionths so sums stay exact in a {@code long}.
+ */
+record QueryMetricsTotals(long queries, long successes, long durationMs, long costMicros) {
+
+    static final QueryMetricsTotals EMPTY = new QueryMetricsTotals(0L, 0L, 0L, 0L);
+
+    private static final int COST_SCALE = 6;
+
+    static QueryMetricsTotals of(QueryMetricsObservation observation) {
+        return new QueryMetricsTotals(
+            1L, observation.success() ? 1L : 0L, observation.durationMs(), costMicros(observation.estimatedCost())
+        );
+    }
+
+    static QueryMetricsTotals of(List<QueryMetricsObservation> observations) {
+        return observations.stream().map(QueryMetricsTotals::of).reduce(EMPTY, QueryMetricsTotals::plus);
+    }
+
+    static long costMicros(BigDecimal cost) {
+        return cost.setScale(COST_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    QueryMetricsTotals plus(QueryMetricsTotals other) {
+        return new QueryMetricsTotals(
+            queries + other.queries, successes + other.successes, durationMs + other.durationMs, costMicros + other.costMicros
+        );
+    }
+
+    BigDecimal cost() {
+        return BigDecimal.valueOf(costMicros, COST_SCALE);
+    }
+}
@@ -10,20 +10,20 @@ import dev.prospectos.api.mcp.QueryMetricsSnapshot;
 final class QueryMetricsTrendCalculator {
 
     QueryMetricsSnapshot.Trends calculate(List<QueryMetricsObservation> current, List<QueryMetricsObservation> previous) {
+        return calculate(QueryMetricsTotals.of(current), QueryMetricsTotals.of(previous));
+    }
+
+    QueryMetricsSnapshot.Trends calculate(QueryMetricsTotals current, QueryMetricsTotals previous) {
         return new QueryMetricsSnapshot.Trends(
-            trend(current, previous, this::cost),
-            trend(current, previous, this::quality),
-            trend(current, previous, observation -> 1.0d)
+            trend(current, previous, totals -> totals.cost().doubleValue()),
+            trend(current, previous, QueryMetricsTotals::successes),
+            trend(current, previous, QueryMetricsTotals::queries)
         );
     }
 
-    private String trend(
-        List<QueryMetricsObservation> current,
-        List<QueryMetricsObservation> previous,
-        ToDoubleFunction<QueryMetricsObservation> metric
-    ) {
-        double currentValue = aggregate(current, metric);
-        double previousValue = aggregate(previous, metric);
+    private String trend(QueryMetricsTotals current, QueryMetricsTotals previous, ToDoubleFunction<QueryMetricsTotals> metric) {
+        double currentValue = metric.applyAsDouble(current);
+        double previousValue = metric.applyAsDouble(previous);
         if (previousValue == 0.0d) {
             return currentValue == 0.0d ? "0%" : "+100%";
         }
@@ -31,16 +31,4 @@ final class QueryMetricsTrendCalculator {
         double rounded = BigDecimal.valueOf(percentage).setScale(0, RoundingMode.HALF_UP).doubleValue();
         return rounded >= 0 ? "+%.0f%%".formatted(rounded) : "%.0f%%".formatted(rounded);
     }
-
-    private double aggregate(List<QueryMetricsObservation> observations, ToDoubleFunction<QueryMetricsObservation> metric) {
-        return observations.stream().mapToDouble(metric).sum();
-    }
-
-    private double cost(QueryMetricsObservation observation) {
-        return observation.estimatedCost().doubleValue();
-    }
-
-    private double quality(QueryMetricsObservation observation) {
-        return observation.success() ? 1.0d : 0.0d;
-    }
 }
\ No newline at end of file
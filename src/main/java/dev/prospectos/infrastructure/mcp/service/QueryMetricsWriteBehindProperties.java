@@ -0,0 +1,40 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bounded write-behind queue for persisted query metrics.
+ */
+@ConfigurationProperties(prefix = "prospectos.mcp.metrics.write-behind")
+public record QueryMetricsWriteBehindProperties(
+    boolean enabled,
+    Integer capacity,
+    Integer batchSize,
+    Duration flushInterval
+) {
+    private static final int DEFAULT_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    public QueryMetricsWriteBehindProperties {
+        capacity = capacity == null ? DEFAULT_CAPACITY : capacity;
+        batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        flushInterval = flushInterval == null ? DEFAULT_FLUSH_INTERVAL : flushInterval;
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("prospectos.mcp.metrics.write-behind.capacity must be > 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("prospectos.mcp.metrics.write-behind.batch-size must be > 0");
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("prospectos.mcp.metrics.write-behind.flush-interval must be > 0");
+        }
+    }
+
+    static QueryMetricsWriteBehindProperties disabled() {
+        return new QueryMetricsWriteBehindProperties(false, null, null, null);
+    }
+}
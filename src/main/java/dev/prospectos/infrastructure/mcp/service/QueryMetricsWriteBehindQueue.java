@@ -0,0 +1,99 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.prospectos.infrastructure.mcp.config.ConditionalOnMcpEnabled;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffers query observations in a bounded queue and persists them in JDBC batches off the request thread.
+ * A full queue drops and counts new observations instead of blocking the caller; when write-behind is disabled
+ * each observation is written immediately.
+ */
+@Component
+@ConditionalOnMcpEnabled
+@Slf4j
+public class QueryMetricsWriteBehindQueue implements AutoCloseable {
+
+    private final QueryMetricsObservationRepository repository;
+    private final QueryMetricsWriteBehindProperties properties;
+    private final BlockingQueue<QueryMetricsObservation> pending;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter droppedQueueFull;
+    private final Counter droppedWriteFailed;
+    private final ScheduledExecutorService flusher;
+
+    public QueryMetricsWriteBehindQueue(
+        QueryMetricsObservationRepository repository,
+        QueryMetricsWriteBehindProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.properties = properties;
+        this.pending = new ArrayBlockingQueue<>(properties.capacity());
+        this.droppedQueueFull = dropped(meterRegistry, "queue-full");
+        this.droppedWriteFailed = dropped(meterRegistry, "write-failed");
+        this.flusher = properties.enabled()
+            ? Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("query-metrics-write-behind").factory())
+            : null;
+        if (flusher != null) {
+            long period = properties.flushInterval().toMillis();
+            flusher.scheduleWithFixedDelay(this::flush, period, period, TimeUnit.MILLISECONDS);
+        }
+        Gauge.builder("prospectos.mcp.metrics.write.queue.depth", pending, BlockingQueue::size).register(meterRegistry);
+    }
+
+    void submit(QueryMetricsObservation observation) {
+        if (!properties.enabled()) {
+            repository.insertAll(List.of(observation));
+        } else if (!pending.offer(observation)) {
+            droppedQueueFull.increment();
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<QueryMetricsObservation> batch = new ArrayList<>(properties.batchSize());
+            while (pending.drainTo(batch, properties.batchSize()) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(properties.flushInterval().toMillis() * 4, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    private void write(List<QueryMetricsObservation> batch) {
+        try {
+            repository.insertAll(batch);
+        } catch (RuntimeException ex) {
+            droppedWriteFailed.increment(batch.size());
+            log.error("Query metrics batch write failed (observations={}): {}", batch.size(), ex.getMessage(), ex);
+        }
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("prospectos.mcp.metrics.write.dropped").tag("reason", reason).register(meterRegistry);
+    }
+}
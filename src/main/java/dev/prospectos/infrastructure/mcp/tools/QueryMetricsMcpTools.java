@@ -28,7 +28,7 @@ public class QueryMetricsMcpTools {
 
     @McpTool(
         name = "get_query_metrics",
-        description = "Return query volume, cost, success rate, response times, and source mix so an AI agent can "
+        description = "Return query volume, cost, success rate, mean and p50/p95/p99 response times, and source mix so an AI agent can "
             + "decide whether to optimize routing, budget usage, or investigate source incidents."
     )
     public QueryMetricsResponse getQueryMetrics(
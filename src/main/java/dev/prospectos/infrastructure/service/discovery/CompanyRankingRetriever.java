@@ -0,0 +1,69 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.config.HybridSearchProperties;
+import dev.prospectos.ai.config.VectorizationProperties;
+import dev.prospectos.ai.text.ReciprocalRankFusion;
+import dev.prospectos.ai.text.TextSearchMatch;
+import dev.prospectos.ai.vector.VectorIndex;
+import dev.prospectos.ai.vector.VectorSearchFilter;
+import dev.prospectos.ai.vector.VectorSearchMatch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Ranks company ids for {@link SemanticCompanySearchService}: by vector similarity alone, or in hybrid mode by
+ * querying the vector index on a virtual thread while the BM25 keyword index is queried and fusing both rankings.
+ */
+final class CompanyRankingRetriever implements AutoCloseable {
+
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("semantic-search-", 0).factory());
+    private final VectorIndex vectorIndex;
+    private final CompanyTextIndex textIndex;
+    private final VectorizationProperties properties;
+    private final HybridSearchProperties hybridProperties;
+
+    CompanyRankingRetriever(
+        VectorIndex vectorIndex,
+        CompanyTextIndex textIndex,
+        VectorizationProperties properties,
+        HybridSearchProperties hybridProperties
+    ) {
+        this.vectorIndex = vectorIndex;
+        this.textIndex = textIndex;
+        this.properties = properties;
+        this.hybridProperties = hybridProperties;
+    }
+
+    List<TextSearchMatch> rank(String query, int topK, VectorSearchFilter filter) {
+        return hybridProperties.enabled() ? hybridSearch(query, topK, filter) : vectorSearch(query, topK, filter);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private List<TextSearchMatch> hybridSearch(String query, int topK, VectorSearchFilter filter) {
+        int candidates = topK * hybridProperties.candidateMultiplier();
+        CompletableFuture<List<TextSearchMatch>> vector =
+            CompletableFuture.supplyAsync(() -> vectorSearch(query, candidates, filter), executor);
+        List<TextSearchMatch> lexical = textIndex.search(query, candidates, filter);
+        try {
+            return ReciprocalRankFusion.fuse(lexical, vector.join(), hybridProperties, topK);
+        } catch (CompletionException exception) {
+            throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+        }
+    }
+
+    private List<TextSearchMatch> vectorSearch(String query, int topK, VectorSearchFilter filter) {
+        List<VectorSearchMatch> matches = filter.isEmpty()
+            ? vectorIndex.similaritySearch(query, topK, properties.minSimilarity())
+            : vectorIndex.similaritySearch(query, topK, properties.minSimilarity(), filter);
+        return VectorCompanyIds.ranked(matches);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.text.InvertedTextIndex;
+import dev.prospectos.ai.text.TextSearchMatch;
+import dev.prospectos.ai.vector.VectorSearchFilter;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyword index over company name, industry, location and description.
+ * Built lazily on the first search by paging through all companies, then kept current by
+ * {@link CompanyVectorReindexRequested} events; events before the first search are ignored because
+ * the initial load reads the committed state anyway. Filter attributes are kept per company so filtered
+ * searches never load companies that cannot match.
+ */
+@Component
+@Slf4j
+public class CompanyTextIndex {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final CompanyDataService companyDataService;
+    private final InvertedTextIndex index = new InvertedTextIndex();
+    private final Map<Long, Map<String, Object>> attributes = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public CompanyTextIndex(CompanyDataService companyDataService) {
+        this.companyDataService = companyDataService;
+    }
+
+    public List<TextSearchMatch> search(String query, int limit) {
+        return search(query, limit, VectorSearchFilter.NONE);
+    }
+
+    public List<TextSearchMatch> search(String query, int limit, VectorSearchFilter filter) {
+        ensureLoaded();
+        if (filter.isEmpty()) {
+            return index.search(query, limit);
+        }
+        return index.search(query, limit, id -> filter.matches(attributes.get(id)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCompanyChanged(CompanyVectorReindexRequested event) {
+        if (!loaded || event == null || event.companyId() == null) {
+            return;
+        }
+        try {
+            CompanyDTO company = companyDataService.findCompany(event.companyId());
+            if (company == null) {
+                index.delete(event.companyId());
+                attributes.remove(event.companyId());
+            } else {
+                add(company);
+            }
+        } catch (Exception ex) {
+            // Keyword indexing failure must not break company lifecycle operations.
+            log.error("Text index update failed (companyId={}): {}", event.companyId(), ex.getMessage(), ex);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            Long after = null;
+            List<CompanyDTO> page;
+            do {
+                page = companyDataService.findCompaniesAfter(after, LOAD_PAGE_SIZE);
+                page.forEach(this::add);
+                after = page.isEmpty() ? after : page.getLast().id();
+            } while (page.size() == LOAD_PAGE_SIZE);
+            loaded = true;
+            log.info("Loaded {} companies into the keyword index", index.size());
+        }
+    }
+
+    private void add(CompanyDTO company) {
+        attributes.put(company.id(), CompanyVectorDocumentFactory.filterAttributes(company));
+        index.upsert(company.id(), CompanyVectorDocumentFactory.keywordContent(company));
+    }
+}
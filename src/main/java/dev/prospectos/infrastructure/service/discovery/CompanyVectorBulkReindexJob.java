@@ -0,0 +1,99 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import dev.prospectos.ai.vector.TextEmbeddingService;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Rebuilds the vector index for every company: keyset pages through companies, indexes each page with one
+ * batched upsert and checkpoints the last company id so an interrupted run resumes where it stopped.
+ */
+@Service
+@Slf4j
+public class CompanyVectorBulkReindexJob {
+
+    private final CompanyDataService companyDataService;
+    private final CompanyVectorIndexingService indexingService;
+    private final int batchSize;
+    private final VectorReindexCheckpoint checkpoint;
+    private final VectorReindexMetrics metrics;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile VectorReindexProgress progress = VectorReindexProgress.idle();
+
+    public CompanyVectorBulkReindexJob(
+        CompanyDataService companyDataService,
+        CompanyVectorIndexingService indexingService,
+        TextEmbeddingService embeddingService,
+        CompanyVectorReindexProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.companyDataService = companyDataService;
+        this.indexingService = indexingService;
+        this.batchSize = properties.batchSize();
+        this.checkpoint = new VectorReindexCheckpoint(properties.checkpointFile(), embeddingService.descriptor());
+        this.metrics = new VectorReindexMetrics(meterRegistry, running);
+    }
+
+    /**
+     * Starts a run on a virtual thread unless one is already running; {@code resume} continues from the checkpoint.
+     */
+    public VectorReindexProgress start(boolean resume) {
+        return launch(resume, task -> Thread.ofVirtual().name("vector-reindex").start(task));
+    }
+
+    VectorReindexProgress runNow(boolean resume) {
+        return launch(resume, Runnable::run);
+    }
+
+    public VectorReindexProgress progress() {
+        return progress;
+    }
+
+    private VectorReindexProgress launch(boolean resume, Consumer<Runnable> launcher) {
+        if (!running.compareAndSet(false, true)) {
+            return progress;
+        }
+        Long resumeAfter = resume ? checkpoint.load() : null;
+        progress = VectorReindexProgress.started(Instant.now(), resumeAfter);
+        launcher.accept(() -> execute(resumeAfter));
+        return progress;
+    }
+
+    private void execute(Long cursor) {
+        String failure = null;
+        try {
+            List<CompanyDTO> page = nextPage(cursor);
+            while (!page.isEmpty()) {
+                cursor = page.getLast().id();
+                checkpoint.save(cursor);
+                metrics.batchIndexed(page.size(), cursor);
+                progress = progress.advanced(page.size(), cursor, Instant.now());
+                page = nextPage(cursor);
+            }
+            checkpoint.clear();
+            log.info("Vector reindex completed: {} companies in {} batches", progress.indexedCompanies(), progress.batches());
+        } catch (RuntimeException exception) {
+            failure = exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+            log.error("Vector reindex failed after company {}: {}", progress.lastCompanyId(), failure, exception);
+        } finally {
+            progress = progress.finished(Instant.now(), failure);
+            running.set(false);
+        }
+    }
+
+    private List<CompanyDTO> nextPage(Long afterCompanyId) {
+        return metrics.timeBatch(() -> {
+            List<CompanyDTO> page = companyDataService.findCompaniesAfter(afterCompanyId, batchSize);
+            indexingService.reindexCompanies(page);
+            return page;
+        });
+    }
+}
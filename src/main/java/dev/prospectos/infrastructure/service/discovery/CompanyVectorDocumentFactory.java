@@ -0,0 +1,95 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.vector.VectorDocument;
+import dev.prospectos.ai.vector.VectorSearchFilter;
+import dev.prospectos.api.dto.CompanyDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Builds the semantic vector document stored for a company.
+ * Metadata carries the {@link VectorSearchFilter} attributes so searches can filter before ranking.
+ */
+final class CompanyVectorDocumentFactory {
+
+    private final String modelId;
+    private final String backend;
+
+    CompanyVectorDocumentFactory(String modelId, String backend) {
+        this.modelId = modelId;
+        this.backend = backend;
+    }
+
+    VectorDocument create(CompanyDTO company) {
+        Map<String, Object> metadata = filterAttributes(company);
+        metadata.put("companyId", company.id());
+        metadata.put("modelId", modelId);
+        metadata.put("backend", backend);
+        return new VectorDocument(documentId(company.id()), toSemanticContent(company), metadata);
+    }
+
+    /**
+     * Normalized industry, country (last segment of the location), score and website presence; unknown values are left out.
+     */
+    static Map<String, Object> filterAttributes(CompanyDTO company) {
+        Map<String, Object> attributes = new HashMap<>();
+        putIfPresent(attributes, VectorSearchFilter.INDUSTRY, VectorSearchFilter.normalize(company.industry()));
+        putIfPresent(attributes, VectorSearchFilter.COUNTRY, country(company.location()));
+        if (company.score() != null) {
+            attributes.put(VectorSearchFilter.SCORE, company.score().value());
+        }
+        attributes.put(VectorSearchFilter.HAS_WEBSITE, company.website() != null && !company.website().isBlank());
+        return attributes;
+    }
+
+    static String documentId(Long companyId) {
+        return UUID.nameUUIDFromBytes(("company:" + companyId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private String toSemanticContent(CompanyDTO company) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, company.name());
+        append(builder, company.industry());
+        append(builder, company.description());
+        append(builder, company.location());
+        append(builder, company.website());
+        return builder.toString().trim();
+    }
+
+    /**
+     * Text indexed by the keyword index: name, industry, location and description.
+     */
+    static String keywordContent(CompanyDTO company) {
+        return String.join(" ", Stream.of(company.name(), company.industry(), company.location(), company.description())
+            .filter(Objects::nonNull)
+            .toList());
+    }
+
+    private static String country(String location) {
+        if (location == null || "Unknown".equalsIgnoreCase(location.trim())) {
+            return null;
+        }
+        return VectorSearchFilter.normalize(location.substring(location.lastIndexOf(',') + 1));
+    }
+
+    private static void putIfPresent(Map<String, Object> attributes, String key, String value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+    }
+
+    private void append(StringBuilder builder, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        if (!builder.isEmpty()) {
+            builder.append(". ");
+        }
+        builder.append(value.trim());
+    }
+}
@@ -2,32 +2,41 @@ package dev.prospectos.infrastructure.service.discovery;
 
 import dev.prospectos.ai.config.VectorizationProperties;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Event listener that updates vectors incrementally when company data changes.
+ * Runs after the publishing transaction commits; with the indexing queue enabled it only enqueues the company.
  */
 @Component
 @Slf4j
 public class CompanyVectorIndexingListener {
 
     private final CompanyVectorIndexingService indexingService;
+    private final CompanyVectorIndexingQueue indexingQueue;
     private final VectorizationProperties properties;
 
     public CompanyVectorIndexingListener(
         CompanyVectorIndexingService indexingService,
+        CompanyVectorIndexingQueue indexingQueue,
         VectorizationProperties properties
     ) {
         this.indexingService = indexingService;
+        this.indexingQueue = indexingQueue;
         this.properties = properties;
     }
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void onCompanyChanged(CompanyVectorReindexRequested event) {
         if (event == null || event.companyId() == null) {
             return;
         }
+        if (indexingQueue.enabled()) {
+            indexingQueue.enqueue(event.companyId());
+            return;
+        }
         try {
             indexingService.reindexCompany(event.companyId());
         } catch (Exception ex) {
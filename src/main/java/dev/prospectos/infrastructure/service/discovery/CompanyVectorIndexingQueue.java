@@ -0,0 +1,99 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces company reindex requests and indexes them in batches off the request thread.
+ * A company id stays queued once however many times it is requested; it is indexed after the debounce window
+ * following its first request, by which time the latest committed data is read.
+ */
+@Component
+@Slf4j
+public class CompanyVectorIndexingQueue implements AutoCloseable {
+
+    private final CompanyVectorIndexingService indexingService;
+    private final CompanyVectorIndexingQueueProperties properties;
+    private final Map<Long, Long> firstRequestedAtNanos = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService drainer;
+
+    public CompanyVectorIndexingQueue(
+        CompanyVectorIndexingService indexingService,
+        CompanyVectorIndexingQueueProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.indexingService = indexingService;
+        this.properties = properties;
+        this.drainer = properties.enabled()
+            ? Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("vector-indexing-queue").factory())
+            : null;
+        if (drainer != null) {
+            long periodMillis = Math.max(1L, properties.debounce().toMillis() / 2);
+            drainer.scheduleWithFixedDelay(this::drainDue, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+        Gauge.builder("prospectos.vector.indexing.queue.depth", firstRequestedAtNanos, Map::size)
+            .description("Companies waiting to be reindexed")
+            .register(meterRegistry);
+        Gauge.builder("prospectos.vector.indexing.queue.lag", this, CompanyVectorIndexingQueue::lagSeconds)
+            .description("Age of the oldest pending reindex request")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    public void enqueue(Long companyId) {
+        firstRequestedAtNanos.putIfAbsent(companyId, System.nanoTime());
+    }
+
+    double lagSeconds() {
+        long oldest = firstRequestedAtNanos.values().stream().mapToLong(Long::longValue).min().orElse(System.nanoTime());
+        return (System.nanoTime() - oldest) / 1_000_000_000.0d;
+    }
+
+    void drainDue() {
+        drain(System.nanoTime() - properties.debounce().toNanos());
+    }
+
+    void drain(long requestedBeforeNanos) {
+        List<Long> batch = dueBatch(requestedBeforeNanos);
+        while (!batch.isEmpty()) {
+            try {
+                indexingService.reindexCompanyIds(batch);
+            } catch (RuntimeException ex) {
+                // Vector indexing failure must not stop the queue.
+                log.error("Vector reindex batch failed (companies={}): {}", batch.size(), ex.getMessage(), ex);
+            }
+            batch = dueBatch(requestedBeforeNanos);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (drainer != null) {
+            drainer.shutdown();
+            drainer.awaitTermination(properties.debounce().toMillis() * 4, TimeUnit.MILLISECONDS);
+        }
+        drain(System.nanoTime());
+    }
+
+    private List<Long> dueBatch(long requestedBeforeNanos) {
+        List<Map.Entry<Long, Long>> due = firstRequestedAtNanos.entrySet().stream()
+            .filter(entry -> entry.getValue() - requestedBeforeNanos <= 0)
+            .limit(properties.batchSize())
+            .toList();
+        due.forEach(entry -> firstRequestedAtNanos.remove(entry.getKey(), entry.getValue()));
+        return due.stream().map(Map.Entry::getKey).toList();
+    }
+}
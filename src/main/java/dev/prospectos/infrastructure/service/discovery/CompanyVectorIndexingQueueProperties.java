@@ -0,0 +1,34 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous, coalescing vector indexing queue settings.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.indexing-queue")
+public record CompanyVectorIndexingQueueProperties(
+    boolean enabled,
+    Duration debounce,
+    Integer batchSize
+) {
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500);
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    public CompanyVectorIndexingQueueProperties {
+        debounce = debounce == null ? DEFAULT_DEBOUNCE : debounce;
+        batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+
+        if (debounce.isNegative() || debounce.isZero()) {
+            throw new IllegalArgumentException("prospectos.vectorization.indexing-queue.debounce must be > 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("prospectos.vectorization.indexing-queue.batch-size must be > 0");
+        }
+    }
+
+    static CompanyVectorIndexingQueueProperties disabled() {
+        return new CompanyVectorIndexingQueueProperties(false, null, null);
+    }
+}
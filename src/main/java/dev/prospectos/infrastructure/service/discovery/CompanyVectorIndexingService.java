@@ -2,15 +2,17 @@ package dev.prospectos.infrastructure.service.discovery;
 
 import dev.prospectos.ai.config.VectorizationProperties;
 import dev.prospectos.ai.vector.TextEmbeddingService;
+import dev.prospectos.ai.vector.VectorDocument;
 import dev.prospectos.ai.vector.VectorIndex;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.dto.CompanyDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.UUID;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Maintains company documents inside the configured vector index.
@@ -43,43 +45,41 @@ public class CompanyVectorIndexingService {
 
         CompanyDTO company = companyDataService.findCompany(companyId);
         if (company == null) {
-            vectorIndex.delete(documentId(companyId));
+            vectorIndex.delete(CompanyVectorDocumentFactory.documentId(companyId));
             return;
         }
 
-        vectorIndex.upsert(
-            documentId(companyId),
-            toSemanticContent(company),
-            Map.of(
-                "companyId", company.id(),
-                "modelId", embeddingService.descriptor().modelId(),
-                "backend", properties.backend()
-            )
-        );
+        VectorDocument document = documentFactory().create(company);
+        vectorIndex.upsert(document.id(), document.content(), document.metadata());
         log.debug("Indexed company {} into vector backend {}", companyId, properties.backend());
     }
 
-    private String documentId(Long companyId) {
-        return UUID.nameUUIDFromBytes(("company:" + companyId).getBytes(StandardCharsets.UTF_8)).toString();
+    /**
+     * Indexes a page of already-loaded companies with a single batched upsert.
+     */
+    public void reindexCompanies(List<CompanyDTO> companies) {
+        if (companies.isEmpty()) {
+            return;
+        }
+        CompanyVectorDocumentFactory documentFactory = documentFactory();
+        vectorIndex.upsertAll(companies.stream().map(documentFactory::create).toList());
+        log.debug("Indexed {} companies into vector backend {}", companies.size(), properties.backend());
     }
 
-    private String toSemanticContent(CompanyDTO company) {
-        StringBuilder builder = new StringBuilder();
-        append(builder, company.name());
-        append(builder, company.industry());
-        append(builder, company.description());
-        append(builder, company.location());
-        append(builder, company.website());
-        return builder.toString().trim();
+    /**
+     * Reloads the given companies in one lookup and indexes them in one batch; ids that no longer exist are removed.
+     */
+    public void reindexCompanyIds(Collection<Long> companyIds) {
+        List<CompanyDTO> companies = companyDataService.findCompanies(companyIds);
+        Set<Long> found = new HashSet<>();
+        companies.forEach(company -> found.add(company.id()));
+        companyIds.stream()
+            .filter(companyId -> !found.contains(companyId))
+            .forEach(companyId -> vectorIndex.delete(CompanyVectorDocumentFactory.documentId(companyId)));
+        reindexCompanies(companies);
     }
 
-    private void append(StringBuilder builder, String value) {
-        if (value == null || value.isBlank()) {
-            return;
-        }
-        if (!builder.isEmpty()) {
-            builder.append(". ");
-        }
-        builder.append(value.trim());
+    private CompanyVectorDocumentFactory documentFactory() {
+        return new CompanyVectorDocumentFactory(embeddingService.descriptor().modelId(), properties.backend());
     }
 }
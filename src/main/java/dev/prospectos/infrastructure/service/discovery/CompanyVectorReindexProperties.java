@@ -0,0 +1,27 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk vector reindex settings: page size, checkpoint location and whether to run on startup.
+ */
+@ConfigurationProperties(prefix = "prospectos.vectorization.reindex")
+public record CompanyVectorReindexProperties(
+    boolean onStartup,
+    Integer batchSize,
+    Path checkpointFile
+) {
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final Path DEFAULT_CHECKPOINT_FILE = Path.of("data", "vector-reindex.checkpoint");
+
+    public CompanyVectorReindexProperties {
+        batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        checkpointFile = checkpointFile == null ? DEFAULT_CHECKPOINT_FILE : checkpointFile;
+
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("prospectos.vectorization.reindex.batch-size must be > 0");
+        }
+    }
+}
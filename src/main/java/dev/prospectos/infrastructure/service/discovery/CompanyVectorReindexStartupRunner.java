@@ -0,0 +1,25 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts (or resumes) a bulk vector reindex once the application is ready.
+ */
+@Component
+@ConditionalOnProperty(prefix = "prospectos.vectorization.reindex", name = "on-startup", havingValue = "true")
+public class CompanyVectorReindexStartupRunner {
+
+    private final CompanyVectorBulkReindexJob reindexJob;
+
+    public CompanyVectorReindexStartupRunner(CompanyVectorBulkReindexJob reindexJob) {
+        this.reindexJob = reindexJob;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        reindexJob.start(true);
+    }
+}
@@ -3,6 +3,7 @@ package dev.prospectos.infrastructure.service.discovery;
 import java.util.List;
 import java.util.UUID;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.stereotype.Service;
 
 import dev.prospectos.api.ICPDataService;
@@ -12,14 +13,15 @@ import dev.prospectos.api.dto.LeadDiscoveryRequest;
 import dev.prospectos.api.dto.LeadResultDTO;
 import dev.prospectos.api.dto.LeadSearchResponse;
 import dev.prospectos.api.dto.LeadSearchStatus;
-import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.infrastructure.config.LeadSearchProperties;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesComplianceService;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
 
+import static dev.prospectos.infrastructure.service.observability.LeadPipelineObservations.*;
+
 /**
- * Default lead discovery orchestrator using source strategies.
+ * Default lead discovery orchestrator using source strategies, observed per stage (ICP lookup, sources, ranking).
  */
 @Service
 public class DefaultLeadDiscoveryService implements LeadDiscoveryService {
@@ -33,38 +35,43 @@ public class DefaultLeadDiscoveryService implements LeadDiscoveryService {
     private final CompanyScoringService scoringService;
     private final AllowedSourcesComplianceService complianceService;
     private final LeadSearchProperties properties;
+    private final ObservationRegistry observationRegistry;
 
-    public DefaultLeadDiscoveryService(
-        List<LeadDiscoverySource> sources,
+    DefaultLeadDiscoveryService(
+        DiscoverySourceRegistry sourceRegistry,
         ICPDataService icpDataService,
         CompanyScoringService scoringService,
         AllowedSourcesComplianceService complianceService,
         LeadSearchProperties properties,
-        QueryMetricsRecorder queryMetricsRecorder
+        ObservationRegistry observationRegistry
     ) {
-        this.sourceRegistry = new DiscoverySourceRegistry(sources, queryMetricsRecorder);
+        this.sourceRegistry = sourceRegistry;
         this.icpDataService = icpDataService;
         this.scoringService = scoringService;
         this.complianceService = complianceService;
         this.properties = properties;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
     public LeadSearchResponse discoverLeads(LeadDiscoveryRequest request) {
+        return observe(observationRegistry, DISCOVERY, null, () -> discover(request));
+    }
+
+    private LeadSearchResponse discover(LeadDiscoveryRequest request) {
         validateRequest(request);
         int limit = request.limit() == null ? DEFAULT_LIMIT : request.limit();
         List<String> validatedSources = validateDiscoverySources(request.sources());
         Long icpId = DiscoveryIcpResolver.resolveIcpId(request.icpId(), properties.defaultIcpId());
-        ICPDto icpDto = icpDataService.findICP(icpId);
+        ICPDto icpDto = observe(observationRegistry, ICP_LOOKUP, null, () -> icpDataService.findICP(icpId));
         if (icpDto == null) {
             throw new IllegalArgumentException("ICP not found with id: " + icpId);
         }
         ICP icp = DiscoveryIcpResolver.toDomain(icpDto);
-
         DiscoveryContext context = new DiscoveryContext(request.query().trim(), request.role(), limit, icpDto);
         List<DiscoveredLeadCandidate> discovered = sourceRegistry.discover(validatedSources, context);
         DiscoveryLeadResultFactory leadResultFactory = new DiscoveryLeadResultFactory(scoringService, validatedSources.getFirst());
-        List<LeadResultDTO> leads = leadResultFactory.toLeadResults(discovered, icp, limit);
+        List<LeadResultDTO> leads = observe(observationRegistry, RANKING, null, () -> leadResultFactory.toLeadResults(discovered, icp, limit));
 
         return new LeadSearchResponse(
             LeadSearchStatus.COMPLETED,
@@ -51,7 +51,7 @@ public class DefaultLeadRecommendationService implements LeadRecommendationServi
 
     private double score(String source, QueryMetricsSnapshot snapshot) {
         return snapshot.providerBreakdown().stream().filter(metric -> metric.provider().equals(normalize(source))).findFirst()
-            .map(metric -> metric.successRate() * 1000.0d - metric.avgResponseTime() - metric.cost().doubleValue() * 10.0d + recommendationPriority.priorityOf(source))
+            .map(metric -> metric.successRate() * 1000.0d - tailLatency(metric) - metric.cost().doubleValue() * 10.0d + recommendationPriority.priorityOf(source))
             .orElseGet(() -> recommendationPriority.priorityOf(source));
     }
 
@@ -60,7 +60,7 @@ public class DefaultLeadRecommendationService implements LeadRecommendationServi
             ? "Selected %s as the highest-priority configured production source with no observed history yet."
             : "Selected %s because it is the strongest configured source available for this request.";
         return snapshot.providerBreakdown().stream().filter(metric -> metric.provider().equals(normalize(source))).findFirst()
-            .map(metric -> "Selected %s based on observed success rate %s and avg response time %dms over 24h.".formatted(source, percent(metric.successRate()), metric.avgResponseTime()))
+            .map(metric -> "Selected %s based on observed success rate %s and %s over 24h.".formatted(source, percent(metric.successRate()), latencySummary(metric)))
             .orElse(fallbackReason.formatted(source));
     }
 
@@ -74,6 +74,20 @@ public class DefaultLeadRecommendationService implements LeadRecommendationServi
             .map(QueryMetricsSnapshot.ProviderMetric::avgResponseTime).orElse(0L);
     }
 
+    /**
+     * Ranks by the p95 so a source with a fast mean but a slow tail does not win; falls back to the mean for
+     * snapshots without percentiles.
+     */
+    private long tailLatency(QueryMetricsSnapshot.ProviderMetric metric) {
+        long p95 = metric.responseTimePercentiles().p95();
+        return p95 > 0 ? p95 : metric.avgResponseTime();
+    }
+
+    private String latencySummary(QueryMetricsSnapshot.ProviderMetric metric) {
+        long p95 = metric.responseTimePercentiles().p95();
+        return p95 > 0 ? "p95 response time %dms".formatted(p95) : "avg response time %dms".formatted(metric.avgResponseTime());
+    }
+
     private String normalize(String source) {
         return source == null ? "" : source.trim().toLowerCase(Locale.ROOT);
     }
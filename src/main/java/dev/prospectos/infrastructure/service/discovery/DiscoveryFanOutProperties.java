@@ -0,0 +1,41 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Concurrent fan-out settings for lead discovery sources.
+ */
+@ConfigurationProperties(prefix = "prospectos.leads.discovery")
+public record DiscoveryFanOutProperties(
+    boolean parallelEnabled,
+    Duration sourceTimeout,
+    Duration requestBudget,
+    Map<String, Duration> sourceTimeouts
+) {
+    private static final Duration DEFAULT_SOURCE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_BUDGET = Duration.ofSeconds(20);
+
+    public DiscoveryFanOutProperties {
+        sourceTimeout = sourceTimeout == null ? DEFAULT_SOURCE_TIMEOUT : sourceTimeout;
+        requestBudget = requestBudget == null ? DEFAULT_REQUEST_BUDGET : requestBudget;
+        sourceTimeouts = sourceTimeouts == null ? Map.of() : Map.copyOf(sourceTimeouts);
+
+        if (sourceTimeout.isNegative() || sourceTimeout.isZero()) {
+            throw new IllegalArgumentException("prospectos.leads.discovery.source-timeout must be > 0");
+        }
+        if (requestBudget.isNegative() || requestBudget.isZero()) {
+            throw new IllegalArgumentException("prospectos.leads.discovery.request-budget must be > 0");
+        }
+    }
+
+    static DiscoveryFanOutProperties sequential() {
+        return new DiscoveryFanOutProperties(false, null, null, null);
+    }
+
+    Duration timeoutFor(String sourceName) {
+        return sourceTimeouts.getOrDefault(sourceName, sourceTimeout);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.prospectos.api.mcp.QueryMetricsRecorder;
+import dev.prospectos.infrastructure.mcp.service.QueryMetricsExecutionTracker;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One in-flight discovery source execution; records exactly one metric (result, failure or timeout).
+ */
+@Slf4j
+final class DiscoverySourceCall {
+
+    private final LeadDiscoverySource source;
+    private final QueryMetricsRecorder metricsRecorder;
+    private final AtomicBoolean settled = new AtomicBoolean();
+    private final long startedAtNanos = System.nanoTime();
+    private final Future<List<DiscoveredLeadCandidate>> future;
+
+    DiscoverySourceCall(
+        LeadDiscoverySource source,
+        DiscoveryContext context,
+        QueryMetricsRecorder metricsRecorder,
+        ExecutorService executor
+    ) {
+        this.source = source;
+        this.metricsRecorder = metricsRecorder;
+        this.future = executor.submit(() -> QueryMetricsExecutionTracker.track(
+            new SettleOnceRecorder(),
+            source.sourceName(),
+            context.query(),
+            () -> source.discover(context)
+        ));
+    }
+
+    String sourceName() {
+        return source.sourceName();
+    }
+
+    List<DiscoveredLeadCandidate> await(long deadlineNanos, String query) throws InterruptedException {
+        try {
+            return future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeout) {
+            if (!settled.compareAndSet(false, true)) {
+                return awaitSettled();
+            }
+            future.cancel(true);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+            log.warn("Discovery source '{}' timed out after {}ms; returning partial results", sourceName(), elapsedMs);
+            QueryMetricsExecutionTracker.recordTimeout(metricsRecorder, sourceName(), query, elapsedMs);
+            return List.of();
+        } catch (ExecutionException failure) {
+            throw unwrap(failure);
+        }
+    }
+
+    void cancel() {
+        future.cancel(true);
+    }
+
+    private List<DiscoveredLeadCandidate> awaitSettled() throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException failure) {
+            throw unwrap(failure);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException failure) {
+        Throwable cause = failure.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Discovery source failed", cause);
+    }
+
+    private final class SettleOnceRecorder implements QueryMetricsRecorder {
+        @Override
+        public void recordExecution(String provider, long durationMs, boolean success, int resultCount) {
+            recordExecution(provider, provider, durationMs, success, resultCount);
+        }
+
+        @Override
+        public void recordExecution(String provider, String operation, long durationMs, boolean success, int resultCount) {
+            if (settled.compareAndSet(false, true)) {
+                metricsRecorder.recordExecution(provider, operation, durationMs, success, resultCount);
+            }
+        }
+    }
+}
@@ -5,36 +5,87 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
 import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.infrastructure.mcp.service.QueryMetricsExecutionTracker;
 
-final class DiscoverySourceRegistry {
+/**
+ * Resolves configured source names to strategies and runs them, sequentially or through the parallel fan-out. It is a
+ * bean so the fan-out's executor is shut down with the application context.
+ */
+@Component
+final class DiscoverySourceRegistry implements AutoCloseable {
 
     private final Map<String, LeadDiscoverySource> sourcesByName;
     private final QueryMetricsRecorder metricsRecorder;
+    private final DiscoveryFanOutProperties fanOutProperties;
+    private final ParallelDiscoveryFanOut parallelFanOut;
+    private final ObservationRegistry observationRegistry;
 
     DiscoverySourceRegistry(List<LeadDiscoverySource> sources, QueryMetricsRecorder metricsRecorder) {
+        this(sources, metricsRecorder, DiscoveryFanOutProperties.sequential());
+    }
+
+    DiscoverySourceRegistry(
+        List<LeadDiscoverySource> sources,
+        QueryMetricsRecorder metricsRecorder,
+        DiscoveryFanOutProperties fanOutProperties
+    ) {
+        this(sources, metricsRecorder, fanOutProperties, ObservationRegistry.NOOP);
+    }
+
+    @Autowired
+    DiscoverySourceRegistry(
+        List<LeadDiscoverySource> sources,
+        QueryMetricsRecorder metricsRecorder,
+        DiscoveryFanOutProperties fanOutProperties,
+        ObservationRegistry observationRegistry
+    ) {
         this.sourcesByName = indexSources(sources);
         this.metricsRecorder = metricsRecorder;
+        this.fanOutProperties = fanOutProperties;
+        this.parallelFanOut = new ParallelDiscoveryFanOut(metricsRecorder, fanOutProperties, observationRegistry);
+        this.observationRegistry = observationRegistry;
     }
 
     List<DiscoveredLeadCandidate> discover(List<String> sourceNames, DiscoveryContext context) {
+        List<LeadDiscoverySource> sources = resolve(sourceNames);
+        if (fanOutProperties.parallelEnabled() && sources.size() > 1) {
+            return parallelFanOut.discover(sources, context);
+        }
         List<DiscoveredLeadCandidate> discovered = new ArrayList<>();
-        for (String sourceName : sourceNames) {
-            LeadDiscoverySource source = sourcesByName.get(sourceName);
-            if (source == null) {
-                throw new IllegalArgumentException("Configured source without implementation: " + sourceName);
-            }
+        for (LeadDiscoverySource source : sources) {
+            LeadDiscoverySource observed = new ObservedDiscoverySource(source, observationRegistry, null);
             discovered.addAll(QueryMetricsExecutionTracker.track(
                 metricsRecorder,
                 source.sourceName(),
                 context.query(),
-                () -> source.discover(context)
+                () -> observed.discover(context)
             ));
         }
         return discovered;
     }
 
+    @Override
+    public void close() {
+        parallelFanOut.close();
+    }
+
+    private List<LeadDiscoverySource> resolve(List<String> sourceNames) {
+        List<LeadDiscoverySource> sources = new ArrayList<>(sourceNames.size());
+        for (String sourceName : sourceNames) {
+            LeadDiscoverySource source = sourcesByName.get(sourceName);
+            if (source == null) {
+                throw new IllegalArgumentException("Configured source without implementation: " + sourceName);
+            }
+            sources.add(source);
+        }
+        return sources;
+    }
+
     private Map<String, LeadDiscoverySource> indexSources(List<LeadDiscoverySource> sources) {
         Map<String, LeadDiscoverySource> indexed = new LinkedHashMap<>();
         for (LeadDiscoverySource source : sources) {
@@ -1,6 +1,7 @@
 package dev.prospectos.infrastructure.service.discovery;
 
 import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.monitoring.LlmUsageScope;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 
@@ -62,7 +63,8 @@ public class LlmLeadDiscoverySource implements LeadDiscoverySource {
             - Include at most the requested number of candidates
             """.formatted(context.query(), context.role() == null ? "UNKNOWN" : context.role(), context.limit());
 
-        String raw = aiProvider.getClient().query(prompt);
+        Long icpId = context.icp() == null ? null : context.icp().id();
+        String raw = LlmUsageScope.call("lead-discovery", icpId, () -> aiProvider.getClient().query(prompt));
         return converter.convert(raw, SOURCE_NAME);
     }
 }
@@ -0,0 +1,33 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.util.List;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import dev.prospectos.infrastructure.service.observability.LeadPipelineObservations;
+
+/**
+ * Runs a source inside a {@code source} observation. {@code parent} is set when the source runs on a fan-out thread,
+ * which does not inherit the caller's observation scope.
+ */
+record ObservedDiscoverySource(LeadDiscoverySource delegate, ObservationRegistry registry, Observation parent)
+    implements LeadDiscoverySource {
+
+    @Override
+    public String sourceName() {
+        return delegate.sourceName();
+    }
+
+    @Override
+    public List<DiscoveredLeadCandidate> discover(DiscoveryContext context) {
+        return LeadPipelineObservations.observe(
+            registry,
+            parent,
+            LeadPipelineObservations.SOURCE_CALL,
+            delegate.sourceName(),
+            () -> delegate.discover(context),
+            candidates -> LeadPipelineObservations.SUCCESS
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import dev.prospectos.api.mcp.QueryMetricsRecorder;
+
+/**
+ * Runs every requested discovery source on its own virtual thread and merges results in request order.
+ * Sources missing their deadline contribute no candidates instead of failing the whole request.
+ */
+final class ParallelDiscoveryFanOut implements AutoCloseable {
+
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lead-discovery-", 0).factory());
+    private final QueryMetricsRecorder metricsRecorder;
+    private final DiscoveryFanOutProperties properties;
+    private final ObservationRegistry observationRegistry;
+
+    ParallelDiscoveryFanOut(
+        QueryMetricsRecorder metricsRecorder,
+        DiscoveryFanOutProperties properties,
+        ObservationRegistry observationRegistry
+    ) {
+        this.metricsRecorder = metricsRecorder;
+        this.properties = properties;
+        this.observationRegistry = observationRegistry;
+    }
+
+    List<DiscoveredLeadCandidate> discover(List<LeadDiscoverySource> sources, DiscoveryContext context) {
+        long startedAtNanos = System.nanoTime();
+        long budgetDeadline = startedAtNanos + properties.requestBudget().toNanos();
+        Observation parent = observationRegistry.getCurrentObservation();
+        List<DiscoverySourceCall> calls = sources.stream()
+            .map(source -> new ObservedDiscoverySource(source, observationRegistry, parent))
+            .map(source -> new DiscoverySourceCall(source, context, metricsRecorder, executor))
+            .toList();
+        try {
+            List<DiscoveredLeadCandidate> merged = new ArrayList<>();
+            for (DiscoverySourceCall call : calls) {
+                long sourceDeadline = startedAtNanos + properties.timeoutFor(call.sourceName()).toNanos();
+                merged.addAll(call.await(Math.min(sourceDeadline, budgetDeadline), context.query()));
+            }
+            return merged;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lead discovery interrupted", exception);
+        } finally {
+            calls.forEach(DiscoverySourceCall::cancel);
+        }
+    }
+
+    /**
+     * Interrupts sources still running; they are abandoned by their request anyway once the context shuts down.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
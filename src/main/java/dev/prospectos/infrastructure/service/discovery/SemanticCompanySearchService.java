@@ -1,35 +1,49 @@
 package dev.prospectos.infrastructure.service.discovery;
 
+import dev.prospectos.ai.config.HybridSearchProperties;
 import dev.prospectos.ai.config.VectorizationProperties;
+import dev.prospectos.ai.text.TextSearchMatch;
 import dev.prospectos.ai.vector.VectorIndex;
-import dev.prospectos.ai.vector.VectorSearchMatch;
+import dev.prospectos.ai.vector.VectorSearchFilter;
 import dev.prospectos.api.CompanyDataService;
-import dev.prospectos.api.dto.CompanyDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides semantic search over registered companies using vector similarity.
+ * In hybrid mode the vector ranking is fused with the BM25 keyword ranking; {@link SemanticCompanyMatch#similarity()}
+ * is then the normalized fused score, and the minimum similarity only applies to the vector candidates.
  */
 @Service
-public class SemanticCompanySearchService {
+public class SemanticCompanySearchService implements AutoCloseable {
 
     private final CompanyDataService companyDataService;
-    private final VectorIndex vectorIndex;
+    private final CompanyRankingRetriever retriever;
     private final VectorizationProperties properties;
 
     public SemanticCompanySearchService(
         CompanyDataService companyDataService,
         VectorIndex vectorIndex,
-        VectorizationProperties properties
+        CompanyTextIndex textIndex,
+        VectorizationProperties properties,
+        HybridSearchProperties hybridProperties
     ) {
         this.companyDataService = companyDataService;
-        this.vectorIndex = vectorIndex;
+        this.retriever = new CompanyRankingRetriever(vectorIndex, textIndex, properties, hybridProperties);
         this.properties = properties;
     }
 
     public List<SemanticCompanyMatch> search(String query, Integer requestedTopK) {
+        return search(query, requestedTopK, VectorSearchFilter.NONE);
+    }
+
+    /**
+     * Search restricted to companies matching {@code filter}; both retrievers apply it before ranking.
+     */
+    public List<SemanticCompanyMatch> search(String query, Integer requestedTopK, VectorSearchFilter filter) {
         if (query == null || query.isBlank()) {
             return List.of();
         }
@@ -39,43 +53,16 @@ public class SemanticCompanySearchService {
             return List.of();
         }
 
-        List<VectorSearchMatch> matches = vectorIndex.similaritySearch(query.trim(), topK, properties.minSimilarity());
-
-        return matches.stream()
-            .map(match -> {
-                Long companyId = parseCompanyId(match);
-                CompanyDTO company = companyId == null ? null : companyDataService.findCompany(companyId);
-                if (company == null) {
-                    return null;
-                }
-                return new SemanticCompanyMatch(company, match.similarity());
-            })
-            .filter(match -> match != null)
+        List<TextSearchMatch> ranked = retriever.rank(query.trim(), topK, filter);
+        Map<Long, Double> scores = new HashMap<>();
+        ranked.forEach(match -> scores.put(match.id(), match.score()));
+        return companyDataService.findCompanies(ranked.stream().map(TextSearchMatch::id).toList()).stream()
+            .map(company -> new SemanticCompanyMatch(company, scores.get(company.id())))
             .toList();
     }
 
-    private Long parseCompanyId(VectorSearchMatch match) {
-        if (match == null || match.metadata() == null) {
-            return null;
-        }
-        Object companyId = match.metadata().get("companyId");
-        if (companyId instanceof Number number) {
-            return number.longValue();
-        }
-        if (companyId instanceof String text && !text.isBlank()) {
-            try {
-                return Long.parseLong(text.trim());
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
-        }
-        if (match.id() != null && match.id().startsWith("company:")) {
-            try {
-                return Long.parseLong(match.id().substring("company:".length()));
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
-        }
-        return null;
+    @Override
+    public void close() {
+        retriever.close();
     }
 }
@@ -0,0 +1,54 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.text.TextSearchMatch;
+import dev.prospectos.ai.vector.VectorSearchMatch;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Resolves the company id behind a vector match from its metadata or its {@code company:<id>} document id.
+ */
+final class VectorCompanyIds {
+
+    private VectorCompanyIds() {
+    }
+
+    /**
+     * Company ids with their similarity, in vector rank order; matches without a resolvable id are dropped.
+     */
+    static List<TextSearchMatch> ranked(List<VectorSearchMatch> matches) {
+        return matches.stream()
+            .map(match -> {
+                Long companyId = companyId(match);
+                return companyId == null ? null : new TextSearchMatch(companyId, match.similarity());
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    static Long companyId(VectorSearchMatch match) {
+        if (match == null || match.metadata() == null) {
+            return null;
+        }
+        Object companyId = match.metadata().get("companyId");
+        if (companyId instanceof Number number) {
+            return number.longValue();
+        }
+        if (companyId instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+        if (match.id() != null && match.id().startsWith("company:")) {
+            try {
+                return Long.parseLong(match.id().substring("company:".length()));
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
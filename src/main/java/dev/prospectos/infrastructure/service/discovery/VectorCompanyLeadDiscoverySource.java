@@ -1,8 +1,13 @@
 package dev.prospectos.infrastructure.service.discovery;
 
+import dev.prospectos.ai.vector.VectorSearchFilter;
+import dev.prospectos.api.dto.ICPDto;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Discovery source backed by in-memory semantic vector search over known companies.
@@ -26,9 +31,13 @@ public class VectorCompanyLeadDiscoverySource implements LeadDiscoverySource {
         return SOURCE_NAME;
     }
 
+    /**
+     * Companies in the ICP's industries and regions come first; when they cannot fill the limit,
+     * the remaining slots are filled from an unfiltered search so loosely written regions do not starve results.
+     */
     @Override
     public List<DiscoveredLeadCandidate> discover(DiscoveryContext context) {
-        return semanticSearchService.search(context.query(), context.limit()).stream()
+        return matches(context).stream()
             .map(match -> new DiscoveredLeadCandidate(
                 match.company().name(),
                 match.company().website(),
@@ -40,4 +49,25 @@ public class VectorCompanyLeadDiscoverySource implements LeadDiscoverySource {
             ))
             .toList();
     }
+
+    private List<SemanticCompanyMatch> matches(DiscoveryContext context) {
+        VectorSearchFilter filter = icpFilter(context.icp());
+        if (filter.isEmpty()) {
+            return semanticSearchService.search(context.query(), context.limit());
+        }
+        List<SemanticCompanyMatch> matches = new ArrayList<>(semanticSearchService.search(context.query(), context.limit(), filter));
+        if (matches.size() < context.limit()) {
+            Set<Long> seen = new HashSet<>();
+            matches.forEach(match -> seen.add(match.company().id()));
+            semanticSearchService.search(context.query(), context.limit()).stream()
+                .filter(match -> seen.add(match.company().id()))
+                .limit(context.limit() - matches.size())
+                .forEach(matches::add);
+        }
+        return matches;
+    }
+
+    private static VectorSearchFilter icpFilter(ICPDto icp) {
+        return icp == null ? VectorSearchFilter.NONE : VectorSearchFilter.of(icp.targetIndustries(), icp.regions());
+    }
 }
@@ -0,0 +1,60 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.vector.EmbeddingModelDescriptor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Last company id indexed by an unfinished bulk reindex, stored with the embedding model id and dimension.
+ * A checkpoint written for another model is ignored so a model change always triggers a full rebuild.
+ */
+final class VectorReindexCheckpoint {
+
+    private final Path file;
+    private final String modelId;
+
+    VectorReindexCheckpoint(Path file, EmbeddingModelDescriptor descriptor) {
+        this.file = file;
+        this.modelId = descriptor.modelId() + "/" + descriptor.dimensions();
+    }
+
+    Long load() {
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            List<String> lines = Files.readAllLines(file);
+            if (lines.size() < 2 || !modelId.equals(lines.get(0))) {
+                return null;
+            }
+            return Long.parseLong(lines.get(1).trim());
+        } catch (IOException | NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    void save(long lastCompanyId) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = parent.resolve(file.getFileName() + ".tmp");
+            Files.writeString(temporary, modelId + "\n" + lastCompanyId + "\n");
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot write vector reindex checkpoint " + file, exception);
+        }
+    }
+
+    void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Cannot delete vector reindex checkpoint " + file, exception);
+        }
+    }
+}
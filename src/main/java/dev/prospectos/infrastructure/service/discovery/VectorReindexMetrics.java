@@ -0,0 +1,44 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters for bulk vector reindexing; throughput is the rate of the indexed-companies counter.
+ */
+final class VectorReindexMetrics {
+
+    private final Counter indexedCompanies;
+    private final Timer batchTimer;
+    private final AtomicLong lastCompanyId = new AtomicLong();
+
+    VectorReindexMetrics(MeterRegistry registry, AtomicBoolean running) {
+        this.indexedCompanies = Counter.builder("prospectos.vector.reindex.companies")
+            .description("Companies written to the vector index by bulk reindex")
+            .register(registry);
+        this.batchTimer = Timer.builder("prospectos.vector.reindex.batch")
+            .description("Time to load, embed and upsert one reindex batch")
+            .register(registry);
+        Gauge.builder("prospectos.vector.reindex.last.company.id", lastCompanyId, AtomicLong::get)
+            .description("Last company id checkpointed by the running or last bulk reindex")
+            .register(registry);
+        Gauge.builder("prospectos.vector.reindex.running", running, flag -> flag.get() ? 1 : 0)
+            .description("1 while a bulk reindex is running")
+            .register(registry);
+    }
+
+    <T> T timeBatch(Supplier<T> batch) {
+        return batchTimer.record(batch);
+    }
+
+    void batchIndexed(int companies, long lastIndexedCompanyId) {
+        indexedCompanies.increment(companies);
+        lastCompanyId.set(lastIndexedCompanyId);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Snapshot of the current or last bulk vector reindex run.
+ */
+public record VectorReindexProgress(
+    Status status,
+    Instant startedAt,
+    Instant finishedAt,
+    Long resumedAfterCompanyId,
+    Long lastCompanyId,
+    long indexedCompanies,
+    long batches,
+    double companiesPerSecond,
+    String error
+) {
+    public enum Status {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    static VectorReindexProgress idle() {
+        return new VectorReindexProgress(Status.IDLE, null, null, null, null, 0, 0, 0.0d, null);
+    }
+
+    static VectorReindexProgress started(Instant now, Long resumedAfterCompanyId) {
+        return new VectorReindexProgress(
+            Status.RUNNING, now, null, resumedAfterCompanyId, resumedAfterCompanyId, 0, 0, 0.0d, null
+        );
+    }
+
+    VectorReindexProgress advanced(int companies, long lastIndexedCompanyId, Instant now) {
+        long indexed = indexedCompanies + companies;
+        return new VectorReindexProgress(
+            status, startedAt, null, resumedAfterCompanyId, lastIndexedCompanyId, indexed, batches + 1, rate(indexed, now), null
+        );
+    }
+
+    VectorReindexProgress finished(Instant now, String failure) {
+        return new VectorReindexProgress(
+            failure == null ? Status.COMPLETED : Status.FAILED,
+            startedAt,
+            now,
+            resumedAfterCompanyId,
+            lastCompanyId,
+            indexedCompanies,
+            batches,
+            rate(indexedCompanies, now),
+            failure
+        );
+    }
+
+    private double rate(long indexed, Instant now) {
+        long millis = Math.max(1L, Duration.between(startedAt, now).toMillis());
+        return indexed * 1000.0d / millis;
+    }
+}
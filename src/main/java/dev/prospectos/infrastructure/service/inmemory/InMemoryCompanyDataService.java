@@ -11,6 +11,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,6 +32,10 @@ public class InMemoryCompanyDataService implements CompanyDataService {
     @Override
     public CompanyDTO findCompany(Long companyId) { return store.companies().get(companyId); }
     @Override
+    public List<CompanyDTO> findCompanies(Collection<Long> companyIds) {
+        return companyIds.stream().distinct().map(store.companies()::get).filter(Objects::nonNull).toList();
+    }
+    @Override
     public CompanyDTO findByWebsite(String website) {
         String targetDomain = websiteMatcher.extractDomainOrNull(website);
         if (targetDomain == null) return null;
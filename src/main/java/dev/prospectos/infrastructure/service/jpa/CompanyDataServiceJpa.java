@@ -3,11 +3,12 @@ package dev.prospectos.infrastructure.service.jpa;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.dto.CompanyContactDTO;
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
 import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.api.dto.request.CompanyUpdateRequest;
 import dev.prospectos.core.domain.Company;
-import dev.prospectos.core.domain.Score;
 import dev.prospectos.core.repository.CompanyDomainRepository;
 import dev.prospectos.core.repository.ICPDomainRepository;
 import dev.prospectos.infrastructure.service.discovery.CompanyVectorReindexRequested;
@@ -16,7 +17,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service @Profile({"development", "production", "test-pg"}) @Transactional(readOnly = true)
 public class CompanyDataServiceJpa implements CompanyDataService {
@@ -26,16 +29,23 @@ public class CompanyDataServiceJpa implements CompanyDataService {
     private final CompanyJpaProfileUpdater profileUpdater = new CompanyJpaProfileUpdater();
     private final CompanyJpaQuerySupport querySupport;
     private final CompanyJpaContactSupport contactSupport = new CompanyJpaContactSupport();
+    private final CompanyJpaListSupport listSupport;
+    private final CompanyJpaScoreWriter scoreWriter;
 
     public CompanyDataServiceJpa(CompanyDomainRepository companyRepository, ICPDomainRepository icpRepository, ApplicationEventPublisher eventPublisher) {
         this.companyRepository = companyRepository;
         this.eventPublisher = eventPublisher;
         this.querySupport = new CompanyJpaQuerySupport(companyRepository, icpRepository, dtoMapper);
+        this.listSupport = new CompanyJpaListSupport(companyRepository, dtoMapper);
+        this.scoreWriter = new CompanyJpaScoreWriter(companyRepository, this::publishReindex);
     }
 
     @Override public CompanyDTO findCompany(Long companyId) { return querySupport.findCompany(companyId); }
     @Override public CompanyDTO findByWebsite(String website) { return querySupport.findByWebsite(website); }
     @Override public List<CompanyDTO> findAllCompanies() { return querySupport.findAllCompanies(); }
+    @Override public CompanyPage findCompanies(CompanyListQuery query) { return listSupport.findCompanies(query); }
+    @Override public List<CompanyDTO> findCompanies(Collection<Long> companyIds) { return querySupport.findCompanies(companyIds); }
+    @Override public List<CompanyDTO> findCompaniesAfter(Long afterCompanyId, int limit) { return querySupport.findCompaniesAfter(afterCompanyId, limit); }
     @Override public List<CompanyDTO> findCompaniesByICP(Long icpId) { return querySupport.findCompaniesByIcp(icpId); }
     @Override public List<CompanyContactDTO> findCompanyContacts(Long companyId) { return querySupport.findCompanyEntity(companyId).map(contactSupport::toDTOs).orElse(List.of()); }
 
@@ -62,13 +72,8 @@ public class CompanyDataServiceJpa implements CompanyDataService {
         return true;
     }
 
-    @Override @Transactional
-    public void updateCompanyScore(Long companyId, ScoreDTO score) {
-        Company company = findCompanyEntityOrThrow(companyId);
-        company.updateScore(Score.of(score.value()), score.reasoning());
-        companyRepository.save(company);
-        publishReindex(companyId);
-    }
+    @Override @Transactional public void updateCompanyScore(Long companyId, ScoreDTO score) { scoreWriter.update(findCompanyEntityOrThrow(companyId), score); }
+    @Override @Transactional public void updateCompanyScores(Map<Long, ScoreDTO> scores) { scoreWriter.updateAll(scores); }
 
     @Override @Transactional
     public void addCompanyContactEmails(Long companyId, List<String> emails) {
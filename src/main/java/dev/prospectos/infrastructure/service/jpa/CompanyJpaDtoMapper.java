@@ -6,7 +6,9 @@ import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.Contact;
 import dev.prospectos.core.domain.Email;
 import dev.prospectos.core.domain.Score;
+import dev.prospectos.core.repository.CompanySummary;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 final class CompanyJpaDtoMapper {
@@ -29,12 +31,37 @@ final class CompanyJpaDtoMapper {
         );
     }
 
+    CompanyDTO toDTO(CompanySummary summary) {
+        return new CompanyDTO(
+            summary.externalId(),
+            summary.name(),
+            summary.industry(),
+            summary.websiteUrl(),
+            summary.description(),
+            null,
+            location(summary.city(), summary.country()),
+            summary.score() != null ? toScoreDTO(Score.of(summary.score())) : null,
+            summary.primaryContactEmail(),
+            summary.contactCount() != null ? summary.contactCount() : 0
+        );
+    }
+
+    /**
+     * Same rendering as {@code Company.getLocation()}.
+     */
+    private String location(String city, String country) {
+        if (city != null && country != null) {
+            return city + ", " + country;
+        }
+        return country != null ? country : "Unknown";
+    }
+
     private String findPrimaryContactEmail(Company company) {
         return company.getContacts().stream()
             .map(Contact::getEmail)
             .filter(Objects::nonNull)
             .map(Email::getAddress)
-            .findFirst()
+            .min(Comparator.naturalOrder())
             .orElse(null);
     }
 
@@ -0,0 +1,45 @@
+package dev.prospectos.infrastructure.service.jpa;
+
+import java.util.List;
+
+import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
+import dev.prospectos.core.repository.CompanyDomainRepository;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import dev.prospectos.core.repository.CompanySearchPage;
+import dev.prospectos.core.repository.CompanySummary;
+
+/**
+ * Runs company listings as filtered database queries.
+ * Offset pages count only when the page itself cannot determine the total; keyset pages never count.
+ */
+final class CompanyJpaListSupport {
+
+    private final CompanyDomainRepository companyRepository;
+    private final CompanyJpaDtoMapper dtoMapper;
+
+    CompanyJpaListSupport(CompanyDomainRepository companyRepository, CompanyJpaDtoMapper dtoMapper) {
+        this.companyRepository = companyRepository;
+        this.dtoMapper = dtoMapper;
+    }
+
+    CompanyPage findCompanies(CompanyListQuery query) {
+        CompanySearchCriteria criteria = new CompanySearchCriteria(
+            query.query(), query.industry(), query.location(), query.minScore(), query.maxScore(), query.hasContact()
+        );
+        if (!query.paged()) {
+            List<CompanyDTO> items = toDTOs(companyRepository.search(criteria));
+            return CompanyPage.of(items, (long) items.size(), query);
+        }
+        if (query.cursor() != null) {
+            return CompanyPage.of(toDTOs(companyRepository.searchAfter(criteria, query.cursor(), query.resolvedSize())), null, query);
+        }
+        CompanySearchPage page = companyRepository.search(criteria, query.resolvedPage(), query.resolvedSize());
+        return CompanyPage.of(toDTOs(page.companies()), page.totalCount(), query);
+    }
+
+    private List<CompanyDTO> toDTOs(List<CompanySummary> summaries) {
+        return summaries.stream().map(dtoMapper::toDTO).toList();
+    }
+}
@@ -1,7 +1,11 @@
 package dev.prospectos.infrastructure.service.jpa;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import dev.prospectos.api.dto.CompanyDTO;
@@ -9,6 +13,8 @@ import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.core.domain.Website;
 import dev.prospectos.core.repository.CompanyDomainRepository;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import dev.prospectos.core.repository.CompanySummary;
 import dev.prospectos.core.repository.ICPDomainRepository;
 
 final class CompanyJpaQuerySupport {
@@ -44,7 +50,24 @@ final class CompanyJpaQuerySupport {
     }
 
     List<CompanyDTO> findAllCompanies() {
-        return companyRepository.findAll().stream().map(dtoMapper::toDTO).toList();
+        return toDTOs(companyRepository.search(CompanySearchCriteria.unfiltered()));
+    }
+
+    List<CompanyDTO> findCompaniesAfter(Long afterCompanyId, int limit) {
+        long after = afterCompanyId == null ? Long.MIN_VALUE : afterCompanyId;
+        return toDTOs(companyRepository.searchAfter(CompanySearchCriteria.unfiltered(), after, limit));
+    }
+
+    /**
+     * One {@code IN} query for all ids; the database returns them by id, so the caller's order is restored here.
+     */
+    List<CompanyDTO> findCompanies(Collection<Long> companyIds) {
+        if (companyIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CompanyDTO> byId = toDTOs(companyRepository.findSummariesByExternalIds(companyIds)).stream()
+            .collect(Collectors.toMap(CompanyDTO::id, Function.identity()));
+        return companyIds.stream().distinct().map(byId::get).filter(Objects::nonNull).toList();
     }
 
     List<CompanyDTO> findCompaniesByIcp(Long icpId) {
@@ -52,16 +75,11 @@ final class CompanyJpaQuerySupport {
         if (icp.isEmpty() || icp.get().getIndustries() == null || icp.get().getIndustries().isEmpty()) {
             return List.of();
         }
-        return icp.get().getIndustries().stream()
-            .flatMap(industry -> companyRepository.findByIndustry(industry).stream())
-            .collect(Collectors.toMap(
-                company -> company.getExternalId(),
-                dtoMapper::toDTO,
-                (existing, replacement) -> existing
-            ))
-            .values()
-            .stream()
-            .toList();
+        return toDTOs(companyRepository.findSummariesByIndustries(icp.get().getIndustries()));
+    }
+
+    List<CompanyDTO> toDTOs(List<CompanySummary> summaries) {
+        return summaries.stream().map(dtoMapper::toDTO).toList();
     }
 
     Optional<Company> findCompanyEntity(Long externalId) {
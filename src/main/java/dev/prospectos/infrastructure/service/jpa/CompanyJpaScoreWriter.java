@@ -0,0 +1,44 @@
+package dev.prospectos.infrastructure.service.jpa;
+
+import dev.prospectos.api.dto.ScoreDTO;
+import dev.prospectos.core.domain.Company;
+import dev.prospectos.core.domain.Score;
+import dev.prospectos.core.repository.CompanyDomainRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Persists scores for single companies and for whole scoring batches, requesting a reindex of every company it
+ * saves.
+ */
+final class CompanyJpaScoreWriter {
+
+    private final CompanyDomainRepository companyRepository;
+    private final Consumer<Long> reindex;
+
+    CompanyJpaScoreWriter(CompanyDomainRepository companyRepository, Consumer<Long> reindex) {
+        this.companyRepository = companyRepository;
+        this.reindex = reindex;
+    }
+
+    void update(Company company, ScoreDTO score) {
+        applyScore(company, score);
+        companyRepository.save(company);
+        reindex.accept(company.getExternalId());
+    }
+
+    /**
+     * Loads the companies in one query and saves them as one batch; ids that no longer exist are skipped.
+     */
+    void updateAll(Map<Long, ScoreDTO> scores) {
+        List<Company> companies = companyRepository.findByExternalIds(scores.keySet());
+        companies.forEach(company -> applyScore(company, scores.get(company.getExternalId())));
+        companyRepository.saveAll(companies).forEach(company -> reindex.accept(company.getExternalId()));
+    }
+
+    private void applyScore(Company company, ScoreDTO score) {
+        company.updateScore(Score.of(score.value()), score.reasoning());
+    }
+}
@@ -0,0 +1,94 @@
+package dev.prospectos.infrastructure.service.leads;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import dev.prospectos.api.dto.LeadResultDTO;
+import dev.prospectos.core.domain.ICP;
+import dev.prospectos.infrastructure.service.observability.LeadPipelineObservations;
+
+/**
+ * Dispatches every requested source on its own virtual thread and merges batches as they arrive.
+ * Once the merge holds {@code limit} top-tier leads (no website, with contacts) the sources still
+ * running are cancelled, so slow scraper/LLM sources no longer hold back fast ones.
+ */
+final class ScraperLeadParallelSearch implements AutoCloseable {
+
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lead-search-", 0).factory());
+    private final ScraperLeadSourceDispatcher sourceDispatcher;
+    private final ScraperLeadResultRanker ranker;
+    private final ObservationRegistry observationRegistry;
+
+    ScraperLeadParallelSearch(
+        ScraperLeadSourceDispatcher sourceDispatcher,
+        ScraperLeadResultRanker ranker,
+        ObservationRegistry observationRegistry
+    ) {
+        this.sourceDispatcher = sourceDispatcher;
+        this.ranker = ranker;
+        this.observationRegistry = observationRegistry;
+    }
+
+    Outcome search(ScraperLeadRequestContext context, Long icpId, ICP icp) {
+        List<String> sources = context.sources();
+        String[] failures = new String[sources.size()];
+        ScraperLeadTopKMerger merger = new ScraperLeadTopKMerger(context.limit(), ranker);
+        CompletionService<ScraperLeadSourceBatch> completion = new ExecutorCompletionService<>(executor);
+        List<Future<ScraperLeadSourceBatch>> futures = new ArrayList<>(sources.size());
+        Observation parent = observationRegistry.getCurrentObservation();
+        for (int index = 0; index < sources.size(); index++) {
+            int sourceIndex = index;
+            futures.add(completion.submit(() -> searchSource(sourceIndex, sources.get(sourceIndex), context, icpId, icp, parent)));
+        }
+        try {
+            for (int pending = futures.size(); pending > 0 && !merger.isFilledWithTopTier(); pending--) {
+                ScraperLeadSourceBatch batch = completion.take().get();
+                merger.offer(batch.sourceIndex(), batch.leads());
+                failures[batch.sourceIndex()] = batch.failure();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lead search interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Lead search source crashed", exception.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return new Outcome(merger.leads(), Arrays.stream(failures).filter(Objects::nonNull).toList());
+    }
+
+    private ScraperLeadSourceBatch searchSource(
+        int sourceIndex, String source, ScraperLeadRequestContext context, Long icpId, ICP icp, Observation parent
+    ) {
+        try {
+            List<LeadResultDTO> leads = LeadPipelineObservations.observe(observationRegistry, parent, LeadPipelineObservations.SOURCE_CALL,
+                source, () -> sourceDispatcher.searchBySource(source, context, icpId, icp), batch -> LeadPipelineObservations.SUCCESS);
+            return new ScraperLeadSourceBatch(sourceIndex, leads, null);
+        } catch (RuntimeException exception) {
+            return ScraperLeadSourceBatch.failed(sourceIndex, source, exception);
+        }
+    }
+
+    /**
+     * Interrupts sources still running; their request is abandoned anyway once the context shuts down.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    record Outcome(List<LeadResultDTO> leads, List<String> failures) {
+    }
+}
@@ -9,6 +9,19 @@ import dev.prospectos.api.dto.LeadSearchStatus;
 
 final class ScraperLeadResponseFactory {
 
+    LeadSearchResponse fromOutcome(List<LeadResultDTO> leads, List<String> failures) {
+        if (!leads.isEmpty()) {
+            String message = failures.isEmpty()
+                ? "Search completed"
+                : "Search completed with partial failures: " + String.join(" | ", failures);
+            return completed(leads, message);
+        }
+        if (!failures.isEmpty()) {
+            return failed(String.join(" | ", failures));
+        }
+        return noLeads();
+    }
+
     LeadSearchResponse failed(String error) {
         return new LeadSearchResponse(
             LeadSearchStatus.FAILED,
@@ -1,31 +1,17 @@
 package dev.prospectos.infrastructure.service.leads;
 
 import java.util.Comparator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
 import dev.prospectos.api.dto.CompanyCandidateDTO;
 import dev.prospectos.api.dto.LeadResultDTO;
 
 final class ScraperLeadResultRanker {
 
-    List<LeadResultDTO> deduplicateSortAndLimit(List<LeadResultDTO> leads, int limit) {
-        Map<String, LeadResultDTO> uniqueByLeadKey = new LinkedHashMap<>();
-        for (LeadResultDTO lead : leads) {
-            if (lead == null || lead.leadKey() == null || lead.leadKey().isBlank()) {
-                continue;
-            }
-            uniqueByLeadKey.putIfAbsent(lead.leadKey(), lead);
-        }
-
-        return uniqueByLeadKey.values().stream()
-            .sorted(leadPriorityComparator())
-            .limit(limit)
-            .toList();
+    boolean isTopTier(LeadResultDTO lead) {
+        return websitePriority(lead) == 0 && contactPriority(lead) == 0;
     }
 
-    private Comparator<LeadResultDTO> leadPriorityComparator() {
+    Comparator<LeadResultDTO> leadPriorityComparator() {
         return Comparator
             .comparingInt(this::websitePriority)
             .thenComparingInt(this::contactPriority)
@@ -1,6 +1,5 @@
 package dev.prospectos.infrastructure.service.leads;
-import java.util.ArrayList;
-import java.util.List;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import dev.prospectos.ai.client.ScraperClientInterface;
@@ -8,37 +7,41 @@ import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.ICPDataService;
 import dev.prospectos.api.LeadDiscoveryService;
 import dev.prospectos.api.LeadSearchService;
-import dev.prospectos.api.dto.LeadResultDTO;
 import dev.prospectos.api.dto.LeadSearchRequest;
 import dev.prospectos.api.dto.LeadSearchResponse;
+import dev.prospectos.api.dto.LeadSearchStatus;
 import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.core.enrichment.CompanyEnrichmentService;
 import dev.prospectos.infrastructure.config.LeadSearchProperties;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesComplianceService;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesProperties;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.inmemory.InMemoryLeadResultFactory;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
+import static dev.prospectos.infrastructure.service.observability.LeadPipelineObservations.*;
 @Service
 @Profile("development")
-public class ScraperLeadSearchService implements LeadSearchService {
+public class ScraperLeadSearchService implements LeadSearchService, AutoCloseable {
     private final ScraperLeadRequestResolver requestResolver;
-    private final ScraperLeadSourceDispatcher sourceDispatcher;
+    private final ScraperLeadParallelSearch parallelSearch;
     private final ScraperLeadIcpLoader icpLoader;
-    private final ScraperLeadResultRanker resultRanker = new ScraperLeadResultRanker();
     private final ScraperLeadResponseFactory responseFactory = new ScraperLeadResponseFactory();
+    private final ObservationRegistry observationRegistry;
 
     public ScraperLeadSearchService(
         ScraperClientInterface scraperClient,
         CompanyEnrichmentService enrichmentService,
         CompanyDataService companyDataService,
+        CompanyTextIndex companyTextIndex,
         LeadDiscoveryService leadDiscoveryService,
         ICPDataService icpDataService,
         CompanyScoringService scoringService,
         AllowedSourcesComplianceService complianceService,
         AllowedSourcesProperties allowedSourcesProperties,
         LeadSearchProperties properties,
-        QueryMetricsRecorder queryMetricsRecorder
+        QueryMetricsRecorder queryMetricsRecorder,
+        ObservationRegistry observationRegistry
     ) {
         this.requestResolver = new ScraperLeadRequestResolver(complianceService, properties);
         this.icpLoader = new ScraperLeadIcpLoader(icpDataService);
@@ -48,50 +51,38 @@ public class ScraperLeadSearchService implements LeadSearchService {
             scraperClient,
             enrichmentService,
             scoringService,
-            candidateFactory
+            candidateFactory,
+            observationRegistry
         );
-        this.sourceDispatcher = new ScraperLeadSourceDispatcher(
+        ScraperLeadSourceDispatcher sourceDispatcher = new ScraperLeadSourceDispatcher(
             companyDataService,
+            companyTextIndex,
             leadDiscoveryService,
             inMemoryResultFactory,
             websiteLeadSearch,
             ScraperLeadDiscoverySourceConfig.fromAllowedSources(allowedSourcesProperties.allowedSources()),
             queryMetricsRecorder
         );
+        this.parallelSearch = new ScraperLeadParallelSearch(sourceDispatcher, new ScraperLeadResultRanker(), observationRegistry);
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
     public LeadSearchResponse searchLeads(LeadSearchRequest request) {
+        return observe(observationRegistry, SEARCH, null, () -> search(request),
+            response -> response.status() == LeadSearchStatus.FAILED ? ERROR : SUCCESS);
+    }
+
+    private LeadSearchResponse search(LeadSearchRequest request) {
         ScraperLeadRequestContext context = requestResolver.resolve(request);
         Long icpId = requestResolver.resolveIcpId(request.icpId());
-        ICP icp = icpLoader.load(icpId);
-        List<String> failures = new ArrayList<>();
-        List<LeadResultDTO> aggregated = new ArrayList<>();
-        for (String source : context.sources()) {
-            try {
-                aggregated.addAll(sourceDispatcher.searchBySource(source, context, icpId, icp));
-            } catch (RuntimeException exception) {
-                failures.add(source + ": " + messageOrFallback(exception));
-            }
-        }
-
-        List<LeadResultDTO> leads = resultRanker.deduplicateSortAndLimit(aggregated, context.limit());
-        if (!leads.isEmpty()) {
-            String message = failures.isEmpty()
-                ? "Search completed"
-                : "Search completed with partial failures: " + String.join(" | ", failures);
-            return responseFactory.completed(leads, message);
-        }
-        if (!failures.isEmpty()) {
-            return responseFactory.failed(String.join(" | ", failures));
-        }
-        return responseFactory.noLeads();
+        ICP icp = observe(observationRegistry, ICP_LOOKUP, null, () -> icpLoader.load(icpId));
+        ScraperLeadParallelSearch.Outcome outcome = parallelSearch.search(context, icpId, icp);
+        return responseFactory.fromOutcome(outcome.leads(), outcome.failures());
     }
 
-    private String messageOrFallback(RuntimeException exception) {
-        if (exception == null || exception.getMessage() == null || exception.getMessage().isBlank()) {
-            return "Source search failed";
-        }
-        return exception.getMessage();
+    @Override
+    public void close() {
+        parallelSearch.close();
     }
 }
@@ -0,0 +1,18 @@
+package dev.prospectos.infrastructure.service.leads;
+
+import java.util.List;
+
+import dev.prospectos.api.dto.LeadResultDTO;
+
+/**
+ * Leads returned by one source of a parallel search, or the reason that source failed.
+ */
+record ScraperLeadSourceBatch(int sourceIndex, List<LeadResultDTO> leads, String failure) {
+
+    static ScraperLeadSourceBatch failed(int sourceIndex, String source, RuntimeException exception) {
+        String message = exception.getMessage() == null || exception.getMessage().isBlank()
+            ? "Source search failed"
+            : exception.getMessage();
+        return new ScraperLeadSourceBatch(sourceIndex, List.of(), source + ": " + message);
+    }
+}
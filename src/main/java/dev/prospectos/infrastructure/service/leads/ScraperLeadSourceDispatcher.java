@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
+import dev.prospectos.ai.text.TextSearchMatch;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.LeadDiscoveryService;
 import dev.prospectos.api.dto.LeadDiscoveryRequest;
@@ -13,12 +14,13 @@ import dev.prospectos.api.dto.LeadSearchStatus;
 import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.infrastructure.mcp.service.QueryMetricsExecutionTracker;
-import dev.prospectos.infrastructure.service.inmemory.InMemoryLeadQueryMatcher;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.inmemory.InMemoryLeadResultFactory;
 
 final class ScraperLeadSourceDispatcher {
 
     private final CompanyDataService companyDataService;
+    private final CompanyTextIndex companyTextIndex;
     private final LeadDiscoveryService leadDiscoveryService;
     private final InMemoryLeadResultFactory inMemoryLeadResultFactory;
     private final ScraperWebsiteLeadSearch websiteLeadSearch;
@@ -27,6 +29,7 @@ final class ScraperLeadSourceDispatcher {
 
     ScraperLeadSourceDispatcher(
         CompanyDataService companyDataService,
+        CompanyTextIndex companyTextIndex,
         LeadDiscoveryService leadDiscoveryService,
         InMemoryLeadResultFactory inMemoryLeadResultFactory,
         ScraperWebsiteLeadSearch websiteLeadSearch,
@@ -34,6 +37,7 @@ final class ScraperLeadSourceDispatcher {
         QueryMetricsRecorder metricsRecorder
     ) {
         this.companyDataService = companyDataService;
+        this.companyTextIndex = companyTextIndex;
         this.leadDiscoveryService = leadDiscoveryService;
         this.inMemoryLeadResultFactory = inMemoryLeadResultFactory;
         this.websiteLeadSearch = websiteLeadSearch;
@@ -53,10 +57,8 @@ final class ScraperLeadSourceDispatcher {
     }
 
     private List<LeadResultDTO> searchInMemory(String source, ScraperLeadRequestContext context, ICP icp) {
-        var tokens = InMemoryLeadQueryMatcher.tokens(context.query());
-        return companyDataService.findAllCompanies().stream()
-            .filter(company -> InMemoryLeadQueryMatcher.matches(company, tokens))
-            .limit(context.limit())
+        List<Long> ids = companyTextIndex.search(context.query(), context.limit()).stream().map(TextSearchMatch::id).toList();
+        return companyDataService.findCompanies(ids).stream()
             .map(company -> inMemoryLeadResultFactory.toLeadResult(company, source, icp))
             .toList();
     }
@@ -0,0 +1,64 @@
+package dev.prospectos.infrastructure.service.leads;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import dev.prospectos.api.dto.LeadResultDTO;
+
+/**
+ * Bounded top-K merge of per-source lead batches arriving in any order.
+ * Duplicate lead keys resolve to the earliest requested source, matching the serial ranking.
+ */
+final class ScraperLeadTopKMerger {
+
+    private final int limit;
+    private final ScraperLeadResultRanker ranker;
+    private final TreeSet<LeadResultDTO> retained;
+    private final Map<String, LeadResultDTO> retainedByLeadKey = new HashMap<>();
+    private final Map<String, Integer> firstSourceByLeadKey = new HashMap<>();
+
+    ScraperLeadTopKMerger(int limit, ScraperLeadResultRanker ranker) {
+        this.limit = Math.max(limit, 0);
+        this.ranker = ranker;
+        this.retained = new TreeSet<>(ranker.leadPriorityComparator());
+    }
+
+    void offer(int sourceIndex, List<LeadResultDTO> leads) {
+        if (leads == null) {
+            return;
+        }
+        for (LeadResultDTO lead : leads) {
+            offer(sourceIndex, lead);
+        }
+    }
+
+    boolean isFilledWithTopTier() {
+        return limit > 0 && retained.size() >= limit && ranker.isTopTier(retained.last());
+    }
+
+    List<LeadResultDTO> leads() {
+        return List.copyOf(retained);
+    }
+
+    private void offer(int sourceIndex, LeadResultDTO lead) {
+        if (lead == null || lead.leadKey() == null || lead.leadKey().isBlank()) {
+            return;
+        }
+        Integer firstSource = firstSourceByLeadKey.get(lead.leadKey());
+        if (firstSource != null && firstSource <= sourceIndex) {
+            return;
+        }
+        firstSourceByLeadKey.put(lead.leadKey(), sourceIndex);
+        LeadResultDTO replaced = retainedByLeadKey.remove(lead.leadKey());
+        if (replaced != null) {
+            retained.remove(replaced);
+        }
+        retained.add(lead);
+        retainedByLeadKey.put(lead.leadKey(), lead);
+        if (retained.size() > limit) {
+            retainedByLeadKey.remove(retained.pollLast().leadKey());
+        }
+    }
+}
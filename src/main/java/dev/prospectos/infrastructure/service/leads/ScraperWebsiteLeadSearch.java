@@ -3,6 +3,8 @@ package dev.prospectos.infrastructure.service.leads;
 import java.time.Instant;
 import java.util.List;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import dev.prospectos.ai.client.ScraperClientInterface;
 import dev.prospectos.ai.client.ScrapingResponse;
 import dev.prospectos.api.dto.CompanyCandidateDTO;
@@ -18,33 +20,41 @@ import dev.prospectos.core.enrichment.ScraperDataMapper;
 import dev.prospectos.core.util.LeadKeyGenerator;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
 
+import static dev.prospectos.infrastructure.service.observability.LeadPipelineObservations.*;
+
 final class ScraperWebsiteLeadSearch {
 
     private final ScraperClientInterface scraperClient;
     private final CompanyEnrichmentService enrichmentService;
     private final CompanyScoringService scoringService;
     private final ScraperLeadCandidateFactory candidateFactory;
+    private final ObservationRegistry observationRegistry;
 
     ScraperWebsiteLeadSearch(
         ScraperClientInterface scraperClient,
         CompanyEnrichmentService enrichmentService,
         CompanyScoringService scoringService,
-        ScraperLeadCandidateFactory candidateFactory
+        ScraperLeadCandidateFactory candidateFactory,
+        ObservationRegistry observationRegistry
     ) {
         this.scraperClient = scraperClient;
         this.enrichmentService = enrichmentService;
         this.scoringService = scoringService;
         this.candidateFactory = candidateFactory;
+        this.observationRegistry = observationRegistry;
     }
 
     List<LeadResultDTO> search(String source, ScraperLeadRequestContext context, ICP icp) {
-        ScrapingResponse response = scraperClient.scrapeWebsiteSync(context.scraperQuery(), false);
+        ScrapingResponse response = observe(observationRegistry, SCRAPE, source,
+            () -> scraperClient.scrapeWebsiteSync(context.scraperQuery(), false),
+            scraped -> scraped != null && scraped.success() ? SUCCESS : ERROR);
         if (!response.success() || response.data() == null) {
             throw new IllegalStateException(response.error() == null ? "Scraper failed" : response.error());
         }
 
         EnrichmentRequest enrichmentRequest = ScraperDataMapper.fromScraperData(response.data(), context.scraperQuery());
-        EnrichmentResult enrichmentResult = enrichmentService.enrichCompanyData(enrichmentRequest);
+        EnrichmentResult enrichmentResult = observe(observationRegistry, ENRICHMENT, source,
+            () -> enrichmentService.enrichCompanyData(enrichmentRequest));
         Company candidateCompany = candidateFactory.buildCandidateCompany(enrichmentResult, context.scraperQuery());
         if (candidateCompany == null || context.limit() <= 0) {
             return List.of();
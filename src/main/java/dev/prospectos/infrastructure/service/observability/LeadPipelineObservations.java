@@ -0,0 +1,80 @@
+package dev.prospectos.infrastructure.service.observability;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Observation names and low-cardinality tags for the lead pipeline. Each observation is a span when tracing is on and
+ * a timer of the same name in the meter registry; tags are limited to source and outcome so series stay bounded.
+ */
+public final class LeadPipelineObservations {
+
+    public static final String DISCOVERY = "prospectos.leads.discovery";
+    public static final String SEARCH = "prospectos.leads.search";
+    public static final String ICP_LOOKUP = "prospectos.leads.icp.lookup";
+    public static final String SOURCE_CALL = "prospectos.leads.source";
+    public static final String SCRAPE = "prospectos.leads.scrape";
+    public static final String ENRICHMENT = "prospectos.leads.enrichment";
+    public static final String SCORING = "prospectos.leads.scoring";
+    public static final String RANKING = "prospectos.leads.ranking";
+
+    public static final String SOURCE = "source";
+    public static final String OUTCOME = "outcome";
+    public static final String SUCCESS = "success";
+    public static final String FALLBACK = "fallback";
+    public static final String ERROR = "error";
+
+    private LeadPipelineObservations() {
+    }
+
+    public static <T> T observe(ObservationRegistry registry, String name, String source, Supplier<T> step) {
+        return observe(registry, null, name, source, step, result -> SUCCESS);
+    }
+
+    public static <T> T observe(
+        ObservationRegistry registry,
+        String name,
+        String source,
+        Supplier<T> step,
+        Function<? super T, String> outcome
+    ) {
+        return observe(registry, null, name, source, step, outcome);
+    }
+
+    /**
+     * Runs {@code step} inside an observation. {@code parent} is only needed when the step runs on a thread other
+     * than the one that opened the parent scope; otherwise the current observation is the parent. A {@code null}
+     * source leaves the tag off, so every call site for a given name must pass one consistently.
+     */
+    public static <T> T observe(
+        ObservationRegistry registry,
+        Observation parent,
+        String name,
+        String source,
+        Supplier<T> step,
+        Function<? super T, String> outcome
+    ) {
+        Observation observation = Observation.createNotStarted(name, registry);
+        if (parent != null) {
+            observation.parentObservation(parent);
+        }
+        if (source != null) {
+            observation.lowCardinalityKeyValue(SOURCE, source);
+        }
+        observation.start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            T result = step.get();
+            observation.lowCardinalityKeyValue(OUTCOME, outcome.apply(result));
+            return result;
+        } catch (RuntimeException exception) {
+            observation.lowCardinalityKeyValue(OUTCOME, ERROR);
+            observation.error(exception);
+            throw exception;
+        } finally {
+            observation.stop();
+        }
+    }
+}
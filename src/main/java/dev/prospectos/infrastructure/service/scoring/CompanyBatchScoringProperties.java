@@ -0,0 +1,54 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paging, concurrency and per-provider rate limits for the batch scoring engine.
+ */
+@ConfigurationProperties(prefix = "prospectos.scoring.batch")
+public record CompanyBatchScoringProperties(
+    Integer pageSize,
+    Integer maxConcurrency,
+    Integer writeBatchSize,
+    Boolean skipUnchanged,
+    Double defaultRequestsPerSecond,
+    Map<String, Double> providerRequestsPerSecond
+) {
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+    private static final int DEFAULT_WRITE_BATCH_SIZE = 50;
+    private static final double DEFAULT_REQUESTS_PER_SECOND = 5.0;
+
+    public CompanyBatchScoringProperties {
+        pageSize = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+        maxConcurrency = maxConcurrency == null ? DEFAULT_MAX_CONCURRENCY : maxConcurrency;
+        writeBatchSize = writeBatchSize == null ? DEFAULT_WRITE_BATCH_SIZE : writeBatchSize;
+        skipUnchanged = skipUnchanged == null || skipUnchanged;
+        defaultRequestsPerSecond = defaultRequestsPerSecond == null ? DEFAULT_REQUESTS_PER_SECOND : defaultRequestsPerSecond;
+        providerRequestsPerSecond = providerRequestsPerSecond == null ? Map.of() : Map.copyOf(providerRequestsPerSecond);
+
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("prospectos.scoring.batch.page-size must be > 0");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("prospectos.scoring.batch.max-concurrency must be > 0");
+        }
+        if (writeBatchSize <= 0) {
+            throw new IllegalArgumentException("prospectos.scoring.batch.write-batch-size must be > 0");
+        }
+    }
+
+    static CompanyBatchScoringProperties defaults() {
+        return new CompanyBatchScoringProperties(null, null, null, null, null, null);
+    }
+
+    /**
+     * Requests per second allowed against {@code provider}; zero or negative disables the limit.
+     */
+    double requestsPerSecondFor(String provider) {
+        return providerRequestsPerSecond.getOrDefault(provider.toLowerCase(Locale.ROOT), defaultRequestsPerSecond);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.client.LLMProvider;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.ICPDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.ICPDto;
+import dev.prospectos.core.domain.ICP;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores every company against one ICP: pages through companies by id, resolves the ICP once,
+ * scores changed companies concurrently and writes the results back in batches.
+ */
+@Slf4j
+@Service
+public class CompanyBatchScoringService implements AutoCloseable {
+
+    private final CompanyDataService companyDataService;
+    private final ICPDataService icpDataService;
+    private final ObjectProvider<AIProvider> aiProvider;
+    private final CompanyBatchScoringProperties properties;
+    private final ConcurrentScoringPage scoringPage;
+    private final ScoreBatchWriter writer;
+
+    public CompanyBatchScoringService(
+        CompanyDataService companyDataService,
+        ICPDataService icpDataService,
+        CompanyScoringService companyScoringService,
+        ObjectProvider<AIProvider> aiProvider,
+        CompanyBatchScoringProperties properties
+    ) {
+        this.companyDataService = companyDataService;
+        this.icpDataService = icpDataService;
+        this.aiProvider = aiProvider;
+        this.properties = properties;
+        this.scoringPage = new ConcurrentScoringPage(companyScoringService, properties);
+        this.writer = new ScoreBatchWriter(companyDataService, properties.writeBatchSize());
+    }
+
+    public CompanyBatchScoringSummary scoreAll(Long icpId) {
+        ICPDto icpDTO = icpId == null ? null : icpDataService.findICP(icpId);
+        if (icpDTO == null) {
+            throw new IllegalArgumentException("ICP not found: " + icpId);
+        }
+        ICP icp = ScoringIcpMapper.toDomain(icpDTO);
+        String provider = activeProvider();
+        long startedAtNanos = System.nanoTime();
+        CompanyBatchScoringSummary summary = CompanyBatchScoringSummary.empty();
+        try {
+            Long cursor = null;
+            List<CompanyDTO> page;
+            do {
+                page = companyDataService.findCompaniesAfter(cursor, properties.pageSize());
+                summary = scorePage(page, icpDTO, icp, provider, summary);
+                cursor = page.isEmpty() ? cursor : page.getLast().id();
+            } while (page.size() == properties.pageSize());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch scoring interrupted", exception);
+        }
+        return summary.withElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos));
+    }
+
+    private CompanyBatchScoringSummary scorePage(
+        List<CompanyDTO> page, ICPDto icpDTO, ICP icp, String provider, CompanyBatchScoringSummary summary
+    ) throws InterruptedException {
+        Map<Long, UUID> fingerprints = new HashMap<>();
+        List<CompanyDTO> changed = page.stream().filter(company -> {
+            UUID fingerprint = ScoringInputFingerprint.of(company, icpDTO);
+            fingerprints.put(company.id(), fingerprint);
+            return !properties.skipUnchanged() || !writer.isUnchanged(company.id(), fingerprint);
+        }).toList();
+        Map<Long, ScoringOutcome> scores = scoringPage.score(changed, icp, provider);
+        int written = writer.write(scores, fingerprints);
+        return summary.plus(written, page.size() - changed.size(), changed.size() - written);
+    }
+
+    private String activeProvider() {
+        AIProvider provider = aiProvider.getIfAvailable();
+        LLMProvider llmProvider = provider == null ? LLMProvider.MOCK : provider.getClient().getProvider();
+        return llmProvider.name();
+    }
+
+    @Override
+    public void close() {
+        scoringPage.close();
+    }
+}
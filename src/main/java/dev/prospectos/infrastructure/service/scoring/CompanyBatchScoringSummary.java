@@ -0,0 +1,24 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+/**
+ * Outcome of one batch scoring run.
+ *
+ * @param scored   companies whose new score was written
+ * @param skipped  companies skipped because their scoring inputs had not changed
+ * @param failed   companies that could not be scored or whose score could not be written
+ * @param elapsedMs wall-clock duration of the run
+ */
+public record CompanyBatchScoringSummary(int scored, int skipped, int failed, long elapsedMs) {
+
+    static CompanyBatchScoringSummary empty() {
+        return new CompanyBatchScoringSummary(0, 0, 0, 0L);
+    }
+
+    CompanyBatchScoringSummary plus(int scoredDelta, int skippedDelta, int failedDelta) {
+        return new CompanyBatchScoringSummary(scored + scoredDelta, skipped + skippedDelta, failed + failedDelta, elapsedMs);
+    }
+
+    CompanyBatchScoringSummary withElapsedMs(long elapsed) {
+        return new CompanyBatchScoringSummary(scored, skipped, failed, elapsed);
+    }
+}
@@ -10,10 +10,11 @@ import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.mapper.CompanyMapper;
 import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.ICP;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import static dev.prospectos.infrastructure.service.observability.LeadPipelineObservations.*;
 
 @Slf4j
 @Service
@@ -22,15 +23,19 @@ public class CompanyScoringService {
     private static final int MAX_SCORE = 100;
     private static final String DEFAULT_PRIORITY = "COLD";
     private static final String FALLBACK_PRIORITY = "IGNORE";
+    private static final String FALLBACK_REASON = "AI scoring failed";
 
     private final ScoringService scoringService;
     private final CompanyDataService companyDataService;
     private final ICPDataService icpDataService;
+    private final ObservationRegistry observationRegistry;
+
     public CompanyScoringService(ScoringService scoringService, CompanyDataService companyDataService,
-                                 ICPDataService icpDataService) {
+                                 ICPDataService icpDataService, ObservationRegistry observationRegistry) {
         this.scoringService = scoringService;
         this.companyDataService = companyDataService;
         this.icpDataService = icpDataService;
+        this.observationRegistry = observationRegistry;
     }
 
     public ScoreDTO scoreCompany(Long companyId, Long icpId) {
@@ -45,56 +50,50 @@ public class CompanyScoringService {
         if (icpDTO == null) {
             throw new IllegalArgumentException("ICP not found");
         }
-        ScoreDTO score = scoreCompanySafely(CompanyMapper.toDomain(companyDTO), toDomainICP(icpDTO));
+        ScoreDTO score = scoreSafely(CompanyMapper.toDomain(companyDTO), ScoringIcpMapper.toDomain(icpDTO)).score();
         companyDataService.updateCompanyScore(companyId, score);
         return score;
     }
 
     public ScoreDTO scoreCandidate(Company company, ICP icp) {
+        return scoreOutcome(company, icp).score();
+    }
+
+    ScoringOutcome scoreOutcome(Company company, ICP icp) {
         if (company == null) {
             throw new IllegalArgumentException("Company cannot be null");
         }
         if (icp == null) {
             throw new IllegalArgumentException("ICP cannot be null");
         }
-        return scoreCompanySafely(company, icp);
-    }
-
-    private ICP toDomainICP(ICPDto icpDTO) {
-        return ICP.create(
-            icpDTO.name(),
-            icpDTO.description(),
-            icpDTO.targetIndustries() != null ? icpDTO.targetIndustries() : List.of(),
-            icpDTO.regions() != null ? icpDTO.regions() : List.of(),
-            icpDTO.targetRoles() != null ? icpDTO.targetRoles() : List.of(),
-            icpDTO.interestTheme()
-        );
+        return scoreSafely(company, icp);
     }
 
-    private ScoreDTO scoreCompanySafely(Company company, ICP icp) {
+    private ScoringOutcome scoreSafely(Company company, ICP icp) {
         try {
             log.debug("Starting scoring for company: {} with ICP: {}", company.getName(), icp.getName());
-            ScoringResult result = scoringService.scoreCompany(company, icp);
+            ScoringResult result = observe(observationRegistry, SCORING, null,
+                () -> scoringService.scoreCompany(company, icp), scored -> scored == null ? FALLBACK : SUCCESS);
             log.debug("Scoring completed. Result: {}", result);
             return mapScore(result);
         } catch (Exception e) {
             log.error("Scoring failed for company: {}", company.getName(), e);
-            return fallbackScore("AI scoring failed: " + e.getMessage());
+            return fallbackScore(FALLBACK_REASON + ": " + e.getMessage());
         }
     }
 
-    private ScoreDTO mapScore(ScoringResult result) {
+    private ScoringOutcome mapScore(ScoringResult result) {
         if (result == null) {
-            return fallbackScore("AI scoring failed: empty result");
+            return fallbackScore(FALLBACK_REASON + ": empty result");
         }
         int boundedScore = result.score() < MIN_SCORE ? MIN_SCORE : Math.min(result.score(), MAX_SCORE);
         String priority = result.priority() == null ? DEFAULT_PRIORITY : result.priority().name();
         String reasoning = result.reasoning() == null ? "AI scoring completed" : result.reasoning();
-        return new ScoreDTO(boundedScore, priority, reasoning);
+        return new ScoringOutcome(new ScoreDTO(boundedScore, priority, reasoning), false);
     }
 
-    private ScoreDTO fallbackScore(String message) {
-        String safeMessage = message == null || message.isBlank() ? "AI scoring failed" : message;
-        return new ScoreDTO(MIN_SCORE, FALLBACK_PRIORITY, safeMessage);
+    private ScoringOutcome fallbackScore(String message) {
+        String safeMessage = message == null || message.isBlank() ? FALLBACK_REASON : message;
+        return new ScoringOutcome(new ScoreDTO(MIN_SCORE, FALLBACK_PRIORITY, safeMessage), true);
     }
 }
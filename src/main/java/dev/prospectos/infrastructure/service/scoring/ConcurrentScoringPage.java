@@ -0,0 +1,83 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.mapper.CompanyMapper;
+import dev.prospectos.core.domain.ICP;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Scores one page of companies on virtual threads. A semaphore bounds how many scoring calls are in
+ * flight and the provider rate limiter spaces them, so large pages never flood the LLM.
+ */
+@Slf4j
+final class ConcurrentScoringPage implements AutoCloseable {
+
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("company-scoring-", 0).factory());
+    private final CompanyScoringService scoringService;
+    private final ScoringProviderRateLimiter rateLimiter;
+    private final Semaphore inFlight;
+
+    ConcurrentScoringPage(CompanyScoringService scoringService, CompanyBatchScoringProperties properties) {
+        this.scoringService = scoringService;
+        this.rateLimiter = new ScoringProviderRateLimiter(properties);
+        this.inFlight = new Semaphore(properties.maxConcurrency());
+    }
+
+    /**
+     * Returns scores keyed by company id in page order; companies that could not be scored are absent.
+     */
+    Map<Long, ScoringOutcome> score(List<CompanyDTO> companies, ICP icp, String provider) throws InterruptedException {
+        List<Future<ScoringOutcome>> futures = companies.stream()
+            .map(company -> executor.submit(() -> scoreOne(company, icp, provider)))
+            .toList();
+        Map<Long, ScoringOutcome> scores = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                ScoringOutcome score = await(futures.get(i), companies.get(i));
+                if (score != null) {
+                    scores.put(companies.get(i).id(), score);
+                }
+            }
+            return scores;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private ScoringOutcome scoreOne(CompanyDTO company, ICP icp, String provider) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            rateLimiter.acquire(provider);
+            return scoringService.scoreOutcome(CompanyMapper.toDomain(company), icp);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static ScoringOutcome await(Future<ScoringOutcome> future, CompanyDTO company) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException failure) {
+            log.warn("Scoring failed for company {}: {}", company.id(), failure.getCause().getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Interrupts scoring calls still running; their batch run is abandoned once the context shuts down.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -1,7 +1,5 @@
 package dev.prospectos.infrastructure.service.scoring;
 
-import dev.prospectos.api.CompanyDataService;
-import dev.prospectos.api.dto.CompanyDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
@@ -9,25 +7,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Slf4j
 @Component
 @Profile("development")
 @ConditionalOnProperty(prefix = "prospectos.scoring", name = "enabled", havingValue = "true")
 public class ScheduledCompanyScoringJob {
 
-    private final CompanyDataService companyDataService;
-    private final CompanyScoringService companyScoringService;
+    private final CompanyBatchScoringService batchScoringService;
     private final String icpIdProperty;
 
     public ScheduledCompanyScoringJob(
-        CompanyDataService companyDataService,
-        CompanyScoringService companyScoringService,
+        CompanyBatchScoringService batchScoringService,
         @Value("${prospectos.scoring.icp-id:}") String icpIdProperty
     ) {
-        this.companyDataService = companyDataService;
-        this.companyScoringService = companyScoringService;
+        this.batchScoringService = batchScoringService;
         this.icpIdProperty = icpIdProperty;
     }
 
@@ -39,18 +32,12 @@ public class ScheduledCompanyScoringJob {
             return;
         }
 
-        List<CompanyDTO> companies = companyDataService.findAllCompanies();
-        if (companies.isEmpty()) {
-            log.info("Scoring job skipped: no companies found");
-            return;
-        }
-
-        for (CompanyDTO company : companies) {
-            try {
-                companyScoringService.scoreCompany(company.id(), icpId);
-            } catch (Exception e) {
-                log.warn("Scoring failed for company {}: {}", company.id(), e.getMessage());
-            }
+        try {
+            CompanyBatchScoringSummary summary = batchScoringService.scoreAll(icpId);
+            log.info("Scoring job finished in {}ms: {} scored, {} unchanged, {} failed",
+                summary.elapsedMs(), summary.scored(), summary.skipped(), summary.failed());
+        } catch (IllegalArgumentException e) {
+            log.warn("Scoring job skipped: {}", e.getMessage());
         }
     }
 
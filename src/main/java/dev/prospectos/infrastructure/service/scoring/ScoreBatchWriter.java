@@ -0,0 +1,73 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.ScoreDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes scores back in fixed-size batches and remembers the input fingerprint of every company whose
+ * real (non-fallback) score was persisted, so unchanged companies can be skipped on the next run.
+ */
+@Slf4j
+final class ScoreBatchWriter {
+
+    private final CompanyDataService companyDataService;
+    private final int batchSize;
+    private final Map<Long, UUID> scoredFingerprints = new ConcurrentHashMap<>();
+
+    ScoreBatchWriter(CompanyDataService companyDataService, int batchSize) {
+        this.companyDataService = companyDataService;
+        this.batchSize = batchSize;
+    }
+
+    boolean isUnchanged(Long companyId, UUID fingerprint) {
+        return fingerprint.equals(scoredFingerprints.get(companyId));
+    }
+
+    /**
+     * Persists {@code scores}; returns how many were written. A failed batch is logged and left unscored.
+     */
+    int write(Map<Long, ScoringOutcome> scores, Map<Long, UUID> fingerprints) {
+        int written = 0;
+        for (Map<Long, ScoringOutcome> batch : partition(scores)) {
+            Map<Long, ScoreDTO> values = new LinkedHashMap<>();
+            batch.forEach((companyId, outcome) -> values.put(companyId, outcome.score()));
+            try {
+                companyDataService.updateCompanyScores(values);
+            } catch (RuntimeException failure) {
+                log.warn("Failed to write {} company scores: {}", batch.size(), failure.getMessage());
+                continue;
+            }
+            written += batch.size();
+            batch.forEach((companyId, outcome) -> {
+                if (!outcome.fallback()) {
+                    scoredFingerprints.put(companyId, fingerprints.get(companyId));
+                }
+            });
+        }
+        return written;
+    }
+
+    private List<Map<Long, ScoringOutcome>> partition(Map<Long, ScoringOutcome> scores) {
+        List<Map<Long, ScoringOutcome>> batches = new ArrayList<>();
+        Map<Long, ScoringOutcome> current = new LinkedHashMap<>();
+        for (Map.Entry<Long, ScoringOutcome> entry : scores.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() == batchSize) {
+                batches.add(current);
+                current = new LinkedHashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,26 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.api.dto.ICPDto;
+import dev.prospectos.core.domain.ICP;
+
+import java.util.List;
+
+/**
+ * Converts the public ICP DTO into the domain ICP handed to the scoring model.
+ */
+final class ScoringIcpMapper {
+
+    private ScoringIcpMapper() {
+    }
+
+    static ICP toDomain(ICPDto icpDTO) {
+        return ICP.create(
+            icpDTO.name(),
+            icpDTO.description(),
+            icpDTO.targetIndustries() != null ? icpDTO.targetIndustries() : List.of(),
+            icpDTO.regions() != null ? icpDTO.regions() : List.of(),
+            icpDTO.targetRoles() != null ? icpDTO.targetRoles() : List.of(),
+            icpDTO.interestTheme()
+        );
+    }
+}
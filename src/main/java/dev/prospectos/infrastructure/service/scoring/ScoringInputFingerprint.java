@@ -0,0 +1,34 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.ICPDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stable digest of everything that feeds a scoring prompt: the company profile and the target ICP.
+ * The current score is deliberately excluded, since it is the output rather than an input.
+ */
+final class ScoringInputFingerprint {
+
+    private static final String SEPARATOR = "\u001f";
+
+    private ScoringInputFingerprint() {
+    }
+
+    static UUID of(CompanyDTO company, ICPDto icp) {
+        String material = Stream.of(
+                company.name(), company.industry(), company.website(), company.description(),
+                company.employeeCount(), company.location(),
+                icp.name(), icp.description(), icp.targetIndustries(), icp.regions(),
+                icp.targetRoles(), icp.interestTheme()
+            )
+            .map(value -> Objects.toString(value, ""))
+            .collect(Collectors.joining(SEPARATOR));
+        return UUID.nameUUIDFromBytes(material.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.api.dto.ScoreDTO;
+
+/**
+ * A score together with whether it is the fallback written when AI scoring failed, so callers never have to
+ * infer that from the category or reasoning text.
+ */
+record ScoringOutcome(ScoreDTO score, boolean fallback) {
+}
@@ -0,0 +1,50 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Spaces scoring calls per LLM provider so a batch run never exceeds the configured request rate.
+ * Each caller reserves the next free slot atomically and sleeps until it arrives, so permits are
+ * handed out in arrival order without a lock.
+ */
+final class ScoringProviderRateLimiter {
+
+    private final CompanyBatchScoringProperties properties;
+    private final LongSupplier nanoTime;
+    private final Sleeper sleeper;
+    private final Map<String, AtomicLong> nextSlotNanos = new ConcurrentHashMap<>();
+
+    ScoringProviderRateLimiter(CompanyBatchScoringProperties properties) {
+        this(properties, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    ScoringProviderRateLimiter(CompanyBatchScoringProperties properties, LongSupplier nanoTime, Sleeper sleeper) {
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.sleeper = sleeper;
+    }
+
+    void acquire(String provider) throws InterruptedException {
+        double rate = properties.requestsPerSecondFor(provider);
+        if (rate <= 0) {
+            return;
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long now = nanoTime.getAsLong();
+        long slot = nextSlotNanos.computeIfAbsent(provider, key -> new AtomicLong(now))
+            .getAndAccumulate(intervalNanos, (next, interval) -> Math.max(next, now) + interval);
+        long waitNanos = slot - now;
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,12 @@
+-- Company listing indexes for profiles running with spring.jpa.hibernate.ddl-auto=validate, which never creates
+-- the @Index declarations on Company and its contacts collection.
+-- Idempotent: runs on every startup through spring.sql.init before Hibernate validates the mappings.
+
+CREATE INDEX IF NOT EXISTS idx_companies_industry
+    ON companies (industry);
+
+CREATE INDEX IF NOT EXISTS idx_companies_prospecting_score
+    ON companies (prospecting_score);
+
+CREATE INDEX IF NOT EXISTS idx_company_contacts_company
+    ON company_contacts (company_id);
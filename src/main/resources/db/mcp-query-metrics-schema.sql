@@ -0,0 +1,20 @@
+-- Query metrics schema for profiles running with spring.jpa.hibernate.ddl-auto=validate.
+-- Idempotent: runs on every startup through spring.sql.init before Hibernate validates the mappings.
+
+CREATE INDEX IF NOT EXISTS idx_mcp_query_observations_recorded_at
+    ON mcp_query_observations (recorded_at, provider);
+
+CREATE TABLE IF NOT EXISTS mcp_query_metrics_hourly (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    provider          VARCHAR(255)                NOT NULL,
+    hour_start        TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    queries           BIGINT                      NOT NULL,
+    successes         BIGINT                      NOT NULL,
+    duration_ms       BIGINT                      NOT NULL,
+    cost              NUMERIC(18, 4)              NOT NULL,
+    latency_histogram VARCHAR(2048),
+    CONSTRAINT uk_mcp_query_metrics_hourly UNIQUE (hour_start, provider)
+);
+
+-- Hourly tables created before latency percentiles were rolled up.
+ALTER TABLE mcp_query_metrics_hourly ADD COLUMN IF NOT EXISTS latency_histogram VARCHAR(2048);
@@ -0,0 +1,130 @@
+package dev.prospectos.ai.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, Duration.ofMinutes(5), clock);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.getIfPresent("a");
+
+        cache.put("c", "C");
+
+        assertThat(cache.getIfPresent("b")).isEmpty();
+        assertThat(cache.getIfPresent("a")).contains("A");
+        assertThat(cache.getIfPresent("c")).contains("C");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(5), clock);
+        cache.put("a", "A");
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.getIfPresent("a")).isEmpty();
+        assertThat(cache.stats().size()).isZero();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void loadsOnceAndReportsHitRate() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(5), clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            cache.get("a", key -> key.toUpperCase() + loads.incrementAndGet());
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hits()).isEqualTo(3);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void doesNotCacheNullResults() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(5), clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", key -> { loads.incrementAndGet(); return null; });
+        cache.get("a", key -> { loads.incrementAndGet(); return null; });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void coalescesConcurrentLoadsOfTheSameKey() throws Exception {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, Duration.ofMinutes(5), clock);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> cache.get("a", key -> {
+                loads.incrementAndGet();
+                await(release);
+                return "A";
+            }));
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> cache.get("a", key -> "other" + loads.incrementAndGet()));
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package dev.prospectos.ai.client;
 
+import dev.prospectos.ai.config.LlmPricingProperties;
 import dev.prospectos.ai.config.ScraperProperties;
+import dev.prospectos.ai.config.UrlNormalizationService;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.chat.client.ChatClient;
@@ -13,7 +17,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
+import static dev.prospectos.ai.monitoring.ChatResponseSupport.chatResponse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 class AIWebSearchScraperClientTest {
 
@@ -89,10 +95,77 @@ class AIWebSearchScraperClientTest {
             );
     }
 
+    @Test
+    void scrapeWebsiteSyncServesEquivalentUrlsFromCache() {
+        client = new AIWebSearchScraperClient(
+            chatClient("{\"company_name\": \"Acme\", \"industry\": \"Software\"}"),
+            scraperProperties(0, false),
+            new LlmScrapingResponseConverter()
+        );
+
+        ScrapingResponse first = client.scrapeWebsiteSync("https://www.acme.com/about", false);
+        ScrapingResponse second = client.scrapeWebsiteSync("ACME.com", false);
+
+        assertThat(first.success()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void scrapeWebsiteSyncDoesNotCacheFailures() {
+        Queue<Object> queue = new ArrayDeque<>(List.of(new RuntimeException("boom"), "{\"company_name\": \"Acme\"}"));
+        client = new AIWebSearchScraperClient(proxyClient(queue), scraperProperties(0, false), new LlmScrapingResponseConverter());
+
+        ScrapingResponse failed = client.scrapeWebsiteSync("https://acme.com", false);
+        ScrapingResponse retried = client.scrapeWebsiteSync("https://acme.com", false);
+
+        assertThat(failed.success()).isFalse();
+        assertThat(retried.success()).isTrue();
+        assertThat(retried.data()).containsEntry("company_name", "Acme");
+    }
+
+    @Test
+    void meteredCallsAreTaggedWithSearchOperationAndProviderFromPriceTable() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenUsageMonitor usageMonitor = new TokenUsageMonitor(meterRegistry, LlmPricingProperties.defaults());
+        client = new AIWebSearchScraperClient(
+            chatClient("{\"company_name\": \"Acme\"}", "- Acme raised a Series A round."),
+            scraperProperties(0, false),
+            new LlmScrapingResponseConverter(),
+            new UrlNormalizationService(),
+            null,
+            usageMonitor
+        );
+
+        client.scrapeWebsiteSync("https://acme.com", false);
+        client.searchNews("Acme", 30);
+
+        assertThat(meterRegistry.get(TokenUsageMonitor.TOKENS)
+            .tags("provider", "openai", "operation", "web-search", "icp", "none", "type", "prompt")
+            .counter().count()).isEqualTo(1_000);
+        assertThat(meterRegistry.get(TokenUsageMonitor.COST).tags("operation", "news-search").counter().count())
+            .isCloseTo(0.00027, within(1e-9));
+    }
+
+    @Test
+    void searchNewsCachesPerCompanyAndLookBackWindow() {
+        client = new AIWebSearchScraperClient(
+            chatClient("- Acme raised a Series A round.", "- Acme opened an office in Lisbon."),
+            scraperProperties(0, false),
+            new LlmScrapingResponseConverter()
+        );
+
+        NewsResponse first = client.searchNews("Acme", 30);
+        NewsResponse cached = client.searchNews(" acme ", 30);
+        NewsResponse widerWindow = client.searchNews("Acme", 90);
+
+        assertThat(cached).isSameAs(first);
+        assertThat(widerWindow.news()).containsExactly("Acme opened an office in Lisbon.");
+    }
+
     private ScraperProperties scraperProperties(int retries, boolean deepSearchEnabled) {
         return new ScraperProperties(
             true,
-            new ScraperProperties.Ai(Duration.ofSeconds(1), retries, deepSearchEnabled, Duration.ofHours(1)),
+            new ScraperProperties.Ai(Duration.ofSeconds(1), retries, deepSearchEnabled, Duration.ofHours(1), 100),
             new ScraperProperties.Service("http://localhost:3000", Duration.ofSeconds(1), 1)
         );
     }
@@ -112,12 +185,12 @@ class AIWebSearchScraperClientTest {
             getClass().getClassLoader(),
             new Class[]{ChatClient.CallResponseSpec.class},
             (proxy, method, args) -> {
-                if ("content".equals(method.getName())) {
+                if ("chatResponse".equals(method.getName())) {
                     Object next = queue.remove();
                     if (next instanceof RuntimeException runtimeException) {
                         throw runtimeException;
                     }
-                    return next;
+                    return chatResponse((String) next);
                 }
                 return null;
             }
@@ -1,15 +1,22 @@
 package dev.prospectos.ai.client.impl;
 
 import dev.prospectos.ai.client.LLMProvider;
+import dev.prospectos.ai.config.LlmPricingProperties;
 import dev.prospectos.ai.dto.OutreachMessage;
 import dev.prospectos.ai.dto.PriorityLevel;
 import dev.prospectos.ai.dto.ScoringResult;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ResponseEntity;
 
 import java.lang.reflect.Proxy;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static dev.prospectos.ai.monitoring.ChatResponseSupport.chatResponse;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -64,6 +71,44 @@ class SpringAILLMClientTest {
         assertThat(client.query("hello")).isEqualTo("Error: timeout");
     }
 
+    @Test
+    void queryRecordsRequestTimerTaggedByProviderOperationAndOutcome() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        TokenUsageMonitor usageMonitor = new TokenUsageMonitor();
+
+        new SpringAILLMClient(chatClient("response", null, null), LLMProvider.OPENAI, true, observationRegistry, usageMonitor)
+            .query("hello");
+        new SpringAILLMClient(chatClient(null, null, new RuntimeException("timeout")), LLMProvider.GROQ, true, observationRegistry,
+            usageMonitor).query("hello");
+
+        assertThat(meterRegistry.get("prospectos.llm.request").tags("provider", "openai", "operation", "query", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("prospectos.llm.request").tags("provider", "groq", "operation", "query", "outcome", "error")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void meteredCallsRecordReportedTokensAgainstTheClientProvider() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenUsageMonitor usageMonitor = new TokenUsageMonitor(meterRegistry, LlmPricingProperties.defaults());
+        OutreachMessage message = new OutreachMessage("Subject", "Body", "email", "consultative", new String[]{"CTA"});
+
+        new SpringAILLMClient(chatClient("response", null, null), LLMProvider.OPENAI, true, ObservationRegistry.NOOP, usageMonitor)
+            .query("hello");
+        new SpringAILLMClient(chatClient(null, message, null), LLMProvider.OPENAI, true, ObservationRegistry.NOOP, usageMonitor)
+            .queryStructured("prompt", OutreachMessage.class);
+
+        assertThat(usageMonitor.getTotalRequests()).isEqualTo(2);
+        assertThat(meterRegistry.get(TokenUsageMonitor.TOKENS)
+            .tags("provider", "openai", "model", "gpt-4o-mini-2024-07-18", "operation", "query", "type", "prompt")
+            .counter().count()).isEqualTo(1_000);
+        assertThat(meterRegistry.get(TokenUsageMonitor.TOKENS).tags("operation", "structured", "type", "completion")
+            .counter().count()).isEqualTo(200);
+    }
+
     @Test
     void queryWithFunctionsReturnsErrorMessageWhenChatClientFails() {
         SpringAILLMClient client = new SpringAILLMClient(chatClient(null, null, new RuntimeException("boom")), LLMProvider.GROQ, true);
@@ -124,8 +169,8 @@ class SpringAILLMClientTest {
                     throw error;
                 }
                 return switch (method.getName()) {
-                    case "content" -> content;
-                    case "entity" -> entity;
+                    case "chatResponse" -> chatResponse(content);
+                    case "responseEntity" -> new ResponseEntity<>(chatResponse(""), entity);
                     default -> null;
                 };
             }
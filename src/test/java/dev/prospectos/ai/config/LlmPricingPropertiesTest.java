@@ -0,0 +1,43 @@
+package dev.prospectos.ai.config;
+
+import dev.prospectos.ai.config.LlmPricingProperties.ModelPrice;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmPricingPropertiesTest {
+
+    @Test
+    void datedModelSnapshotsMatchTheLongestPricedPrefix() {
+        LlmPricingProperties pricing = LlmPricingProperties.defaults();
+
+        assertThat(pricing.priceOf("gpt-4o-mini-2024-07-18")).map(ModelPrice::inputPerMillion).contains(new BigDecimal("0.15"));
+        assertThat(pricing.priceOf("gpt-4o-2024-08-06")).map(ModelPrice::inputPerMillion).contains(new BigDecimal("2.50"));
+        assertThat(pricing.priceOf("mistral-large")).isEmpty();
+        assertThat(pricing.cost("mistral-large", 1_000, 1_000)).isZero();
+    }
+
+    @Test
+    void configuredModelsOverrideAndExtendBuiltInPrices() {
+        LlmPricingProperties pricing = new LlmPricingProperties(Map.of(
+            "gpt-4o", new ModelPrice("openai", new BigDecimal("2.00"), new BigDecimal("8.00")),
+            "qwen-2.5-32b", new ModelPrice("groq", new BigDecimal("0.29"), new BigDecimal("0.39"))
+        ));
+
+        assertThat(pricing.cost("gpt-4o", 1_000_000, 500_000)).isEqualByComparingTo("6.00");
+        assertThat(pricing.priceOf("qwen-2.5-32b")).map(ModelPrice::provider).contains("groq");
+        assertThat(pricing.priceOf("llama3-8b-8192")).isPresent();
+    }
+
+    @Test
+    void rejectsNegativePrices() {
+        assertThatThrownBy(() -> new LlmPricingProperties(Map.of(
+            "gpt-4o", new ModelPrice("openai", new BigDecimal("-1"), BigDecimal.ONE)
+        ))).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("prospectos.ai.pricing.models[gpt-4o].input-per-million must be >= 0");
+    }
+}
@@ -169,4 +169,17 @@ class UrlNormalizationServiceTest {
         String result = urlNormalizationService.normalizeGroqUrl(input);
         assertEquals("https://api.groq.com/openai/v1?param=value", result);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(strings = {"acme.com", "https://acme.com", "https://www.Acme.com/about?ref=x", " HTTP://acme.com/ "})
+    @DisplayName("Should reduce equivalent website URLs to the same domain")
+    void shouldNormalizeEquivalentWebsitesToSameDomain(String website) {
+        assertEquals("acme.com", urlNormalizationService.normalizeDomain(website));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the raw lower-case value when a website cannot be parsed")
+    void shouldFallBackToRawValueForUnparseableWebsite() {
+        assertEquals("not a url", urlNormalizationService.normalizeDomain(" Not A URL "));
+    }
+}
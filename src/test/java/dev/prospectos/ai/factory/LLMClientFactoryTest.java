@@ -4,6 +4,8 @@ import dev.prospectos.ai.client.LLMClient;
 import dev.prospectos.ai.client.LLMProvider;
 import dev.prospectos.ai.client.impl.MockLLMClient;
 import dev.prospectos.ai.config.AIProviderActivationProperties;
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -117,7 +119,9 @@ class LLMClientFactoryTest {
             provider(null),
             provider(null),
             new MockEnvironment(),
-            new AIProviderActivationProperties("openai")
+            new AIProviderActivationProperties("openai"),
+            ObservationRegistry.NOOP,
+            new TokenUsageMonitor()
         );
         ReflectionTestUtils.setField(factory, "openaiKey", "sk-live-key");
 
@@ -134,7 +138,9 @@ class LLMClientFactoryTest {
             provider(groqChatClient),
             provider(groqScoringChatClient),
             environment,
-            new AIProviderActivationProperties(joinProviders(providers))
+            new AIProviderActivationProperties(joinProviders(providers)),
+            ObservationRegistry.NOOP,
+            new TokenUsageMonitor()
         );
         ReflectionTestUtils.setField(factory, "openaiKey", "");
         ReflectionTestUtils.setField(factory, "anthropicKey", "");
@@ -0,0 +1,27 @@
+package dev.prospectos.ai.monitoring;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.util.List;
+
+public final class ChatResponseSupport {
+
+    private ChatResponseSupport() {
+    }
+
+    public static ChatResponse chatResponse(String text) {
+        return chatResponse(text, "gpt-4o-mini-2024-07-18", 1_000, 200);
+    }
+
+    public static ChatResponse chatResponse(String text, String model, int promptTokens, int completionTokens) {
+        ChatResponseMetadata metadata = ChatResponseMetadata.builder()
+            .model(model)
+            .usage(new DefaultUsage(promptTokens, completionTokens))
+            .build();
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))), metadata);
+    }
+}
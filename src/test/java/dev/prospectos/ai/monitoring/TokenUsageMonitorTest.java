@@ -1,58 +1,78 @@
 package dev.prospectos.ai.monitoring;
 
+import dev.prospectos.ai.config.LlmPricingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
+import static dev.prospectos.ai.monitoring.ChatResponseSupport.chatResponse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 class TokenUsageMonitorTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenUsageMonitor monitor = new TokenUsageMonitor(meterRegistry, LlmPricingProperties.defaults());
+
     @Test
     void startsWithZeroCounters() {
         TokenUsageMonitor monitor = new TokenUsageMonitor();
 
         assertThat(monitor.getTotalRequests()).isZero();
         assertThat(monitor.getTotalTokens()).isZero();
+        assertThat(monitor.averageCost("scoring")).isEmpty();
     }
 
     @Test
-    void logRequestAccumulatesRequestsAndEstimatedTokens() {
-        TokenUsageMonitor monitor = new TokenUsageMonitor();
+    void recordCountsReportedTokensAndReturnsGeneratedText() {
+        String text = monitor.record("groq", "query", chatResponse("hello", "llama3-8b-8192", 2_000, 500));
 
-        monitor.logRequest("12345678", "abcd");
-        monitor.logRequest("1234", "1234");
-
-        assertThat(monitor.getTotalRequests()).isEqualTo(2);
-        assertThat(monitor.getTotalTokens()).isEqualTo(5);
+        assertThat(text).isEqualTo("hello");
+        assertThat(monitor.getTotalRequests()).isEqualTo(1);
+        assertThat(monitor.getTotalTokens()).isEqualTo(2_500);
+        assertThat(meterRegistry.get(TokenUsageMonitor.TOKENS)
+            .tags("provider", "groq", "model", "llama3-8b-8192", "operation", "query", "icp", "none", "type", "prompt")
+            .counter().count()).isEqualTo(2_000);
+        assertThat(meterRegistry.get(TokenUsageMonitor.TOKENS).tags("type", "completion").counter().count()).isEqualTo(500);
     }
 
     @Test
-    void printUsageSummaryDoesNotChangeCounters() {
-        TokenUsageMonitor monitor = new TokenUsageMonitor();
-        monitor.logRequest("1234", "1234");
-
-        monitor.printUsageSummary();
+    void costUsesModelPricesAndScopeAttributesOperationAndIcp() {
+        LlmUsageScope.call("scoring", 42L,
+            () -> monitor.record("anthropic", "structured", chatResponse("{}", "claude-3-5-sonnet-20241022", 10_000, 1_000)));
+
+        assertThat(meterRegistry.get(TokenUsageMonitor.COST)
+            .tags("provider", "anthropic", "operation", "scoring", "icp", "42")
+            .counter().count()).isCloseTo(0.045, within(1e-9));
+        assertThat(monitor.averageCost("scoring")).contains(new BigDecimal("0.045000"));
+        assertThat(monitor.averageCost("structured")).isEmpty();
+    }
 
-        assertThat(monitor.getTotalRequests()).isEqualTo(1);
-        assertThat(monitor.getTotalTokens()).isEqualTo(2);
+    @Test
+    void providerIsInferredFromPriceTableWhenCallerDoesNotKnowIt() {
+        monitor.record(null, "web-search", chatResponse("{}"));
+        monitor.record(null, "web-search", chatResponse("{}", "some-local-model", 100, 10));
+
+        assertThat(meterRegistry.get(TokenUsageMonitor.COST).tags("provider", "openai").counter().count())
+            .isCloseTo(0.00027, within(1e-9));
+        assertThat(meterRegistry.get(TokenUsageMonitor.COST).tags("provider", "unknown").counter().count()).isZero();
+        assertThat(monitor.averageCost("web-search")).contains(new BigDecimal("0.000135"));
     }
 
     @Test
-    void estimateUsesCharacterDivisionByFourWithFloorBehavior() {
-        TokenUsageMonitor monitor = new TokenUsageMonitor();
+    void printUsageSummaryDoesNotChangeCounters() {
+        monitor.record("openai", "query", chatResponse("ok"));
 
-        monitor.logRequest("12345", "12");
+        monitor.printUsageSummary();
 
         assertThat(monitor.getTotalRequests()).isEqualTo(1);
-        assertThat(monitor.getTotalTokens()).isEqualTo(1);
+        assertThat(monitor.getTotalTokens()).isEqualTo(1_200);
     }
 
     @Test
-    void printUsageSummaryWithNoRequestsKeepsCountersAtZero() {
-        TokenUsageMonitor monitor = new TokenUsageMonitor();
-
-        monitor.printUsageSummary();
-
+    void missingResponseIsIgnored() {
+        assertThat(monitor.record("openai", "query", null)).isNull();
         assertThat(monitor.getTotalRequests()).isZero();
-        assertThat(monitor.getTotalTokens()).isZero();
     }
 }
@@ -1,6 +1,10 @@
 package dev.prospectos.ai.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.client.LLMClient;
+import dev.prospectos.ai.client.LLMProvider;
+import dev.prospectos.ai.config.ScoringCacheProperties;
 import dev.prospectos.ai.dto.PriorityLevel;
 import dev.prospectos.ai.dto.ScoringResult;
 import dev.prospectos.core.domain.Company;
@@ -12,12 +16,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,7 +49,7 @@ class ScoringAIServiceTest {
         company.setAiAnalysis("Growing fast");
         ICP icp = ICP.create("Target", "Desc", List.of("Software"), List.of("Brazil"), List.of("CTO"), "Growth");
         ScoringResult expected = new ScoringResult(90, PriorityLevel.HOT, "Strong fit", Map.of("icpFit", 30), "Reach out");
-        when(aiProvider.calculateScore(org.mockito.ArgumentMatchers.anyString(), eq(ScoringResult.class))).thenReturn(expected);
+        when(aiProvider.calculateScore(anyString(), eq(ScoringResult.class))).thenReturn(expected);
 
         ScoringResult result = service.scoreCompany(company, icp);
 
@@ -52,4 +61,24 @@ class ScoringAIServiceTest {
             .contains("Use priority as one of: HOT, WARM, COLD, IGNORE")
             .contains("Active Signals: false");
     }
+
+    @Test
+    void scoreCompanyServesIdenticalPromptsFromCache() {
+        LLMClient llmClient = mock(LLMClient.class);
+        when(aiProvider.getClient()).thenReturn(llmClient);
+        when(llmClient.getProvider()).thenReturn(LLMProvider.ANTHROPIC);
+        ScoringResultCache cache = new ScoringResultCache(
+            new ScoringCacheProperties(true, 10, Duration.ofHours(1), null), new MockEnvironment(), new ObjectMapper(), null);
+        ScoringAIService cachedService = new ScoringAIService(aiProvider, cache);
+        Company company = Company.create("Acme", Website.of("https://acme.com"), "Software");
+        ICP icp = ICP.create("Target", "Desc", List.of("Software"), List.of("Brazil"), List.of("CTO"), "Growth");
+        ScoringResult expected = new ScoringResult(75, PriorityLevel.WARM, "Good fit", Map.of(), "Follow up");
+        when(aiProvider.calculateScore(anyString(), eq(ScoringResult.class))).thenReturn(expected);
+
+        cachedService.scoreCompany(company, icp);
+        ScoringResult second = cachedService.scoreCompany(company, icp);
+
+        assertThat(second).isEqualTo(expected);
+        verify(aiProvider, times(1)).calculateScore(anyString(), eq(ScoringResult.class));
+    }
 }
@@ -0,0 +1,96 @@
+package dev.prospectos.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.client.LLMClient;
+import dev.prospectos.ai.client.LLMProvider;
+import dev.prospectos.ai.config.ScoringCacheProperties;
+import dev.prospectos.ai.dto.PriorityLevel;
+import dev.prospectos.ai.dto.ScoringResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringResultCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ScoringResult RESULT = new ScoringResult(70, PriorityLevel.WARM, "Fit", Map.of("icpFit", 20), "Call");
+
+    @Mock
+    private AIProvider aiProvider;
+
+    @Mock
+    private LLMClient llmClient;
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final AtomicInteger llmCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(aiProvider.getClient()).thenReturn(llmClient);
+        when(llmClient.getProvider()).thenReturn(LLMProvider.OPENAI);
+    }
+
+    @Test
+    void servesRepeatedPromptsFromCacheAndReportsHitRate() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ScoringResultCache cache = new ScoringResultCache(properties(null), environment, OBJECT_MAPPER, registry);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(aiProvider, "prompt", this::callLlm)).isEqualTo(RESULT);
+        }
+
+        assertThat(llmCalls).hasValue(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(2.0 / 3.0);
+        assertThat(registry.get("cache.gets").tag("cache", "scoring").tag("result", "hit").functionCounter().count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void missesWhenPromptOrModelChanges() {
+        ScoringResultCache cache = new ScoringResultCache(properties(null), environment, OBJECT_MAPPER, null);
+
+        cache.get(aiProvider, "prompt", this::callLlm);
+        cache.get(aiProvider, "other prompt", this::callLlm);
+        environment.setProperty("spring.ai.openai.chat.options.model", "gpt-4o");
+        cache.get(aiProvider, "prompt", this::callLlm);
+
+        assertThat(llmCalls).hasValue(3);
+    }
+
+    @Test
+    void persistsEntriesAcrossRestarts(@TempDir Path directory) {
+        Path file = directory.resolve("scoring-cache.jsonl");
+        ScoringResultCache first = new ScoringResultCache(properties(file), environment, OBJECT_MAPPER, null);
+        first.get(aiProvider, "prompt", this::callLlm);
+        first.close();
+
+        ScoringResultCache restarted = new ScoringResultCache(properties(file), environment, OBJECT_MAPPER, null);
+
+        assertThat(restarted.get(aiProvider, "prompt", this::callLlm)).isEqualTo(RESULT);
+        assertThat(llmCalls).hasValue(1);
+    }
+
+    private ScoringResult callLlm() {
+        llmCalls.incrementAndGet();
+        return RESULT;
+    }
+
+    private static ScoringCacheProperties properties(Path file) {
+        return new ScoringCacheProperties(true, 100, Duration.ofHours(1), file);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.prospectos.ai.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedTextIndexTest {
+
+    @Test
+    void foldsAccentsAndCaseOnBothSides() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.upsert(1L, "Clínica Odontológica São Paulo");
+
+        assertThat(ids(index.search("SAO paulo", 10))).containsExactly(1L);
+        assertThat(ids(index.search("odontologica", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void matchesPrefixesBelowExactTerms() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.upsert(1L, "Software consultancy");
+        index.upsert(2L, "Soft drinks distributor");
+
+        List<TextSearchMatch> matches = index.search("soft", 10);
+
+        assertThat(ids(matches)).containsExactly(2L, 1L);
+        assertThat(index.search("s", 10)).isEmpty();
+    }
+
+    @Test
+    void ranksRareTermsAndShortDocumentsHigher() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.upsert(1L, "software company in curitiba with a long description about many unrelated things");
+        index.upsert(2L, "software company in curitiba");
+        index.upsert(3L, "software company in recife");
+
+        assertThat(ids(index.search("software curitiba", 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.search("software curitiba", 2))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void upsertReplacesAndDeleteRemovesPostings() {
+        InvertedTextIndex index = new InvertedTextIndex();
+        index.upsert(1L, "Fintech Recife");
+        index.upsert(1L, "Agritech Goiania");
+        index.upsert(2L, "Fintech Natal");
+
+        assertThat(ids(index.search("fintech", 10))).containsExactly(2L);
+        assertThat(ids(index.search("agritech", 10))).containsExactly(1L);
+
+        index.delete(2L);
+        index.upsert(3L, "Fintech Natal");
+        index.upsert(1L, "   ");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.search("fintech natal agritech", 10))).containsExactly(3L);
+    }
+
+    private static List<Long> ids(List<TextSearchMatch> matches) {
+        return matches.stream().map(TextSearchMatch::id).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.prospectos.ai.text;
+
+import dev.prospectos.ai.config.HybridSearchProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReciprocalRankFusionTest {
+
+    @Test
+    void ranksDocumentsFoundByBothRetrieversFirst() {
+        List<TextSearchMatch> fused = ReciprocalRankFusion.fuse(
+            ranking(1L, 2L, 3L),
+            ranking(3L, 4L),
+            new HybridSearchProperties(true, 1.0d, 1.0d, 60, 1),
+            10
+        );
+
+        assertThat(fused).extracting(TextSearchMatch::id).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(fused.getFirst().score()).isCloseTo((1.0d / 63 + 1.0d / 61) / (2.0d / 61), within(1e-9));
+    }
+
+    @Test
+    void weightsShiftTheBalanceAndLimitCutsTheTail() {
+        HybridSearchProperties lexicalOnly = new HybridSearchProperties(true, 1.0d, 0.0d, 60, 1);
+
+        List<TextSearchMatch> fused = ReciprocalRankFusion.fuse(ranking(5L, 6L), ranking(7L, 5L), lexicalOnly, 1);
+
+        assertThat(fused).extracting(TextSearchMatch::id).containsExactly(5L);
+        assertThat(fused.getFirst().score()).isEqualTo(1.0d);
+    }
+
+    private static List<TextSearchMatch> ranking(Long... ids) {
+        return List.of(ids).stream().map(id -> new TextSearchMatch(id, 0.0d)).toList();
+    }
+}
@@ -0,0 +1,122 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.HnswProperties;
+import dev.prospectos.ai.config.VectorizationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswVectorIndexTest {
+
+    private final HashingTextEmbeddingService embeddingService = new HashingTextEmbeddingService(
+        new VectorizationProperties("hnsw", "hashing-v1", 256, 5, 0.2d, null)
+    );
+
+    @Test
+    void similaritySearch_ReturnsClosestMatchWithMetadata() {
+        HnswVectorIndex index = new HnswVectorIndex(embeddingService, new HnswProperties(null, null, null));
+        index.upsert("company:1", "agile software consulting scrum", Map.of("companyId", 1L));
+        index.upsert("company:2", "dental clinic orthodontics", Map.of("companyId", 2L));
+
+        List<VectorSearchMatch> matches = index.similaritySearch("scrum software", 1, 0.1d);
+
+        assertThat(matches).singleElement().satisfies(match -> {
+            assertThat(match.id()).isEqualTo("company:1");
+            assertThat(match.metadata()).containsEntry("companyId", 1L);
+        });
+    }
+
+    @Test
+    void upsertReplacesAndDeleteRemovesEntries() {
+        HnswVectorIndex index = new HnswVectorIndex(embeddingService, new HnswProperties(4, 16, 16));
+        corpus(200, 11).forEach((id, content) -> index.upsert(id, content, Map.of()));
+        index.upsert("company:7", "quantum bakery croissant", Map.of("version", 2));
+        IntStream.range(0, 150).forEach(i -> index.delete("company:" + (i + 50)));
+
+        assertThat(index.similaritySearch("quantum bakery croissant", 1, 0.5d))
+            .singleElement()
+            .satisfies(match -> assertThat(match.metadata()).containsEntry("version", 2));
+        assertThat(index.similaritySearch("w1 w2 w3 w4", 200, 0.0d))
+            .extracting(VectorSearchMatch::id)
+            .doesNotHaveDuplicates()
+            .allSatisfy(id -> assertThat(Integer.parseInt(id.substring("company:".length()))).isLessThan(50));
+    }
+
+    @Test
+    void repeatedUpsertsOfTheSameIdDoNotAccumulateTombstones() {
+        HnswIndexState state = new HnswIndexState(4, 16);
+        float[] vector = embeddingService.embed("agile software consulting scrum");
+
+        for (int i = 0; i < 100; i++) {
+            state.upsert("company:1", vector, Map.of());
+            state.upsert("company:2", vector, Map.of());
+        }
+
+        assertThat(state.graphSize()).isLessThanOrEqualTo(4);
+        assertThat(state.search(vector, 16, 5, 0.0d)).extracting(VectorSearchMatch::id)
+            .containsExactlyInAnyOrder("company:1", "company:2");
+    }
+
+    @Test
+    void recallAgainstBruteForceIndexStaysHigh() {
+        InMemoryVectorIndex exact = new InMemoryVectorIndex(embeddingService);
+        HnswVectorIndex approximate = new HnswVectorIndex(embeddingService, new HnswProperties(16, 100, 64));
+        corpus(2_000, 7).forEach((id, content) -> {
+            exact.upsert(id, content, Map.of());
+            approximate.upsert(id, content, Map.of());
+        });
+
+        VectorRecallReport report = VectorRecallEvaluator.compare(exact, approximate, queries(100, 13), 10, 0.0d);
+
+        assertThat(report.queries()).isEqualTo(100);
+        assertThat(report.recallAtK()).as(report.summary()).isGreaterThanOrEqualTo(0.9d);
+    }
+
+    @Test
+    void concurrentUpsertsAreAllSearchable() throws Exception {
+        HnswVectorIndex index = new HnswVectorIndex(embeddingService, new HnswProperties(8, 32, 32));
+        Map<String, String> corpus = corpus(400, 3);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            corpus.forEach((id, content) -> executor.submit(() -> index.upsert(id, content, Map.of())));
+        }
+
+        corpus.forEach((id, content) -> assertThat(index.similaritySearch(content, 1, 0.99d))
+            .as(id)
+            .isNotEmpty());
+    }
+
+    private Map<String, String> corpus(int size, long seed) {
+        Random random = new Random(seed);
+        Map<String, String> corpus = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            corpus.put("company:" + i, words(random, 8));
+        }
+        return corpus;
+    }
+
+    private List<String> queries(int size, long seed) {
+        Random random = new Random(seed);
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            queries.add(words(random, 3));
+        }
+        return queries;
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append('w').append(random.nextInt(400)).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
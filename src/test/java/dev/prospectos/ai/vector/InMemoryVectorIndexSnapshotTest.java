@@ -0,0 +1,124 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorSnapshotProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import dev.prospectos.ai.config.VectorizationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class InMemoryVectorIndexSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restartRestoresSnapshotAndLogWithoutReembedding() {
+        InMemoryVectorIndex index = index(embeddings(128), 100);
+        index.upsert("company:1", "agile software consulting", Map.of("companyId", 1L));
+        index.upsert("company:2", "dental clinic", Map.of("companyId", 2L));
+        index.upsert("company:3", "bakery croissant", Map.of("companyId", 3L));
+        index.compact();
+        index.delete("company:2");
+
+        TextEmbeddingService restartedEmbeddings = spy(embeddings(128));
+        InMemoryVectorIndex restarted = index(restartedEmbeddings, 3);
+
+        verify(restartedEmbeddings, never()).embed(anyString());
+        assertThat(restarted.similaritySearch("agile software consulting", 5, 0.5d))
+            .singleElement()
+            .satisfies(match -> assertThat(match.metadata()).containsEntry("companyId", 1L));
+        assertThat(restarted.similaritySearch("bakery croissant", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("dental clinic", 5, 0.5d)).isEmpty();
+    }
+
+    @Test
+    void reachingTheThresholdCompactsInTheBackgroundAndKeepsLaterWrites() throws IOException {
+        InMemoryVectorIndex index = index(embeddings(128), 2);
+        index.upsert("company:1", "agile software", Map.of());
+        index.upsert("company:2", "dental clinic", Map.of());
+        index.upsert("company:3", "bakery croissant", Map.of());
+        index.compact();
+        long compactedLog = Files.size(directory.resolve("vectors.wal"));
+        index.delete("company:3");
+
+        InMemoryVectorIndex restarted = index(embeddings(128), 100);
+
+        assertThat(Files.size(directory.resolve("vectors.wal"))).isGreaterThan(compactedLog);
+        assertThat(restarted.similaritySearch("agile software", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("dental clinic", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("bakery croissant", 5, 0.5d)).isEmpty();
+    }
+
+    @Test
+    void batchUpsertIsLoggedAsOneGroupAndReplayedAfterRestart() {
+        InMemoryVectorIndex index = index(embeddings(128), 100);
+        index.upsertAll(List.of(
+            new VectorDocument("company:1", "agile software", Map.of("companyId", 1L)),
+            new VectorDocument("company:2", "dental clinic", Map.of("companyId", 2L)),
+            new VectorDocument("company:3", "bakery croissant", Map.of("companyId", 3L))
+        ));
+
+        InMemoryVectorIndex restarted = index(embeddings(128), 100);
+
+        assertThat(restarted.similaritySearch("agile software", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("dental clinic", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("bakery croissant", 5, 0.5d))
+            .singleElement()
+            .satisfies(match -> assertThat(match.metadata()).containsEntry("companyId", 3L));
+    }
+
+    @Test
+    void tornLogTailIsDroppedOnReplay() throws IOException {
+        InMemoryVectorIndex index = index(embeddings(128), 100);
+        index.upsert("company:1", "agile software", Map.of());
+        index.upsert("company:2", "dental clinic", Map.of());
+        Path log = directory.resolve("vectors.wal");
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(log) - 3);
+        }
+
+        InMemoryVectorIndex restarted = index(embeddings(128), 100);
+
+        assertThat(restarted.similaritySearch("agile software", 5, 0.5d)).hasSize(1);
+        assertThat(restarted.similaritySearch("dental clinic", 5, 0.5d)).isEmpty();
+    }
+
+    @Test
+    void snapshotFromAnotherEmbeddingModelIsRejected() {
+        InMemoryVectorIndex index = index(embeddings(128), 1);
+        index.upsert("company:1", "agile software", Map.of());
+        index.close();
+
+        InMemoryVectorIndex restarted = index(embeddings(64), 1);
+
+        assertThat(restarted.similaritySearch("agile software", 5, 0.0d)).isEmpty();
+    }
+
+    private InMemoryVectorIndex index(TextEmbeddingService embeddingService, int compactionThreshold) {
+        return new InMemoryVectorIndex(
+            embeddingService,
+            new InMemoryVectorStorageProperties(InMemoryVectorStorageProperties.CONTIGUOUS),
+            new InMemoryVectorSnapshotProperties(true, directory, null, compactionThreshold)
+        );
+    }
+
+    private HashingTextEmbeddingService embeddings(int dimensions) {
+        return new HashingTextEmbeddingService(
+            new VectorizationProperties("in-memory", "hashing-v1", dimensions, 5, 0.2d, null)
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import dev.prospectos.ai.config.VectorizationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryVectorIndexTest {
+
+    private final HashingTextEmbeddingService embeddingService = new HashingTextEmbeddingService(
+        new VectorizationProperties("in-memory", "hashing-v1", 128, 5, 0.2d, null)
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {"entries", "contiguous", "int8", "binary"})
+    void similaritySearch_RanksByCosineAndHonorsThreshold(String storage) {
+        InMemoryVectorIndex index = index(storage);
+        index.upsert("company:1", "agile software consulting scrum", Map.of("companyId", 1L));
+        index.upsert("company:2", "dental clinic orthodontics", Map.of("companyId", 2L));
+        index.upsert("company:3", "software house", Map.of("companyId", 3L));
+
+        List<VectorSearchMatch> matches = index.similaritySearch("scrum software consulting", 5, 0.2d);
+
+        assertThat(matches).extracting(VectorSearchMatch::id).containsExactly("company:1", "company:3");
+        assertThat(matches.getFirst().metadata()).containsEntry("companyId", 1L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"entries", "contiguous", "int8", "binary"})
+    void upsertReplacesAndDeleteRemovesEntries(String storage) {
+        InMemoryVectorIndex index = index(storage);
+        index.upsert("company:1", "agile software", Map.of("version", 1));
+        index.upsert("company:2", "dental clinic", Map.of());
+        index.upsert("company:1", "bakery croissant", Map.of("version", 2));
+        index.delete("company:2");
+        index.upsert("company:3", "dental clinic", Map.of());
+
+        assertThat(index.similaritySearch("bakery croissant", 5, 0.5d))
+            .singleElement()
+            .satisfies(match -> assertThat(match.metadata()).containsEntry("version", 2));
+        assertThat(index.similaritySearch("dental clinic", 5, 0.5d))
+            .extracting(VectorSearchMatch::id)
+            .containsExactly("company:3");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"entries", "contiguous", "int8", "binary"})
+    void similaritySearch_AppliesMetadataFilterBeforeRanking(String storage) {
+        InMemoryVectorIndex index = index(storage);
+        index.upsert("company:1", "software consulting", attributes("software", "brazil", 80, true));
+        index.upsert("company:2", "software consulting agency", attributes("software", "canada", 90, false));
+        index.upsert("company:3", "software consulting studio", attributes("retail", "brazil", 40, true));
+        index.upsert("company:4", "software consulting firm", Map.of());
+        index.delete("company:3");
+        index.upsert("company:3", "software consulting studio", attributes("software", "brazil", 40, true));
+
+        assertThat(ids(index.similaritySearch("software consulting", 5, 0.0d, VectorSearchFilter.of(List.of("Software"), null))))
+            .containsExactlyInAnyOrder("company:1", "company:2", "company:3");
+        assertThat(ids(index.similaritySearch("software consulting", 5, 0.0d, VectorSearchFilter.of(List.of("software"), List.of(" Brazil")))))
+            .containsExactlyInAnyOrder("company:1", "company:3");
+        assertThat(ids(index.similaritySearch("software consulting", 5, 0.0d, new VectorSearchFilter(null, null, 50.0d, 85.0d, true))))
+            .containsExactly("company:1");
+        assertThat(ids(index.similaritySearch("software consulting", 5, 0.0d, new VectorSearchFilter(null, null, null, null, false))))
+            .containsExactly("company:2");
+        assertThat(index.similaritySearch("software consulting", 5, 0.0d, VectorSearchFilter.of(List.of("fintech"), null))).isEmpty();
+    }
+
+    @Test
+    void contiguousStorageMatchesEntryStorageOnGeneratedCorpus() {
+        InMemoryVectorIndex entries = index("entries");
+        InMemoryVectorIndex contiguous = index("contiguous");
+        Random random = new Random(5);
+        IntStream.range(0, 1_000).forEach(i -> {
+            String content = words(random, 8);
+            entries.upsert("company:" + i, content, Map.of());
+            contiguous.upsert("company:" + i, content, Map.of());
+        });
+
+        for (int i = 0; i < 50; i++) {
+            String query = words(random, 3);
+            List<VectorSearchMatch> expected = entries.similaritySearch(query, 10, 0.0d);
+            List<VectorSearchMatch> actual = contiguous.similaritySearch(query, 10, 0.0d);
+
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int rank = 0; rank < expected.size(); rank++) {
+                assertThat(actual.get(rank).similarity()).isCloseTo(expected.get(rank).similarity(), within(1e-5d));
+            }
+        }
+    }
+
+    private InMemoryVectorIndex index(String storage) {
+        return new InMemoryVectorIndex(embeddingService, new InMemoryVectorStorageProperties(storage));
+    }
+
+    private static Map<String, Object> attributes(String industry, String country, int score, boolean hasWebsite) {
+        return Map.of(
+            VectorSearchFilter.INDUSTRY, industry,
+            VectorSearchFilter.COUNTRY, country,
+            VectorSearchFilter.SCORE, score,
+            VectorSearchFilter.HAS_WEBSITE, hasWebsite
+        );
+    }
+
+    private static List<String> ids(List<VectorSearchMatch> matches) {
+        return matches.stream().map(VectorSearchMatch::id).toList();
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append('w').append(random.nextInt(300)).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,174 @@
+package dev.prospectos.ai.vector;
+
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties;
+import dev.prospectos.ai.config.InMemoryVectorStorageProperties.Quantization;
+import dev.prospectos.ai.config.VectorizationProperties;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantizedVectorStorageTest {
+
+    private static final int DIMENSIONS = 128;
+
+    private final HashingTextEmbeddingService embeddingService = new HashingTextEmbeddingService(
+        new VectorizationProperties("in-memory", "hashing-v1", DIMENSIONS, 5, 0.2d, null)
+    );
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @CsvSource({"int8,memory", "int8,disk", "binary,memory", "binary,disk"})
+    void rescoredSearchReturnsExactSimilarities(String storage, String fullPrecision) {
+        InMemoryVectorIndex exact = new InMemoryVectorIndex(embeddingService, new InMemoryVectorStorageProperties("contiguous"));
+        InMemoryVectorIndex quantized = new InMemoryVectorIndex(embeddingService, properties(storage, fullPrecision, null));
+        Random random = new Random(5);
+        for (int i = 0; i < 500; i++) {
+            String content = words(random, 8);
+            exact.upsert("company:" + i, content, Map.of());
+            quantized.upsert("company:" + i, content, Map.of());
+        }
+
+        for (int i = 0; i < 30; i++) {
+            String query = words(random, 3);
+            List<VectorSearchMatch> expected = exact.similaritySearch(query, 5, 0.0d);
+            List<VectorSearchMatch> actual = quantized.similaritySearch(query, 5, 0.0d);
+
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int rank = 0; rank < expected.size(); rank++) {
+                assertThat(actual.get(rank).similarity()).isCloseTo(expected.get(rank).similarity(), within(1e-5d));
+            }
+        }
+        quantized.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"int8,none", "binary,none", "int8,disk"})
+    void entriesRoundTripThroughQuantizedSlots(String storage, String fullPrecision) {
+        InMemoryVectorIndex index = new InMemoryVectorIndex(embeddingService, properties(storage, fullPrecision, null));
+        index.upsert("company:1", "agile software consulting scrum", Map.of("companyId", 1L));
+        index.upsert("company:2", "dental clinic orthodontics", Map.of("companyId", 2L));
+        index.delete("company:2");
+        index.upsert("company:3", "software house", Map.of("companyId", 3L));
+
+        assertThat(index.similaritySearch("agile software consulting scrum", 1, 0.0d))
+            .singleElement()
+            .satisfies(match -> {
+                assertThat(match.id()).isEqualTo("company:1");
+                assertThat(match.similarity()).isGreaterThan(0.8d);
+            });
+        assertThat(index.similaritySearch("dental clinic orthodontics", 5, 0.0d))
+            .extracting(VectorSearchMatch::id)
+            .doesNotContain("company:2");
+        index.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "int8,memory,0.95", "int8,disk,0.95", "int8,none,0.9",
+        "binary,memory,0.95", "binary,disk,0.95", "binary,none,0.3"
+    })
+    void quantizedModesKeepRecallWithFewerBytesPerVector(String storage, String fullPrecision, double minimumRecall) {
+        TextEmbeddingService clustered = clusteredEmbeddings(2_000, 100, 7);
+        InMemoryVectorIndex exact = build(clustered, 2_000, new InMemoryVectorStorageProperties("contiguous"));
+        InMemoryVectorStorageProperties properties = properties(storage, fullPrecision, null);
+        List<String> queries = new ArrayList<>();
+        for (int i = 2_000; i < 2_100; i++) {
+            queries.add("vector:" + i);
+        }
+
+        InMemoryVectorIndex quantized = build(clustered, 2_000, properties);
+        double idRecall = idRecall(exact, quantized, queries, 10);
+        quantized.close();
+
+        assertThat(idRecall).isGreaterThanOrEqualTo(minimumRecall);
+        assertThat(bytesPerVector(properties)).isLessThan(Float.BYTES * (DIMENSIONS + 1L) * 2);
+    }
+
+    private InMemoryVectorStorageProperties properties(String storage, String fullPrecision, Integer rescoreMultiplier) {
+        return new InMemoryVectorStorageProperties(storage, new Quantization(rescoreMultiplier, fullPrecision, directory));
+    }
+
+    private long bytesPerVector(InMemoryVectorStorageProperties properties) {
+        VectorSlots slots = QuantizedVectorSlab.create(DIMENSIONS, properties);
+        long bytes = slots.bytesPerVector();
+        slots.close();
+        return bytes;
+    }
+
+    private static InMemoryVectorIndex build(TextEmbeddingService embeddings, int size, InMemoryVectorStorageProperties properties) {
+        InMemoryVectorIndex index = new InMemoryVectorIndex(embeddings, properties);
+        for (int i = 0; i < size; i++) {
+            index.upsert("vector:" + i, "vector:" + i, Map.of());
+        }
+        return index;
+    }
+
+    /**
+     * Dense vectors grouped around a few centers, closer to real embeddings than sparse hashed text.
+     */
+    private static TextEmbeddingService clusteredEmbeddings(int size, int queries, long seed) {
+        Random random = new Random(seed);
+        float[][] centers = new float[32][DIMENSIONS];
+        for (float[] center : centers) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                center[i] = (float) random.nextGaussian();
+            }
+        }
+        Map<String, float[]> vectors = new HashMap<>();
+        for (int i = 0; i < size + queries; i++) {
+            float[] center = centers[random.nextInt(centers.length)];
+            float[] vector = new float[DIMENSIONS];
+            for (int j = 0; j < DIMENSIONS; j++) {
+                vector[j] = center[j] + (float) (random.nextGaussian() * 1.2d);
+            }
+            vectors.put("vector:" + i, vector);
+        }
+        EmbeddingModelDescriptor descriptor = new EmbeddingModelDescriptor("clustered", DIMENSIONS);
+        return new TextEmbeddingService() {
+            @Override
+            public float[] embed(String text) {
+                return vectors.get(text);
+            }
+
+            @Override
+            public EmbeddingModelDescriptor descriptor() {
+                return descriptor;
+            }
+        };
+    }
+
+    private static double idRecall(VectorIndex exact, VectorIndex approximate, List<String> queries, int topK) {
+        int expected = 0;
+        int hits = 0;
+        for (String query : queries) {
+            Set<String> truth = exact.similaritySearch(query, topK, -1.0d).stream()
+                .map(VectorSearchMatch::id)
+                .collect(Collectors.toSet());
+            expected += truth.size();
+            hits += (int) approximate.similaritySearch(query, topK, -1.0d).stream().filter(match -> truth.contains(match.id())).count();
+        }
+        return expected == 0 ? 1.0d : (double) hits / expected;
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append('w').append(random.nextInt(300)).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
@@ -8,13 +8,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +39,20 @@ class SpringAiVectorStoreIndexTest {
         verify(vectorStore).add(any());
     }
 
+    @Test
+    void upsertAll_DeletesAndAddsWholeBatchInOneCallEach() {
+        VectorizationProperties properties = new VectorizationProperties("pgvector", "test", 128, 5, 0.2d, null);
+        SpringAiVectorStoreIndex index = new SpringAiVectorStoreIndex(vectorStore, properties);
+
+        index.upsertAll(List.of(
+            new VectorDocument("company:10", "Acme software", Map.of("companyId", 10L)),
+            new VectorDocument("company:11", "Beta cloud", null)
+        ));
+
+        verify(vectorStore).delete(List.of("company:10", "company:11"));
+        verify(vectorStore).add(argThat(documents -> documents.size() == 2));
+    }
+
     @Test
     void similaritySearch_ReturnsMappedMatches() {
         VectorizationProperties properties = new VectorizationProperties("pgvector", "test", 128, 5, 0.2d, null);
@@ -49,4 +67,31 @@ class SpringAiVectorStoreIndexTest {
         assertEquals("company:1", matches.getFirst().id());
         assertEquals(1L, matches.getFirst().metadata().get("companyId"));
     }
+
+    @Test
+    void similaritySearch_TranslatesFilterIntoFilterExpression() {
+        VectorizationProperties properties = new VectorizationProperties("pgvector", "test", 128, 5, 0.2d, null);
+        SpringAiVectorStoreIndex index = new SpringAiVectorStoreIndex(vectorStore, properties);
+        when(vectorStore.similaritySearch(any(SearchRequest.class))).thenReturn(List.of());
+
+        index.similaritySearch("agile", 3, 0.2d, new VectorSearchFilter(Set.of("Software"), Set.of("BR"), 60.0d, null, true));
+
+        FilterExpressionBuilder b = new FilterExpressionBuilder();
+        Filter.Expression expected = b.and(
+            b.and(b.and(b.in("industry", "software"), b.in("country", "br")), b.gte("prospectingScore", 60.0d)),
+            b.eq("hasWebsite", true)
+        ).build();
+        verify(vectorStore).similaritySearch(argThat((SearchRequest request) -> expected.equals(request.getFilterExpression())));
+    }
+
+    @Test
+    void similaritySearch_SendsNoFilterExpressionWithoutFilter() {
+        VectorizationProperties properties = new VectorizationProperties("pgvector", "test", 128, 5, 0.2d, null);
+        SpringAiVectorStoreIndex index = new SpringAiVectorStoreIndex(vectorStore, properties);
+        when(vectorStore.similaritySearch(any(SearchRequest.class))).thenReturn(List.of());
+
+        index.similaritySearch("agile", 3, 0.2d, VectorSearchFilter.NONE);
+
+        verify(vectorStore).similaritySearch(argThat((SearchRequest request) -> !request.hasFilterExpression()));
+    }
 }
@@ -3,20 +3,28 @@ package dev.prospectos.infrastructure.adapter;
 import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.CompanySize;
 import dev.prospectos.core.domain.ProspectingStatus;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import dev.prospectos.core.repository.CompanySearchPage;
+import dev.prospectos.core.repository.CompanySummary;
 import dev.prospectos.infrastructure.jpa.CompanyJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,5 +104,27 @@ class CompanyRepositoryAdapterTest {
         assertThat(result).containsExactly(company);
         verify(jpaRepository).findRecentlyUpdatedProspects(eq(since));
     }
-}
 
+    @Test
+    void searchPageCountsOnlyWhenThePageCannotDetermineTheTotal() {
+        CompanySummary summary = new CompanySummary(1L, "Acme", "Software", null, null, null, null, BigDecimal.TEN, null, 0);
+        when(jpaRepository.findSummaries(any(), eq(0), eq(10))).thenReturn(List.of(summary));
+        when(jpaRepository.findSummaries(any(), eq(0), eq(1))).thenReturn(List.of(summary));
+        when(jpaRepository.count(ArgumentMatchers.<Specification<Company>>any())).thenReturn(7L);
+
+        CompanySearchPage shortPage = adapter.search(CompanySearchCriteria.unfiltered(), 0, 10);
+        CompanySearchPage fullPage = adapter.search(CompanySearchCriteria.unfiltered(), 0, 1);
+
+        assertThat(shortPage.totalCount()).isEqualTo(1);
+        assertThat(fullPage.totalCount()).isEqualTo(7);
+        verify(jpaRepository, times(1)).count(ArgumentMatchers.<Specification<Company>>any());
+    }
+
+    @Test
+    void findSummariesByExternalIdsRunsOneProjectionQuery() {
+        CompanySummary summary = new CompanySummary(4L, "Acme", "Software", null, null, null, null, null, null, 0);
+        when(jpaRepository.findSummaries(any(), eq(0), eq(Integer.MAX_VALUE))).thenReturn(List.of(summary));
+
+        assertThat(adapter.findSummariesByExternalIds(List.of(4L, 5L))).containsExactly(summary);
+    }
+}
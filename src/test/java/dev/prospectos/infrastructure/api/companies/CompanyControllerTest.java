@@ -3,6 +3,8 @@ package dev.prospectos.infrastructure.api.companies;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.dto.CompanyContactDTO;
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
 import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.infrastructure.handler.ApiExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -110,6 +114,7 @@ class CompanyControllerTest {
         );
 
         when(companyDataService.findAllCompanies()).thenReturn(List.of(first, second, third));
+        when(companyDataService.findCompanies(any(CompanyListQuery.class))).thenCallRealMethod();
 
         mockMvc.perform(get("/api/companies")
                 .param("query", "alpha")
@@ -133,6 +138,7 @@ class CompanyControllerTest {
         CompanyDTO third = createCompany(3L, "BackendPage C");
 
         when(companyDataService.findAllCompanies()).thenReturn(List.of(first, second, third));
+        when(companyDataService.findCompanies(any(CompanyListQuery.class))).thenCallRealMethod();
 
         mockMvc.perform(get("/api/companies")
                 .param("query", "backendpage")
@@ -146,19 +152,16 @@ class CompanyControllerTest {
 
     @Test
     void listCompanies_ReturnsBadRequestWhenScoreRangeIsInvalid() throws Exception {
-        when(companyDataService.findAllCompanies()).thenReturn(List.of());
-
         mockMvc.perform(get("/api/companies")
                 .param("minScore", "90")
                 .param("maxScore", "80"))
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.error").exists());
+        verifyNoInteractions(companyDataService);
     }
 
     @Test
     void listCompanies_ReturnsBadRequestWhenPaginationIsInvalid() throws Exception {
-        when(companyDataService.findAllCompanies()).thenReturn(List.of());
-
         mockMvc.perform(get("/api/companies")
                 .param("page", "-1")
                 .param("size", "10"))
@@ -170,6 +173,34 @@ class CompanyControllerTest {
                 .param("size", "0"))
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.error").exists());
+        verifyNoInteractions(companyDataService);
+    }
+
+    @Test
+    void listCompanies_PagesByCursorAndReturnsNextCursorHeader() throws Exception {
+        CompanyDTO second = createCompany(2L, "BackendCursor B");
+        CompanyDTO third = createCompany(3L, "BackendCursor C");
+        when(companyDataService.findCompanies(new CompanyListQuery(null, null, null, null, null, null, null, 2, 1L)))
+            .thenReturn(new CompanyPage(List.of(second, third), null, 3L));
+
+        mockMvc.perform(get("/api/companies")
+                .param("cursor", "1")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(2))
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("X-Next-Cursor", "3"));
+    }
+
+    @Test
+    void listCompanies_RejectsPageCombinedWithCursor() throws Exception {
+        mockMvc.perform(get("/api/companies")
+                .param("page", "1")
+                .param("cursor", "10"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("page cannot be combined with cursor"));
+        verifyNoInteractions(companyDataService);
     }
 
     private CompanyDTO createCompany(Long id, String name) {
@@ -18,7 +18,7 @@ class McpSecurityPropertiesTest {
         assertThat(properties.rateLimit().requestsPerMinute()).isEqualTo(100);
         assertThat(properties.rateLimit().burstCapacity()).isEqualTo(20);
         assertThat(properties.rateLimit().windowSize()).isEqualTo(Duration.ofMinutes(1));
-        assertThat(properties.rateLimit().blockDuration()).isEqualTo(Duration.ofHours(1));
+        assertThat(properties.rateLimit().blockDuration()).isZero();
         assertThat(properties.audit().enabled()).isTrue();
         assertThat(properties.audit().logSuccessfulRequests()).isTrue();
         assertThat(properties.audit().logFailedRequests()).isFalse();
@@ -45,6 +45,7 @@ class McpSecurityPropertiesTest {
         assertThat(rateLimit.requestsPerMinute()).isEqualTo(100);
         assertThat(rateLimit.burstCapacity()).isEqualTo(20);
         assertThat(rateLimit.windowSize()).isEqualTo(Duration.ofMinutes(1));
-        assertThat(rateLimit.blockDuration()).isEqualTo(Duration.ofHours(1));
+        assertThat(rateLimit.blockDuration()).isZero();
+        assertThat(rateLimit.maxClients()).isEqualTo(100_000);
     }
 }
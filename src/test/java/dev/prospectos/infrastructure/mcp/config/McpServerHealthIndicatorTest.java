@@ -74,8 +74,11 @@ class McpServerHealthIndicatorTest {
                         new BigDecimal("0.1500"),
                         0.9,
                         900,
+                        QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
                         new QueryMetricsSnapshot.Trends("+1%", "+1%", "+1%"),
-                        List.of(new QueryMetricsSnapshot.ProviderMetric("amazon-location", 10, new BigDecimal("1.50"), 0.9, 900))
+                        List.of(new QueryMetricsSnapshot.ProviderMetric(
+                            "amazon-location", 10, new BigDecimal("1.50"), 0.9, 900, QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY
+                        ))
                     );
                 }
             };
@@ -18,8 +18,9 @@ class McpDtoMappingsTest {
     @Test
     void mapsQueryMetricsSnapshotToResponse() {
         var trends = new QueryMetricsSnapshot.Trends("+5%", "+1%", "+7%");
+        var percentiles = new QueryMetricsSnapshot.ResponseTimePercentiles(640, 1_900, 3_100);
         var breakdown = List.of(
-            new QueryMetricsSnapshot.ProviderMetric("google-places", 12, new BigDecimal("3.60"), 0.95, 800)
+            new QueryMetricsSnapshot.ProviderMetric("google-places", 12, new BigDecimal("3.60"), 0.95, 800, percentiles)
         );
         var snapshot = new QueryMetricsSnapshot(
             12,
@@ -27,6 +28,7 @@ class McpDtoMappingsTest {
             new BigDecimal("0.3000"),
             0.95,
             800,
+            percentiles,
             trends,
             breakdown
         );
@@ -38,6 +40,8 @@ class McpDtoMappingsTest {
         assertThat(response.avgCostPerQuery()).hasToString("0.3000");
         assertThat(response.successRate()).isEqualTo(0.95);
         assertThat(response.avgResponseTime()).isEqualTo(800L);
+        assertThat(response.p95ResponseTime()).isEqualTo(1_900L);
+        assertThat(response.providerBreakdown().get("google-places").p99ResponseTime()).isEqualTo(3_100L);
         assertThat(response.trends().costTrend()).isEqualTo("+5%");
         assertThat(response.providerBreakdown()).containsKey("google-places");
     }
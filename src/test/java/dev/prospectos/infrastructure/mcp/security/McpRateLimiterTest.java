@@ -0,0 +1,99 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import dev.prospectos.infrastructure.mcp.config.McpDistributedRateLimitProperties;
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class McpRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong nanos = new AtomicLong(42 * SECOND);
+    private final McpRateLimiter limiter = new McpRateLimiter(nanos::get, Clock.fixed(Instant.parse("2026-03-30T18:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void refillsContinuouslyInsteadOfAtSecondBoundaries() {
+        var rateLimit = new McpSecurityProperties.RateLimit(60, 2, Duration.ofMinutes(1), Duration.ZERO);
+
+        assertThat(limiter.check("client", rateLimit).remaining()).isEqualTo(1);
+        assertThat(limiter.check("client", rateLimit).remaining()).isZero();
+        var rejected = limiter.check("client", rateLimit);
+        nanos.addAndGet(SECOND / 2);
+        var stillRejected = limiter.check("client", rateLimit);
+        nanos.addAndGet(SECOND / 2);
+        var admitted = limiter.check("client", rateLimit);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(stillRejected.allowed()).isFalse();
+        assertThat(admitted.allowed()).isTrue();
+        assertThat(admitted.resetTime()).isEqualTo(Instant.parse("2026-03-30T18:00:02Z"));
+    }
+
+    @Test
+    void blocksClientForBlockDurationAfterExceedingItsBurst() {
+        var rateLimit = new McpSecurityProperties.RateLimit(60, 1, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        limiter.check("client", rateLimit);
+        var blocked = limiter.check("client", rateLimit);
+        nanos.addAndGet(2 * SECOND);
+        var duringBlock = limiter.check("client", rateLimit);
+        nanos.addAndGet(5 * 60 * SECOND);
+        var afterBlock = limiter.check("client", rateLimit);
+
+        assertThat(blocked.allowed()).isFalse();
+        assertThat(blocked.retryAfterSeconds()).isEqualTo(300);
+        assertThat(duringBlock.allowed()).isFalse();
+        assertThat(duringBlock.retryAfterSeconds()).isEqualTo(298);
+        assertThat(afterBlock.allowed()).isTrue();
+        assertThat(limiter.check("other", rateLimit).allowed()).isTrue();
+    }
+
+    @Test
+    void boundsClientTableByEvictingIdleClientsAndSharingAnOverflowBucket() {
+        var rateLimit = new McpSecurityProperties.RateLimit(60, 1, Duration.ofMinutes(1), Duration.ZERO, 2);
+
+        limiter.check("first", rateLimit);
+        limiter.check("second", rateLimit);
+        var spoofed = limiter.check("third", rateLimit);
+        var spoofedAgain = limiter.check("fourth", rateLimit);
+        nanos.addAndGet(2 * SECOND);
+        var afterIdle = limiter.check("fifth", rateLimit);
+
+        assertThat(spoofed.allowed()).isTrue();
+        assertThat(spoofedAgain.allowed()).isFalse();
+        assertThat(afterIdle.allowed()).isTrue();
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsLocallyWhileTheSharedBucketIsUnavailable() {
+        var rateLimit = new McpSecurityProperties.RateLimit(60, 1, Duration.ofMinutes(1), Duration.ZERO);
+        var unavailable = new PostgresRateLimitBuckets(null, null, null) {
+            @Override
+            public Lease acquire(String clientId, Release previous, int leaseSize, McpSecurityProperties.RateLimit limit) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+        };
+        var leases = new McpTokenLeases(unavailable, new McpDistributedRateLimitProperties(true, null, null, null),
+            nanos::get, Clock.systemUTC());
+        var distributedLimiter = new McpRateLimiter(nanos::get, Clock.systemUTC(), leases);
+
+        var first = distributedLimiter.check("client", rateLimit);
+        var second = distributedLimiter.check("client", rateLimit);
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(second.allowed()).isFalse();
+        assertThat(distributedLimiter.trackedClients()).isEqualTo(1);
+        assertThat(leases.fallbacks()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,228 @@
+package dev.prospectos.infrastructure.mcp.security;
+
+import dev.prospectos.infrastructure.mcp.config.McpDistributedRateLimitProperties;
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class McpTokenLeasesTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final McpDistributedRateLimitProperties DEFAULTS = new McpDistributedRateLimitProperties(true, null, null, null);
+    private static final McpSecurityProperties.RateLimit BLOCKING =
+        new McpSecurityProperties.RateLimit(100, 20, Duration.ofMinutes(1), Duration.ofHours(1));
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-30T18:00:00Z"), ZoneOffset.UTC);
+
+    private final AtomicLong nanos = new AtomicLong(42 * SECOND);
+    private final ScriptedBuckets buckets = new ScriptedBuckets();
+    private final McpTokenLeases leases = new McpTokenLeases(
+        buckets,
+        new McpDistributedRateLimitProperties(true, 3, Duration.ofSeconds(2), null),
+        nanos::get,
+        CLOCK
+    );
+    private final McpSecurityProperties.RateLimit rateLimit =
+        new McpSecurityProperties.RateLimit(60, 10, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    @Test
+    void servesRequestsFromOneLeaseUntilItIsUsedUp() {
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 7, 0));
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 4, 0));
+
+        var first = leases.check("client", rateLimit).orElseThrow();
+        leases.check("client", rateLimit).orElseThrow();
+        leases.check("client", rateLimit).orElseThrow();
+        assertThat(buckets.calls).isEqualTo(1);
+        var fourth = leases.check("client", rateLimit).orElseThrow();
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.remaining()).isEqualTo(9);
+        assertThat(fourth.allowed()).isTrue();
+        assertThat(buckets.calls).isEqualTo(2);
+    }
+
+    @Test
+    void handsUnusedTokensBackWithTheNextLease() {
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 7, 0));
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 4, 0));
+
+        leases.check("client", rateLimit).orElseThrow();
+        nanos.addAndGet(2 * SECOND);
+        leases.check("client", rateLimit).orElseThrow();
+
+        assertThat(buckets.releases).containsExactly(
+            PostgresRateLimitBuckets.Release.NONE,
+            new PostgresRateLimitBuckets.Release(3, 2)
+        );
+    }
+
+    @Test
+    void cachesABlockSoTheDatabaseIsNotAskedAgainUntilItEnds() {
+        buckets.next(new PostgresRateLimitBuckets.Lease(0, 0, 300));
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 7, 0));
+
+        var blocked = leases.check("client", rateLimit).orElseThrow();
+        nanos.addAndGet(100 * SECOND);
+        var duringBlock = leases.check("client", rateLimit).orElseThrow();
+        nanos.addAndGet(200 * SECOND);
+        var afterBlock = leases.check("client", rateLimit).orElseThrow();
+
+        assertThat(blocked.allowed()).isFalse();
+        assertThat(blocked.retryAfterSeconds()).isEqualTo(300);
+        assertThat(duringBlock.allowed()).isFalse();
+        assertThat(duringBlock.retryAfterSeconds()).isEqualTo(200);
+        assertThat(afterBlock.allowed()).isTrue();
+        assertThat(buckets.calls).isEqualTo(2);
+    }
+
+    @Test
+    void waitsForTheNextTokenWhenTheSharedBucketIsEmptyWithoutABlock() {
+        buckets.next(new PostgresRateLimitBuckets.Lease(0, 0.25, 0));
+
+        var rejected = leases.check("client", rateLimit).orElseThrow();
+        var cached = leases.check("client", rateLimit).orElseThrow();
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(cached.allowed()).isFalse();
+        assertThat(buckets.calls).isEqualTo(1);
+    }
+
+    @Test
+    void returnsEmptyWhileTheDatabaseIsUnavailableAndRecoversAfterwards() {
+        buckets.failNext();
+        buckets.next(new PostgresRateLimitBuckets.Lease(3, 7, 0));
+
+        var unavailable = leases.check("client", rateLimit);
+        var recovered = leases.check("client", rateLimit);
+
+        assertThat(unavailable).isEmpty();
+        assertThat(recovered).hasValueSatisfying(result -> assertThat(result.allowed()).isTrue());
+        assertThat(leases.fallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void compliantClientSpreadOverReplicasIsNeverBlocked() {
+        List<McpTokenLeases> replicas = replicas(8, new SharedBucket());
+        List<McpRateLimiter.RateLimitResult> results = new ArrayList<>();
+
+        for (int request = 0; request < 10; request++) {
+            results.add(replicas.get(request % 8).check("client", BLOCKING).orElseThrow());
+        }
+        for (int request = 10; request < 200; request++) {
+            nanos.addAndGet(610_000_000L);
+            results.add(replicas.get(request % 8).check("client", BLOCKING).orElseThrow());
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.allowed()).isTrue());
+    }
+
+    @Test
+    void clientOverTheLimitOnEveryReplicaIsStillBlocked() {
+        List<McpTokenLeases> replicas = replicas(8, new SharedBucket());
+        List<McpRateLimiter.RateLimitResult> results = new ArrayList<>();
+
+        for (int request = 0; request < 100; request++) {
+            nanos.addAndGet(100_000_000L);
+            results.add(replicas.get(request % 8).check("client", BLOCKING).orElseThrow());
+        }
+
+        assertThat(results).anySatisfy(result -> assertThat(result.retryAfterSeconds()).isGreaterThan(3_000));
+    }
+
+    private List<McpTokenLeases> replicas(int count, PostgresRateLimitBuckets shared) {
+        List<McpTokenLeases> replicas = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            replicas.add(new McpTokenLeases(shared, DEFAULTS, nanos::get, CLOCK));
+        }
+        return replicas;
+    }
+
+    private static final class ScriptedBuckets extends PostgresRateLimitBuckets {
+
+        private final Deque<Lease> script = new ArrayDeque<>();
+        private final List<Release> releases = new ArrayList<>();
+        private int calls;
+        private boolean failNext;
+
+        private ScriptedBuckets() {
+            super(null, null, null);
+        }
+
+        void next(Lease lease) {
+            script.add(lease);
+        }
+
+        void failNext() {
+            failNext = true;
+        }
+
+        @Override
+        public Lease acquire(String clientId, Release previous, int leaseSize, McpSecurityProperties.RateLimit rateLimit) {
+            calls++;
+            releases.add(previous);
+            if (failNext) {
+                failNext = false;
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            return script.remove();
+        }
+    }
+
+    /**
+     * One client's row of {@code mcp_rate_limit_buckets}, evaluated like {@link PostgresRateLimitSql#ACQUIRE} on the
+     * test clock.
+     */
+    private final class SharedBucket extends PostgresRateLimitBuckets {
+
+        private double tokens = BLOCKING.burstCapacity();
+        private double refilledAt = seconds();
+        private double blockedUntil;
+        private int leased;
+        private double leasedUntil;
+
+        private SharedBucket() {
+            super(null, null, null);
+        }
+
+        @Override
+        public synchronized Lease acquire(String clientId, Release previous, int leaseSize, McpSecurityProperties.RateLimit rateLimit) {
+            double now = seconds();
+            boolean blocked = blockedUntil > now;
+            double available = Math.min(rateLimit.burstCapacity(),
+                tokens + previous.unused() + (now - refilledAt) * rateLimit.requestsPerMinute() / 60.0);
+            int outstanding = leasedUntil > now ? Math.max(leased - Math.max(previous.granted() - 1, 0), 0) : 0;
+            int full = Math.min(leaseSize, rateLimit.burstCapacity());
+            int granted = blocked ? 0 : available >= full + outstanding ? full : available >= 1 ? 1 : 0;
+            if (!blocked && granted == 0 && outstanding == 0) {
+                tokens = 0;
+                refilledAt = now + rateLimit.blockDuration().toSeconds();
+                blockedUntil = refilledAt;
+            } else if (!blocked) {
+                tokens = available - granted;
+                refilledAt = now;
+            }
+            leased = outstanding + Math.max(granted - 1, 0);
+            if (granted > 1) {
+                leasedUntil = now + DEFAULTS.leaseTtl().toSeconds();
+            }
+            return new Lease(granted, tokens, Math.max(blockedUntil - now, 0));
+        }
+
+        private double seconds() {
+            return nanos.get() / (double) SECOND;
+        }
+    }
+}
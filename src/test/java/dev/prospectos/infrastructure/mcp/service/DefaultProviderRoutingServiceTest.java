@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import dev.prospectos.api.mcp.RoutingStrategy;
@@ -55,7 +56,7 @@ class DefaultProviderRoutingServiceTest {
         observations.add(new QueryMetricsObservation("nominatim", "tech companies in brazil", now.minusSeconds(600), 2900, false, 0, BigDecimal.ZERO));
         observations.add(new QueryMetricsObservation("vector-company", "tech companies in brazil", now.minusSeconds(900), 140, true, 4, BigDecimal.ZERO));
         observations.add(new QueryMetricsObservation("vector-company", "tech companies in brazil", now.minusSeconds(1200), 120, true, 2, BigDecimal.ZERO));
-        var metricsService = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+        var metricsService = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), new SimpleMeterRegistry());
         return new DefaultProviderRoutingService(metricsService);
     }
 }
@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import dev.prospectos.api.CompanyDataService;
@@ -61,7 +62,7 @@ class DefaultQueryHistoryServiceTest {
         observations.add(new QueryMetricsObservation("nominatim", "tech companies in brazil", now.minusSeconds(600), 900, true, 3, new BigDecimal("0.00")));
         observations.add(new QueryMetricsObservation("nominatim", "tech companies in brazil", now.minusSeconds(1200), 1200, false, 0, new BigDecimal("0.00")));
         observations.add(new QueryMetricsObservation("vector-company", "tech companies in brazil", now.minusSeconds(1800), 140, true, 4, new BigDecimal("0.00")));
-        var metricsService = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+        var metricsService = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), new SimpleMeterRegistry());
         return new DefaultQueryHistoryService(metricsService, companyDataService());
     }
 
@@ -6,47 +6,99 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import dev.prospectos.api.mcp.QueryTimeWindow;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JpaQueryMetricsServiceTest {
 
     private final QueryMetricsObservationRepository repository = mock(QueryMetricsObservationRepository.class);
+    private final QueryMetricsHourlyRollupRepository rollupRepository = mock(QueryMetricsHourlyRollupRepository.class);
     private final Clock clock = Clock.fixed(Instant.parse("2026-03-30T18:00:00Z"), ZoneOffset.UTC);
     private final JpaQueryMetricsService service = new JpaQueryMetricsService(
         repository,
+        rollupRepository,
+        new QueryMetricsWriteBehindQueue(repository, QueryMetricsWriteBehindProperties.disabled(), new SimpleMeterRegistry()),
         clock,
         new QueryMetricsCostEstimator(),
-        new QueryMetricsSnapshotFactory()
+        new QueryMetricsSnapshotFactory(),
+        new SimpleMeterRegistry()
     );
 
     @Test
-    void recordsNormalizedObservation() {
+    void recordsNormalizedObservationImmediatelyWhenWriteBehindIsDisabled() {
         service.recordExecution("In-Memory", "software", 250, true, 3);
 
-        verify(repository).save(any(QueryMetricsObservationEntity.class));
+        verify(repository).insertAll(List.of(
+            new QueryMetricsObservation("in-memory", "software", clock.instant(), 250, true, 3, new BigDecimal("0.00"))
+        ));
     }
 
     @Test
-    void readsPersistedObservationsAndBuildsSnapshot() {
+    void readsPersistedObservationsAndBuildsSnapshotFromSqlAggregates() {
         when(repository.findAllByRecordedAtAfterAndProviderOrderByRecordedAtDesc(any(), any())).thenReturn(List.of(
             new QueryMetricsObservationEntity("in-memory", "software", clock.instant(), 250, true, 3, new BigDecimal("0.0000"))
         ));
-        when(repository.findAllByRecordedAtAfterOrderByRecordedAtDesc(any())).thenReturn(List.of(
-            new QueryMetricsObservationEntity("in-memory", "software", clock.instant(), 250, true, 3, new BigDecimal("0.0000"))
+        when(repository.aggregateByProvider(any(), any(), eq("in-memory"))).thenReturn(List.of(
+            new QueryMetricsProviderTotals("in-memory", 1L, 1L, 250L, new BigDecimal("0.0000"))
+        ));
+        when(repository.aggregateByProvider(any(), any(), isNull())).thenReturn(List.of(
+            new QueryMetricsProviderTotals("in-memory", 1L, 1L, 250L, new BigDecimal("0.0000"))
         ));
 
-        var history = service.observations(dev.prospectos.api.mcp.QueryTimeWindow.ONE_HOUR, "in-memory");
-        var snapshot = service.getMetrics(dev.prospectos.api.mcp.QueryTimeWindow.ONE_HOUR, "in-memory");
+        var history = service.observations(QueryTimeWindow.ONE_HOUR, "in-memory");
+        var snapshot = service.getMetrics(QueryTimeWindow.ONE_HOUR, "In-Memory");
 
         assertThat(history).hasSize(1);
         assertThat(history.getFirst().operation()).isEqualTo("software");
         assertThat(snapshot.totalQueries()).isEqualTo(1);
-        assertThat(service.observedProviders(dev.prospectos.api.mcp.QueryTimeWindow.ONE_HOUR)).containsExactly("in-memory");
+        assertThat(snapshot.avgResponseTime()).isEqualTo(250L);
+        assertThat(service.observedProviders(QueryTimeWindow.ONE_HOUR)).containsExactly("in-memory");
+        verify(repository, never()).findAllByRecordedAtAfterOrderByRecordedAtDesc(any());
+    }
+
+    @Test
+    void longWindowsReadRolledUpHoursAndOnlyAggregateRawEdges() {
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(QueryTimeWindow.SEVEN_DAYS.duration());
+        when(rollupRepository.findLatestHourStart()).thenReturn(now.minusSeconds(2 * 3600));
+        when(rollupRepository.aggregateByProvider(cutoff, now.minusSeconds(3600), null)).thenReturn(List.of(
+            new QueryMetricsProviderTotals("scraper", 10L, 8L, 5_000L, new BigDecimal("0.1250")),
+            new QueryMetricsProviderTotals("vector-company", 30L, 30L, 3_000L, new BigDecimal("0.0240"))
+        ));
+        when(repository.aggregateByProvider(now.minusSeconds(3600), now.plusSeconds(1), null)).thenReturn(List.of(
+            new QueryMetricsProviderTotals("scraper", 2L, 0L, 3_000L, new BigDecimal("0.0250"))
+        ));
+
+        var rolledUpLatency = new QueryLatencyHistogram();
+        rolledUpLatency.record(400L, 10L);
+        when(rollupRepository.findLatency(cutoff, now.minusSeconds(3600), null)).thenReturn(List.of(
+            new QueryMetricsLatencyRollup("scraper", rolledUpLatency.encode())
+        ));
+        when(repository.countDurationsByProvider(now.minusSeconds(3600), now.plusSeconds(1), null)).thenReturn(List.of(
+            new QueryMetricsDurationCount("scraper", 2_900L, 2L)
+        ));
+
+        var snapshot = service.getMetrics(QueryTimeWindow.SEVEN_DAYS, null);
+
+        assertThat(snapshot.totalQueries()).isEqualTo(42);
+        assertThat(snapshot.totalCost()).hasToString("0.17");
+        assertThat(snapshot.providerBreakdown()).extracting("provider").containsExactly("scraper", "vector-company");
+        assertThat(snapshot.providerBreakdown().getFirst().queries()).isEqualTo(12);
+        assertThat(snapshot.providerBreakdown().getFirst().avgResponseTime()).isEqualTo(667L);
+        assertThat(snapshot.providerBreakdown().getFirst().responseTimePercentiles().p50()).isEqualTo(415L);
+        assertThat(snapshot.providerBreakdown().getFirst().responseTimePercentiles().p95()).isEqualTo(3_071L);
+        assertThat(snapshot.trends().volumeTrend()).isEqualTo("+100%");
+        verify(repository, never()).aggregateByProvider(eq(cutoff), any(), any());
     }
 }
@@ -2,12 +2,18 @@ package dev.prospectos.infrastructure.mcp.service;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import dev.prospectos.api.mcp.QueryMetricsSnapshot;
 import dev.prospectos.api.mcp.QueryTimeWindow;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,7 +28,7 @@ class InMemoryQueryMetricsServiceTest {
         observations.add(new QueryMetricsObservation("vector-company", "restaurants in sao paulo", now.minusSeconds(1200), 120, true, 5, new BigDecimal("0.00")));
         observations.add(new QueryMetricsObservation("scraper", "restaurants in sao paulo", now.minusSeconds(1800), 1600, false, 0, new BigDecimal("0.01")));
         observations.add(new QueryMetricsObservation("amazon-location", "older request", now.minusSeconds(5400), 850, true, 2, new BigDecimal("0.07")));
-        var service = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+        var service = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), new SimpleMeterRegistry());
 
         var snapshot = service.getMetrics(QueryTimeWindow.ONE_HOUR, null);
 
@@ -31,6 +37,9 @@ class InMemoryQueryMetricsServiceTest {
         assertThat(snapshot.avgCostPerQuery()).hasToString("0.0400");
         assertThat(snapshot.successRate()).isEqualTo(0.6667);
         assertThat(snapshot.avgResponseTime()).isEqualTo(873L);
+        assertThat(snapshot.responseTimePercentiles()).isEqualTo(new QueryMetricsSnapshot.ResponseTimePercentiles(959L, 1_663L, 1_663L));
+        assertThat(snapshot.providerBreakdown()).filteredOn(metric -> metric.provider().equals("vector-company"))
+            .singleElement().satisfies(metric -> assertThat(metric.responseTimePercentiles().p99()).isEqualTo(127L));
         assertThat(service.observations(QueryTimeWindow.ONE_HOUR, "amazon-location")).hasSize(1);
         assertThat(service.observedProviders(QueryTimeWindow.ONE_HOUR)).containsExactly("amazon-location", "scraper", "vector-company");
     }
@@ -40,7 +49,7 @@ class InMemoryQueryMetricsServiceTest {
         Instant now = Instant.parse("2026-03-29T12:00:00Z");
         var observations = new ConcurrentLinkedDeque<QueryMetricsObservation>();
         observations.add(new QueryMetricsObservation("amazon-location", "stale request", now.minusSeconds(40L * 24L * 3600L), 700, true, 1, new BigDecimal("0.04")));
-        var service = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory());
+        var service = new InMemoryQueryMetricsService(observations, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), new SimpleMeterRegistry());
 
         service.recordExecution("amazon-location", "fresh request", 1000, true, 2);
         var snapshot = service.getMetrics(QueryTimeWindow.THIRTY_DAYS, "amazon-location");
@@ -52,4 +61,71 @@ class InMemoryQueryMetricsServiceTest {
             assertThat(metric.queries()).isEqualTo(1);
         });
     }
+
+    @Test
+    void aggregatesDistinctSearchTextsIntoOneSeriesPerProvider() {
+        Instant now = Instant.parse("2026-03-29T12:00:00Z");
+        var service = new InMemoryQueryMetricsService(List.of(), Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 5_000; i++) {
+            service.recordExecution("scraper", "query " + i, 100, true, 1);
+        }
+        var snapshot = service.getMetrics(QueryTimeWindow.ONE_HOUR, null);
+
+        assertThat(snapshot.totalQueries()).isEqualTo(5_000);
+        assertThat(snapshot.providerBreakdown()).singleElement().satisfies(metric -> {
+            assertThat(metric.provider()).isEqualTo("scraper");
+            assertThat(metric.queries()).isEqualTo(5_000);
+        });
+    }
+
+    @Test
+    void countsTimeoutsAsFailuresAndReportsThemSeparately() {
+        Instant now = Instant.parse("2026-03-29T12:00:00Z");
+        var meterRegistry = new SimpleMeterRegistry();
+        var service = new InMemoryQueryMetricsService(List.of(), Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), meterRegistry);
+
+        service.recordExecution("scraper", "clinicas", 300, false, 0);
+        service.recordTimeout("Scraper", "clinicas", 2_000);
+        var snapshot = service.getMetrics(QueryTimeWindow.ONE_HOUR, "scraper");
+
+        assertThat(snapshot.totalQueries()).isEqualTo(2);
+        assertThat(snapshot.successRate()).isZero();
+        assertThat(meterRegistry.get("prospectos.mcp.query.timeouts").tag("provider", "scraper").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void keepsCountingPastTheRawObservationBufferAcrossLongWindows() {
+        Instant now = Instant.parse("2026-03-29T12:20:00Z");
+        var history = List.of(
+            new QueryMetricsObservation("scraper", "lead-search", now.minus(Duration.ofDays(5)), 100, true, 1, new BigDecimal("0.10")),
+            new QueryMetricsObservation("scraper", "lead-search", now.minus(Duration.ofHours(30)), 100, false, 1, new BigDecimal("0.10")),
+            new QueryMetricsObservation("scraper", "lead-search", now.minus(Duration.ofHours(5)), 300, true, 1, new BigDecimal("0.10")),
+            new QueryMetricsObservation("scraper", "lead-search", now.minus(Duration.ofMinutes(90)), 500, true, 1, new BigDecimal("0.10"))
+        );
+        var meterRegistry = new SimpleMeterRegistry();
+        var service = new InMemoryQueryMetricsService(history, Clock.fixed(now, ZoneOffset.UTC), new QueryMetricsCostEstimator(), new QueryMetricsSnapshotFactory(), meterRegistry);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 2_500; i++) {
+                        service.recordExecution("vector-company", "semantic-search", 20, true, 1);
+                    }
+                });
+            }
+        }
+
+        assertThat(service.getMetrics(QueryTimeWindow.ONE_HOUR, "vector-company").totalQueries()).isEqualTo(10_000);
+        assertThat(service.getMetrics(QueryTimeWindow.ONE_HOUR, "vector-company").responseTimePercentiles().p95()).isEqualTo(21L);
+        assertThat(meterRegistry.get("prospectos.mcp.query.latency").tag("provider", "vector-company").timer().count()).isEqualTo(10_000L);
+        assertThat(service.observations(QueryTimeWindow.ONE_HOUR, null)).hasSize(QueryMetricsRecentObservations.DEFAULT_CAPACITY);
+        var day = service.getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, "scraper");
+        assertThat(day.totalQueries()).isEqualTo(2);
+        assertThat(day.avgResponseTime()).isEqualTo(400L);
+        assertThat(day.responseTimePercentiles().p95()).isEqualTo(511L);
+        assertThat(day.trends().volumeTrend()).isEqualTo("+100%");
+        assertThat(service.getMetrics(QueryTimeWindow.ONE_HOUR, "scraper").trends().volumeTrend()).isEqualTo("-100%");
+        assertThat(service.getMetrics(QueryTimeWindow.SEVEN_DAYS, "scraper").totalQueries()).isEqualTo(4);
+        assertThat(service.getMetrics(QueryTimeWindow.SEVEN_DAYS, "scraper").responseTimePercentiles().p50()).isEqualTo(103L);
+    }
 }
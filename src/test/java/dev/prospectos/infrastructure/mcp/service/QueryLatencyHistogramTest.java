@@ -0,0 +1,64 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryLatencyHistogramTest {
+
+    @Test
+    void bucketsAreContiguousAndOverstateADurationByAtMostOneEighth() {
+        int previous = 0;
+        for (long durationMs = 0; durationMs < 1L << 20; durationMs++) {
+            int bucket = QueryLatencyHistogram.bucket(durationMs);
+            assertThat(bucket - previous).isBetween(0, 1);
+            assertThat(QueryLatencyHistogram.highestValue(bucket)).isBetween(durationMs, durationMs + durationMs / 8);
+            previous = bucket;
+        }
+        assertThat(previous).isEqualTo(QueryLatencyHistogram.BUCKETS - 1);
+        assertThat(QueryLatencyHistogram.bucket(-5L)).isZero();
+        assertThat(QueryLatencyHistogram.bucket(Long.MAX_VALUE)).isEqualTo(QueryLatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void percentilesStayWithinBucketPrecisionOfExactValues() {
+        Random random = new Random(42L);
+        long[] durations = new long[20_000];
+        QueryLatencyHistogram histogram = new QueryLatencyHistogram();
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = Math.round(Math.exp(5.5d + random.nextGaussian()));
+            histogram.record(durations[i], 1L);
+        }
+        Arrays.sort(durations);
+
+        for (double quantile : new double[] {0.50d, 0.95d, 0.99d}) {
+            long exact = durations[(int) Math.ceil(quantile * durations.length) - 1];
+            assertThat(histogram.percentile(quantile)).isBetween(exact, exact + exact / 8);
+        }
+    }
+
+    @Test
+    void mergedAndDecodedHistogramsMatchRecordingEverythingInOne() {
+        QueryLatencyHistogram all = new QueryLatencyHistogram();
+        QueryLatencyHistogram fast = new QueryLatencyHistogram();
+        QueryLatencyHistogram slow = new QueryLatencyHistogram();
+        for (long durationMs = 10; durationMs < 200; durationMs += 10) {
+            fast.record(durationMs, 3L);
+            all.record(durationMs, 3L);
+        }
+        slow.record(4_000L, 2L);
+        all.record(4_000L, 2L);
+
+        QueryLatencyHistogram merged = new QueryLatencyHistogram().merge(fast).merge(QueryLatencyHistogram.decode(slow.encode()));
+
+        assertThat(merged.count()).isEqualTo(59L);
+        assertThat(merged.encode()).isEqualTo(all.encode());
+        assertThat(merged.percentiles()).isEqualTo(all.percentiles());
+        assertThat(merged.percentiles().p99()).isEqualTo(4_095L);
+        assertThat(new QueryLatencyHistogram().percentiles().p95()).isZero();
+        assertThat(QueryLatencyHistogram.decode(null).count()).isZero();
+    }
+}
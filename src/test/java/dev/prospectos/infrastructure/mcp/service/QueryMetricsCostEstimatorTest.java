@@ -0,0 +1,34 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import dev.prospectos.ai.monitoring.TokenUsageMonitor;
+
+import static dev.prospectos.ai.monitoring.ChatResponseSupport.chatResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryMetricsCostEstimatorTest {
+
+    @Test
+    void usesStaticPerResultTableUntilLlmCallsAreMetered() {
+        QueryMetricsCostEstimator estimator = new QueryMetricsCostEstimator(new TokenUsageMonitor());
+
+        assertThat(estimator.estimate("google-places", 3)).isEqualByComparingTo("0.05");
+        assertThat(estimator.estimate("llm-discovery", 4)).isEqualByComparingTo("0.08");
+        assertThat(estimator.estimate("in-memory", 10)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void pricesLlmProvidersFromMeteredAverageCost() {
+        TokenUsageMonitor usageMonitor = new TokenUsageMonitor();
+        usageMonitor.record("openai", "lead-discovery", chatResponse("[]", "gpt-4o", 8_000, 2_000));
+        usageMonitor.record(null, "web-search", chatResponse("{}", "gpt-4o-mini", 10_000, 2_000));
+        QueryMetricsCostEstimator estimator = new QueryMetricsCostEstimator(usageMonitor);
+
+        assertThat(estimator.estimate("llm-discovery", 4)).isEqualByComparingTo("0.0400");
+        assertThat(estimator.estimate("scraper", 3)).isEqualByComparingTo("0.0081");
+        assertThat(estimator.estimate("google-places", 3)).isEqualByComparingTo("0.05");
+    }
+}
@@ -0,0 +1,63 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryMetricsRollupJobTest {
+
+    private final QueryMetricsObservationRepository observations = mock(QueryMetricsObservationRepository.class);
+    private final QueryMetricsHourlyRollupRepository rollups = mock(QueryMetricsHourlyRollupRepository.class);
+    private final Instant now = Instant.parse("2026-03-30T18:02:00Z");
+    private final QueryMetricsRollupJob job = new QueryMetricsRollupJob(observations, rollups, Clock.fixed(now, ZoneOffset.UTC));
+
+    @Test
+    void rollsUpCompletedHoursAfterTheLatestRollupAndPurgesExpiredRows() {
+        when(rollups.findLatestHourStart()).thenReturn(Instant.parse("2026-03-30T13:00:00Z"));
+        when(observations.findEarliestRecordedAtFrom(Instant.parse("2026-03-30T14:00:00Z"))).thenReturn(Instant.parse("2026-03-30T15:42:00Z"));
+        var totals = new QueryMetricsProviderTotals("scraper", 3L, 2L, 900L, new BigDecimal("0.0375"));
+        when(observations.aggregateByProvider(any(), any(), isNull())).thenReturn(List.of(totals));
+        when(observations.countDurationsByProvider(any(), any(), isNull())).thenReturn(List.of(
+            new QueryMetricsDurationCount("scraper", 300L, 3L)
+        ));
+
+        job.rollUp();
+
+        verify(observations).aggregateByProvider(Instant.parse("2026-03-30T15:00:00Z"), Instant.parse("2026-03-30T16:00:00Z"), null);
+        verify(observations).aggregateByProvider(Instant.parse("2026-03-30T16:00:00Z"), Instant.parse("2026-03-30T17:00:00Z"), null);
+        verify(observations, never()).aggregateByProvider(Instant.parse("2026-03-30T17:00:00Z"), Instant.parse("2026-03-30T18:00:00Z"), null);
+        verify(observations).countDurationsByProvider(Instant.parse("2026-03-30T15:00:00Z"), Instant.parse("2026-03-30T16:00:00Z"), null);
+        ArgumentCaptor<List<QueryMetricsHourlyRollup>> written = ArgumentCaptor.captor();
+        verify(rollups).insertAllSkippingExisting(written.capture());
+        assertThat(written.getValue()).extracting(QueryMetricsHourlyRollup::hourStart)
+            .containsExactly(Instant.parse("2026-03-30T15:00:00Z"), Instant.parse("2026-03-30T16:00:00Z"));
+        assertThat(written.getValue()).allSatisfy(rollup -> {
+            assertThat(rollup.totals()).isEqualTo(totals);
+            assertThat(rollup.latency().count()).isEqualTo(3L);
+        });
+        verify(observations).deleteRecordedBefore(now.minus(QueryMetricsRollupJob.RAW_RETENTION));
+        verify(rollups).deleteHoursBefore(now.minus(QueryMetricsRollupJob.ROLLUP_RETENTION));
+    }
+
+    @Test
+    void skipsRollupWhenThereAreNoNewObservations() {
+        job.rollUp();
+
+        verify(observations).findEarliestRecordedAtFrom(now.minus(QueryMetricsRollupJob.RAW_RETENTION));
+        verify(observations, never()).aggregateByProvider(any(), any(), any());
+        verify(rollups).insertAllSkippingExisting(List.of());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.prospectos.infrastructure.mcp.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryMetricsWriteBehindQueueTest {
+
+    @Mock
+    private QueryMetricsObservationRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void close_FlushesPendingObservationsInBatches() throws Exception {
+        QueryMetricsWriteBehindQueue queue = queue(10, 2, Duration.ofHours(1));
+        queue.submit(observation(1));
+        queue.submit(observation(2));
+        queue.submit(observation(3));
+
+        verify(repository, never()).insertAll(anyList());
+        assertThat(meterRegistry.get("prospectos.mcp.metrics.write.queue.depth").gauge().value()).isEqualTo(3.0d);
+
+        queue.close();
+
+        verify(repository).insertAll(List.of(observation(1), observation(2)));
+        verify(repository).insertAll(List.of(observation(3)));
+        assertThat(meterRegistry.get("prospectos.mcp.metrics.write.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void submit_DropsAndCountsObservationsWhenQueueIsFull() throws Exception {
+        QueryMetricsWriteBehindQueue queue = queue(2, 10, Duration.ofHours(1));
+        queue.submit(observation(1));
+        queue.submit(observation(2));
+        queue.submit(observation(3));
+
+        queue.close();
+
+        verify(repository).insertAll(List.of(observation(1), observation(2)));
+        assertThat(dropped("queue-full")).isEqualTo(1.0d);
+    }
+
+    @Test
+    void flusher_WritesOnIntervalAndCountsFailedBatches() throws Exception {
+        lenient().doThrow(new IllegalStateException("database down")).when(repository).insertAll(List.of(observation(7)));
+        QueryMetricsWriteBehindQueue queue = queue(10, 10, Duration.ofMillis(20));
+
+        queue.submit(observation(7));
+        verify(repository, timeout(2_000)).insertAll(List.of(observation(7)));
+
+        queue.submit(observation(8));
+        verify(repository, timeout(2_000)).insertAll(List.of(observation(8)));
+        queue.close();
+
+        assertThat(dropped("write-failed")).isEqualTo(1.0d);
+    }
+
+    private QueryMetricsWriteBehindQueue queue(int capacity, int batchSize, Duration flushInterval) {
+        return new QueryMetricsWriteBehindQueue(
+            repository,
+            new QueryMetricsWriteBehindProperties(true, capacity, batchSize, flushInterval),
+            meterRegistry
+        );
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("prospectos.mcp.metrics.write.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static QueryMetricsObservation observation(int resultCount) {
+        return new QueryMetricsObservation(
+            "scraper", "lead-search", Instant.parse("2026-03-30T18:00:00Z"), 100, true, resultCount, new BigDecimal("0.01")
+        );
+    }
+}
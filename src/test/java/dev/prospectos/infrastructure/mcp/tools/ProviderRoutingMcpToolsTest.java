@@ -141,8 +141,11 @@ class ProviderRoutingMcpToolsTest {
             new BigDecimal("0.0100"),
             0.95,
             120,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
             new QueryMetricsSnapshot.Trends("+0%", "+0%", "+0%"),
-            List.of(new QueryMetricsSnapshot.ProviderMetric(provider == null ? "nominatim" : provider, 1, new BigDecimal("0.01"), 0.95, 120))
+            List.of(new QueryMetricsSnapshot.ProviderMetric(
+                provider == null ? "nominatim" : provider, 1, new BigDecimal("0.01"), 0.95, 120, QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY
+            ))
         );
     }
 
@@ -35,8 +35,11 @@ class QueryMetricsMcpToolsTest {
             new BigDecimal("0.3000"),
             0.94,
             820,
+            new QueryMetricsSnapshot.ResponseTimePercentiles(700, 1_500, 2_400),
             new QueryMetricsSnapshot.Trends("+3%", "+1%", "+8%"),
-            List.of(new QueryMetricsSnapshot.ProviderMetric("amazon-location", 25, new BigDecimal("7.50"), 0.94, 820))
+            List.of(new QueryMetricsSnapshot.ProviderMetric(
+                "amazon-location", 25, new BigDecimal("7.50"), 0.94, 820, new QueryMetricsSnapshot.ResponseTimePercentiles(700, 1_500, 2_400)
+            ))
         );
 
         when(queryMetricsService.getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, "amazon-location")).thenReturn(snapshot);
@@ -44,6 +47,7 @@ class QueryMetricsMcpToolsTest {
         var response = tools.getQueryMetrics("24h", "AMAZON-LOCATION");
 
         assertThat(response.totalQueries()).isEqualTo(25);
+        assertThat(response.p95ResponseTime()).isEqualTo(1_500L);
         assertThat(response.providerBreakdown()).containsKey("amazon-location");
         verify(queryMetricsService).getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, "amazon-location");
     }
@@ -0,0 +1,74 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.text.TextSearchMatch;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyTextIndexTest {
+
+    @Mock
+    private CompanyDataService companyDataService;
+
+    @Test
+    void loadsAllPagesOnFirstSearch() {
+        List<CompanyDTO> firstPage = LongStream.rangeClosed(1, 500).mapToObj(id -> company(id, "Logistics " + id)).toList();
+        when(companyDataService.findCompaniesAfter(null, 500)).thenReturn(firstPage);
+        when(companyDataService.findCompaniesAfter(500L, 500)).thenReturn(List.of(company(501L, "Fintech Recife")));
+        CompanyTextIndex index = new CompanyTextIndex(companyDataService);
+
+        assertThat(ids(index.search("recife", 10))).containsExactly(501L);
+        assertThat(index.search("logistics", 3)).hasSize(3);
+        verify(companyDataService, never()).findAllCompanies();
+    }
+
+    @Test
+    void appliesReindexEventsAfterTheInitialLoad() {
+        when(companyDataService.findCompaniesAfter(null, 500)).thenReturn(List.of(company(1L, "Fintech Recife")));
+        CompanyTextIndex index = new CompanyTextIndex(companyDataService);
+        index.search("fintech", 10);
+
+        when(companyDataService.findCompany(1L)).thenReturn(company(1L, "Agritech Goiania"));
+        when(companyDataService.findCompany(2L)).thenReturn(company(2L, "Fintech Natal"));
+        index.onCompanyChanged(new CompanyVectorReindexRequested(1L));
+        index.onCompanyChanged(new CompanyVectorReindexRequested(2L));
+
+        assertThat(ids(index.search("fintech agritech", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("recife", 10))).isEmpty();
+
+        when(companyDataService.findCompany(2L)).thenReturn(null);
+        index.onCompanyChanged(new CompanyVectorReindexRequested(2L));
+
+        assertThat(ids(index.search("fintech", 10))).isEmpty();
+    }
+
+    @Test
+    void ignoresEventsUntilTheIndexIsLoaded() {
+        CompanyTextIndex index = new CompanyTextIndex(companyDataService);
+
+        index.onCompanyChanged(new CompanyVectorReindexRequested(1L));
+
+        verify(companyDataService, never()).findCompany(anyLong());
+    }
+
+    private static CompanyDTO company(Long id, String name) {
+        return new CompanyDTO(id, name, "Software", null, "Desc", 50, "Brazil", null);
+    }
+
+    private static List<Long> ids(List<TextSearchMatch> matches) {
+        return matches.stream().map(TextSearchMatch::id).toList();
+    }
+}
@@ -0,0 +1,107 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.vector.EmbeddingModelDescriptor;
+import dev.prospectos.ai.vector.TextEmbeddingService;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyVectorBulkReindexJobTest {
+
+    @Mock
+    private CompanyDataService companyDataService;
+
+    @Mock
+    private CompanyVectorIndexingService indexingService;
+
+    @Mock
+    private TextEmbeddingService embeddingService;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        when(embeddingService.descriptor()).thenReturn(new EmbeddingModelDescriptor("hashing-v1", 128));
+    }
+
+    @Test
+    void runNow_IndexesEveryPageAndClearsCheckpoint() {
+        when(companyDataService.findCompaniesAfter(null, 2)).thenReturn(List.of(company(1L), company(2L)));
+        when(companyDataService.findCompaniesAfter(2L, 2)).thenReturn(List.of(company(3L)));
+        when(companyDataService.findCompaniesAfter(3L, 2)).thenReturn(List.of());
+
+        VectorReindexProgress progress = job().runNow(false);
+
+        assertThat(progress.status()).isEqualTo(VectorReindexProgress.Status.COMPLETED);
+        assertThat(progress.indexedCompanies()).isEqualTo(3);
+        assertThat(progress.batches()).isEqualTo(2);
+        assertThat(progress.lastCompanyId()).isEqualTo(3L);
+        assertThat(meterRegistry.counter("prospectos.vector.reindex.companies").count()).isEqualTo(3.0d);
+        assertThat(Files.exists(checkpointFile())).isFalse();
+    }
+
+    @Test
+    void runNow_ResumesAfterCheckpointOfFailedRun() {
+        List<CompanyDTO> firstPage = List.of(company(1L), company(2L));
+        List<CompanyDTO> secondPage = List.of(company(3L));
+        when(companyDataService.findCompaniesAfter(null, 2)).thenReturn(firstPage);
+        when(companyDataService.findCompaniesAfter(2L, 2)).thenReturn(secondPage);
+        doThrow(new IllegalStateException("vector store unavailable")).when(indexingService).reindexCompanies(secondPage);
+
+        VectorReindexProgress failed = job().runNow(false);
+
+        assertThat(failed.status()).isEqualTo(VectorReindexProgress.Status.FAILED);
+        assertThat(failed.error()).isEqualTo("vector store unavailable");
+        assertThat(failed.lastCompanyId()).isEqualTo(2L);
+
+        doNothing().when(indexingService).reindexCompanies(secondPage);
+        when(companyDataService.findCompaniesAfter(3L, 2)).thenReturn(List.of());
+
+        VectorReindexProgress resumed = job().runNow(true);
+
+        assertThat(resumed.status()).isEqualTo(VectorReindexProgress.Status.COMPLETED);
+        assertThat(resumed.resumedAfterCompanyId()).isEqualTo(2L);
+        assertThat(resumed.indexedCompanies()).isEqualTo(1);
+        verify(companyDataService, times(1)).findCompaniesAfter(null, 2);
+        assertThat(Files.exists(checkpointFile())).isFalse();
+    }
+
+    private CompanyVectorBulkReindexJob job() {
+        return new CompanyVectorBulkReindexJob(
+            companyDataService,
+            indexingService,
+            embeddingService,
+            new CompanyVectorReindexProperties(false, 2, checkpointFile()),
+            meterRegistry
+        );
+    }
+
+    private Path checkpointFile() {
+        return directory.resolve("vector-reindex.checkpoint");
+    }
+
+    private CompanyDTO company(Long id) {
+        return new CompanyDTO(id, "Company " + id, "Software", "https://c" + id + ".test", "", 10, "Sao Paulo, BR", null);
+    }
+}
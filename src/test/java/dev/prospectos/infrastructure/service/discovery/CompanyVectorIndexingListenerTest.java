@@ -1,6 +1,7 @@
 package dev.prospectos.infrastructure.service.discovery;
 
 import dev.prospectos.ai.config.VectorizationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -8,6 +9,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyVectorIndexingListenerTest {
@@ -15,13 +19,33 @@ class CompanyVectorIndexingListenerTest {
     @Mock
     private CompanyVectorIndexingService indexingService;
 
+    @Mock
+    private CompanyVectorIndexingQueue indexingQueue;
+
+    private final VectorizationProperties properties =
+        new VectorizationProperties("pgvector", "hashing-v1", 128, 5, 0.2d, null);
+
     @Test
     void onCompanyChanged_DoesNotPropagateIndexingFailure() {
         doThrow(new IllegalStateException("vector down")).when(indexingService).reindexCompany(10L);
 
-        VectorizationProperties properties = new VectorizationProperties("pgvector", "hashing-v1", 128, 5, 0.2d, null);
-        CompanyVectorIndexingListener listener = new CompanyVectorIndexingListener(indexingService, properties);
+        CompanyVectorIndexingListener listener = new CompanyVectorIndexingListener(
+            indexingService,
+            new CompanyVectorIndexingQueue(indexingService, CompanyVectorIndexingQueueProperties.disabled(), new SimpleMeterRegistry()),
+            properties
+        );
 
         assertDoesNotThrow(() -> listener.onCompanyChanged(new CompanyVectorReindexRequested(10L)));
     }
+
+    @Test
+    void onCompanyChanged_EnqueuesInsteadOfIndexingWhenQueueEnabled() {
+        when(indexingQueue.enabled()).thenReturn(true);
+        CompanyVectorIndexingListener listener = new CompanyVectorIndexingListener(indexingService, indexingQueue, properties);
+
+        listener.onCompanyChanged(new CompanyVectorReindexRequested(10L));
+
+        verify(indexingQueue).enqueue(10L);
+        verifyNoInteractions(indexingService);
+    }
 }
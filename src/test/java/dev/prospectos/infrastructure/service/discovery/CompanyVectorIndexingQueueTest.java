@@ -0,0 +1,63 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyVectorIndexingQueueTest {
+
+    @Mock
+    private CompanyVectorIndexingService indexingService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void drain_CoalescesRepeatedRequestsIntoBatches() throws Exception {
+        CompanyVectorIndexingQueue queue = queue(Duration.ofHours(1), 2);
+        queue.enqueue(1L);
+        queue.enqueue(2L);
+        queue.enqueue(1L);
+        queue.enqueue(3L);
+        queue.enqueue(2L);
+
+        assertThat(meterRegistry.get("prospectos.vector.indexing.queue.depth").gauge().value()).isEqualTo(3.0d);
+
+        queue.close();
+
+        verify(indexingService).reindexCompanyIds(List.of(1L, 2L));
+        verify(indexingService).reindexCompanyIds(List.of(3L));
+        assertThat(meterRegistry.get("prospectos.vector.indexing.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void drainDue_IndexesAfterDebounceWindowAndSurvivesFailures() throws Exception {
+        doThrow(new IllegalStateException("vector down")).when(indexingService).reindexCompanyIds(List.of(7L));
+        CompanyVectorIndexingQueue queue = queue(Duration.ofMillis(20), 10);
+
+        queue.enqueue(7L);
+        verify(indexingService, timeout(2_000)).reindexCompanyIds(List.of(7L));
+
+        queue.enqueue(8L);
+        verify(indexingService, timeout(2_000)).reindexCompanyIds(List.of(8L));
+        queue.close();
+    }
+
+    private CompanyVectorIndexingQueue queue(Duration debounce, int batchSize) {
+        return new CompanyVectorIndexingQueue(
+            indexingService,
+            new CompanyVectorIndexingQueueProperties(true, debounce, batchSize),
+            meterRegistry
+        );
+    }
+}
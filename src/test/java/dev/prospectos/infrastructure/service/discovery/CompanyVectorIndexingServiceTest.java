@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,6 +81,49 @@ class CompanyVectorIndexingServiceTest {
         verify(vectorIndex).delete(vectorId(2L));
     }
 
+    @Test
+    void reindexCompanies_UpsertsWholePageInOneBatch() {
+        when(embeddingService.descriptor()).thenReturn(new dev.prospectos.ai.vector.EmbeddingModelDescriptor("mock", 128));
+        VectorizationProperties properties = new VectorizationProperties("in-memory", "mock", 128, 5, 0.2d, null);
+        CompanyVectorIndexingService service = new CompanyVectorIndexingService(
+            companyDataService,
+            embeddingService,
+            vectorIndex,
+            properties
+        );
+
+        service.reindexCompanies(List.of(
+            new CompanyDTO(1L, "TechCorp", "Software", null, null, 10, null, null),
+            new CompanyDTO(2L, "HealthCo", "Healthcare", null, null, 20, null, null)
+        ));
+
+        verify(vectorIndex).upsertAll(org.mockito.ArgumentMatchers.argThat(documents ->
+            documents.size() == 2 && documents.getFirst().id().equals(vectorId(1L))
+        ));
+    }
+
+    @Test
+    void reindexCompanyIds_LoadsCompaniesInOneLookupAndDeletesMissingOnes() {
+        when(companyDataService.findCompanies(List.of(1L, 2L)))
+            .thenReturn(List.of(new CompanyDTO(1L, "TechCorp", "Software", null, null, 10, null, null)));
+        when(embeddingService.descriptor()).thenReturn(new dev.prospectos.ai.vector.EmbeddingModelDescriptor("mock", 128));
+        VectorizationProperties properties = new VectorizationProperties("in-memory", "mock", 128, 5, 0.2d, null);
+        CompanyVectorIndexingService service = new CompanyVectorIndexingService(
+            companyDataService,
+            embeddingService,
+            vectorIndex,
+            properties
+        );
+
+        service.reindexCompanyIds(List.of(1L, 2L));
+
+        verify(vectorIndex).delete(vectorId(2L));
+        verify(vectorIndex).upsertAll(org.mockito.ArgumentMatchers.argThat(documents ->
+            documents.size() == 1 && documents.getFirst().id().equals(vectorId(1L))
+        ));
+        verify(companyDataService, org.mockito.Mockito.never()).findCompany(org.mockito.ArgumentMatchers.any());
+    }
+
     private String vectorId(Long companyId) {
         return UUID.nameUUIDFromBytes(("company:" + companyId).getBytes(StandardCharsets.UTF_8)).toString();
     }
@@ -9,6 +9,9 @@ import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.infrastructure.config.LeadSearchProperties;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesComplianceService;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,16 +43,19 @@ class DefaultLeadDiscoveryServiceTest {
     private QueryMetricsRecorder queryMetricsRecorder;
 
     private DefaultLeadDiscoveryService service;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
 
     @BeforeEach
     void setUp() {
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
         service = new DefaultLeadDiscoveryService(
-            List.of(),
+            new DiscoverySourceRegistry(List.of(), queryMetricsRecorder, DiscoveryFanOutProperties.sequential(), observationRegistry),
             icpDataService,
             scoringService,
             complianceService,
             new LeadSearchProperties(1L),
-            queryMetricsRecorder
+            observationRegistry
         );
     }
 
@@ -106,6 +112,10 @@ class DefaultLeadDiscoveryServiceTest {
         assertEquals(2, response.leads().size());
         assertEquals(2, response.leads().stream().map(lead -> lead.leadKey()).distinct().count());
         verify(scoringService, times(2)).scoreCandidate(any(), any());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.discovery").tag("outcome", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.icp.lookup").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.source").tag("source", "llm-discovery").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.ranking").timer().count());
     }
 
     @Test
@@ -214,12 +224,12 @@ class DefaultLeadDiscoveryServiceTest {
 
     private DefaultLeadDiscoveryService createService(List<LeadDiscoverySource> sources, Long defaultIcpId) {
         return new DefaultLeadDiscoveryService(
-            sources,
+            new DiscoverySourceRegistry(sources, queryMetricsRecorder, DiscoveryFanOutProperties.sequential(), observationRegistry),
             icpDataService,
             scoringService,
             complianceService,
             new LeadSearchProperties(defaultIcpId),
-            queryMetricsRecorder
+            observationRegistry
         );
     }
 
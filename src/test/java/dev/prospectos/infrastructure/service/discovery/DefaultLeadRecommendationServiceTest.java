@@ -27,11 +27,12 @@ class DefaultLeadRecommendationServiceTest {
             new BigDecimal("0.07"),
             0.91,
             420,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
             new QueryMetricsSnapshot.Trends("stable", "stable", "up"),
             List.of(
-                new QueryMetricsSnapshot.ProviderMetric("google-places", 80, new BigDecimal("6.40"), 0.97, 220),
-                new QueryMetricsSnapshot.ProviderMetric("amazon-location", 60, new BigDecimal("4.20"), 0.91, 310),
-                new QueryMetricsSnapshot.ProviderMetric("scraper", 40, new BigDecimal("1.70"), 0.82, 900)
+                new QueryMetricsSnapshot.ProviderMetric("google-places", 80, new BigDecimal("6.40"), 0.97, 220, percentiles(190, 400, 650)),
+                new QueryMetricsSnapshot.ProviderMetric("amazon-location", 60, new BigDecimal("4.20"), 0.91, 310, percentiles(280, 520, 800)),
+                new QueryMetricsSnapshot.ProviderMetric("scraper", 40, new BigDecimal("1.70"), 0.82, 900, percentiles(700, 2_400, 4_000))
             )
         ));
 
@@ -41,7 +42,57 @@ class DefaultLeadRecommendationServiceTest {
         assertThat(response.recommendedSource()).isEqualTo("google-places");
         assertThat(response.fallbackSources()).containsExactly("amazon-location", "scraper");
         assertThat(response.expectedLatencyMs()).isEqualTo(220);
-        assertThat(response.reason()).contains("97%");
+        assertThat(response.reason()).contains("97%").contains("p95 response time 400ms");
+    }
+
+    @Test
+    void recommendRanksByP95SoASlowTailLosesToASteadierSource() {
+        var metricsService = mock(QueryMetricsService.class);
+        var complianceService = mock(AllowedSourcesComplianceService.class);
+        when(complianceService.recommendationSources(null)).thenReturn(List.of("google-places", "amazon-location"));
+        when(metricsService.getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, null)).thenReturn(new QueryMetricsSnapshot(
+            200,
+            new BigDecimal("9.00"),
+            new BigDecimal("0.05"),
+            0.95,
+            300,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
+            new QueryMetricsSnapshot.Trends("stable", "stable", "stable"),
+            List.of(
+                new QueryMetricsSnapshot.ProviderMetric("google-places", 100, new BigDecimal("4.50"), 0.95, 250, percentiles(120, 1_800, 6_000)),
+                new QueryMetricsSnapshot.ProviderMetric("amazon-location", 100, new BigDecimal("4.50"), 0.95, 350, percentiles(330, 600, 900))
+            )
+        ));
+
+        var service = new DefaultLeadRecommendationService(metricsService, complianceService);
+        var response = service.recommend(new LeadRecommendationRequest("dentists in orlando", 20, null, null, null));
+
+        assertThat(response.recommendedSource()).isEqualTo("amazon-location");
+        assertThat(response.fallbackSources()).containsExactly("google-places");
+    }
+
+    @Test
+    void recommendLabelsTheMeanWhenNoPercentilesWereObserved() {
+        var metricsService = mock(QueryMetricsService.class);
+        var complianceService = mock(AllowedSourcesComplianceService.class);
+        when(complianceService.recommendationSources(null)).thenReturn(List.of("google-places"));
+        when(metricsService.getMetrics(QueryTimeWindow.TWENTY_FOUR_HOURS, null)).thenReturn(new QueryMetricsSnapshot(
+            80,
+            new BigDecimal("6.40"),
+            new BigDecimal("0.08"),
+            0.97,
+            220,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
+            new QueryMetricsSnapshot.Trends("stable", "stable", "stable"),
+            List.of(new QueryMetricsSnapshot.ProviderMetric(
+                "google-places", 80, new BigDecimal("6.40"), 0.97, 220, QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY
+            ))
+        ));
+
+        var service = new DefaultLeadRecommendationService(metricsService, complianceService);
+        var response = service.recommend(new LeadRecommendationRequest("dentists in orlando", 20, null, null, null));
+
+        assertThat(response.reason()).contains("avg response time 220ms").doesNotContain("p95");
     }
 
     @Test
@@ -55,6 +106,7 @@ class DefaultLeadRecommendationServiceTest {
             BigDecimal.ZERO,
             0.0d,
             0L,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
             new QueryMetricsSnapshot.Trends("stable", "stable", "stable"),
             List.of()
         ));
@@ -77,6 +129,7 @@ class DefaultLeadRecommendationServiceTest {
             BigDecimal.ZERO,
             0.0d,
             0L,
+            QueryMetricsSnapshot.ResponseTimePercentiles.EMPTY,
             new QueryMetricsSnapshot.Trends("stable", "stable", "stable"),
             List.of()
         ));
@@ -88,4 +141,8 @@ class DefaultLeadRecommendationServiceTest {
         assertThat(response.fallbackSources()).containsExactly("vector-company");
         assertThat(response.reason()).contains("no observed history yet");
     }
+
+    private static QueryMetricsSnapshot.ResponseTimePercentiles percentiles(long p50, long p95, long p99) {
+        return new QueryMetricsSnapshot.ResponseTimePercentiles(p50, p95, p99);
+    }
 }
@@ -1,17 +1,25 @@
 package dev.prospectos.infrastructure.service.discovery;
 
 import dev.prospectos.api.mcp.QueryMetricsRecorder;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,4 +75,114 @@ class DiscoverySourceRegistryTest {
 
         verify(metricsRecorder).recordExecution(eq("open-cnpj"), eq("clinicas"), anyLong(), eq(false), eq(0));
     }
+
+    @Test
+    void parallelModeMergesResultsInRequestedSourceOrder() {
+        var registry = new DiscoverySourceRegistry(
+            List.of(delayedSource("google-places", 150, "Slow Clinic"), delayedSource("in-memory", 0, "Fast Clinic")),
+            metricsRecorder,
+            new DiscoveryFanOutProperties(true, Duration.ofSeconds(2), Duration.ofSeconds(5), null)
+        );
+
+        var discovered = registry.discover(List.of("google-places", "in-memory"), new DiscoveryContext("clinicas", null, 5, null));
+
+        assertThat(discovered).extracting(DiscoveredLeadCandidate::name).containsExactly("Slow Clinic", "Fast Clinic");
+        verify(metricsRecorder).recordExecution(eq("google-places"), eq("clinicas"), anyLong(), eq(true), eq(1));
+        verify(metricsRecorder).recordExecution(eq("in-memory"), eq("clinicas"), anyLong(), eq(true), eq(1));
+    }
+
+    @Test
+    void parallelModeReturnsPartialResultsAndRecordsTimeoutForSlowSource() {
+        var registry = new DiscoverySourceRegistry(
+            List.of(delayedSource("llm-discovery", 5_000, "Never"), delayedSource("in-memory", 0, "Fast Clinic")),
+            metricsRecorder,
+            new DiscoveryFanOutProperties(
+                true,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                Map.of("llm-discovery", Duration.ofMillis(100))
+            )
+        );
+
+        var discovered = registry.discover(List.of("llm-discovery", "in-memory"), new DiscoveryContext("clinicas", null, 5, null));
+
+        assertThat(discovered).extracting(DiscoveredLeadCandidate::name).containsExactly("Fast Clinic");
+        verify(metricsRecorder, times(1)).recordTimeout(eq("llm-discovery"), eq("clinicas"), anyLong());
+        verify(metricsRecorder, never()).recordExecution(eq("llm-discovery"), eq("clinicas"), anyLong(), eq(false), eq(0));
+        verify(metricsRecorder).recordExecution(eq("in-memory"), eq("clinicas"), anyLong(), eq(true), eq(1));
+    }
+
+    @Test
+    void parallelModeRequestBudgetCapsEverySource() {
+        var registry = new DiscoverySourceRegistry(
+            List.of(delayedSource("open-cnpj", 5_000, "Never"), delayedSource("google-places", 5_000, "Never")),
+            metricsRecorder,
+            new DiscoveryFanOutProperties(true, Duration.ofSeconds(10), Duration.ofMillis(150), null)
+        );
+
+        long startedAt = System.nanoTime();
+        var discovered = registry.discover(List.of("open-cnpj", "google-places"), new DiscoveryContext("clinicas", null, 5, null));
+
+        assertThat(discovered).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(3));
+        verify(metricsRecorder).recordTimeout(eq("open-cnpj"), eq("clinicas"), anyLong());
+        verify(metricsRecorder).recordTimeout(eq("google-places"), eq("clinicas"), anyLong());
+    }
+
+    @Test
+    void parallelModeParentsSourceObservationsOnTheCallersObservation() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        var stopped = new ConcurrentLinkedQueue<Observation.Context>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        var registry = new DiscoverySourceRegistry(
+            List.of(delayedSource("google-places", 0, "Clinic A"), delayedSource("in-memory", 0, "Clinic B")),
+            metricsRecorder,
+            new DiscoveryFanOutProperties(true, Duration.ofSeconds(2), Duration.ofSeconds(5), null),
+            observationRegistry
+        );
+        Observation discovery = Observation.start("prospectos.leads.discovery", observationRegistry);
+
+        try (Observation.Scope ignored = discovery.openScope()) {
+            registry.discover(List.of("google-places", "in-memory"), new DiscoveryContext("clinicas", null, 5, null));
+        } finally {
+            discovery.stop();
+        }
+
+        assertThat(stopped).filteredOn(context -> context.getName().equals("prospectos.leads.source"))
+            .hasSize(2)
+            .allSatisfy(context -> {
+                assertThat(context.getParentObservation()).isSameAs(discovery);
+                assertThat(context.getLowCardinalityKeyValue("outcome").getValue()).isEqualTo("success");
+            });
+    }
+
+    private LeadDiscoverySource delayedSource(String sourceName, long delayMs, String candidateName) {
+        return new LeadDiscoverySource() {
+            @Override
+            public String sourceName() {
+                return sourceName;
+            }
+
+            @Override
+            public List<DiscoveredLeadCandidate> discover(DiscoveryContext context) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted", exception);
+                }
+                return List.of(new DiscoveredLeadCandidate(candidateName, null, "health", "desc", "BR", List.of(), sourceName));
+            }
+        };
+    }
 }
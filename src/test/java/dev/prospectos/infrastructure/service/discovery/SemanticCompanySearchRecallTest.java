@@ -0,0 +1,103 @@
+package dev.prospectos.infrastructure.service.discovery;
+
+import dev.prospectos.ai.config.HybridSearchProperties;
+import dev.prospectos.ai.config.VectorizationProperties;
+import dev.prospectos.ai.text.RetrievalRecallEvaluator;
+import dev.prospectos.ai.text.RetrievalRecallReport;
+import dev.prospectos.ai.vector.HashingTextEmbeddingService;
+import dev.prospectos.ai.vector.InMemoryVectorIndex;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Offline evaluation of vector-only and hybrid company search on a generated corpus,
+ * labelled with exact company names and CNPJs.
+ */
+@ExtendWith(MockitoExtension.class)
+class SemanticCompanySearchRecallTest {
+
+    private static final String[] SYLLABLES = {"ven", "tra", "lu", "mar", "qui", "zen", "bor", "ta", "nex", "dor", "ka", "lio"};
+    private static final String[] INDUSTRIES = {"Software", "Logistics", "Healthcare", "Agribusiness", "Fintech", "Retail"};
+    private static final String[] CITIES = {"Sao Paulo", "Curitiba", "Recife", "Belo Horizonte", "Porto Alegre", "Salvador"};
+    private static final String[] WORDS = {"platform", "services", "consulting", "cloud", "distribution", "analytics", "payments"};
+    private static final VectorizationProperties PROPERTIES = new VectorizationProperties("in-memory", "hashing-v1", 256, 5, 0.0d, null);
+
+    @Mock
+    private CompanyDataService companyDataService;
+
+    @Test
+    void hybridRetrievalRecallsExactNamesAndCnpjs() {
+        Map<String, Long> labelledQueries = new LinkedHashMap<>();
+        List<CompanyDTO> corpus = corpus(1_000, 42L, labelledQueries);
+        Map<Long, CompanyDTO> byId = new LinkedHashMap<>();
+        corpus.forEach(company -> byId.put(company.id(), company));
+        when(companyDataService.findCompanies(anyList()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream().map(byId::get).toList());
+        when(companyDataService.findCompaniesAfter(any(), anyInt())).thenAnswer(invocation -> {
+            Long after = invocation.getArgument(0);
+            return corpus.stream().filter(company -> after == null || company.id() > after).limit(invocation.<Integer>getArgument(1)).toList();
+        });
+        InMemoryVectorIndex vectorIndex = new InMemoryVectorIndex(new HashingTextEmbeddingService(PROPERTIES));
+        new CompanyVectorIndexingService(companyDataService, new HashingTextEmbeddingService(PROPERTIES), vectorIndex, PROPERTIES)
+            .reindexCompanies(corpus);
+        CompanyTextIndex textIndex = new CompanyTextIndex(companyDataService);
+        SemanticCompanySearchService vectorOnly = new SemanticCompanySearchService(
+            companyDataService, vectorIndex, textIndex, PROPERTIES, HybridSearchProperties.disabled()
+        );
+        SemanticCompanySearchService hybrid = new SemanticCompanySearchService(
+            companyDataService, vectorIndex, textIndex, PROPERTIES, new HybridSearchProperties(true, null, null, null, null)
+        );
+
+        RetrievalRecallReport report = RetrievalRecallEvaluator.compare(
+            labelledQueries,
+            5,
+            (query, topK) -> ids(vectorOnly.search(query, topK)),
+            (query, topK) -> ids(hybrid.search(query, topK))
+        );
+
+        assertThat(report.hybridRecallAtK()).as(report.summary()).isGreaterThanOrEqualTo(0.95d);
+        assertThat(report.hybridRecallAtK()).as(report.summary()).isGreaterThan(report.vectorRecallAtK());
+    }
+
+    private static List<CompanyDTO> corpus(int size, long seed, Map<String, Long> labelledQueries) {
+        Random random = new Random(seed);
+        List<CompanyDTO> corpus = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            String name = pick(random, SYLLABLES) + pick(random, SYLLABLES) + pick(random, SYLLABLES) + " " + pick(random, INDUSTRIES);
+            String industry = pick(random, INDUSTRIES);
+            String city = pick(random, CITIES);
+            String cnpj = String.format("%02d.%03d.%03d/0001-%02d", random.nextInt(100), random.nextInt(1000), random.nextInt(1000), random.nextInt(100));
+            String description = industry + " " + pick(random, WORDS) + " and " + pick(random, WORDS) + " in " + city + ". CNPJ " + cnpj;
+            corpus.add(new CompanyDTO(id, name, industry, null, description, 50, city + ", BR", null));
+            if (id % 20 == 0) {
+                labelledQueries.put(name, id);
+                labelledQueries.put(cnpj, id);
+            }
+        }
+        return corpus;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<Long> ids(List<SemanticCompanyMatch> matches) {
+        return matches.stream().map(match -> match.company().id()).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package dev.prospectos.infrastructure.service.discovery;
 
+import dev.prospectos.ai.config.HybridSearchProperties;
 import dev.prospectos.ai.config.VectorizationProperties;
 import dev.prospectos.ai.vector.HashingTextEmbeddingService;
 import dev.prospectos.ai.vector.InMemoryVectorIndex;
@@ -15,11 +16,24 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SemanticCompanySearchServiceTest {
 
+    private static final VectorizationProperties PROPERTIES = new VectorizationProperties(
+        "in-memory",
+        "hashing-v1",
+        128,
+        5,
+        0.10d,
+        null
+    );
+
     @Mock
     private CompanyDataService companyDataService;
 
@@ -35,17 +49,9 @@ class SemanticCompanySearchServiceTest {
             "Sao Paulo, BR",
             null
         );
-        when(companyDataService.findCompany(1L)).thenReturn(agileSoft);
-
-        VectorizationProperties properties = new VectorizationProperties(
-            "in-memory",
-            "hashing-v1",
-            128,
-            5,
-            0.10d,
-            null
-        );
-        HashingTextEmbeddingService embeddingService = new HashingTextEmbeddingService(properties);
+        when(companyDataService.findCompanies(List.of(1L))).thenReturn(List.of(agileSoft));
+
+        HashingTextEmbeddingService embeddingService = new HashingTextEmbeddingService(PROPERTIES);
         InMemoryVectorIndex vectorIndex = new InMemoryVectorIndex(embeddingService);
         vectorIndex.upsert(
             "company:1",
@@ -56,7 +62,9 @@ class SemanticCompanySearchServiceTest {
         SemanticCompanySearchService service = new SemanticCompanySearchService(
             companyDataService,
             vectorIndex,
-            properties
+            new CompanyTextIndex(companyDataService),
+            PROPERTIES,
+            HybridSearchProperties.disabled()
         );
 
         List<SemanticCompanyMatch> matches = service.search("agile scrum software teams", 3);
@@ -64,4 +72,55 @@ class SemanticCompanySearchServiceTest {
         assertFalse(matches.isEmpty());
         assertEquals("AgileSoft", matches.getFirst().company().name());
     }
+
+    @Test
+    void search_HybridModeFindsExactNamesTheVectorIndexMisses() {
+        CompanyDTO zentrova = new CompanyDTO(
+            2L, "Zentrova", "Logistics", null, "Freight brokerage for agribusiness exporters", 40, "Santos, BR", null
+        );
+        when(companyDataService.findCompaniesAfter(null, 500)).thenReturn(List.of(zentrova));
+        when(companyDataService.findCompanies(List.of(2L))).thenReturn(List.of(zentrova));
+
+        SemanticCompanySearchService service = new SemanticCompanySearchService(
+            companyDataService,
+            new InMemoryVectorIndex(new HashingTextEmbeddingService(PROPERTIES)),
+            new CompanyTextIndex(companyDataService),
+            PROPERTIES,
+            new HybridSearchProperties(true, null, null, null, null)
+        );
+
+        List<SemanticCompanyMatch> matches = service.search("zentrova", 3);
+
+        assertEquals(1, matches.size());
+        assertEquals("Zentrova", matches.getFirst().company().name());
+        assertEquals(2.0d / 3.0d, matches.getFirst().similarity(), 1e-9);
+    }
+
+    @Test
+    void search_HydratesAllMatchesInOneLookupKeepingTheRankingOrder() {
+        CompanyDTO agileSoft = new CompanyDTO(
+            1L, "AgileSoft", "Software", null, "Agile scrum coaching for software teams", 120, "Sao Paulo, BR", null
+        );
+        CompanyDTO agileFreight = new CompanyDTO(
+            3L, "AgileFreight", "Logistics", null, "Agile logistics and freight brokerage", 40, "Santos, BR", null
+        );
+        when(companyDataService.findCompanies(List.of(1L, 3L))).thenReturn(List.of(agileSoft, agileFreight));
+
+        InMemoryVectorIndex vectorIndex = new InMemoryVectorIndex(new HashingTextEmbeddingService(PROPERTIES));
+        vectorIndex.upsert("company:3", "AgileFreight. Agile logistics and freight brokerage", Map.of("companyId", 3L));
+        vectorIndex.upsert("company:1", "AgileSoft. Agile scrum coaching for software teams", Map.of("companyId", 1L));
+        SemanticCompanySearchService service = new SemanticCompanySearchService(
+            companyDataService,
+            vectorIndex,
+            new CompanyTextIndex(companyDataService),
+            PROPERTIES,
+            HybridSearchProperties.disabled()
+        );
+
+        List<SemanticCompanyMatch> matches = service.search("agile scrum coaching", 3);
+
+        assertEquals(List.of("AgileSoft", "AgileFreight"), matches.stream().map(match -> match.company().name()).toList());
+        assertTrue(matches.get(0).similarity() > matches.get(1).similarity());
+        verify(companyDataService, never()).findCompany(any());
+    }
 }
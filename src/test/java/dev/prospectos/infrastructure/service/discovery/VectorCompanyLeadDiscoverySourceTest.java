@@ -1,6 +1,8 @@
 package dev.prospectos.infrastructure.service.discovery;
 
+import dev.prospectos.ai.vector.VectorSearchFilter;
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.ICPDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -41,4 +43,24 @@ class VectorCompanyLeadDiscoverySourceTest {
 
         assertEquals("Consultoria agile", description);
     }
+
+    @Test
+    void discover_PrefersIcpIndustriesAndRegionsAndTopsUpFromUnfilteredSearch() {
+        ICPDto icp = new ICPDto(
+            7L, "ICP", "Desc", List.of("Software"), List.of("Brazil"), List.of("Java"), 10, 500, List.of("CTO"), "Growth"
+        );
+        CompanyDTO inIcp = new CompanyDTO(1L, "AgileSoft", "Software", null, "Consultoria agile", 120, "Sao Paulo, Brazil", null);
+        CompanyDTO outsideIcp = new CompanyDTO(2L, "AgileShop", "Retail", null, "Agile retail", 40, "Toronto, Canada", null);
+        VectorSearchFilter icpFilter = VectorSearchFilter.of(List.of("Software"), List.of("Brazil"));
+        when(semanticSearchService.search("agile", 3, icpFilter)).thenReturn(List.of(new SemanticCompanyMatch(inIcp, 0.9d)));
+        when(semanticSearchService.search("agile", 3)).thenReturn(List.of(
+            new SemanticCompanyMatch(inIcp, 0.9d),
+            new SemanticCompanyMatch(outsideIcp, 0.8d)
+        ));
+
+        List<DiscoveredLeadCandidate> results = new VectorCompanyLeadDiscoverySource(semanticSearchService)
+            .discover(new DiscoveryContext("agile", "CTO", 3, icp));
+
+        assertEquals(List.of("AgileSoft", "AgileShop"), results.stream().map(DiscoveredLeadCandidate::name).toList());
+    }
 }
@@ -109,6 +109,17 @@ class InMemoryCompanyDataServiceTest {
         assertEquals(first, found);
     }
 
+    @Test
+    void findCompaniesReturnsStoredCompaniesInRequestedOrder() {
+        List<CompanyDTO> all = service.findAllCompanies();
+        CompanyDTO first = all.get(0);
+        CompanyDTO second = all.get(1);
+
+        List<CompanyDTO> found = service.findCompanies(List.of(second.id(), -1L, first.id(), second.id()));
+
+        assertEquals(List.of(second, first), found);
+    }
+
     @Test
     void findAllCompaniesReturnsCopy() {
         List<CompanyDTO> all = service.findAllCompanies();
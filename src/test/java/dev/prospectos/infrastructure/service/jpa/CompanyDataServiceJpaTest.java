@@ -1,6 +1,9 @@
 package dev.prospectos.infrastructure.service.jpa;
 
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
+import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.Contact;
@@ -8,7 +11,11 @@ import dev.prospectos.core.domain.Email;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.core.domain.Website;
 import dev.prospectos.core.repository.CompanyDomainRepository;
+import dev.prospectos.core.repository.CompanySearchCriteria;
+import dev.prospectos.core.repository.CompanySearchPage;
+import dev.prospectos.core.repository.CompanySummary;
 import dev.prospectos.core.repository.ICPDomainRepository;
+import dev.prospectos.infrastructure.service.discovery.CompanyVectorReindexRequested;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,7 +23,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,7 +33,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +79,21 @@ class CompanyDataServiceJpaTest {
         verify(companyRepository, never()).findAll();
     }
 
+    @Test
+    void findCompany_ReportsLowestEmailAddressAsPrimaryContactRegardlessOfInsertionOrder() {
+        Company company = Company.create("Acme", Website.of("https://acme.com"), "Software");
+        company.addContact(new Contact("Zed", Email.of("zed@acme.com"), "CEO", null));
+        company.addContact(new Contact("Alice", Email.of("alice@acme.com"), "CTO", null));
+        long externalId = company.getExternalId();
+
+        when(companyRepository.findByExternalId(externalId)).thenReturn(Optional.of(company));
+
+        CompanyDTO found = service.findCompany(externalId);
+
+        assertEquals("alice@acme.com", found.primaryContactEmail());
+        assertEquals(2, found.contactCount());
+    }
+
     @Test
     void findCompaniesByIcp_UsesDirectIcpExternalIdLookup() {
         ICP icp = ICP.createWithExternalId(
@@ -77,10 +105,8 @@ class CompanyDataServiceJpaTest {
             List.of(),
             "Theme"
         );
-        Company company = Company.create("Acme", Website.of("https://acme.com"), "Software");
-
         when(icpRepository.findByExternalId(77L)).thenReturn(Optional.of(icp));
-        when(companyRepository.findByIndustry("Software")).thenReturn(List.of(company));
+        when(companyRepository.findSummariesByIndustries(List.of("Software"))).thenReturn(List.of(summary(1L, "Acme")));
 
         List<CompanyDTO> found = service.findCompaniesByICP(77L);
 
@@ -94,11 +120,11 @@ class CompanyDataServiceJpaTest {
         CompanyDTO found = service.findByWebsite("://invalid");
 
         assertNull(found);
-        verify(companyRepository, never()).findByWebsiteDomain(org.mockito.ArgumentMatchers.anyString());
+        verify(companyRepository, never()).findByWebsiteDomain(anyString());
     }
 
     @Test
-    void findCompaniesByIcp_DeduplicatesCompaniesAcrossIndustries() {
+    void findCompaniesByIcp_LoadsAllIndustriesInOneProjectionQuery() {
         ICP icp = ICP.createWithExternalId(
             88L,
             "ICP Multi",
@@ -108,16 +134,35 @@ class CompanyDataServiceJpaTest {
             List.of(),
             "Theme"
         );
-        Company shared = Company.create("Shared", Website.of("https://shared.com"), "Software");
+        CompanySummary shared = new CompanySummary(
+            5L, "Shared", "Software", "https://shared.com", null, "Austin", "US", new BigDecimal("72.00"), "cto@shared.com", 3
+        );
 
         when(icpRepository.findByExternalId(88L)).thenReturn(Optional.of(icp));
-        when(companyRepository.findByIndustry("Software")).thenReturn(List.of(shared));
-        when(companyRepository.findByIndustry("Technology")).thenReturn(List.of(shared));
+        when(companyRepository.findSummariesByIndustries(List.of("Software", "Technology"))).thenReturn(List.of(shared));
 
         List<CompanyDTO> found = service.findCompaniesByICP(88L);
 
         assertEquals(1, found.size());
         assertEquals("Shared", found.getFirst().name());
+        assertEquals("Austin, US", found.getFirst().location());
+        assertEquals(72, found.getFirst().score().value());
+        assertEquals("WARM", found.getFirst().score().category());
+        assertEquals("cto@shared.com", found.getFirst().primaryContactEmail());
+        assertEquals(3, found.getFirst().contactCount());
+        verify(companyRepository, never()).findByIndustry(anyString());
+    }
+
+    @Test
+    void findCompaniesByIds_LoadsAllInOneQueryInRequestedOrder() {
+        CompanySummary first = new CompanySummary(3L, "Third", "Software", null, null, null, "BR", null, null, 0);
+        CompanySummary second = new CompanySummary(9L, "Ninth", "Retail", null, null, null, "US", null, null, 0);
+        when(companyRepository.findSummariesByExternalIds(List.of(9L, 4L, 3L))).thenReturn(List.of(first, second));
+
+        List<CompanyDTO> found = service.findCompanies(List.of(9L, 4L, 3L));
+
+        assertEquals(List.of(9L, 3L), found.stream().map(CompanyDTO::id).toList());
+        verify(companyRepository, never()).findByExternalId(anyLong());
     }
 
     @Test
@@ -138,7 +183,7 @@ class CompanyDataServiceJpaTest {
         );
 
         assertEquals("Invalid company size: tiny", exception.getMessage());
-        verify(companyRepository, never()).save(org.mockito.ArgumentMatchers.any());
+        verify(companyRepository, never()).save(any());
     }
 
     @Test
@@ -161,4 +206,47 @@ class CompanyDataServiceJpaTest {
         assertEquals("second@acme.com", company.getContacts().get(1).getEmail().getAddress());
         verify(companyRepository).save(company);
     }
+
+    @Test
+    void updateCompanyScores_LoadsAndSavesAllCompaniesInOneBatch() {
+        Company first = Company.create("Acme", Website.of("https://acme.com"), "Software");
+        Company second = Company.create("Globex", Website.of("https://globex.com"), "Software");
+        Map<Long, ScoreDTO> scores = Map.of(
+            first.getExternalId(), new ScoreDTO(91, "HOT", "Strong fit"),
+            second.getExternalId(), new ScoreDTO(40, "COLD", "Weak fit"),
+            999_999L, new ScoreDTO(10, "COLD", "Deleted meanwhile")
+        );
+        when(companyRepository.findByExternalIds(scores.keySet())).thenReturn(List.of(first, second));
+        when(companyRepository.saveAll(List.of(first, second))).thenReturn(List.of(first, second));
+
+        service.updateCompanyScores(scores);
+
+        assertEquals(91, first.getProspectingScore().getValue().intValue());
+        assertEquals(40, second.getProspectingScore().getValue().intValue());
+        verify(companyRepository).saveAll(List.of(first, second));
+        verify(companyRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(CompanyVectorReindexRequested.class));
+    }
+
+    @Test
+    void findCompanies_PushesFiltersIntoRepositoryQueries() {
+        CompanySummary acme = summary(42L, "Acme");
+        CompanySearchCriteria criteria = new CompanySearchCriteria("acme", "software", null, 50.0, null, null);
+        when(companyRepository.search(criteria, 1, 1)).thenReturn(new CompanySearchPage(List.of(acme), 7));
+        when(companyRepository.searchAfter(criteria, 10L, 1)).thenReturn(List.of(acme));
+
+        CompanyPage offsetPage = service.findCompanies(new CompanyListQuery("acme", "software", null, 50.0, null, null, 1, 1, null));
+        CompanyPage keysetPage = service.findCompanies(new CompanyListQuery("acme", "software", null, 50.0, null, null, null, 1, 10L));
+
+        assertEquals(List.of(42L), offsetPage.items().stream().map(CompanyDTO::id).toList());
+        assertEquals(7L, offsetPage.totalCount());
+        assertEquals(42L, offsetPage.nextCursor());
+        assertNull(keysetPage.totalCount());
+        assertEquals(42L, keysetPage.nextCursor());
+        verify(companyRepository, never()).findAll();
+    }
+
+    private static CompanySummary summary(Long externalId, String name) {
+        return new CompanySummary(externalId, name, "Software", "https://acme.com", null, null, null, BigDecimal.ZERO, null, 0);
+    }
 }
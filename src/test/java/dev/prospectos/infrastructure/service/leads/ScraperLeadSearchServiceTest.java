@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,7 @@ import dev.prospectos.core.enrichment.ValidatedContact;
 import dev.prospectos.infrastructure.config.LeadSearchProperties;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesComplianceService;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesProperties;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -47,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,13 +82,17 @@ class ScraperLeadSearchServiceTest {
     private QueryMetricsRecorder queryMetricsRecorder;
 
     private ScraperLeadSearchService service;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @BeforeEach
     void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
         service = new ScraperLeadSearchService(
             scraperClient,
             enrichmentService,
             companyDataService,
+            new CompanyTextIndex(companyDataService),
             leadDiscoveryService,
             icpDataService,
             scoringService,
@@ -95,10 +102,16 @@ class ScraperLeadSearchServiceTest {
                 List.of("scraper")
             ),
             new LeadSearchProperties(1L),
-            queryMetricsRecorder
+            queryMetricsRecorder,
+            observationRegistry
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
     @Test
     void searchLeads_ReturnsFailedWhenScraperFails() {
         when(complianceService.validateSources(List.of("scraper"))).thenReturn(List.of("scraper"));
@@ -113,6 +126,9 @@ class ScraperLeadSearchServiceTest {
         assertEquals(LeadSearchStatus.FAILED, response.status());
         assertTrue(response.leads().isEmpty());
         assertTrue(response.message().contains("timeout"));
+        assertEquals(1L, meterRegistry.get("prospectos.leads.search").tag("outcome", "error").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.source").tags("source", "scraper", "outcome", "error").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.scrape").tags("source", "scraper", "outcome", "error").timer().count());
     }
 
     @Test
@@ -137,6 +153,8 @@ class ScraperLeadSearchServiceTest {
         assertEquals(80, lead.score().value());
         verify(scraperClient).scrapeWebsiteSync("https://acme.com", false);
         verify(icpDataService).findICP(1L);
+        assertEquals(1L, meterRegistry.get("prospectos.leads.search").tag("outcome", "success").timer().count());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.enrichment").tags("source", "scraper", "outcome", "success").timer().count());
     }
 
     @Test
@@ -163,6 +181,7 @@ class ScraperLeadSearchServiceTest {
             scraperClient,
             enrichmentService,
             companyDataService,
+            new CompanyTextIndex(companyDataService),
             leadDiscoveryService,
             icpDataService,
             scoringService,
@@ -172,7 +191,8 @@ class ScraperLeadSearchServiceTest {
                 List.of("scraper")
             ),
             new LeadSearchProperties(null),
-            queryMetricsRecorder
+            queryMetricsRecorder,
+            ObservationRegistry.NOOP
         );
 
         when(complianceService.validateSources(List.of("scraper"))).thenReturn(List.of("scraper"));
@@ -192,9 +212,9 @@ class ScraperLeadSearchServiceTest {
     void searchLeads_UsesInMemoryFlowWhenInMemorySourceRequested() {
         when(complianceService.validateSources(List.of("in-memory"))).thenReturn(List.of("in-memory"));
         when(icpDataService.findICP(1L)).thenReturn(ICPDto.createMock());
-        when(companyDataService.findAllCompanies()).thenReturn(List.of(
-            new CompanyDTO(11L, "InMemory Co", "Software", "https://inmemory.example", "desc", 25, "Sao Paulo", null)
-        ));
+        CompanyDTO company = new CompanyDTO(11L, "InMemory Co", "Software", "https://inmemory.example", "desc", 25, "Sao Paulo", null);
+        when(companyDataService.findCompaniesAfter(null, 500)).thenReturn(List.of(company));
+        when(companyDataService.findCompanies(List.of(11L))).thenReturn(List.of(company));
         when(scoringService.scoreCandidate(any(Company.class), any(ICP.class))).thenReturn(new ScoreDTO(77, "WARM", "fit"));
 
         LeadSearchResponse response = service.searchLeads(
@@ -260,6 +280,57 @@ class ScraperLeadSearchServiceTest {
         assertEquals("Website No Contact", response.leads().get(3).candidate().name());
     }
 
+    @Test
+    void searchLeads_CancelsSlowSourcesOnceLimitIsFilledWithTopTierLeads() {
+        when(complianceService.validateSources(List.of("scraper", "vector-company")))
+            .thenReturn(List.of("scraper", "vector-company"));
+        when(icpDataService.findICP(1L)).thenReturn(ICPDto.createMock());
+        lenient().when(scraperClient.scrapeWebsiteSync("https://acme.com", false)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return new ScrapingResponse(false, null, "too slow");
+        });
+        when(leadDiscoveryService.discoverLeads(any(LeadDiscoveryRequest.class))).thenReturn(new LeadSearchResponse(
+            LeadSearchStatus.COMPLETED,
+            List.of(lead("No Website Contact", null, List.of("sales@nowebsite.example"), 70, "key-1", WebsitePresence.NO_WEBSITE)),
+            UUID.randomUUID(),
+            "Lead discovery completed"
+        ));
+
+        long startedAt = System.nanoTime();
+        LeadSearchResponse response = service.searchLeads(
+            new LeadSearchRequest("acme.com", 1, List.of("scraper", "vector-company"), 1L)
+        );
+
+        assertTrue(System.nanoTime() - startedAt < 5_000_000_000L);
+        assertEquals(LeadSearchStatus.COMPLETED, response.status());
+        assertEquals(1, response.leads().size());
+        assertEquals("No Website Contact", response.leads().getFirst().candidate().name());
+        assertEquals("Search completed", response.message());
+    }
+
+    @Test
+    void searchLeads_ReportsPartialFailuresFromConcurrentSourcesInRequestOrder() {
+        when(complianceService.validateSources(List.of("scraper", "vector-company")))
+            .thenReturn(List.of("scraper", "vector-company"));
+        when(icpDataService.findICP(1L)).thenReturn(ICPDto.createMock());
+        when(scraperClient.scrapeWebsiteSync("https://acme.com", false))
+            .thenReturn(new ScrapingResponse(false, null, "timeout"));
+        when(leadDiscoveryService.discoverLeads(any(LeadDiscoveryRequest.class))).thenReturn(new LeadSearchResponse(
+            LeadSearchStatus.COMPLETED,
+            List.of(lead("Website Contact", "https://website.example", List.of("sales@website.example"), 90, "key-1", WebsitePresence.HAS_WEBSITE)),
+            UUID.randomUUID(),
+            "Lead discovery completed"
+        ));
+
+        LeadSearchResponse response = service.searchLeads(
+            new LeadSearchRequest("acme.com", 5, List.of("scraper", "vector-company"), 1L)
+        );
+
+        assertEquals(LeadSearchStatus.COMPLETED, response.status());
+        assertEquals(1, response.leads().size());
+        assertEquals("Search completed with partial failures: scraper: timeout", response.message());
+    }
+
     private EnrichmentResult successfulEnrichment() {
         return new EnrichmentResult(
             "Acme",
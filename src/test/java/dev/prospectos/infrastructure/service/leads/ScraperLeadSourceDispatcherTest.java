@@ -12,8 +12,10 @@ import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.mcp.QueryMetricsRecorder;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.core.enrichment.CompanyEnrichmentService;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.inmemory.InMemoryLeadResultFactory;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -50,7 +52,9 @@ class ScraperLeadSourceDispatcherTest {
     void recordsInMemoryExecution() {
         var dispatcher = newDispatcher(Set.of("amazon-location"));
         var icp = ICP.create("ICP", "desc", List.of("Software"), List.of("BR"), List.of("CTO"), "cloud");
-        when(companyDataService.findAllCompanies()).thenReturn(List.of(CompanyDTO.createMock()));
+        CompanyDTO company = CompanyDTO.createMock();
+        when(companyDataService.findCompaniesAfter(null, 500)).thenReturn(List.of(company));
+        when(companyDataService.findCompanies(List.of(company.id()))).thenReturn(List.of(company));
         when(scoringService.scoreCandidate(org.mockito.ArgumentMatchers.any(), eq(icp)))
             .thenReturn(new ScoreDTO(82, "HOT", "Great fit"));
 
@@ -92,10 +96,12 @@ class ScraperLeadSourceDispatcherTest {
             scraperClient,
             enrichmentService,
             scoringService,
-            new ScraperLeadCandidateFactory()
+            new ScraperLeadCandidateFactory(),
+            ObservationRegistry.NOOP
         );
         return new ScraperLeadSourceDispatcher(
             companyDataService,
+            new CompanyTextIndex(companyDataService),
             leadDiscoveryService,
             new InMemoryLeadResultFactory(scoringService),
             websiteLeadSearch,
@@ -0,0 +1,66 @@
+package dev.prospectos.infrastructure.service.leads;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.prospectos.api.dto.CompanyCandidateDTO;
+import dev.prospectos.api.dto.CompanyCandidateDTO.WebsitePresence;
+import dev.prospectos.api.dto.LeadResultDTO;
+import dev.prospectos.api.dto.ScoreDTO;
+import dev.prospectos.api.dto.SourceProvenanceDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScraperLeadTopKMergerTest {
+
+    private final ScraperLeadResultRanker ranker = new ScraperLeadResultRanker();
+
+    @Test
+    void keepsOnlyBestRankedLeadsWithinLimit() {
+        ScraperLeadTopKMerger merger = new ScraperLeadTopKMerger(2, ranker);
+
+        merger.offer(0, List.of(lead("key-1", 50, WebsitePresence.HAS_WEBSITE, "scraper")));
+        merger.offer(1, List.of(
+            lead("key-2", 90, WebsitePresence.HAS_WEBSITE, "in-memory"),
+            lead("key-3", 10, WebsitePresence.NO_WEBSITE, "in-memory")
+        ));
+
+        assertThat(merger.leads()).extracting(LeadResultDTO::leadKey).containsExactly("key-3", "key-2");
+        assertThat(merger.isFilledWithTopTier()).isFalse();
+    }
+
+    @Test
+    void duplicateLeadKeyResolvesToEarliestRequestedSourceRegardlessOfArrivalOrder() {
+        ScraperLeadTopKMerger merger = new ScraperLeadTopKMerger(5, ranker);
+
+        merger.offer(1, List.of(lead("key-1", 90, WebsitePresence.HAS_WEBSITE, "in-memory")));
+        merger.offer(0, List.of(lead("key-1", 40, WebsitePresence.HAS_WEBSITE, "scraper")));
+        merger.offer(2, List.of(lead("key-1", 99, WebsitePresence.HAS_WEBSITE, "vector-company")));
+
+        assertThat(merger.leads()).singleElement()
+            .satisfies(lead -> assertThat(lead.source().sourceName()).isEqualTo("scraper"));
+    }
+
+    @Test
+    void reportsFilledOnlyWhenEveryRetainedLeadIsTopTier() {
+        ScraperLeadTopKMerger merger = new ScraperLeadTopKMerger(1, ranker);
+
+        merger.offer(0, List.of(lead("key-1", 95, WebsitePresence.HAS_WEBSITE, "in-memory")));
+        assertThat(merger.isFilledWithTopTier()).isFalse();
+
+        merger.offer(1, List.of(lead("key-2", 20, WebsitePresence.NO_WEBSITE, "vector-company")));
+        assertThat(merger.isFilledWithTopTier()).isTrue();
+    }
+
+    private LeadResultDTO lead(String leadKey, int scoreValue, WebsitePresence websitePresence, String sourceName) {
+        String website = websitePresence == WebsitePresence.HAS_WEBSITE ? "https://" + leadKey + ".example" : null;
+        return new LeadResultDTO(
+            new CompanyCandidateDTO(leadKey, website, "Software", "desc", "SMALL", "Curitiba", List.of("sales@" + leadKey + ".example"), websitePresence),
+            new ScoreDTO(scoreValue, "WARM", "fit"),
+            new SourceProvenanceDTO(sourceName, website, Instant.now()),
+            leadKey
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import dev.prospectos.ai.client.AIProvider;
+import dev.prospectos.ai.dto.PriorityLevel;
+import dev.prospectos.ai.dto.ScoringResult;
+import dev.prospectos.ai.service.ScoringService;
+import dev.prospectos.api.CompanyDataService;
+import dev.prospectos.api.ICPDataService;
+import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.ICPDto;
+import dev.prospectos.api.dto.ScoreDTO;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyBatchScoringServiceTest {
+
+    private static final ICPDto ICP = new ICPDto(
+        7L, "ICP", "Desc", List.of("Software"), List.of("LATAM"), List.of("Java"), 10, 500, List.of("CTO"), "Growth"
+    );
+
+    @Mock
+    private CompanyDataService companyDataService;
+
+    @Mock
+    private ICPDataService icpDataService;
+
+    @Mock
+    private ScoringService scoringService;
+
+    @Mock
+    private ObjectProvider<AIProvider> aiProvider;
+
+    private CompanyBatchScoringService service;
+
+    @BeforeEach
+    void setUp() {
+        CompanyBatchScoringProperties properties = new CompanyBatchScoringProperties(2, 2, 2, true, 0.0, null);
+        CompanyScoringService companyScoringService =
+            new CompanyScoringService(scoringService, companyDataService, icpDataService, ObservationRegistry.NOOP);
+        service = new CompanyBatchScoringService(companyDataService, icpDataService, companyScoringService, aiProvider, properties);
+    }
+
+    @Test
+    void scoreAll_PagesThroughCompaniesLoadsIcpOnceAndWritesInBatches() {
+        stubCompanies(company(1L, "One"), company(2L, "Two"), company(3L, "Three"));
+        when(scoringService.scoreCompany(any(), any())).thenReturn(result(80));
+
+        CompanyBatchScoringSummary summary = service.scoreAll(7L);
+
+        assertEquals(3, summary.scored());
+        assertEquals(0, summary.skipped());
+        assertEquals(0, summary.failed());
+        verify(icpDataService, times(1)).findICP(7L);
+        verify(companyDataService, never()).findAllCompanies();
+        verify(companyDataService, never()).updateCompanyScore(any(), any());
+        ArgumentCaptor<Map<Long, ScoreDTO>> batches = ArgumentCaptor.captor();
+        verify(companyDataService, times(2)).updateCompanyScores(batches.capture());
+        assertEquals(List.of(1L, 2L), List.copyOf(batches.getAllValues().get(0).keySet()));
+        assertEquals(List.of(3L), List.copyOf(batches.getAllValues().get(1).keySet()));
+    }
+
+    @Test
+    void scoreAll_SkipsCompaniesWhoseInputsDidNotChange() {
+        stubCompanies(company(1L, "One"), company(2L, "Two"));
+        when(scoringService.scoreCompany(any(), any())).thenReturn(result(60));
+        service.scoreAll(7L);
+
+        CompanyDTO renamed = new CompanyDTO(2L, "Two Renamed", "Software", "https://two.example.com", "Desc", 50, "Austin", null);
+        when(companyDataService.findCompaniesAfter(null, 2)).thenReturn(List.of(company(1L, "One"), renamed));
+        CompanyBatchScoringSummary second = service.scoreAll(7L);
+
+        assertEquals(1, second.scored());
+        assertEquals(1, second.skipped());
+        verify(scoringService, times(3)).scoreCompany(any(), any());
+        verify(companyDataService).updateCompanyScores(argThat(batch -> batch.keySet().equals(Set.of(2L))));
+    }
+
+    @Test
+    void scoreAll_RescoresCompaniesWhoseLastScoreWasAFallback() {
+        stubCompanies(company(1L, "One"));
+        when(scoringService.scoreCompany(any(), any())).thenThrow(new IllegalStateException("provider down"));
+
+        service.scoreAll(7L);
+        service.scoreAll(7L);
+
+        verify(scoringService, times(2)).scoreCompany(any(), any());
+        verify(companyDataService, times(2)).updateCompanyScores(argThat(batch -> "IGNORE".equals(batch.get(1L).category())));
+    }
+
+    @Test
+    void scoreAll_RejectsMissingIcp() {
+        when(icpDataService.findICP(7L)).thenReturn(null);
+
+        assertThrows(IllegalArgumentException.class, () -> service.scoreAll(7L));
+        verify(companyDataService, never()).findCompaniesAfter(any(), anyInt());
+    }
+
+    private void stubCompanies(CompanyDTO... companies) {
+        when(icpDataService.findICP(7L)).thenReturn(ICP);
+        List<CompanyDTO> all = List.of(companies);
+        when(companyDataService.findCompaniesAfter(null, 2)).thenReturn(all.subList(0, Math.min(2, all.size())));
+        if (all.size() >= 2) {
+            when(companyDataService.findCompaniesAfter(all.get(1).id(), 2)).thenReturn(all.subList(2, all.size()));
+        }
+    }
+
+    private static CompanyDTO company(Long id, String name) {
+        return new CompanyDTO(id, name, "Software", "https://" + name.toLowerCase() + ".example.com", "Desc", 50, "Austin", null);
+    }
+
+    private static ScoringResult result(int score) {
+        return new ScoringResult(score, PriorityLevel.WARM, "Fit", Map.of(), "Follow up");
+    }
+}
@@ -11,6 +11,9 @@ import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.core.domain.Company;
 import dev.prospectos.core.domain.ICP;
 import dev.prospectos.core.domain.Website;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,13 +42,18 @@ class CompanyScoringServiceTest {
     private ICPDataService icpDataService;
 
     private CompanyScoringService companyScoringService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
         companyScoringService = new CompanyScoringService(
                 scoringAIService,
                 companyDataService,
-                icpDataService
+                icpDataService,
+                observationRegistry
         );
     }
 
@@ -141,6 +149,7 @@ class CompanyScoringServiceTest {
         assertEquals(0, result.value());
         assertEquals("IGNORE", result.category());
         assertTrue(result.reasoning().contains("timeout"));
+        assertEquals(1L, meterRegistry.get("prospectos.leads.scoring").tag("outcome", "error").timer().count());
     }
 
     @Test
@@ -177,5 +186,6 @@ class CompanyScoringServiceTest {
 
         assertEquals(55, result.value());
         assertEquals("COLD", result.category());
+        assertEquals(1L, meterRegistry.get("prospectos.leads.scoring").tag("outcome", "success").timer().count());
     }
 }
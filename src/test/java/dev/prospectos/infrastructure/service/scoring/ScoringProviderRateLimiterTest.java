@@ -0,0 +1,57 @@
+package dev.prospectos.infrastructure.service.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoringProviderRateLimiterTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    private final AtomicLong nanos = new AtomicLong(42 * MILLISECOND);
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    void acquireSpacesCallsAtTheConfiguredProviderRate() throws InterruptedException {
+        ScoringProviderRateLimiter limiter = limiter(Map.of("openai", 50.0));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("OPENAI");
+        }
+
+        assertThat(sleeps).containsExactly(20 * MILLISECOND, 40 * MILLISECOND, 60 * MILLISECOND, 80 * MILLISECOND);
+    }
+
+    @Test
+    void acquireDoesNotBankSlotsWhileTheProviderIsIdle() throws InterruptedException {
+        ScoringProviderRateLimiter limiter = limiter(Map.of("openai", 50.0));
+
+        limiter.acquire("OPENAI");
+        nanos.addAndGet(100 * MILLISECOND);
+        limiter.acquire("OPENAI");
+        limiter.acquire("OPENAI");
+
+        assertThat(sleeps).containsExactly(20 * MILLISECOND);
+    }
+
+    @Test
+    void acquireDoesNotWaitWhenProviderIsUnlimited() throws InterruptedException {
+        ScoringProviderRateLimiter limiter = limiter(Map.of("openai", 1.0));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("MOCK");
+        }
+
+        assertThat(sleeps).isEmpty();
+    }
+
+    private ScoringProviderRateLimiter limiter(Map<String, Double> rates) {
+        return new ScoringProviderRateLimiter(
+            new CompanyBatchScoringProperties(null, null, null, null, 0.0, rates), nanos::get, sleeps::add);
+    }
+}
@@ -1,6 +1,8 @@
 package dev.prospectos.integration;
 
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.api.dto.CompanyListQuery;
+import dev.prospectos.api.dto.CompanyPage;
 import dev.prospectos.api.dto.ScoreDTO;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.api.dto.request.CompanyUpdateRequest;
@@ -11,6 +13,9 @@ import dev.prospectos.support.PostgresIntegrationTestBase;
 import dev.prospectos.infrastructure.adapter.CompanyRepositoryAdapter;
 import dev.prospectos.infrastructure.adapter.ICPRepositoryAdapter;
 import dev.prospectos.infrastructure.service.jpa.CompanyDataServiceJpa;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -19,11 +24,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles({"development", "test-pg"})
 @Import({
@@ -43,6 +49,9 @@ class CompanyDataServiceJpaDevelopmentIntegrationTest extends PostgresIntegratio
     @Autowired
     private CompanyDomainRepository companyRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void createFindUpdateAndDeleteCompanyPersistThroughJpa() {
         CompanyDTO created = companyDataService.createCompany(new CompanyCreateRequest(
@@ -161,6 +170,77 @@ class CompanyDataServiceJpaDevelopmentIntegrationTest extends PostgresIntegratio
             .containsExactlyInAnyOrder("Tech Co", "Finance Co");
     }
 
+    @Test
+    void findCompaniesFiltersAndPagesInTheDatabase() {
+        CompanyDTO alpha = createListed("Listing Alpha", "Logistics", "Sao Paulo");
+        CompanyDTO beta = createListed("Listing Beta", "Logistics", "Sao Paulo");
+        CompanyDTO gamma = createListed("Listing Gamma", "Logistics", "Curitiba");
+        createListed("Listing Delta", "Retail", "Sao Paulo");
+        companyDataService.updateCompanyScore(alpha.id(), new ScoreDTO(88, "HOT", "Fit"));
+        companyDataService.updateCompanyScore(beta.id(), new ScoreDTO(62, "WARM", "Fit"));
+        companyDataService.addCompanyContactEmails(gamma.id(), List.of("owner@gamma.example.com"));
+
+        CompanyPage filtered = companyDataService.findCompanies(
+            new CompanyListQuery("listing", "logistics", "sao paulo", 80.0, 90.0, false, null, null, null)
+        );
+        CompanyPage withContacts = companyDataService.findCompanies(
+            new CompanyListQuery("LISTING", null, null, null, null, true, null, null, null)
+        );
+        CompanyPage firstPage = companyDataService.findCompanies(
+            new CompanyListQuery("listing", "logistics", null, null, null, null, 0, 2, null)
+        );
+        CompanyPage nextPage = companyDataService.findCompanies(
+            new CompanyListQuery("listing", "logistics", null, null, null, null, null, 2, firstPage.nextCursor())
+        );
+
+        assertThat(filtered.items()).extracting(CompanyDTO::id).containsExactly(alpha.id());
+        assertThat(filtered.totalCount()).isEqualTo(1L);
+        assertThat(withContacts.items()).extracting(CompanyDTO::id).containsExactly(gamma.id());
+        assertThat(firstPage.items()).hasSize(2);
+        assertThat(firstPage.totalCount()).isEqualTo(3L);
+        assertThat(nextPage.items()).hasSize(1);
+        assertThat(nextPage.totalCount()).isNull();
+        assertThat(nextPage.nextCursor()).isNull();
+        assertThat(List.of(firstPage.items().get(0).id(), firstPage.items().get(1).id(), nextPage.items().get(0).id()))
+            .containsExactlyInAnyOrder(alpha.id(), beta.id(), gamma.id())
+            .isSorted();
+    }
+
+    @Test
+    void listPathsUseOneStatementRegardlessOfResultSize() {
+        createListedWithContacts("Statement One", 2);
+        long afterTwoCompanies = statementsForListPaths();
+        createListedWithContacts("Statement Two", 1);
+        createListedWithContacts("Statement Three", 3);
+        createListedWithContacts("Statement Four", 0);
+        long afterFiveCompanies = statementsForListPaths();
+
+        assertThat(afterTwoCompanies).isEqualTo(3);
+        assertThat(afterFiveCompanies).isEqualTo(afterTwoCompanies);
+        CompanyDTO three = companyDataService.findAllCompanies().stream()
+            .filter(company -> company.name().equals("Statement Three"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(three.contactCount()).isEqualTo(3);
+        assertThat(three.primaryContactEmail()).isEqualTo("contact0@statement-three.example.com");
+    }
+
+    @Test
+    void primaryContactEmailIsTheLowestAddressOnEveryReadPath() {
+        CompanyDTO company = createListed("Primary Order", "Statements", "Recife");
+        companyDataService.addCompanyContactEmails(company.id(), List.of("zed@primary-order.example.com", "ana@primary-order.example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        CompanyDTO listed = companyDataService.findAllCompanies().stream()
+            .filter(candidate -> candidate.id().equals(company.id()))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(companyDataService.findCompany(company.id()).primaryContactEmail()).isEqualTo("ana@primary-order.example.com");
+        assertThat(listed.primaryContactEmail()).isEqualTo("ana@primary-order.example.com");
+    }
+
     @Test
     void rejectsInvalidCompanySize() {
         assertThatThrownBy(() -> companyDataService.createCompany(new CompanyCreateRequest(
@@ -175,4 +255,39 @@ class CompanyDataServiceJpaDevelopmentIntegrationTest extends PostgresIntegratio
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("Invalid company size");
     }
+
+    private CompanyDTO createListed(String name, String industry, String city) {
+        return companyDataService.createCompany(new CompanyCreateRequest(
+            name,
+            industry,
+            "https://" + name.toLowerCase().replace(' ', '-') + ".example.com",
+            null,
+            "BR",
+            city,
+            "SMALL"
+        ));
+    }
+
+    private void createListedWithContacts(String name, int contacts) {
+        CompanyDTO company = createListed(name, "Statements", "Recife");
+        String domain = name.toLowerCase().replace(' ', '-') + ".example.com";
+        List<String> emails = IntStream.range(0, contacts).mapToObj(i -> "contact" + i + "@" + domain).toList();
+        if (!emails.isEmpty()) {
+            companyDataService.addCompanyContactEmails(company.id(), emails);
+        }
+    }
+
+    /**
+     * Runs findAllCompanies, a findCompanies page and findCompaniesAfter against a cleared persistence context.
+     */
+    private long statementsForListPaths() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        companyDataService.findAllCompanies().forEach(company -> assertThat(company.contactCount()).isNotNull());
+        companyDataService.findCompanies(new CompanyListQuery("statement", null, null, null, null, null, 0, 50, null));
+        companyDataService.findCompaniesAfter(null, 50);
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -12,9 +12,11 @@ import dev.prospectos.core.enrichment.CompanyEnrichmentService;
 import dev.prospectos.infrastructure.config.LeadSearchProperties;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesComplianceService;
 import dev.prospectos.infrastructure.service.compliance.AllowedSourcesProperties;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.leads.ScraperLeadSearchService;
 import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
 import dev.prospectos.support.PostgresIntegrationTestBase;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -85,25 +87,29 @@ class LeadSearchScraperIntegrationTest extends PostgresIntegrationTestBase {
             ScraperClientInterface scraperClient,
             CompanyEnrichmentService enrichmentService,
             CompanyDataService companyDataService,
+            CompanyTextIndex companyTextIndex,
             LeadDiscoveryService leadDiscoveryService,
             ICPDataService icpDataService,
             CompanyScoringService scoringService,
             AllowedSourcesComplianceService complianceService,
             AllowedSourcesProperties allowedSourcesProperties,
             LeadSearchProperties properties,
-            QueryMetricsRecorder queryMetricsRecorder
+            QueryMetricsRecorder queryMetricsRecorder,
+            ObservationRegistry observationRegistry
         ) {
             return new ScraperLeadSearchService(
                 scraperClient,
                 enrichmentService,
                 companyDataService,
+                companyTextIndex,
                 leadDiscoveryService,
                 icpDataService,
                 scoringService,
                 complianceService,
                 allowedSourcesProperties,
                 properties,
-                queryMetricsRecorder
+                queryMetricsRecorder,
+                observationRegistry
             );
         }
     }
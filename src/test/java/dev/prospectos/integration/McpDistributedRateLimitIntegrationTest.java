@@ -0,0 +1,128 @@
+package dev.prospectos.integration;
+
+import dev.prospectos.infrastructure.mcp.config.McpSecurityProperties;
+import dev.prospectos.infrastructure.mcp.security.PostgresRateLimitBuckets;
+import dev.prospectos.infrastructure.mcp.security.PostgresRateLimitBuckets.Release;
+import dev.prospectos.support.PostgresIntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "test-pg"})
+@TestPropertySource(properties = {
+    "spring.ai.mcp.server.enabled=true",
+    "prospectos.mcp.rate-limit.distributed.enabled=true"
+})
+class McpDistributedRateLimitIntegrationTest extends PostgresIntegrationTestBase {
+
+    private static final McpSecurityProperties.RateLimit SLOW_REFILL =
+        new McpSecurityProperties.RateLimit(1, 10, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    @Autowired
+    private PostgresRateLimitBuckets buckets;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Test
+    void concurrentLeasesNeverGrantMoreThanTheSharedBurst() throws Exception {
+        var clientId = "api-key:" + UUID.randomUUID();
+        Callable<Integer> replica = () -> {
+            int granted = 0;
+            for (int i = 0; i < 10; i++) {
+                granted += buckets.acquire(clientId, Release.NONE, 2, SLOW_REFILL).granted();
+            }
+            return granted;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> replicas = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                replicas.add(executor.submit(replica));
+            }
+            int total = 0;
+            for (Future<Integer> future : replicas) {
+                total += future.get();
+            }
+            assertThat(total).isEqualTo(SLOW_REFILL.burstCapacity());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void exhaustingTheBucketBlocksTheClientOnEveryReplica() {
+        var clientId = "api-key:" + UUID.randomUUID();
+
+        var lease = buckets.acquire(clientId, Release.NONE, 25, SLOW_REFILL);
+        var refused = buckets.acquire(clientId, new Release(10, 0), 1, SLOW_REFILL);
+        var duringBlock = buckets.acquire(clientId, Release.NONE, 1, SLOW_REFILL);
+
+        assertThat(lease.granted()).isEqualTo(10);
+        assertThat(refused.granted()).isZero();
+        assertThat(refused.blockedSeconds()).isBetween(299.0, 300.0);
+        assertThat(duringBlock.granted()).isZero();
+        assertThat(duringBlock.blockedSeconds()).isPositive().isLessThanOrEqualTo(refused.blockedSeconds());
+    }
+
+    @Test
+    void runningOutWhileAnotherReplicaHoldsALeaseDoesNotBlock() {
+        var clientId = "api-key:" + UUID.randomUUID();
+
+        var first = buckets.acquire(clientId, Release.NONE, 5, SLOW_REFILL);
+        var second = buckets.acquire(clientId, Release.NONE, 5, SLOW_REFILL);
+        var third = buckets.acquire(clientId, Release.NONE, 5, SLOW_REFILL);
+        for (int i = 0; i < 3; i++) {
+            buckets.acquire(clientId, Release.NONE, 5, SLOW_REFILL);
+        }
+        var refused = buckets.acquire(clientId, Release.NONE, 5, SLOW_REFILL);
+        var returned = buckets.acquire(clientId, new Release(5, 4), 5, SLOW_REFILL);
+
+        assertThat(first.granted()).isEqualTo(5);
+        assertThat(second.granted()).isEqualTo(1);
+        assertThat(third.granted()).isEqualTo(1);
+        assertThat(refused.granted()).isZero();
+        assertThat(refused.blockedSeconds()).isZero();
+        assertThat(returned.granted()).isEqualTo(1);
+        assertThat(returned.blockedSeconds()).isZero();
+    }
+
+    @Test
+    void purgesRefilledBucketsButKeepsBlockedOnes() {
+        var idle = "api-key:" + UUID.randomUUID();
+        var blocked = "api-key:" + UUID.randomUUID();
+        buckets.acquire(idle, Release.NONE, 5, SLOW_REFILL);
+        buckets.acquire(blocked, Release.NONE, 25, SLOW_REFILL);
+        buckets.acquire(blocked, new Release(10, 0), 1, SLOW_REFILL);
+        jdbcClient.sql("UPDATE mcp_rate_limit_buckets SET refilled_at = now() - INTERVAL '1 hour' WHERE client_id = :client")
+            .param("client", idle)
+            .update();
+
+        buckets.purgeIdle();
+
+        assertThat(storedClients(idle, blocked)).containsExactly(blocked);
+    }
+
+    private List<String> storedClients(String... clientIds) {
+        return jdbcClient.sql("SELECT client_id FROM mcp_rate_limit_buckets WHERE client_id IN (:clients)")
+            .param("clients", List.of(clientIds))
+            .query(String.class)
+            .list();
+    }
+}
@@ -7,8 +7,11 @@ import dev.prospectos.api.dto.LeadSearchRequest;
 import dev.prospectos.api.dto.request.CompanyCreateRequest;
 import dev.prospectos.api.mcp.ProviderRoutingService;
 import dev.prospectos.api.mcp.QueryHistoryService;
+import dev.prospectos.api.mcp.QueryMetricsService;
 import dev.prospectos.api.mcp.QueryTimeWindow;
 import dev.prospectos.infrastructure.mcp.resources.QueryHistoryMcpResources;
+import dev.prospectos.infrastructure.mcp.service.QueryMetricsRollupJob;
+import dev.prospectos.infrastructure.mcp.service.QueryMetricsWriteBehindQueue;
 import dev.prospectos.support.PostgresIntegrationTestBase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +55,15 @@ class McpPostgresFlowIntegrationTest extends PostgresIntegrationTestBase {
     @Autowired
     private QueryHistoryMcpResources queryHistoryMcpResources;
 
+    @Autowired
+    private QueryMetricsService queryMetricsService;
+
+    @Autowired
+    private QueryMetricsRollupJob queryMetricsRollupJob;
+
+    @Autowired
+    private QueryMetricsWriteBehindQueue queryMetricsWriteBehindQueue;
+
     @Test
     void mcpFlow_usesPostgresBackedDataAndObservedMetrics() throws Exception {
         companyDataService.createCompany(new CompanyCreateRequest(
@@ -68,6 +80,7 @@ class McpPostgresFlowIntegrationTest extends PostgresIntegrationTestBase {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(new LeadSearchRequest("software", 3, List.of("in-memory"), existingIcpId()))))
             .andExpect(status().isOk());
+        queryMetricsWriteBehindQueue.flush();
 
         var history = queryHistoryService.getQueryHistory(QueryTimeWindow.ONE_HOUR, "in-memory");
         assertThat(history.executions()).isNotEmpty();
@@ -81,6 +94,12 @@ class McpPostgresFlowIntegrationTest extends PostgresIntegrationTestBase {
 
         assertThat(providerRoutingService.getProviderHealth()).extracting("provider").contains("in-memory");
         assertThat(queryHistoryMcpResources.getQueryHistory("1h", "in-memory")).contains("software");
+
+        queryMetricsRollupJob.rollUp();
+        assertThat(queryMetricsService.getMetrics(QueryTimeWindow.ONE_HOUR, "in-memory").totalQueries()).isGreaterThanOrEqualTo(1);
+        assertThat(queryMetricsService.getMetrics(QueryTimeWindow.THIRTY_DAYS, null).providerBreakdown())
+            .extracting("provider")
+            .contains("in-memory");
     }
 
     private Long existingIcpId() {
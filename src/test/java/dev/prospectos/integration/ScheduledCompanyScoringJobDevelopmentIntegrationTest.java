@@ -1,23 +1,16 @@
 package dev.prospectos.integration;
 
-import dev.prospectos.api.CompanyDataService;
-import dev.prospectos.api.dto.CompanyDTO;
-import dev.prospectos.infrastructure.service.scoring.CompanyScoringService;
+import dev.prospectos.infrastructure.service.scoring.CompanyBatchScoringService;
+import dev.prospectos.infrastructure.service.scoring.CompanyBatchScoringSummary;
 import dev.prospectos.infrastructure.service.scoring.ScheduledCompanyScoringJob;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.BDDMockito.willAnswer;
-import static org.mockito.Mockito.doThrow;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -26,8 +19,7 @@ class ScheduledCompanyScoringJobDevelopmentIntegrationTest {
 
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
         .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
-        .withBean(CompanyDataService.class, () -> mock(CompanyDataService.class))
-        .withBean(CompanyScoringService.class, () -> mock(CompanyScoringService.class))
+        .withBean(CompanyBatchScoringService.class, () -> mock(CompanyBatchScoringService.class))
         .withBean(ScheduledCompanyScoringJob.class);
 
     @Test
@@ -51,69 +43,41 @@ class ScheduledCompanyScoringJobDevelopmentIntegrationTest {
 
     @Test
     void scoreAllCompaniesSkipsWhenIcpIdIsMissing() {
-        CompanyDataService companyDataService = mock(CompanyDataService.class);
-        CompanyScoringService scoringService = mock(CompanyScoringService.class);
-        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(companyDataService, scoringService, "");
+        CompanyBatchScoringService batchScoringService = mock(CompanyBatchScoringService.class);
+        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(batchScoringService, "");
 
         job.scoreAllCompanies();
 
-        verifyNoInteractions(companyDataService, scoringService);
+        verifyNoInteractions(batchScoringService);
     }
 
     @Test
     void scoreAllCompaniesSkipsWhenIcpIdIsInvalid() {
-        CompanyDataService companyDataService = mock(CompanyDataService.class);
-        CompanyScoringService scoringService = mock(CompanyScoringService.class);
-        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(companyDataService, scoringService, "abc");
+        CompanyBatchScoringService batchScoringService = mock(CompanyBatchScoringService.class);
+        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(batchScoringService, "abc");
 
         job.scoreAllCompanies();
 
-        verifyNoInteractions(companyDataService, scoringService);
+        verifyNoInteractions(batchScoringService);
     }
 
     @Test
-    void scoreAllCompaniesSkipsWhenNoCompaniesExist() {
-        CompanyDataService companyDataService = mock(CompanyDataService.class);
-        CompanyScoringService scoringService = mock(CompanyScoringService.class);
-        when(companyDataService.findAllCompanies()).thenReturn(List.of());
-        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(companyDataService, scoringService, "9");
+    void scoreAllCompaniesRunsOneBatchForTheConfiguredIcp() {
+        CompanyBatchScoringService batchScoringService = mock(CompanyBatchScoringService.class);
+        when(batchScoringService.scoreAll(9L)).thenReturn(new CompanyBatchScoringSummary(3, 0, 0, 12));
+        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(batchScoringService, " 9 ");
 
         job.scoreAllCompanies();
 
-        verify(companyDataService).findAllCompanies();
-        verifyNoInteractions(scoringService);
+        verify(batchScoringService).scoreAll(9L);
     }
 
     @Test
-    void scoreAllCompaniesContinuesAfterOneFailure() {
-        CompanyDataService companyDataService = mock(CompanyDataService.class);
-        CompanyScoringService scoringService = mock(CompanyScoringService.class);
-        when(companyDataService.findAllCompanies()).thenReturn(List.of(
-            company(1L, "First"),
-            company(2L, "Second"),
-            company(3L, "Third")
-        ));
-        doThrow(new RuntimeException("boom")).when(scoringService).scoreCompany(2L, 5L);
-        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(companyDataService, scoringService, "5");
-
-        job.scoreAllCompanies();
-
-        verify(scoringService).scoreCompany(1L, 5L);
-        verify(scoringService).scoreCompany(2L, 5L);
-        verify(scoringService).scoreCompany(3L, 5L);
-        verify(scoringService, times(3)).scoreCompany(anyLong(), anyLong());
-    }
+    void scoreAllCompaniesSkipsWhenIcpDoesNotExist() {
+        CompanyBatchScoringService batchScoringService = mock(CompanyBatchScoringService.class);
+        when(batchScoringService.scoreAll(5L)).thenThrow(new IllegalArgumentException("ICP not found: 5"));
+        ScheduledCompanyScoringJob job = new ScheduledCompanyScoringJob(batchScoringService, "5");
 
-    private CompanyDTO company(Long id, String name) {
-        return new CompanyDTO(
-            id,
-            name,
-            "Technology",
-            "https://" + name.toLowerCase() + ".example.com",
-            "Test company",
-            50,
-            "Sao Paulo, BR",
-            null
-        );
+        assertThatCode(job::scoreAllCompanies).doesNotThrowAnyException();
     }
 }
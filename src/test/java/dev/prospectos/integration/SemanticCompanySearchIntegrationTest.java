@@ -1,10 +1,12 @@
 package dev.prospectos.integration;
 
+import dev.prospectos.ai.config.HybridSearchProperties;
 import dev.prospectos.ai.config.VectorizationProperties;
 import dev.prospectos.ai.vector.VectorIndex;
 import dev.prospectos.ai.vector.VectorSearchMatch;
 import dev.prospectos.api.CompanyDataService;
 import dev.prospectos.api.dto.CompanyDTO;
+import dev.prospectos.infrastructure.service.discovery.CompanyTextIndex;
 import dev.prospectos.infrastructure.service.discovery.DiscoveredLeadCandidate;
 import dev.prospectos.infrastructure.service.discovery.DiscoveryContext;
 import dev.prospectos.infrastructure.service.discovery.SemanticCompanyMatch;
@@ -29,6 +31,7 @@ import static org.mockito.Mockito.verify;
 
 @SpringBootTest(classes = {
     SemanticCompanySearchService.class,
+    CompanyTextIndex.class,
     VectorCompanyLeadDiscoverySource.class,
     SemanticCompanySearchIntegrationTest.SemanticSearchTestConfiguration.class
 })
@@ -65,9 +68,8 @@ class SemanticCompanySearchIntegrationTest {
             new VectorSearchMatch("ignored-2", 0.82d, Map.of("companyId", "11")),
             new VectorSearchMatch("company:12", 0.73d, Map.of("other", "value"))
         ));
-        given(companyDataService.findCompany(10L)).willReturn(numericCompany);
-        given(companyDataService.findCompany(11L)).willReturn(stringCompany);
-        given(companyDataService.findCompany(12L)).willReturn(fallbackCompany);
+        given(companyDataService.findCompanies(List.of(10L, 11L, 12L)))
+            .willReturn(List.of(numericCompany, stringCompany, fallbackCompany));
 
         List<SemanticCompanyMatch> matches = semanticCompanySearchService.search("growth", 3);
 
@@ -83,7 +85,7 @@ class SemanticCompanySearchIntegrationTest {
             new VectorSearchMatch("company:not-a-number", 0.84d, Map.of()),
             new VectorSearchMatch("company:50", 0.80d, Map.of("other", "value"))
         ));
-        given(companyDataService.findCompany(50L)).willReturn(null);
+        given(companyDataService.findCompanies(List.of(50L))).willReturn(List.of());
 
         List<SemanticCompanyMatch> matches = semanticCompanySearchService.search("ops", 4);
 
@@ -96,7 +98,7 @@ class SemanticCompanySearchIntegrationTest {
         given(vectorIndex.similaritySearch("cloud", 2, 0.2d)).willReturn(List.of(
             new VectorSearchMatch("company:21", 0.88d, Map.of("companyId", 21L))
         ));
-        given(companyDataService.findCompany(21L)).willReturn(company);
+        given(companyDataService.findCompanies(List.of(21L))).willReturn(List.of(company));
 
         List<DiscoveredLeadCandidate> leads = vectorCompanyLeadDiscoverySource.discover(
             new DiscoveryContext("cloud", "CTO", 2, null)
@@ -129,5 +131,10 @@ class SemanticCompanySearchIntegrationTest {
         VectorizationProperties vectorizationProperties() {
             return new VectorizationProperties("in-memory", "hashing-v1", 128, 5, 0.2d, null);
         }
+
+        @Bean
+        HybridSearchProperties hybridSearchProperties() {
+            return new HybridSearchProperties(null, null, null, null, null);
+        }
     }
 }